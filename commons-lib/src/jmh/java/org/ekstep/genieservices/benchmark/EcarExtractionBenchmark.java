@@ -0,0 +1,176 @@
+package org.ekstep.genieservices.benchmark;
+
+import org.ekstep.genieservices.commons.utils.ZipExtractor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Extracts a synthetic ECAR of {@link #ecarSizeMb} MB with the old sequential {@link ZipInputStream} loop and with
+ * {@link ZipExtractor}.
+ * <p>
+ * Like a textbook ECAR, it has a deflated manifest and one folder per content, with a stored artifact zip and a
+ * few deflated assets. Run it with e.g. -p ecarSizeMb=2048 for a multi GB ECAR; the ECAR is written to the temp
+ * folder once per trial, so there must be room for it and for one extracted copy.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class EcarExtractionBenchmark {
+
+    private static final int CONTENT_COUNT = 200;
+    private static final int BLOCK_SIZE = 1024 * 1024;
+
+    @Param({"512"})
+    public int ecarSizeMb;
+
+    private File ecarFile;
+    private File destinationFolder;
+
+    @Setup(Level.Trial)
+    public void writeEcar() throws IOException {
+        ecarFile = File.createTempFile("benchmark", ".ecar");
+
+        // Artifacts are already compressed, random bytes stand for them.
+        byte[] block = new byte[BLOCK_SIZE];
+        new Random(42).nextBytes(block);
+        long artifactSize = Math.max(1, (long) ecarSizeMb * BLOCK_SIZE / CONTENT_COUNT);
+
+        ZipOutputStream zipOutputStream = new ZipOutputStream(new BufferedOutputStream(new FileOutputStream(ecarFile), BLOCK_SIZE));
+        try {
+            zipOutputStream.putNextEntry(new ZipEntry("manifest.json"));
+            StringBuilder manifest = new StringBuilder("{\"archive\":{\"items\":[");
+            for (int i = 0; i < CONTENT_COUNT; i++) {
+                manifest.append(i == 0 ? "" : ",").append("{\"identifier\":\"do_").append(i).append("\",\"artifactUrl\":\"do_")
+                        .append(i).append("/artifact.zip\"}");
+            }
+            zipOutputStream.write(manifest.append("]}}").toString().getBytes("UTF-8"));
+            zipOutputStream.closeEntry();
+
+            for (int i = 0; i < CONTENT_COUNT; i++) {
+                String folder = "do_" + i + "/";
+                zipOutputStream.putNextEntry(new ZipEntry(folder));
+                zipOutputStream.closeEntry();
+
+                ZipEntry artifact = new ZipEntry(folder + "artifact.zip");
+                artifact.setMethod(ZipEntry.STORED);
+                artifact.setSize(artifactSize);
+                artifact.setCrc(crc(block, artifactSize));
+                zipOutputStream.putNextEntry(artifact);
+                writeRepeated(zipOutputStream, block, artifactSize);
+                zipOutputStream.closeEntry();
+
+                for (String asset : new String[]{"icon.png", "posterImage.png", "index.ecml"}) {
+                    zipOutputStream.putNextEntry(new ZipEntry(folder + "assets/" + asset));
+                    StringBuilder text = new StringBuilder();
+                    for (int line = 0; line < 2000; line++) {
+                        text.append("<media id=\"").append(asset).append(line).append("\" type=\"image\"/>\n");
+                    }
+                    zipOutputStream.write(text.toString().getBytes("UTF-8"));
+                    zipOutputStream.closeEntry();
+                }
+            }
+        } finally {
+            zipOutputStream.close();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteEcar() {
+        ecarFile.delete();
+    }
+
+    @Setup(Level.Invocation)
+    public void createDestination() throws IOException {
+        destinationFolder = File.createTempFile("benchmark", "");
+        destinationFolder.delete();
+        destinationFolder.mkdirs();
+    }
+
+    @TearDown(Level.Invocation)
+    public void deleteDestination() {
+        delete(destinationFolder);
+    }
+
+    @Benchmark
+    public boolean zipInputStream() throws IOException {
+        ZipInputStream zipInputStream = new ZipInputStream(new FileInputStream(ecarFile));
+        try {
+            ZipEntry entry;
+            while ((entry = zipInputStream.getNextEntry()) != null) {
+                File file = new File(destinationFolder, entry.getName());
+                if (entry.isDirectory()) {
+                    file.mkdirs();
+                    continue;
+                }
+                file.getParentFile().mkdirs();
+
+                BufferedOutputStream outputStream = new BufferedOutputStream(new FileOutputStream(file));
+                byte[] readBytes = new byte[1024];
+                int readSize;
+                while ((readSize = zipInputStream.read(readBytes)) >= 0) {
+                    outputStream.write(readBytes, 0, readSize);
+                }
+                zipInputStream.closeEntry();
+                outputStream.close();
+            }
+        } finally {
+            zipInputStream.close();
+        }
+        return true;
+    }
+
+    @Benchmark
+    public boolean zipExtractor() {
+        return ZipExtractor.extract(ecarFile, destinationFolder, null);
+    }
+
+    private static long crc(byte[] block, long size) {
+        CRC32 crc = new CRC32();
+        for (long written = 0; written < size; written += block.length) {
+            crc.update(block, 0, (int) Math.min(block.length, size - written));
+        }
+        return crc.getValue();
+    }
+
+    private static void writeRepeated(ZipOutputStream zipOutputStream, byte[] block, long size) throws IOException {
+        for (long written = 0; written < size; written += block.length) {
+            zipOutputStream.write(block, 0, (int) Math.min(block.length, size - written));
+        }
+    }
+
+    private static void delete(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                delete(child);
+            }
+        }
+        file.delete();
+    }
+}
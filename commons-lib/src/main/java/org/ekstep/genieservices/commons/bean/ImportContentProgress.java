@@ -2,18 +2,27 @@ package org.ekstep.genieservices.commons.bean;
 
 /**
  * This class holds the current index of copying item, total number of contents, when importing a content.
+ * While a zip is being extracted it also holds how many of its bytes are extracted so far.
  */
 
 public class ImportContentProgress {
 
     private int currentCount;
     private int totalCount;
+    private long extractedBytes;
+    private long totalBytes;
 
     public ImportContentProgress(int currentCount, int totalCount) {
         this.currentCount = currentCount;
         this.totalCount = totalCount;
     }
 
+    public ImportContentProgress(int currentCount, int totalCount, long extractedBytes, long totalBytes) {
+        this(currentCount, totalCount);
+        this.extractedBytes = extractedBytes;
+        this.totalBytes = totalBytes;
+    }
+
     public int getCurrentCount() {
         return currentCount;
     }
@@ -21,4 +30,18 @@ public class ImportContentProgress {
     public int getTotalCount() {
         return totalCount;
     }
+
+    /**
+     * @return uncompressed bytes of the zip being extracted written so far, 0 when no zip is being extracted.
+     */
+    public long getExtractedBytes() {
+        return extractedBytes;
+    }
+
+    /**
+     * @return uncompressed size of the zip being extracted, 0 when no zip is being extracted.
+     */
+    public long getTotalBytes() {
+        return totalBytes;
+    }
 }
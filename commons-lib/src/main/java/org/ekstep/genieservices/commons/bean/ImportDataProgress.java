@@ -0,0 +1,45 @@
+package org.ekstep.genieservices.commons.bean;
+
+/**
+ * This class holds the number of rows of a table read so far out of all its rows, when importing telemetry or
+ * profiles from another device. It also holds how many of them were new, the others being on the device already.
+ */
+public class ImportDataProgress {
+
+    private String tableName;
+    private int processedRowCount;
+    private int importedRowCount;
+    private int totalRowCount;
+    private long rowsPerSecond;
+
+    public ImportDataProgress(String tableName, int processedRowCount, int importedRowCount, int totalRowCount, long rowsPerSecond) {
+        this.tableName = tableName;
+        this.processedRowCount = processedRowCount;
+        this.importedRowCount = importedRowCount;
+        this.totalRowCount = totalRowCount;
+        this.rowsPerSecond = rowsPerSecond;
+    }
+
+    public String getTableName() {
+        return tableName;
+    }
+
+    public int getProcessedRowCount() {
+        return processedRowCount;
+    }
+
+    public int getImportedRowCount() {
+        return importedRowCount;
+    }
+
+    public int getTotalRowCount() {
+        return totalRowCount;
+    }
+
+    /**
+     * Rows read per second since the import of the table started.
+     */
+    public long getRowsPerSecond() {
+        return rowsPerSecond;
+    }
+}
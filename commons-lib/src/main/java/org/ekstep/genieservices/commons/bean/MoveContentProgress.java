@@ -2,18 +2,32 @@ package org.ekstep.genieservices.commons.bean;
 
 /**
  * This class holds the current index of copying item, total number of contents when moving contents to different location.
+ * It also holds the bytes copied so far, out of the size of all the contents, with the throughput of the copy and
+ * the time it is expected to take till the end.
  */
 
 public class MoveContentProgress {
 
     private int currentCount;
     private int totalCount;
+    private long copiedBytes;
+    private long totalBytes;
+    private long bytesPerSecond;
+    private long remainingMillis = -1;
 
     public MoveContentProgress(int currentCount, int totalCount) {
         this.currentCount = currentCount;
         this.totalCount = totalCount;
     }
 
+    public MoveContentProgress(int currentCount, int totalCount, long copiedBytes, long totalBytes, long bytesPerSecond, long remainingMillis) {
+        this(currentCount, totalCount);
+        this.copiedBytes = copiedBytes;
+        this.totalBytes = totalBytes;
+        this.bytesPerSecond = bytesPerSecond;
+        this.remainingMillis = remainingMillis;
+    }
+
     public int getCurrentCount() {
         return currentCount;
     }
@@ -21,4 +35,26 @@ public class MoveContentProgress {
     public int getTotalCount() {
         return totalCount;
     }
+
+    public long getCopiedBytes() {
+        return copiedBytes;
+    }
+
+    public long getTotalBytes() {
+        return totalBytes;
+    }
+
+    /**
+     * @return average throughput since the move started, 0 till it is known.
+     */
+    public long getBytesPerSecond() {
+        return bytesPerSecond;
+    }
+
+    /**
+     * @return expected time till the move is over, -1 till it is known.
+     */
+    public long getRemainingMillis() {
+        return remainingMillis;
+    }
 }
@@ -74,7 +74,7 @@ public class SunbirdContentSearchCriteria implements Serializable {
 
     private SunbirdContentSearchCriteria(String query, String[] exists, long offset, long limit, String mode, String[] facets, String[] contentTypes,
                                          List<ContentSearchFilter> facetFilters, List<ContentSearchFilter> impliedFilters,
-                                         List<ContentSortCriteria> sortCriteria, SearchType searchType) {
+                                         boolean offlineSearch, List<ContentSortCriteria> sortCriteria, SearchType searchType) {
         this.query = query;
         this.exists = exists;
         this.offset = offset;
@@ -84,6 +84,7 @@ public class SunbirdContentSearchCriteria implements Serializable {
         this.contentTypes = contentTypes;
         this.facetFilters = facetFilters;
         this.impliedFilters = impliedFilters;
+        this.offlineSearch = offlineSearch;
         this.sortCriteria = sortCriteria;
         this.searchType = searchType;
     }
@@ -404,6 +405,7 @@ public class SunbirdContentSearchCriteria implements Serializable {
         private String[] contentTypes;
         private List<ContentSearchFilter> facetFilters;
         private List<ContentSearchFilter> impliedFilters;
+        private boolean offlineSearch;
         private List<ContentSortCriteria> sortCriteria;
 
         public FilterBuilder() {
@@ -472,9 +474,14 @@ public class SunbirdContentSearchCriteria implements Serializable {
             return this;
         }
 
+        public FilterBuilder offlineSearch() {
+            this.offlineSearch = true;
+            return this;
+        }
+
         public SunbirdContentSearchCriteria build() {
             return new SunbirdContentSearchCriteria(query, exists, offset, limit, mode, facets, contentTypes,
-                    facetFilters, impliedFilters, sortCriteria, SearchType.FILTER);
+                    facetFilters, impliedFilters, offlineSearch, sortCriteria, SearchType.FILTER);
         }
     }
 }
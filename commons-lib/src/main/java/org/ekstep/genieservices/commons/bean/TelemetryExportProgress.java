@@ -0,0 +1,24 @@
+package org.ekstep.genieservices.commons.bean;
+
+/**
+ * This class holds the number of processed telemetry batches written to the export file so far, out of all the
+ * batches being exported.
+ */
+public class TelemetryExportProgress {
+
+    private int exportedBatchCount;
+    private int totalBatchCount;
+
+    public TelemetryExportProgress(int exportedBatchCount, int totalBatchCount) {
+        this.exportedBatchCount = exportedBatchCount;
+        this.totalBatchCount = totalBatchCount;
+    }
+
+    public int getExportedBatchCount() {
+        return exportedBatchCount;
+    }
+
+    public int getTotalBatchCount() {
+        return totalBatchCount;
+    }
+}
@@ -0,0 +1,67 @@
+package org.ekstep.genieservices.commons.bean;
+
+/**
+ * This class holds the details of a telemetry batch acknowledged by the server, when syncing the telemetry.
+ */
+public class TelemetrySyncProgress {
+
+    private String msgId;
+    private int eventCount;
+    private long byteCount;
+    private long uploadTimeInMillis;
+    private int syncedBatchCount;
+    private int syncedEventCount;
+
+    public TelemetrySyncProgress(String msgId, int eventCount, long byteCount, long uploadTimeInMillis,
+                                 int syncedBatchCount, int syncedEventCount) {
+        this.msgId = msgId;
+        this.eventCount = eventCount;
+        this.byteCount = byteCount;
+        this.uploadTimeInMillis = uploadTimeInMillis;
+        this.syncedBatchCount = syncedBatchCount;
+        this.syncedEventCount = syncedEventCount;
+    }
+
+    public String getMsgId() {
+        return msgId;
+    }
+
+    /**
+     * Number of events in this batch.
+     */
+    public int getEventCount() {
+        return eventCount;
+    }
+
+    /**
+     * Size of this batch on the wire.
+     */
+    public long getByteCount() {
+        return byteCount;
+    }
+
+    public long getUploadTimeInMillis() {
+        return uploadTimeInMillis;
+    }
+
+    /**
+     * Upload throughput of this batch in bytes per second.
+     */
+    public long getBytesPerSecond() {
+        return uploadTimeInMillis == 0 ? byteCount : (byteCount * 1000) / uploadTimeInMillis;
+    }
+
+    /**
+     * Number of batches synced so far in the current sync.
+     */
+    public int getSyncedBatchCount() {
+        return syncedBatchCount;
+    }
+
+    /**
+     * Number of events synced so far in the current sync.
+     */
+    public int getSyncedEventCount() {
+        return syncedEventCount;
+    }
+}
@@ -1,6 +1,8 @@
 package org.ekstep.genieservices.commons.utils;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -64,4 +66,32 @@ public class CollectionUtil {
         return (!map.containsKey(key) || (map.containsKey(key) && StringUtil.isNullOrEmpty(String.valueOf(map.get(key)))));
     }
 
+    /**
+     * Copies the map and the maps and lists nested in it, such as a parsed json object. Other values are shared.
+     */
+    public static <K, V> Map<K, V> deepCopy(Map<K, V> map) {
+        if (map == null) {
+            return null;
+        }
+
+        Map<K, V> copy = new LinkedHashMap<>();
+        for (Map.Entry<K, V> entry : map.entrySet()) {
+            copy.put(entry.getKey(), (V) copyValue(entry.getValue()));
+        }
+        return copy;
+    }
+
+    private static Object copyValue(Object value) {
+        if (value instanceof Map) {
+            return deepCopy((Map<?, ?>) value);
+        } else if (value instanceof List) {
+            List<Object> copy = new ArrayList<>();
+            for (Object item : (List<?>) value) {
+                copy.add(copyValue(item));
+            }
+            return copy;
+        }
+        return value;
+    }
+
 }
@@ -0,0 +1,196 @@
+package org.ekstep.genieservices.commons.utils;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.zip.CRC32;
+
+/**
+ * Copies files through {@link FileChannel#transferTo}, so that the bytes do not go through the java heap.
+ * <p>
+ * A folder is copied by {@link IOWorkers#WORKER_COUNT} threads at once, one file each. A file which is already in
+ * the destination, fully or in part, is checked against the source by its CRC32 and only its missing tail is
+ * copied, so that a copy which was interrupted goes on from where it stopped.
+ */
+public class FileCopier {
+
+    // Bytes copied by one transferTo call, so that progress is reported while a big file is copied.
+    private static final long TRANSFER_CHUNK_SIZE = 8 * 1024 * 1024;
+
+    private FileCopier() {
+    }
+
+    /**
+     * Copies the file, replacing the destination.
+     */
+    public static void copy(File source, File destination) throws IOException {
+        copy(source, destination, 0, null);
+    }
+
+    /**
+     * Renames the source folder to the destination, which only works when both are on the same volume and the
+     * destination does not exist yet. Otherwise copies the folder and leaves the source in place.
+     *
+     * @return true if the folder was renamed.
+     */
+    public static boolean renameOrCopyFolder(File source, File destination, IProgressListener listener) throws IOException {
+        if (!destination.exists() && source.renameTo(destination)) {
+            return true;
+        }
+
+        copyFolder(source, destination, listener);
+        return false;
+    }
+
+    /**
+     * Copies the folder, resuming the files which are partly copied already.
+     *
+     * @param listener told about the bytes copied, from any of the copying threads. Can be null.
+     */
+    public static void copyFolder(File source, File destination, final IProgressListener listener) throws IOException {
+        if (!source.isDirectory()) {
+            byte[] buffer = IOWorkers.acquireBuffer();
+            try {
+                resume(source, destination, buffer, listener);
+            } finally {
+                IOWorkers.releaseBuffer(buffer);
+            }
+            return;
+        }
+
+        // Folders are created once while walking the tree, files are copied afterwards.
+        List<File[]> files = new ArrayList<>();
+        Deque<File[]> folders = new ArrayDeque<>();
+        folders.push(new File[]{source, destination});
+        while (!folders.isEmpty()) {
+            File[] folder = folders.pop();
+            if (!folder[1].isDirectory() && !folder[1].mkdirs()) {
+                throw new IOException("Cannot create " + folder[1].getPath());
+            }
+
+            File[] children = folder[0].listFiles();
+            if (children == null) {
+                continue;
+            }
+            for (File child : children) {
+                File[] pair = new File[]{child, new File(folder[1], child.getName())};
+                if (child.isDirectory()) {
+                    folders.push(pair);
+                } else {
+                    files.add(pair);
+                }
+            }
+        }
+
+        // The biggest files first, so that a big file does not keep one worker busy after the others are done.
+        Collections.sort(files, new Comparator<File[]>() {
+            @Override
+            public int compare(File[] left, File[] right) {
+                return Long.valueOf(right[0].length()).compareTo(left[0].length());
+            }
+        });
+
+        try {
+            IOWorkers.drain(new ConcurrentLinkedQueue<>(files), new IOWorkers.ITask<File[]>() {
+                @Override
+                public void run(File[] pair, byte[] buffer) throws Exception {
+                    resume(pair[0], pair[1], buffer, listener);
+                }
+            });
+        } catch (IOException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * Copies the part of the file which is not in the destination yet, or the whole file if the destination
+     * does not start like the source. A resumed file is checked as a whole once done, and copied again from the
+     * start if it does not match the source.
+     */
+    private static void resume(File source, File destination, byte[] buffer, IProgressListener listener) throws IOException {
+        long copied = destination.isFile() ? destination.length() : 0;
+        if (copied > source.length() || (copied > 0 && checksum(source, copied, buffer) != checksum(destination, copied, buffer))) {
+            copied = 0;
+        }
+
+        if (listener != null && copied > 0) {
+            listener.onCopied(copied);
+        }
+        copy(source, destination, copied, listener);
+
+        if (copied > 0 && checksum(source, source.length(), buffer) != checksum(destination, destination.length(), buffer)) {
+            copy(source, destination, 0, listener);
+        }
+    }
+
+    private static long checksum(File file, long length, byte[] buffer) throws IOException {
+        CRC32 crc = new CRC32();
+        InputStream inputStream = new FileInputStream(file);
+        try {
+            long remaining = length;
+            while (remaining > 0) {
+                int readSize = inputStream.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                if (readSize < 0) {
+                    break;
+                }
+                crc.update(buffer, 0, readSize);
+                remaining -= readSize;
+            }
+        } finally {
+            inputStream.close();
+        }
+        return crc.getValue();
+    }
+
+    /**
+     * Copies the source from the position on, to the same position of the destination, which is cut there first.
+     */
+    private static void copy(File source, File destination, long position, IProgressListener listener) throws IOException {
+        FileInputStream inputStream = new FileInputStream(source);
+        try {
+            RandomAccessFile outputFile = new RandomAccessFile(destination, "rw");
+            try {
+                outputFile.setLength(position);
+                FileChannel sourceChannel = inputStream.getChannel();
+                FileChannel destinationChannel = outputFile.getChannel();
+                destinationChannel.position(position);
+
+                long size = sourceChannel.size();
+                while (position < size) {
+                    long transferred = sourceChannel.transferTo(position, Math.min(TRANSFER_CHUNK_SIZE, size - position), destinationChannel);
+                    if (transferred <= 0) {
+                        throw new IOException("Cannot copy " + source.getPath());
+                    }
+                    position += transferred;
+                    if (listener != null) {
+                        listener.onCopied(transferred);
+                    }
+                }
+            } finally {
+                outputFile.close();
+            }
+        } finally {
+            inputStream.close();
+        }
+    }
+
+    /**
+     * Told about the bytes copied, from any of the copying threads.
+     */
+    public interface IProgressListener {
+
+        void onCopied(long bytes);
+    }
+}
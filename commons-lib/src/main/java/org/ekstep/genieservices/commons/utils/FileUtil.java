@@ -111,72 +111,18 @@ public class FileUtil {
     }
 
     public static void cp(File src, File dst) throws IOException {
-        InputStream in = null;
-        OutputStream out = null;
-        try {
-            in = new FileInputStream(src);
-            out = new FileOutputStream(dst);
-
-            // Transfer bytes from in to out
-            byte[] buffer = new byte[1024];
-            int length;
-            while ((length = in.read(buffer)) > 0) {
-                out.write(buffer, 0, length);
-            }
-        } finally {
-            if (in != null) {
-                in.close();
-            }
-            if (out != null) {
-                out.flush();
-                out.close();
-            }
-        }
+        FileCopier.copy(src, dst);
     }
 
     public static void cp(String src, String dst) throws IOException {
-        InputStream in = null;
-        OutputStream out = null;
-        try {
-            in = new FileInputStream(src);
-            out = new FileOutputStream(dst);
-
-            // Transfer bytes from in to out
-            byte[] buffer = new byte[1024];
-            int length;
-            while ((length = in.read(buffer)) > 0) {
-                out.write(buffer, 0, length);
-            }
-        } finally {
-            if (in != null) {
-                in.close();
-            }
-            if (out != null) {
-                out.flush();
-                out.close();
-            }
-        }
+        FileCopier.copy(new File(src), new File(dst));
     }
 
+    /**
+     * @see FileCopier#copyFolder(File, File, FileCopier.IProgressListener)
+     */
     public static void copyFolder(File source, File destination) throws IOException {
-        if (source.isDirectory()) {
-            if (!destination.exists()) {
-                destination.mkdirs();
-            }
-
-            String files[] = source.list();
-
-            if (files != null) {
-                for (String file : files) {
-                    File srcFile = new File(source, file);
-                    File destFile = new File(destination, file);
-
-                    copyFolder(srcFile, destFile);
-                }
-            }
-        } else {
-            cp(source, destination);
-        }
+        FileCopier.copyFolder(source, destination, null);
     }
 
     public static File getTmpDir(File externalFilesDir) {
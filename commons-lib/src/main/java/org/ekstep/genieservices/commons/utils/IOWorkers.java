@@ -0,0 +1,116 @@
+package org.ekstep.genieservices.commons.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * The threads and buffers shared by {@link ZipExtractor}, {@link ZipArchive} and {@link FileCopier}.
+ * <p>
+ * Files are written by the calling thread together with up to {@link #WORKER_COUNT} - 1 pooled workers, all of
+ * them taking the next file off a shared queue. The calling thread works too, so that a copy goes on even while
+ * the workers are busy with another one.
+ */
+final class IOWorkers {
+
+    static final int WORKER_COUNT = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+    static final int BUFFER_SIZE = 128 * 1024;
+    private static final int MAX_POOLED_BUFFERS = WORKER_COUNT * 2;
+
+    private static final Queue<byte[]> sBufferPool = new ConcurrentLinkedQueue<>();
+    private static final AtomicInteger sPooledBufferCount = new AtomicInteger();
+    private static ExecutorService sWorkers;
+
+    private IOWorkers() {
+    }
+
+    /**
+     * Runs the task for every item of the queue, and returns once they are all done or one of them failed.
+     *
+     * @throws Exception the first failure of the task.
+     */
+    static <T> void drain(final Queue<T> pending, final ITask<T> task) throws Exception {
+        final AtomicReference<Exception> failure = new AtomicReference<>();
+        Runnable worker = new Runnable() {
+            @Override
+            public void run() {
+                byte[] buffer = acquireBuffer();
+                try {
+                    T item;
+                    while (failure.get() == null && (item = pending.poll()) != null) {
+                        task.run(item, buffer);
+                    }
+                } catch (Exception e) {
+                    failure.compareAndSet(null, e);
+                } finally {
+                    releaseBuffer(buffer);
+                }
+            }
+        };
+
+        List<Future<?>> futures = new ArrayList<>();
+        int helpers = Math.min(WORKER_COUNT, pending.size()) - 1;
+        for (int i = 0; i < helpers; i++) {
+            futures.add(getWorkers().submit(worker));
+        }
+        worker.run();
+        // The queue is empty by now, the helpers which did not start yet have nothing left to do.
+        for (Future<?> future : futures) {
+            if (!future.cancel(false)) {
+                future.get();
+            }
+        }
+
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+    }
+
+    static byte[] acquireBuffer() {
+        byte[] buffer = sBufferPool.poll();
+        if (buffer == null) {
+            return new byte[BUFFER_SIZE];
+        }
+        sPooledBufferCount.decrementAndGet();
+        return buffer;
+    }
+
+    static void releaseBuffer(byte[] buffer) {
+        if (sPooledBufferCount.incrementAndGet() <= MAX_POOLED_BUFFERS) {
+            sBufferPool.offer(buffer);
+        } else {
+            sPooledBufferCount.decrementAndGet();
+        }
+    }
+
+    private static synchronized ExecutorService getWorkers() {
+        if (sWorkers == null) {
+            sWorkers = Executors.newFixedThreadPool(WORKER_COUNT, new ThreadFactory() {
+                private final AtomicInteger count = new AtomicInteger();
+
+                @Override
+                public Thread newThread(Runnable runnable) {
+                    Thread thread = new Thread(runnable, "genie-io-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        }
+        return sWorkers;
+    }
+
+    /**
+     * Work done for one item, with a buffer of {@link #BUFFER_SIZE} bytes owned by the running thread.
+     */
+    interface ITask<T> {
+
+        void run(T item, byte[] buffer) throws Exception;
+    }
+}
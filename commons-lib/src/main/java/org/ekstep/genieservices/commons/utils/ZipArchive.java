@@ -0,0 +1,386 @@
+package org.ekstep.genieservices.commons.utils;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+
+/**
+ * A zip opened for random access, whose entries can be copied out one at a time and from several threads.
+ * <p>
+ * Deflated entries are inflated through buffers of {@link IOWorkers#BUFFER_SIZE} bytes which are reused across entries and
+ * archives. Stored entries, i.e. the artifacts of an ECAR, are copied from the zip to their file by
+ * {@link FileChannel#transferTo}, without going through the java heap. Their offset in the zip is read from the
+ * central directory, zip64 included.
+ */
+public class ZipArchive implements Closeable {
+
+    private static final int END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50;
+    private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIGNATURE = 0x07064b50;
+    private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06064b50;
+    private static final int CENTRAL_DIRECTORY_ENTRY_SIGNATURE = 0x02014b50;
+    private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+    private static final int END_OF_CENTRAL_DIRECTORY_SIZE = 22;
+    private static final int CENTRAL_DIRECTORY_ENTRY_SIZE = 46;
+    private static final int LOCAL_HEADER_SIZE = 30;
+    private static final int MAX_COMMENT_SIZE = 0xffff;
+    private static final int ZIP64_EXTRA_ID = 0x0001;
+    private static final long ZIP64_MAGIC = 0xffffffffL;
+
+    private final ZipFile zipFile;
+    private final RandomAccessFile randomAccessFile;
+    private final Map<String, Long> localHeaderOffsets;
+
+    private ZipArchive(ZipFile zipFile, RandomAccessFile randomAccessFile, Map<String, Long> localHeaderOffsets) {
+        this.zipFile = zipFile;
+        this.randomAccessFile = randomAccessFile;
+        this.localHeaderOffsets = localHeaderOffsets;
+    }
+
+    public static ZipArchive open(File file) throws IOException {
+        ZipFile zipFile = new ZipFile(file);
+        RandomAccessFile randomAccessFile = null;
+        try {
+            randomAccessFile = new RandomAccessFile(file, "r");
+            return new ZipArchive(zipFile, randomAccessFile, readLocalHeaderOffsets(randomAccessFile));
+        } catch (IOException e) {
+            closeQuietly(randomAccessFile);
+            closeQuietly(zipFile);
+            throw e;
+        }
+    }
+
+    public List<ZipEntry> getEntries() {
+        List<ZipEntry> entries = new ArrayList<>(zipFile.size());
+        Enumeration<? extends ZipEntry> enumeration = zipFile.entries();
+        while (enumeration.hasMoreElements()) {
+            entries.add(enumeration.nextElement());
+        }
+        return entries;
+    }
+
+    /**
+     * @param name path of the entry, a leading "/" is ignored.
+     * @return null if there is no such entry.
+     */
+    public ZipEntry getEntry(String name) {
+        return zipFile.getEntry(name.startsWith("/") ? name.substring(1) : name);
+    }
+
+    /**
+     * Copies the entry to the file, whose folder must exist.
+     *
+     * @throws IOException if there is no such entry.
+     */
+    public void copy(String name, File file) throws IOException {
+        ZipEntry entry = getEntry(name);
+        if (entry == null) {
+            throw new IOException(name + " not found");
+        }
+
+        byte[] buffer = IOWorkers.acquireBuffer();
+        try {
+            copy(entry, file, buffer, null);
+        } finally {
+            IOWorkers.releaseBuffer(buffer);
+        }
+    }
+
+    /**
+     * Extracts a zip which is itself an entry of this zip, reading it straight from this zip rather than from a
+     * copy of it.
+     *
+     * @param listener told about the bytes of the entry read so far, can be null.
+     * @return false if there is no such entry or it has no entries.
+     */
+    public boolean extractNested(String name, File destinationFolder, ZipExtractor.IProgressListener listener) throws IOException {
+        ZipEntry nested = getEntry(name);
+        if (nested == null) {
+            return false;
+        }
+
+        Set<File> folders = new HashSet<>();
+        boolean hasEntries = false;
+        byte[] buffer = IOWorkers.acquireBuffer();
+        ZipInputStream zipInputStream = new ZipInputStream(new BufferedInputStream(
+                new CountingInputStream(zipFile.getInputStream(nested), nested.getSize(), listener), IOWorkers.BUFFER_SIZE));
+        try {
+            ZipEntry entry;
+            while ((entry = zipInputStream.getNextEntry()) != null) {
+                hasEntries = true;
+                File file = resolve(destinationFolder, entry.getName());
+                File folder = entry.isDirectory() ? file : file.getParentFile();
+                if (folders.add(folder) && !folder.isDirectory() && !folder.mkdirs()) {
+                    throw new IOException("Cannot create " + folder.getPath());
+                }
+                if (!entry.isDirectory()) {
+                    write(zipInputStream, file, buffer, null);
+                }
+            }
+        } finally {
+            IOWorkers.releaseBuffer(buffer);
+            zipInputStream.close();
+        }
+        return hasEntries;
+    }
+
+    /**
+     * Copies the entry to the file, whose folder must exist. Can be called from several threads at once.
+     */
+    void copy(ZipEntry entry, File file, byte[] buffer, IWriteListener listener) throws IOException {
+        Long localHeaderOffset = localHeaderOffsets.get(entry.getName());
+        if (entry.getMethod() == ZipEntry.STORED && localHeaderOffset != null) {
+            transfer(entry, localHeaderOffset, file, listener);
+        } else {
+            InputStream inputStream = zipFile.getInputStream(entry);
+            try {
+                write(inputStream, file, buffer, listener);
+            } finally {
+                inputStream.close();
+            }
+        }
+    }
+
+    private void transfer(ZipEntry entry, long localHeaderOffset, File file, IWriteListener listener) throws IOException {
+        FileChannel zipChannel = randomAccessFile.getChannel();
+        ByteBuffer header = ByteBuffer.allocate(LOCAL_HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        while (header.hasRemaining()) {
+            if (zipChannel.read(header, localHeaderOffset + header.position()) < 0) {
+                throw new IOException("Unexpected end of zip in " + entry.getName());
+            }
+        }
+        if (header.getInt(0) != LOCAL_HEADER_SIGNATURE) {
+            throw new IOException("Bad local header for " + entry.getName());
+        }
+        long position = localHeaderOffset + LOCAL_HEADER_SIZE + (header.getShort(26) & 0xffff) + (header.getShort(28) & 0xffff);
+        long remaining = entry.getSize();
+
+        FileOutputStream outputStream = new FileOutputStream(file);
+        try {
+            FileChannel outputChannel = outputStream.getChannel();
+            while (remaining > 0) {
+                long transferred = zipChannel.transferTo(position, remaining, outputChannel);
+                if (transferred <= 0) {
+                    throw new IOException("Unexpected end of zip in " + entry.getName());
+                }
+                position += transferred;
+                remaining -= transferred;
+                if (listener != null) {
+                    listener.onWritten(transferred);
+                }
+            }
+        } finally {
+            outputStream.close();
+        }
+    }
+
+    private static void write(InputStream inputStream, File file, byte[] buffer, IWriteListener listener) throws IOException {
+        FileOutputStream outputStream = new FileOutputStream(file);
+        try {
+            int readSize;
+            while ((readSize = inputStream.read(buffer)) >= 0) {
+                outputStream.write(buffer, 0, readSize);
+                if (listener != null) {
+                    listener.onWritten(readSize);
+                }
+            }
+        } finally {
+            outputStream.close();
+        }
+    }
+
+    @Override
+    public void close() {
+        closeQuietly(randomAccessFile);
+        closeQuietly(zipFile);
+    }
+
+    /**
+     * @throws IOException if the entry would be written outside of the destination folder.
+     */
+    static File resolve(File destinationFolder, String name) throws IOException {
+        if (name.startsWith("/") || name.startsWith("\\")) {
+            throw new IOException("Entry " + name + " is outside of " + destinationFolder.getPath());
+        }
+        for (String segment : name.split("[/\\\\]")) {
+            if ("..".equals(segment)) {
+                throw new IOException("Entry " + name + " is outside of " + destinationFolder.getPath());
+            }
+        }
+        return new File(destinationFolder, name);
+    }
+
+    /**
+     * @return offset of the local header of every entry by its name, empty if the central directory cannot be read.
+     */
+    private static Map<String, Long> readLocalHeaderOffsets(RandomAccessFile file) throws IOException {
+        Map<String, Long> offsets = new HashMap<>();
+
+        long length = file.length();
+        int tailSize = (int) Math.min(length, END_OF_CENTRAL_DIRECTORY_SIZE + MAX_COMMENT_SIZE);
+        ByteBuffer tail = read(file, length - tailSize, tailSize);
+        int end = -1;
+        for (int i = tailSize - END_OF_CENTRAL_DIRECTORY_SIZE; i >= 0; i--) {
+            if (tail.getInt(i) == END_OF_CENTRAL_DIRECTORY_SIGNATURE) {
+                end = i;
+                break;
+            }
+        }
+        if (end == -1) {
+            return offsets;
+        }
+
+        long entryCount = tail.getShort(end + 10) & 0xffff;
+        long directorySize = tail.getInt(end + 12) & ZIP64_MAGIC;
+        long directoryOffset = tail.getInt(end + 16) & ZIP64_MAGIC;
+        if (directoryOffset == ZIP64_MAGIC || directorySize == ZIP64_MAGIC || entryCount == 0xffff) {
+            long locatorOffset = length - tailSize + end - 20;
+            if (locatorOffset < 0) {
+                return offsets;
+            }
+            ByteBuffer locator = read(file, locatorOffset, 20);
+            if (locator.getInt(0) != ZIP64_END_OF_CENTRAL_DIRECTORY_LOCATOR_SIGNATURE) {
+                return offsets;
+            }
+            ByteBuffer zip64End = read(file, locator.getLong(8), 56);
+            if (zip64End.getInt(0) != ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE) {
+                return offsets;
+            }
+            entryCount = zip64End.getLong(32);
+            directorySize = zip64End.getLong(40);
+            directoryOffset = zip64End.getLong(48);
+        }
+        if (directorySize > Integer.MAX_VALUE) {
+            return offsets;
+        }
+
+        ByteBuffer directory = read(file, directoryOffset, (int) directorySize);
+        int position = 0;
+        for (long i = 0; i < entryCount && position + CENTRAL_DIRECTORY_ENTRY_SIZE <= directorySize; i++) {
+            if (directory.getInt(position) != CENTRAL_DIRECTORY_ENTRY_SIGNATURE) {
+                return new HashMap<>();
+            }
+            long compressedSize = directory.getInt(position + 20) & ZIP64_MAGIC;
+            long size = directory.getInt(position + 24) & ZIP64_MAGIC;
+            int nameLength = directory.getShort(position + 28) & 0xffff;
+            int extraLength = directory.getShort(position + 30) & 0xffff;
+            int commentLength = directory.getShort(position + 32) & 0xffff;
+            long localHeaderOffset = directory.getInt(position + 42) & ZIP64_MAGIC;
+
+            byte[] name = new byte[nameLength];
+            directory.position(position + CENTRAL_DIRECTORY_ENTRY_SIZE);
+            directory.get(name);
+
+            if (localHeaderOffset == ZIP64_MAGIC) {
+                // The zip64 extra field has the 8 byte values of the fields which did not fit, in this order.
+                int extra = position + CENTRAL_DIRECTORY_ENTRY_SIZE + nameLength;
+                int extraEnd = extra + extraLength;
+                while (extra + 4 <= extraEnd) {
+                    int id = directory.getShort(extra) & 0xffff;
+                    int dataSize = directory.getShort(extra + 2) & 0xffff;
+                    if (id == ZIP64_EXTRA_ID) {
+                        int field = extra + 4;
+                        if (size == ZIP64_MAGIC) {
+                            field += 8;
+                        }
+                        if (compressedSize == ZIP64_MAGIC) {
+                            field += 8;
+                        }
+                        localHeaderOffset = directory.getLong(field);
+                        break;
+                    }
+                    extra += 4 + dataSize;
+                }
+            }
+
+            offsets.put(new String(name, "UTF-8"), localHeaderOffset);
+            position += CENTRAL_DIRECTORY_ENTRY_SIZE + nameLength + extraLength + commentLength;
+        }
+        return offsets;
+    }
+
+    private static ByteBuffer read(RandomAccessFile file, long offset, int length) throws IOException {
+        byte[] bytes = new byte[length];
+        file.seek(offset);
+        file.readFully(bytes);
+        return ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        if (closeable != null) {
+            try {
+                closeable.close();
+            } catch (IOException e) {
+                // Nothing to do.
+            }
+        }
+    }
+
+    /**
+     * Told about the bytes written to a file, from the thread writing it.
+     */
+    interface IWriteListener {
+
+        void onWritten(long bytes);
+    }
+
+    /**
+     * Tells the listener how many of the bytes of a nested zip are read, once for every {@link IOWorkers#BUFFER_SIZE} bytes.
+     */
+    private static class CountingInputStream extends FilterInputStream {
+
+        private final long totalBytes;
+        private final ZipExtractor.IProgressListener listener;
+        private long readBytes;
+        private long reportedBytes;
+
+        CountingInputStream(InputStream inputStream, long totalBytes, ZipExtractor.IProgressListener listener) {
+            super(inputStream);
+            this.totalBytes = totalBytes;
+            this.listener = listener;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = super.read();
+            if (value >= 0) {
+                onRead(1);
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int readSize = super.read(buffer, offset, length);
+            if (readSize > 0) {
+                onRead(readSize);
+            }
+            return readSize;
+        }
+
+        private void onRead(long bytes) {
+            readBytes += bytes;
+            if (listener != null && (readBytes - reportedBytes >= IOWorkers.BUFFER_SIZE || readBytes == totalBytes)) {
+                reportedBytes = readBytes;
+                listener.onProgress(readBytes, totalBytes);
+            }
+        }
+    }
+}
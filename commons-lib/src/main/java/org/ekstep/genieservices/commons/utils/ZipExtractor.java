@@ -0,0 +1,163 @@
+package org.ekstep.genieservices.commons.utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.ZipEntry;
+
+/**
+ * Extracts a whole zip through a {@link ZipArchive}, so that its entries can be written by
+ * {@link IOWorkers#WORKER_COUNT} threads at once. The folders of all the entries are created once before any file is written.
+ */
+public class ZipExtractor {
+
+    // Progress is reported at most once for every 1% of the uncompressed size, and not oftener than every 1 MB.
+    private static final int PROGRESS_STEPS = 100;
+    private static final long MIN_PROGRESS_STEP = 1024 * 1024;
+
+    private ZipExtractor() {
+    }
+
+    /**
+     * @param listener told about the uncompressed bytes written so far, can be null.
+     * @return false if the zip has no entries or any entry could not be extracted.
+     */
+    public static boolean extract(File zipFile, File destinationFolder, IProgressListener listener) {
+        ZipArchive archive = null;
+        try {
+            archive = ZipArchive.open(zipFile);
+            List<ZipEntry> entries = archive.getEntries();
+            long totalBytes = 0;
+            for (ZipEntry entry : entries) {
+                if (StringUtil.isNullOrEmpty(entry.getName())) {
+                    return false;
+                }
+                if (!entry.isDirectory() && entry.getSize() > 0) {
+                    totalBytes += entry.getSize();
+                }
+            }
+            if (entries.isEmpty()) {
+                return false;
+            }
+
+            createFolders(destinationFolder, entries);
+
+            // The biggest entries first, so that a big entry does not keep one worker busy after the others are done.
+            List<ZipEntry> files = new ArrayList<>();
+            for (ZipEntry entry : entries) {
+                if (!entry.isDirectory()) {
+                    files.add(entry);
+                }
+            }
+            Collections.sort(files, new Comparator<ZipEntry>() {
+                @Override
+                public int compare(ZipEntry left, ZipEntry right) {
+                    return Long.valueOf(right.getSize()).compareTo(left.getSize());
+                }
+            });
+
+            return new Extraction(archive, destinationFolder, files, totalBytes, listener).extract();
+        } catch (Exception e) {
+            e.printStackTrace();
+            return false;
+        } finally {
+            if (archive != null) {
+                archive.close();
+            }
+        }
+    }
+
+    /**
+     * Creates every folder of the entries once, the deepest ones only since mkdirs creates their parents.
+     */
+    private static void createFolders(File destinationFolder, List<ZipEntry> entries) throws IOException {
+        TreeSet<String> folders = new TreeSet<>();
+        for (ZipEntry entry : entries) {
+            String name = entry.getName();
+            String folder = entry.isDirectory() ? name : (name.contains("/") ? name.substring(0, name.lastIndexOf("/")) : "");
+            folders.add(folder.endsWith("/") ? folder.substring(0, folder.length() - 1) : folder);
+        }
+
+        destinationFolder.mkdirs();
+        String previous = null;
+        for (String folder : folders.descendingSet()) {
+            if (folder.isEmpty() || (previous != null && previous.startsWith(folder + "/"))) {
+                continue;
+            }
+            File file = ZipArchive.resolve(destinationFolder, folder);
+            if (!file.isDirectory() && !file.mkdirs()) {
+                throw new IOException("Cannot create " + file.getPath());
+            }
+            previous = folder;
+        }
+    }
+
+    /**
+     * Told about the progress of an extraction, from any of the extracting threads.
+     */
+    public interface IProgressListener {
+
+        void onProgress(long extractedBytes, long totalBytes);
+    }
+
+    /**
+     * The files of one zip, written by {@link IOWorkers}.
+     */
+    private static class Extraction implements IOWorkers.ITask<ZipEntry>, ZipArchive.IWriteListener {
+
+        private final ZipArchive archive;
+        private final File destinationFolder;
+        private final List<ZipEntry> files;
+        private final long totalBytes;
+        private final long progressStep;
+        private final IProgressListener listener;
+
+        private final AtomicLong extractedBytes = new AtomicLong();
+        private final AtomicLong reportedBytes = new AtomicLong();
+
+        Extraction(ZipArchive archive, File destinationFolder, List<ZipEntry> files, long totalBytes, IProgressListener listener) {
+            this.archive = archive;
+            this.destinationFolder = destinationFolder;
+            this.files = files;
+            this.totalBytes = totalBytes;
+            this.progressStep = Math.max(totalBytes / PROGRESS_STEPS, MIN_PROGRESS_STEP);
+            this.listener = listener;
+        }
+
+        boolean extract() throws Exception {
+            if (listener != null) {
+                listener.onProgress(0, totalBytes);
+            }
+
+            IOWorkers.drain(new ConcurrentLinkedQueue<>(files), this);
+
+            if (listener != null && reportedBytes.get() != extractedBytes.get()) {
+                listener.onProgress(extractedBytes.get(), totalBytes);
+            }
+            return true;
+        }
+
+        @Override
+        public void run(ZipEntry entry, byte[] buffer) throws Exception {
+            archive.copy(entry, ZipArchive.resolve(destinationFolder, entry.getName()), buffer, this);
+        }
+
+        @Override
+        public void onWritten(long bytes) {
+            long extracted = extractedBytes.addAndGet(bytes);
+            if (listener == null) {
+                return;
+            }
+            long reported = reportedBytes.get();
+            if (extracted - reported >= progressStep && reportedBytes.compareAndSet(reported, extracted)) {
+                listener.onProgress(extracted, totalBytes);
+            }
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package org.ekstep.genieservices.benchmark;
+
+import org.ekstep.genieservices.commons.db.BaseColumns;
+import org.ekstep.genieservices.commons.db.contract.EventPriorityEntry;
+import org.ekstep.genieservices.telemetry.cache.EventPriorityCache;
+import org.ekstep.genieservices.telemetry.model.EventModel;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builds and saves a batch of telemetry events, once with the {@link EventPriorityCache} and once with the
+ * cache cleared before every event, which is the old read of event_priority per event. The "dbReads" and
+ * "savedEvents" counters are totals per iteration, their ratio is the number of queries per saved event.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventPriorityBenchmark {
+
+    private static final int BATCH_SIZE = 100;
+    private static final String[] EVENT_TYPES = {"START", "INTERACT", "IMPRESSION", "END", "LOG", "ERROR"};
+    private static final String[] COLUMNS = {BaseColumns._ID, EventPriorityEntry.COLUMN_NAME_EVENT,
+            EventPriorityEntry.COLUMN_NAME_PRIORITY};
+
+    private InMemoryDBSession dbSession;
+
+    @Setup
+    public void setup() {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (int i = 0; i < EVENT_TYPES.length; i++) {
+            Map<String, Object> row = new HashMap<>();
+            row.put(BaseColumns._ID, (long) i);
+            row.put(EventPriorityEntry.COLUMN_NAME_EVENT, EVENT_TYPES[i]);
+            row.put(EventPriorityEntry.COLUMN_NAME_PRIORITY, i % 3 + 1);
+            rows.add(row);
+        }
+
+        dbSession = new InMemoryDBSession();
+        dbSession.setRows(EventPriorityEntry.TABLE_NAME, COLUMNS, rows);
+        EventPriorityCache.clearCache();
+    }
+
+    @Benchmark
+    public int cachedPriority(DbReads dbReads) {
+        dbSession.resetCounters();
+        int priorities = 0;
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            priorities += saveEvent(i);
+        }
+        dbReads.dbReads += dbSession.getReads();
+        dbReads.savedEvents += BATCH_SIZE;
+        return priorities;
+    }
+
+    @Benchmark
+    public int priorityReadPerEvent(DbReads dbReads) {
+        dbSession.resetCounters();
+        int priorities = 0;
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            EventPriorityCache.clearCache();
+            priorities += saveEvent(i);
+        }
+        dbReads.dbReads += dbSession.getReads();
+        dbReads.savedEvents += BATCH_SIZE;
+        return priorities;
+    }
+
+    private int saveEvent(int index) {
+        String eventType = EVENT_TYPES[index % EVENT_TYPES.length];
+        Map<String, Object> event = new HashMap<>();
+        event.put("eid", eventType);
+        event.put("ets", 1521112233445L + index);
+        event.put("ver", "3.0");
+
+        EventModel eventModel = EventModel.build(dbSession, event, eventType);
+        eventModel.save();
+        return eventModel.getPriority();
+    }
+
+    /**
+     * Reports the db reads and the saved events next to the time per batch.
+     */
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class DbReads {
+
+        public long dbReads;
+        public long savedEvents;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            dbReads = 0;
+            savedEvents = 0;
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        EventPriorityCache.clearCache();
+    }
+}
@@ -0,0 +1,149 @@
+package org.ekstep.genieservices.benchmark;
+
+import org.ekstep.genieservices.commons.db.core.ICleanable;
+import org.ekstep.genieservices.commons.db.core.IReadable;
+import org.ekstep.genieservices.commons.db.core.IUpdatable;
+import org.ekstep.genieservices.commons.db.core.IWritable;
+import org.ekstep.genieservices.commons.db.operations.IDBSession;
+import org.ekstep.genieservices.commons.db.operations.IDBTransaction;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link IDBSession} keeping whole tables in memory. Reads ignore the filters and return every row of
+ * the table. The number of reads and writes is counted, so benchmarks can report the queries they save.
+ */
+public class InMemoryDBSession implements IDBSession {
+
+    private final Map<String, List<Map<String, Object>>> tables = new HashMap<>();
+    private final Map<String, String[]> columns = new HashMap<>();
+    private long reads;
+    private long writes;
+
+    public void setRows(String tableName, String[] columnNames, List<Map<String, Object>> rows) {
+        tables.put(tableName, rows);
+        columns.put(tableName, columnNames);
+    }
+
+    public long getReads() {
+        return reads;
+    }
+
+    public long getWrites() {
+        return writes;
+    }
+
+    public void resetCounters() {
+        reads = 0;
+        writes = 0;
+    }
+
+    @Override
+    public String getDBName() {
+        return "in-memory";
+    }
+
+    @Override
+    public int getDBVersion() {
+        return 0;
+    }
+
+    @Override
+    public String getDatabasePath() {
+        return null;
+    }
+
+    @Override
+    public Void beginTransaction() {
+        return null;
+    }
+
+    @Override
+    public Void endTransaction() {
+        return null;
+    }
+
+    @Override
+    public Void clean(ICleanable cleanDb) {
+        cleanDb.clean();
+        return null;
+    }
+
+    @Override
+    public Void read(IReadable readDb) {
+        reads++;
+        List<Map<String, Object>> rows = tables.get(readDb.getTableName());
+        if (rows == null) {
+            rows = new ArrayList<>();
+        }
+        String[] columnNames = columns.get(readDb.getTableName());
+        readDb.read(new InMemoryResultSet(rows, columnNames == null ? new String[0] : columnNames));
+        return null;
+    }
+
+    @Override
+    public Void read(IReadable readDb, String customQuery) {
+        return read(readDb);
+    }
+
+    @Override
+    public Void create(IWritable writeToDb) {
+        writes++;
+        writeToDb.beforeWrite(null);
+        writeToDb.getContentValues();
+        writeToDb.updateId(writes);
+        return null;
+    }
+
+    @Override
+    public Void update(IUpdatable updateDb) {
+        writes++;
+        updateDb.getFieldsToUpdate();
+        return null;
+    }
+
+    @Override
+    public Void execute(String query) {
+        return null;
+    }
+
+    @Override
+    public Void executeBatch(String statement, List<Object[]> bindArgsList) {
+        writes += bindArgsList.size();
+        return null;
+    }
+
+    @Override
+    public long[] createAll(List<? extends IWritable> writables) {
+        long[] ids = new long[writables.size()];
+        for (int i = 0; i < writables.size(); i++) {
+            create(writables.get(i));
+            ids[i] = writes;
+        }
+        return ids;
+    }
+
+    @Override
+    public long[] updateAll(List<? extends IUpdatable> updatables) {
+        long[] rowsCounts = new long[updatables.size()];
+        for (int i = 0; i < updatables.size(); i++) {
+            update(updatables.get(i));
+            rowsCounts[i] = 1;
+        }
+        return rowsCounts;
+    }
+
+    @Override
+    public <T extends IWritable & IUpdatable> long[] upsertAll(List<T> models) {
+        return updateAll(models);
+    }
+
+    @Override
+    public Void executeInTransaction(IDBTransaction transaction) {
+        transaction.perform(this);
+        return null;
+    }
+}
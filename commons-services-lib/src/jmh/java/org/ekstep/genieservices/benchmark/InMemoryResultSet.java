@@ -0,0 +1,117 @@
+package org.ekstep.genieservices.benchmark;
+
+import org.ekstep.genieservices.commons.db.core.IResultSet;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link IResultSet} over rows held in memory, so that models can be benchmarked without SQLite.
+ */
+public class InMemoryResultSet implements IResultSet {
+
+    private final List<Map<String, Object>> rows;
+    private final String[] columnNames;
+    private int position = -1;
+
+    public InMemoryResultSet(List<Map<String, Object>> rows, String[] columnNames) {
+        this.rows = rows;
+        this.columnNames = columnNames;
+    }
+
+    @Override
+    public int getCount() {
+        return rows.size();
+    }
+
+    @Override
+    public int getPosition() {
+        return position;
+    }
+
+    @Override
+    public boolean moveToFirst() {
+        position = 0;
+        return !rows.isEmpty();
+    }
+
+    @Override
+    public boolean moveToNext() {
+        if (position < rows.size()) {
+            position++;
+        }
+        return position < rows.size();
+    }
+
+    @Override
+    public int getColumnIndex(String columnName) {
+        for (int i = 0; i < columnNames.length; i++) {
+            if (columnNames[i].equals(columnName)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int getColumnIndexOrThrow(String columnName) throws IllegalArgumentException {
+        int index = getColumnIndex(columnName);
+        if (index < 0) {
+            throw new IllegalArgumentException("column '" + columnName + "' does not exist");
+        }
+        return index;
+    }
+
+    @Override
+    public String getColumnName(int columnIndex) {
+        return columnNames[columnIndex];
+    }
+
+    @Override
+    public String[] getColumnNames() {
+        return columnNames;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return columnNames.length;
+    }
+
+    @Override
+    public String getString(int columnIndex) {
+        Object value = get(columnIndex);
+        return value == null ? null : value.toString();
+    }
+
+    @Override
+    public int getInt(int columnIndex) {
+        Object value = get(columnIndex);
+        return value == null ? 0 : ((Number) value).intValue();
+    }
+
+    @Override
+    public long getLong(int columnIndex) {
+        Object value = get(columnIndex);
+        return value == null ? 0 : ((Number) value).longValue();
+    }
+
+    @Override
+    public double getDouble(int columnIndex) {
+        Object value = get(columnIndex);
+        return value == null ? 0 : ((Number) value).doubleValue();
+    }
+
+    @Override
+    public byte[] getBlob(int columnIndex) {
+        return (byte[]) get(columnIndex);
+    }
+
+    @Override
+    public boolean isAfterLast() {
+        return position >= rows.size();
+    }
+
+    private Object get(int columnIndex) {
+        return rows.get(position).get(columnNames[columnIndex]);
+    }
+}
@@ -0,0 +1,193 @@
+package org.ekstep.genieservices.benchmark;
+
+import org.ekstep.genieservices.commons.db.BaseColumns;
+import org.ekstep.genieservices.commons.db.contract.ContentEntry;
+import org.ekstep.genieservices.commons.db.contract.MetaEntry;
+import org.ekstep.genieservices.commons.db.contract.TelemetryProcessedEntry;
+import org.ekstep.genieservices.telemetry.chained.export.ExportProcessedEvents;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exports the processed telemetry of a synthetic Genie database of {@link #dbSizeMb} MB the old way, copying the
+ * whole file and dropping every other table, and the way of {@link ExportProcessedEvents}, attaching the database
+ * to a new file and copying the processed telemetry with INSERT ... SELECT.
+ * <p>
+ * Runs on sqlite-jdbc, with the same statements as the export chains. The size of each exported file is printed
+ * after every invocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class TelemetryExportBenchmark {
+
+    private static final int PROCESSED_BATCH_COUNT = 1000;
+    private static final int PROCESSED_BATCH_SIZE = 16 * 1024;
+    private static final int CONTENT_DATA_SIZE = 64 * 1024;
+    private static final int PAGE_SIZE = 200;
+
+    @Param({"500"})
+    public int dbSizeMb;
+
+    private File databaseFile;
+    private File exportFile;
+
+    @Setup(Level.Trial)
+    public void writeDatabase() throws IOException, SQLException {
+        databaseFile = File.createTempFile("genie", ".db");
+        Random random = new Random(42);
+
+        Connection connection = open(databaseFile);
+        try {
+            Statement statement = connection.createStatement();
+            statement.execute(MetaEntry.getCreateEntry());
+            statement.execute(TelemetryProcessedEntry.getCreateEntry());
+            statement.execute(String.format("CREATE TABLE %s (%s INTEGER PRIMARY KEY, %s TEXT, %s TEXT, %s TEXT)", ContentEntry.TABLE_NAME,
+                    BaseColumns._ID, ContentEntry.COLUMN_NAME_IDENTIFIER, ContentEntry.COLUMN_NAME_LOCAL_DATA, ContentEntry.COLUMN_NAME_SERVER_DATA));
+            statement.close();
+
+            connection.setAutoCommit(false);
+            PreparedStatement insertBatch = connection.prepareStatement(String.format("INSERT INTO %s (%s, %s, %s, %s) VALUES (?, ?, ?, ?)",
+                    TelemetryProcessedEntry.TABLE_NAME, TelemetryProcessedEntry.COLUMN_NAME_MSG_ID, TelemetryProcessedEntry.COLUMN_NAME_DATA,
+                    TelemetryProcessedEntry.COLUMN_NAME_NUMBER_OF_EVENTS, TelemetryProcessedEntry.COLUMN_NAME_PRIORITY));
+            for (int i = 0; i < PROCESSED_BATCH_COUNT; i++) {
+                insertBatch.setString(1, "msg_" + i);
+                insertBatch.setString(2, randomText(random, PROCESSED_BATCH_SIZE));
+                insertBatch.setInt(3, 200);
+                insertBatch.setInt(4, 1 + i % 3);
+                insertBatch.executeUpdate();
+            }
+            insertBatch.close();
+
+            long contentCount = ((long) dbSizeMb * 1024 * 1024 - (long) PROCESSED_BATCH_COUNT * PROCESSED_BATCH_SIZE) / (2 * CONTENT_DATA_SIZE);
+            PreparedStatement insertContent = connection.prepareStatement(String.format("INSERT INTO %s (%s, %s, %s) VALUES (?, ?, ?)",
+                    ContentEntry.TABLE_NAME, ContentEntry.COLUMN_NAME_IDENTIFIER, ContentEntry.COLUMN_NAME_LOCAL_DATA, ContentEntry.COLUMN_NAME_SERVER_DATA));
+            for (long i = 0; i < contentCount; i++) {
+                insertContent.setString(1, "do_" + i);
+                insertContent.setString(2, randomText(random, CONTENT_DATA_SIZE));
+                insertContent.setString(3, randomText(random, CONTENT_DATA_SIZE));
+                insertContent.executeUpdate();
+            }
+            insertContent.close();
+            connection.commit();
+        } finally {
+            connection.close();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteDatabase() {
+        databaseFile.delete();
+    }
+
+    @Setup(Level.Invocation)
+    public void pickExportFile() throws IOException {
+        exportFile = File.createTempFile("telemetry", ".gsa");
+        exportFile.delete();
+    }
+
+    @TearDown(Level.Invocation)
+    public void deleteExportFile() {
+        System.out.println("\nexported " + exportFile.length() / 1024 + " KB of a " + databaseFile.length() / 1024 + " KB database");
+        exportFile.delete();
+        new File(exportFile.getPath() + "-journal").delete();
+    }
+
+    @Benchmark
+    public long copyAndDropTables() throws IOException, SQLException {
+        Files.copy(databaseFile.toPath(), exportFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+
+        Connection connection = open(exportFile);
+        try {
+            Statement statement = connection.createStatement();
+            List<String> tables = new ArrayList<>();
+            ResultSet resultSet = statement.executeQuery("select name from sqlite_master where type='table'");
+            while (resultSet.next()) {
+                tables.add(resultSet.getString(1));
+            }
+            resultSet.close();
+
+            for (String table : tables) {
+                if (!MetaEntry.TABLE_NAME.equals(table) && !TelemetryProcessedEntry.TABLE_NAME.equals(table)) {
+                    statement.execute("DROP TABLE IF EXISTS " + table);
+                }
+            }
+            statement.close();
+        } finally {
+            connection.close();
+        }
+        return exportFile.length();
+    }
+
+    @Benchmark
+    public long attachAndInsert() throws IOException, SQLException {
+        exportFile.createNewFile();
+
+        Connection connection = open(exportFile);
+        try {
+            Statement statement = connection.createStatement();
+            statement.execute(TelemetryProcessedEntry.getCreateEntry());
+            statement.execute("ATTACH DATABASE '" + databaseFile.getPath().replace("'", "''") + "' AS genie");
+
+            String columns = BaseColumns._ID + ", " + TelemetryProcessedEntry.COLUMN_NAME_MSG_ID + ", " + TelemetryProcessedEntry.COLUMN_NAME_DATA
+                    + ", " + TelemetryProcessedEntry.COLUMN_NAME_NUMBER_OF_EVENTS + ", " + TelemetryProcessedEntry.COLUMN_NAME_PRIORITY;
+            long lastId = Long.MIN_VALUE;
+            int copied;
+            do {
+                copied = statement.executeUpdate(String.format("INSERT INTO %s (%s) SELECT %s FROM genie.%s WHERE %s > %d ORDER BY %s LIMIT %d",
+                        TelemetryProcessedEntry.TABLE_NAME, columns, columns, TelemetryProcessedEntry.TABLE_NAME, BaseColumns._ID, lastId,
+                        BaseColumns._ID, PAGE_SIZE));
+                ResultSet resultSet = statement.executeQuery("SELECT max(" + BaseColumns._ID + ") FROM " + TelemetryProcessedEntry.TABLE_NAME);
+                lastId = resultSet.getLong(1);
+                resultSet.close();
+            } while (copied == PAGE_SIZE);
+
+            statement.execute("DETACH DATABASE genie");
+            statement.close();
+        } finally {
+            connection.close();
+        }
+        return exportFile.length();
+    }
+
+    private static Connection open(File file) throws SQLException {
+        return DriverManager.getConnection("jdbc:sqlite:" + file.getPath());
+    }
+
+    private static String randomText(Random random, int length) {
+        char[] text = new char[length];
+        for (int i = 0; i < length; i++) {
+            text[i] = (char) ('a' + random.nextInt(26));
+        }
+        return new String(text);
+    }
+}
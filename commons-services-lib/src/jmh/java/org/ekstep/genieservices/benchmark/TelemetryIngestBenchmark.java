@@ -0,0 +1,90 @@
+package org.ekstep.genieservices.benchmark;
+
+import org.ekstep.genieservices.commons.db.contract.TelemetryEntry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes telemetry events the way the telemetry provider does for each Binder transaction: with {@link #batchSize}
+ * 1 an insert makes one transaction per event, with a bigger batch size a bulkInsert makes one transaction per
+ * batch. The score is in events per second.
+ * <p>
+ * Runs on sqlite-jdbc, the cost of the Binder transactions themselves can only be measured on a device.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TelemetryIngestBenchmark {
+
+    private static final int EVENTS_PER_INVOCATION = 100;
+    private static final String EVENT = "{\"eid\":\"IMPRESSION\",\"ver\":\"3.0\",\"ets\":1508300000000,\"actor\":{\"id\":\"8f3a2c1e\",\"type\":\"User\"},"
+            + "\"context\":{\"channel\":\"in.ekstep\",\"pdata\":{\"id\":\"genie\",\"ver\":\"7.0\"},\"env\":\"contentplayer\"},"
+            + "\"object\":{\"id\":\"do_30013486\",\"type\":\"Content\"},\"edata\":{\"type\":\"view\",\"pageid\":\"question-12\"}}";
+
+    @Param({"1", "20", "100"})
+    public int batchSize;
+
+    private File databaseFile;
+    private Connection connection;
+    private PreparedStatement insertEvent;
+
+    @Setup
+    public void openDatabase() throws IOException, SQLException {
+        databaseFile = File.createTempFile("genie", ".db");
+        connection = DriverManager.getConnection("jdbc:sqlite:" + databaseFile.getPath());
+        Statement statement = connection.createStatement();
+        statement.execute(TelemetryEntry.getCreateEntry());
+        statement.close();
+
+        insertEvent = connection.prepareStatement(String.format("INSERT INTO %s (%s, %s, %s, %s) VALUES (?, ?, ?, ?)",
+                TelemetryEntry.TABLE_NAME, TelemetryEntry.COLUMN_NAME_EVENT_TYPE, TelemetryEntry.COLUMN_NAME_EVENT,
+                TelemetryEntry.COLUMN_NAME_TIMESTAMP, TelemetryEntry.COLUMN_NAME_PRIORITY));
+        connection.setAutoCommit(false);
+    }
+
+    @TearDown
+    public void deleteDatabase() throws SQLException {
+        insertEvent.close();
+        connection.close();
+        databaseFile.delete();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENTS_PER_INVOCATION)
+    public void saveEvents() throws SQLException {
+        for (int i = 0; i < EVENTS_PER_INVOCATION; i++) {
+            insertEvent.setString(1, "IMPRESSION");
+            insertEvent.setString(2, EVENT);
+            insertEvent.setLong(3, System.currentTimeMillis());
+            insertEvent.setInt(4, 1);
+            insertEvent.executeUpdate();
+            if ((i + 1) % batchSize == 0) {
+                connection.commit();
+            }
+        }
+        connection.commit();
+    }
+}
@@ -0,0 +1,131 @@
+package org.ekstep.genieservices.benchmark;
+
+import org.ekstep.genieservices.commons.IDeviceInfo;
+import org.ekstep.genieservices.commons.db.BaseColumns;
+import org.ekstep.genieservices.commons.db.DbConstants;
+import org.ekstep.genieservices.commons.db.contract.TelemetryEntry;
+import org.ekstep.genieservices.commons.utils.GsonUtil;
+import org.ekstep.genieservices.telemetry.model.EventsModel;
+import org.ekstep.genieservices.telemetry.model.ProcessedEventModel;
+import org.ekstep.genieservices.telemetry.processors.DataPopulator;
+import org.ekstep.genieservices.telemetry.processors.DataZipper;
+import org.ekstep.genieservices.telemetry.processors.EventStreamZipper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the map based DataPopulator + DataZipper chain with the {@link EventStreamZipper} on a batch of
+ * {@link DbConstants#MAX_NUM_OF_EVENTS} events. Run with "-prof gc" to see the bytes allocated per batch.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TelemetryProcessorBenchmark {
+
+    private static final String[] COLUMNS = {BaseColumns._ID, TelemetryEntry.COLUMN_NAME_EVENT_TYPE,
+            TelemetryEntry.COLUMN_NAME_EVENT, TelemetryEntry.COLUMN_NAME_PRIORITY};
+
+    private InMemoryDBSession dbSession;
+    private IDeviceInfo deviceInfo;
+
+    @Setup
+    public void setup() {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (int i = 0; i < DbConstants.MAX_NUM_OF_EVENTS; i++) {
+            Map<String, Object> row = new HashMap<>();
+            row.put(BaseColumns._ID, (long) i);
+            row.put(TelemetryEntry.COLUMN_NAME_EVENT_TYPE, "INTERACT");
+            row.put(TelemetryEntry.COLUMN_NAME_EVENT, GsonUtil.toJson(sampleEvent(i)));
+            row.put(TelemetryEntry.COLUMN_NAME_PRIORITY, 2);
+            rows.add(row);
+        }
+
+        dbSession = new InMemoryDBSession();
+        dbSession.setRows(TelemetryEntry.TABLE_NAME, COLUMNS, rows);
+        deviceInfo = new IDeviceInfo() {
+            @Override
+            public String getDeviceID() {
+                return "benchmark-device";
+            }
+        };
+    }
+
+    @Benchmark
+    public byte[] mapProcessors() {
+        EventsModel events = EventsModel.find(dbSession);
+        ProcessedEventModel processedEvent = ProcessedEventModel.build(dbSession);
+        processedEvent = new DataPopulator(dbSession, events, deviceInfo).process(processedEvent);
+        processedEvent = new DataZipper().process(processedEvent);
+        return processedEvent.getData();
+    }
+
+    @Benchmark
+    public byte[] streamingProcessor() {
+        EventsModel events = EventsModel.find(dbSession);
+        ProcessedEventModel processedEvent = ProcessedEventModel.build(dbSession);
+        processedEvent = new EventStreamZipper(dbSession, events, deviceInfo).process(processedEvent);
+        return processedEvent.getData();
+    }
+
+    private static Map<String, Object> sampleEvent(int index) {
+        Map<String, Object> pdata = new HashMap<>();
+        pdata.put("id", "genie");
+        pdata.put("pid", "genieservice.android");
+        pdata.put("ver", "1.0.local");
+
+        Map<String, Object> context = new HashMap<>();
+        context.put("channel", "in.ekstep");
+        context.put("env", "contentplayer");
+        context.put("sid", UUID.randomUUID().toString());
+        context.put("did", "benchmark-device");
+        context.put("pdata", pdata);
+        context.put("cdata", new ArrayList<>());
+
+        Map<String, Object> object = new HashMap<>();
+        object.put("id", "do_30013486");
+        object.put("type", "Content");
+        object.put("ver", "1.0");
+
+        Map<String, Object> edata = new HashMap<>();
+        edata.put("type", "TOUCH");
+        edata.put("subtype", "");
+        edata.put("id", "next_button_" + index);
+        edata.put("pageid", "stage_" + (index % 20));
+        edata.put("extra", Arrays.asList("pos", "values"));
+
+        Map<String, Object> actor = new HashMap<>();
+        actor.put("id", UUID.randomUUID().toString());
+        actor.put("type", "User");
+
+        Map<String, Object> event = new HashMap<>();
+        event.put("eid", "INTERACT");
+        event.put("ets", 1521112233445L + index);
+        event.put("ver", "3.0");
+        event.put("mid", UUID.randomUUID().toString());
+        event.put("actor", actor);
+        event.put("context", context);
+        event.put("object", object);
+        event.put("edata", edata);
+        event.put("tags", new ArrayList<>());
+        return event;
+    }
+}
@@ -7,6 +7,8 @@ import org.ekstep.genieservices.commons.bean.TelemetryImportRequest;
 import org.ekstep.genieservices.commons.bean.TelemetryStat;
 import org.ekstep.genieservices.commons.bean.telemetry.Telemetry;
 
+import java.util.List;
+
 /**
  * This is the interface with all the required APIs to perform necessary operations related to Telemetry
  */
@@ -20,6 +22,9 @@ public interface ITelemetryService {
      * <p>
      * <p>On failing to save the telemetry details, the response will return status as FALSE and the error be the following:
      * <p>PROCESSING_ERROR
+     * <p>
+     * <p>When telemetry batch writes are enabled, a successful response means the event was accepted. It is written with
+     * its batch shortly after, and posted on the event bus only then.
      *
      * @param eventString - {@link String}
      * @return {@link GenieResponse<Void>}
@@ -33,12 +38,31 @@ public interface ITelemetryService {
      * <p>
      * <p>On failing to save the telemetry details, the response will return status as FALSE and the error be the following:
      * <p>PROCESSING_ERROR
+     * <p>
+     * <p>When telemetry batch writes are enabled, a successful response means the event was accepted. It is written with
+     * its batch shortly after, and posted on the event bus only then.
      *
      * @param event - {@link Telemetry}
      * @return {@link GenieResponse<Void>}
      */
     GenieResponse<Void> saveTelemetry(Telemetry event);
 
+    /**
+     * This api will save all the telemetry events passed to it as String, in a single transaction.
+     * <p>
+     * <p> On successful saving every event, the response will return status as TRUE and with "Events Saved Successfully" message.
+     * <p>
+     * <p>On failing to save some of the events, the response will return status as FALSE and the error be one of the following:
+     * <p>VALIDATION_ERROR - some events are not valid
+     * <p>PROCESSING_ERROR
+     * <p>
+     * <p>The number of events saved is set in the result in either case.
+     *
+     * @param eventStrings - {@link List<String>}
+     * @return {@link GenieResponse<Integer>}
+     */
+    GenieResponse<Integer> saveTelemetry(List<String> eventStrings);
+
     /**
      * This api will give the telemetry stats about unsynced events and last sync time in {@link TelemetryStat}
      * <p>
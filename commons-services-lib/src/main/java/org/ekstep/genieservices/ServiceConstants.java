@@ -64,6 +64,9 @@ public interface ServiceConstants {
 
         //Scan Storage
         String KEY_LAST_MODIFIED = "last_modified";
+
+        //Size on device
+        String KEY_SIZE_ON_DEVICE_RECONCILED = "size_on_device_reconciled";
     }
 
     interface Partner {
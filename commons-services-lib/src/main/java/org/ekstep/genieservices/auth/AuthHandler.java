@@ -6,21 +6,153 @@ import org.ekstep.genieservices.commons.IParams;
 import org.ekstep.genieservices.commons.bean.GenieResponse;
 import org.ekstep.genieservices.commons.bean.enums.JWTokenType;
 import org.ekstep.genieservices.commons.network.NetworkConstants;
+import org.ekstep.genieservices.commons.utils.Base64Util;
+import org.ekstep.genieservices.commons.utils.DateUtil;
 import org.ekstep.genieservices.commons.utils.GsonUtil;
 import org.ekstep.genieservices.commons.utils.JWTUtil;
+import org.ekstep.genieservices.commons.utils.Logger;
+import org.ekstep.genieservices.commons.utils.StringUtil;
 
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Created on 18/7/17.
+ * <p>
+ * The device bearer token is kept in memory once read from the {@link org.ekstep.genieservices.commons.db.cache.IKeyValueStore}.
+ * Only one refresh runs at a time: the requests that need a new token while it runs wait for it and get the same
+ * token. If the token has an "exp" claim, the first request within {@link #EXPIRY_MARGIN_MILLIS} of the expiry
+ * refreshes it, while the other requests keep using the current one.
  */
 public class AuthHandler {
 
+    private static final String TAG = AuthHandler.class.getSimpleName();
+
+    private static final long EXPIRY_MARGIN_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
+    private static final Object sLoadLock = new Object();
+    private static final AtomicReference<FutureTask<String>> sRefresh = new AtomicReference<>();
+    private static volatile String sAuthToken;
+    private static volatile long sExpiresAt;
+
+    /**
+     * @return the device bearer token, refreshed first if it has expired.
+     */
+    public static String getAuthToken(AppContext appContext) {
+        String authToken = sAuthToken;
+        if (authToken == null) {
+            synchronized (sLoadLock) {
+                if (sAuthToken == null) {
+                    setAuthToken(appContext.getKeyValueStore().getString(NetworkConstants.API_BEARER_TOKEN, ""));
+                }
+                authToken = sAuthToken;
+            }
+        }
+
+        long expiresAt = sExpiresAt;
+        if (expiresAt > 0) {
+            long now = DateUtil.getEpochTime();
+            if (now >= expiresAt) {
+                return refreshAuthToken(appContext, true);
+            } else if (now >= expiresAt - EXPIRY_MARGIN_MILLIS) {
+                return refreshAuthToken(appContext, false);
+            }
+        }
+        return authToken;
+    }
+
     public static void resetAuthToken(AppContext appContext) {
-        String mobileDeviceConsumerBearerToken = generateMobileDeviceConsumerBearerToken(appContext);
-        if (mobileDeviceConsumerBearerToken != null) {
-            appContext.getKeyValueStore().putString(NetworkConstants.API_BEARER_TOKEN, mobileDeviceConsumerBearerToken);
+        refreshAuthToken(appContext, true);
+    }
+
+    /**
+     * Refreshes the token after a request made with failedAuthToken was not authorised, unless the token has
+     * been refreshed since.
+     */
+    public static void resetAuthToken(AppContext appContext, String failedAuthToken) {
+        String authToken = sAuthToken;
+        if (authToken != null && failedAuthToken != null && !authToken.equals(failedAuthToken)) {
+            return;
+        }
+        refreshAuthToken(appContext, true);
+    }
+
+    /**
+     * Runs the refresh, or waits for the one in flight if await is true.
+     *
+     * @return the token after the refresh, or the current one if it could not be refreshed.
+     */
+    private static String refreshAuthToken(final AppContext appContext, boolean await) {
+        FutureTask<String> task = new FutureTask<>(new Callable<String>() {
+            @Override
+            public String call() {
+                String mobileDeviceConsumerBearerToken = generateMobileDeviceConsumerBearerToken(appContext);
+                if (mobileDeviceConsumerBearerToken != null) {
+                    appContext.getKeyValueStore().putString(NetworkConstants.API_BEARER_TOKEN, mobileDeviceConsumerBearerToken);
+                    setAuthToken(mobileDeviceConsumerBearerToken);
+                }
+                return sAuthToken;
+            }
+        });
+
+        FutureTask<String> inFlight;
+        if (sRefresh.compareAndSet(null, task)) {
+            try {
+                task.run();
+            } finally {
+                sRefresh.set(null);
+            }
+            inFlight = task;
+        } else {
+            inFlight = sRefresh.get();
+            if (!await || inFlight == null) {
+                return sAuthToken;
+            }
+        }
+
+        try {
+            return inFlight.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return sAuthToken;
+        } catch (ExecutionException e) {
+            Logger.e(TAG, "Unable to refresh the auth token", e.getCause());
+            return sAuthToken;
+        }
+    }
+
+    private static void setAuthToken(String authToken) {
+        // The expiry is set first, so that a token is never read with the expiry of the one it replaced.
+        sExpiresAt = readExpiry(authToken);
+        sAuthToken = authToken;
+    }
+
+    /**
+     * @return the "exp" claim of the token in milliseconds, 0 if it has none.
+     */
+    private static long readExpiry(String authToken) {
+        String[] parts = authToken.split("\\.");
+        if (parts.length < 2) {
+            return 0;
+        }
+
+        try {
+            String payload = new String(Base64Util.decode(parts[1], Base64Util.URL_SAFE), "UTF-8");
+            Map claims = GsonUtil.fromJson(payload, Map.class);
+            Object exp = claims == null ? null : claims.get("exp");
+            if (exp instanceof Number) {
+                return TimeUnit.SECONDS.toMillis(((Number) exp).longValue());
+            } else if (exp instanceof String && !StringUtil.isNullOrEmpty((String) exp)) {
+                return TimeUnit.SECONDS.toMillis(Long.parseLong((String) exp));
+            }
+        } catch (Exception e) {
+            Logger.e(TAG, "Unable to read the expiry of the auth token", e);
         }
+        return 0;
     }
 
     private static String generateMobileDeviceConsumerBearerToken(AppContext appContext) {
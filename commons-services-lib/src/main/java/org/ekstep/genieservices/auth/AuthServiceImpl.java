@@ -6,7 +6,6 @@ import org.ekstep.genieservices.ServiceConstants;
 import org.ekstep.genieservices.commons.AppContext;
 import org.ekstep.genieservices.commons.GenieResponseBuilder;
 import org.ekstep.genieservices.commons.bean.GenieResponse;
-import org.ekstep.genieservices.commons.network.NetworkConstants;
 import org.ekstep.genieservices.commons.utils.StringUtil;
 
 /**
@@ -24,7 +23,7 @@ public class AuthServiceImpl extends BaseService implements IAuthService {
     @Override
     public GenieResponse<String> getMobileDeviceBearerToken() {
         AuthHandler.resetAuthToken(mAppContext);
-        String mobileDeviceConsumerBearerToken = mAppContext.getKeyValueStore().getString(NetworkConstants.API_BEARER_TOKEN, "");
+        String mobileDeviceConsumerBearerToken = AuthHandler.getAuthToken(mAppContext);
         if (!StringUtil.isNullOrEmpty(mobileDeviceConsumerBearerToken)) {
             GenieResponse<String> response = GenieResponseBuilder.getSuccessResponse("", String.class);
             response.setResult(mobileDeviceConsumerBearerToken);
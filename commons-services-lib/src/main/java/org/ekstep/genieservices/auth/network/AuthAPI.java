@@ -2,6 +2,7 @@ package org.ekstep.genieservices.auth.network;
 
 import org.ekstep.genieservices.commons.AppContext;
 import org.ekstep.genieservices.commons.IParams;
+import org.ekstep.genieservices.commons.network.ApiResponse;
 import org.ekstep.genieservices.commons.network.BaseAPI;
 import org.ekstep.genieservices.commons.utils.DateUtil;
 import org.ekstep.genieservices.commons.utils.GsonUtil;
@@ -60,4 +61,12 @@ public class AuthAPI extends BaseAPI {
     protected boolean shouldAuthenticate() {
         return false;
     }
+
+    /**
+     * The app token this request is sent with does not come from the {@link org.ekstep.genieservices.auth.AuthHandler},
+     * so a new device token would not help. Resetting it here would also wait on the refresh making this request.
+     */
+    @Override
+    protected void processAuthFailure(ApiResponse apiResponse) {
+    }
 }
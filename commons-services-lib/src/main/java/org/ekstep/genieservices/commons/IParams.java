@@ -65,5 +65,7 @@ public interface IParams {
         String NETWORK_READ_TIMEOUT = "NETWORK_READ_TIMEOUT";
         String OAUTH_SERVICE_IMPLEMENTATION = "OAUTH_SESSION";
         String ANNOUNCEMENT_BASE_URL = "ANNOUNCEMENT_BASE_URL";
+        String TELEMETRY_BATCH_WRITE = "TELEMETRY_BATCH_WRITE";
+        String CACHE_SIZE = "CACHE_SIZE";
     }
 }
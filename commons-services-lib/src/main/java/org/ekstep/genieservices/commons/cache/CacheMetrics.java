@@ -0,0 +1,108 @@
+package org.ekstep.genieservices.commons.cache;
+
+/**
+ * Snapshot of the counters of one {@link RefreshAheadCache}.
+ */
+public class CacheMetrics {
+
+    private String name;
+    private int size;
+    private int maxSize;
+    private long hits;
+    private long staleHits;
+    private long misses;
+    private long evictions;
+    private long refreshes;
+    private long coalescedRefreshes;
+    private long failedRefreshes;
+
+    CacheMetrics(String name, int size, int maxSize, long hits, long staleHits, long misses, long evictions,
+                 long refreshes, long coalescedRefreshes, long failedRefreshes) {
+        this.name = name;
+        this.size = size;
+        this.maxSize = maxSize;
+        this.hits = hits;
+        this.staleHits = staleHits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.refreshes = refreshes;
+        this.coalescedRefreshes = coalescedRefreshes;
+        this.failedRefreshes = failedRefreshes;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Number of calls served from memory.
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * Number of calls which were served a value past its expiration time.
+     */
+    public long getStaleHits() {
+        return staleHits;
+    }
+
+    /**
+     * Number of calls which had to read the db.
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * Number of refreshes queued.
+     */
+    public long getRefreshes() {
+        return refreshes;
+    }
+
+    /**
+     * Number of refreshes not queued because one was already queued or running for the key.
+     */
+    public long getCoalescedRefreshes() {
+        return coalescedRefreshes;
+    }
+
+    public long getFailedRefreshes() {
+        return failedRefreshes;
+    }
+
+    public float getHitRatio() {
+        long calls = hits + misses;
+        return calls == 0 ? 0 : (float) hits / calls;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheMetrics{" +
+                "name=" + name +
+                ", size=" + size +
+                ", maxSize=" + maxSize +
+                ", hits=" + hits +
+                ", staleHits=" + staleHits +
+                ", misses=" + misses +
+                ", evictions=" + evictions +
+                ", refreshes=" + refreshes +
+                ", coalescedRefreshes=" + coalescedRefreshes +
+                ", failedRefreshes=" + failedRefreshes +
+                '}';
+    }
+}
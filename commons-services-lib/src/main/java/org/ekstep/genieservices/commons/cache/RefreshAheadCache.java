@@ -0,0 +1,232 @@
+package org.ekstep.genieservices.commons.cache;
+
+import org.ekstep.genieservices.commons.executor.SDKExecutor;
+import org.ekstep.genieservices.commons.utils.DateUtil;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps the parsed server data of a service in memory, in front of the copy persisted in the db.
+ * <p>
+ * A value is read from the {@link Source} on the first call for its key and then served from memory,
+ * the least recently used key being dropped once the cache holds its maximum size. A value past its
+ * expiration time is still served, and a refresh of the key is queued on {@link SDKExecutor.Lane#REFRESH}.
+ * At most one refresh per key is queued or running at a time. When every key is fetched by the same server
+ * call, the cache is built with a shared refresh key and at most one refresh runs for all of them.
+ * <p>
+ * Keys for which the source has no value are not cached.
+ *
+ * @param <R> type of the request a value is fetched with.
+ * @param <V> type of the parsed value.
+ */
+public class RefreshAheadCache<R, V> {
+
+    /**
+     * Where the cache reads and refreshes the persisted values from.
+     */
+    public interface Source<R, V> {
+
+        /**
+         * @return the persisted value of the key, null if there is none.
+         */
+        V load(String key);
+
+        /**
+         * @return epoch time after which the persisted value of the key has to be refreshed.
+         */
+        long getExpirationTime(String key);
+
+        /**
+         * Fetches the key from the server and persists it. Runs on the refresh lane.
+         *
+         * @param request the request of the call which found the value stale.
+         * @return true if a new value was persisted.
+         */
+        boolean refresh(String key, R request);
+    }
+
+    private final String mName;
+    private final String mSharedRefreshKey;
+    private final Source<R, V> mSource;
+    private final int mMaxSize;
+    private final LinkedHashMap<String, Entry<V>> mEntries;
+    private final Map<String, Future<?>> mRefreshes = new HashMap<>();
+
+    // Bumped on every write, so that a value loaded on a miss never overwrites a newer one.
+    private long mGeneration;
+
+    private final AtomicLong mHits = new AtomicLong();
+    private final AtomicLong mStaleHits = new AtomicLong();
+    private final AtomicLong mMisses = new AtomicLong();
+    private final AtomicLong mEvictions = new AtomicLong();
+    private final AtomicLong mRefreshCount = new AtomicLong();
+    private final AtomicLong mCoalescedRefreshes = new AtomicLong();
+    private final AtomicLong mFailedRefreshes = new AtomicLong();
+
+    public RefreshAheadCache(String name, int maxSize, Source<R, V> source) {
+        this(name, maxSize, null, source);
+    }
+
+    /**
+     * @param sharedRefreshKey key the refreshes of every key are coalesced under, as one server call fetches
+     *                         them all. Null to refresh each key on its own.
+     */
+    public RefreshAheadCache(String name, int maxSize, String sharedRefreshKey, Source<R, V> source) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize should be greater than 0.");
+        }
+        this.mName = name;
+        this.mSharedRefreshKey = sharedRefreshKey;
+        this.mMaxSize = maxSize;
+        this.mSource = source;
+        this.mEntries = new LinkedHashMap<String, Entry<V>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry<V>> eldest) {
+                if (size() > mMaxSize) {
+                    mEvictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * @return the value of the key, which can be stale while its refresh is running. Null if there is none.
+     */
+    public V get(String key, R request) {
+        Entry<V> entry;
+        long generation;
+        synchronized (mEntries) {
+            entry = mEntries.get(key);
+            generation = mGeneration;
+        }
+
+        if (entry == null) {
+            mMisses.incrementAndGet();
+            V value = mSource.load(key);
+            if (value == null) {
+                return null;
+            }
+
+            entry = new Entry<>(value, mSource.getExpirationTime(key));
+            synchronized (mEntries) {
+                if (generation == mGeneration) {
+                    mEntries.put(key, entry);
+                }
+            }
+        } else {
+            mHits.incrementAndGet();
+        }
+
+        if (entry.hasExpired()) {
+            mStaleHits.incrementAndGet();
+            refresh(key, request);
+        }
+
+        return entry.value;
+    }
+
+    /**
+     * Caches a value which the caller has just persisted.
+     */
+    public void put(String key, V value) {
+        Entry<V> entry = new Entry<>(value, mSource.getExpirationTime(key));
+        synchronized (mEntries) {
+            mGeneration++;
+            mEntries.put(key, entry);
+        }
+    }
+
+    /**
+     * Drops the key, so that the next call reads it again from the {@link Source}.
+     */
+    public void invalidate(String key) {
+        synchronized (mEntries) {
+            mGeneration++;
+            mEntries.remove(key);
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (mEntries) {
+            mGeneration++;
+            mEntries.clear();
+        }
+    }
+
+    /**
+     * Queues a refresh of the key, unless one is already queued or running.
+     */
+    public void refresh(final String key, final R request) {
+        final String refreshKey = mSharedRefreshKey != null ? mSharedRefreshKey : key;
+        synchronized (mRefreshes) {
+            Future<?> refresh = mRefreshes.get(refreshKey);
+            if (refresh != null && !refresh.isDone()) {
+                mCoalescedRefreshes.incrementAndGet();
+                return;
+            }
+
+            mRefreshCount.incrementAndGet();
+            refresh = SDKExecutor.getInstance().submit(SDKExecutor.Lane.REFRESH, new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        doRefresh(key, request);
+                    } finally {
+                        synchronized (mRefreshes) {
+                            mRefreshes.remove(refreshKey);
+                        }
+                    }
+                }
+            });
+
+            // A refresh dropped by a full lane is already done, and is not kept.
+            if (!refresh.isDone()) {
+                mRefreshes.put(refreshKey, refresh);
+            }
+        }
+    }
+
+    private void doRefresh(String key, R request) {
+        if (!mSource.refresh(key, request)) {
+            mFailedRefreshes.incrementAndGet();
+            return;
+        }
+
+        V value = mSource.load(key);
+        if (value != null) {
+            put(key, value);
+        } else {
+            invalidate(key);
+        }
+    }
+
+    public CacheMetrics getMetrics() {
+        int size;
+        synchronized (mEntries) {
+            size = mEntries.size();
+        }
+        return new CacheMetrics(mName, size, mMaxSize, mHits.get(), mStaleHits.get(), mMisses.get(), mEvictions.get(),
+                mRefreshCount.get(), mCoalescedRefreshes.get(), mFailedRefreshes.get());
+    }
+
+    private static class Entry<V> {
+
+        private final V value;
+        private final long expirationTime;
+
+        Entry(V value, long expirationTime) {
+            this.value = value;
+            this.expirationTime = expirationTime;
+        }
+
+        boolean hasExpired() {
+            return DateUtil.getEpochTime() > expirationTime;
+        }
+    }
+}
@@ -3,6 +3,9 @@ package org.ekstep.genieservices.commons.db.contract;
 import org.ekstep.genieservices.commons.db.BaseColumns;
 import org.ekstep.genieservices.commons.db.DbConstants;
 
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * Created on 1/24/2017.
  *
@@ -30,6 +33,14 @@ public abstract class ContentAccessEntry implements BaseColumns {
                 " )";
     }
 
+    public static final List<String> getIndexEntries() {
+        return Arrays.asList(
+                "CREATE INDEX IF NOT EXISTS content_access_uid_identifier_idx ON " + TABLE_NAME +
+                        " (" + COLUMN_NAME_UID + DbConstants.COMMA_SEP + COLUMN_NAME_CONTENT_IDENTIFIER + ")",
+                "CREATE INDEX IF NOT EXISTS content_access_identifier_idx ON " + TABLE_NAME + " (" + COLUMN_NAME_CONTENT_IDENTIFIER + ")"
+        );
+    }
+
     public static final String getDeleteEntry() {
         return "DROP TABLE IF EXISTS " + TABLE_NAME;
     }
@@ -3,6 +3,9 @@ package org.ekstep.genieservices.commons.db.contract;
 import org.ekstep.genieservices.commons.db.BaseColumns;
 import org.ekstep.genieservices.commons.db.DbConstants;
 
+import java.util.Arrays;
+import java.util.List;
+
 public abstract class ContentEntry implements BaseColumns {
 
     public static final String TABLE_NAME = "content";
@@ -23,6 +26,7 @@ public abstract class ContentEntry implements BaseColumns {
     public static final String COLUMN_NAME_PRAGMA = "pragma";   // external, ads
     public static final String COLUMN_NAME_UID = "uid";   // list of comma separated uid
     public static final String COLUMN_NAME_SIZE_ON_DEVICE = "size_on_device";   // list of comma separated uid
+    public static final String COLUMN_NAME_OWN_SIZE_ON_DEVICE = "own_size_on_device";   // Size of the files of the content itself, without the ones of its children
 
     public static final String getCreateEntry() {
         return "CREATE TABLE IF NOT EXISTS " + TABLE_NAME + " (" +
@@ -60,6 +64,17 @@ public abstract class ContentEntry implements BaseColumns {
         return "ALTER TABLE " + TABLE_NAME + " ADD COLUMN " + COLUMN_NAME_UID + DbConstants.TEXT_TYPE + ";";
     }
 
+    /**
+     * Local content listings filter on visibility, content state and content type.
+     * The identifier is indexed through its UNIQUE constraint.
+     */
+    public static final List<String> getIndexEntries() {
+        return Arrays.asList(
+                "CREATE INDEX IF NOT EXISTS content_visibility_state_type_idx ON " + TABLE_NAME +
+                        " (" + COLUMN_NAME_VISIBILITY + DbConstants.COMMA_SEP + COLUMN_NAME_CONTENT_STATE + DbConstants.COMMA_SEP + COLUMN_NAME_CONTENT_TYPE + ")"
+        );
+    }
+
     public static final String getDeleteEntry() {
         return "DROP TABLE IF EXISTS " + TABLE_NAME;
     }
@@ -68,6 +83,10 @@ public abstract class ContentEntry implements BaseColumns {
         return "ALTER TABLE " + TABLE_NAME + " ADD COLUMN " + COLUMN_NAME_SIZE_ON_DEVICE + DbConstants.INT_TYPE + " NOT NULL DEFAULT 0;";
     }
 
+    public static String getAlterEntryForOwnContentSize() {
+        return "ALTER TABLE " + TABLE_NAME + " ADD COLUMN " + COLUMN_NAME_OWN_SIZE_ON_DEVICE + DbConstants.INT_TYPE + " NOT NULL DEFAULT 0;";
+    }
+
     public static String getAlterEntryForPragma() {
         return "ALTER TABLE " + TABLE_NAME + " ADD COLUMN " + COLUMN_NAME_PRAGMA + DbConstants.TEXT_TYPE + " DEFAULT '';";
     }
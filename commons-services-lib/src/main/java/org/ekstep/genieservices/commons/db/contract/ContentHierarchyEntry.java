@@ -0,0 +1,58 @@
+package org.ekstep.genieservices.commons.db.contract;
+
+import org.ekstep.genieservices.commons.db.BaseColumns;
+import org.ekstep.genieservices.commons.db.DbConstants;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The flattened tree of a collection, one row per node of the tree of every indexed root.
+ * <p>
+ * Rows of a root are numbered in depth first order, children in the order of their index. The root itself
+ * has sequence 0. Playable nodes, i.e. the ones which are not collections, are numbered once more in the
+ * same order, and the other nodes have a playback sequence of -1.
+ */
+public abstract class ContentHierarchyEntry implements BaseColumns {
+
+    public static final String TABLE_NAME = "content_hierarchy";
+    public static final String COLUMN_NAME_ROOT_IDENTIFIER = "root_identifier";
+    public static final String COLUMN_NAME_IDENTIFIER = "identifier";
+    public static final String COLUMN_NAME_PARENT_IDENTIFIER = "parent_identifier";
+    public static final String COLUMN_NAME_DEPTH = "depth";
+    public static final String COLUMN_NAME_SEQUENCE = "sequence";
+    public static final String COLUMN_NAME_PLAYBACK_SEQUENCE = "playback_sequence";
+    // Identifiers from the root to the parent of the node, separated by "/".
+    public static final String COLUMN_NAME_PATH = "path";
+
+    public static final String getCreateEntry() {
+        return "CREATE TABLE IF NOT EXISTS " + TABLE_NAME + " (" +
+                _ID + " INTEGER PRIMARY KEY," +
+                COLUMN_NAME_ROOT_IDENTIFIER + DbConstants.TEXT_TYPE + DbConstants.NOT_NULL + DbConstants.COMMA_SEP +
+                COLUMN_NAME_IDENTIFIER + DbConstants.TEXT_TYPE + DbConstants.NOT_NULL + DbConstants.COMMA_SEP +
+                COLUMN_NAME_PARENT_IDENTIFIER + DbConstants.TEXT_TYPE + DbConstants.COMMA_SEP +
+                COLUMN_NAME_DEPTH + DbConstants.INT_TYPE + DbConstants.NOT_NULL + DbConstants.COMMA_SEP +
+                COLUMN_NAME_SEQUENCE + DbConstants.INT_TYPE + DbConstants.NOT_NULL + DbConstants.COMMA_SEP +
+                COLUMN_NAME_PLAYBACK_SEQUENCE + DbConstants.INT_TYPE + " DEFAULT -1" + DbConstants.COMMA_SEP +
+                COLUMN_NAME_PATH + DbConstants.TEXT_TYPE + DbConstants.COMMA_SEP +
+                "UNIQUE (" + COLUMN_NAME_ROOT_IDENTIFIER + DbConstants.COMMA_SEP + COLUMN_NAME_SEQUENCE + ")" +
+                " )";
+    }
+
+    /**
+     * The (root, sequence) pair is indexed through its UNIQUE constraint.
+     */
+    public static final List<String> getIndexEntries() {
+        return Arrays.asList(
+                "CREATE INDEX IF NOT EXISTS content_hierarchy_root_playback_idx ON " + TABLE_NAME +
+                        " (" + COLUMN_NAME_ROOT_IDENTIFIER + DbConstants.COMMA_SEP + COLUMN_NAME_PLAYBACK_SEQUENCE + ")",
+                "CREATE INDEX IF NOT EXISTS content_hierarchy_root_identifier_idx ON " + TABLE_NAME +
+                        " (" + COLUMN_NAME_ROOT_IDENTIFIER + DbConstants.COMMA_SEP + COLUMN_NAME_IDENTIFIER + ")",
+                "CREATE INDEX IF NOT EXISTS content_hierarchy_identifier_idx ON " + TABLE_NAME + " (" + COLUMN_NAME_IDENTIFIER + ")"
+        );
+    }
+
+    public static final String getDeleteEntry() {
+        return "DROP TABLE IF EXISTS " + TABLE_NAME;
+    }
+}
@@ -0,0 +1,40 @@
+package org.ekstep.genieservices.commons.db.contract;
+
+import org.ekstep.genieservices.commons.db.BaseColumns;
+import org.ekstep.genieservices.commons.db.DbConstants;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The facet values of the local contents, used to filter and count the results of the offline search.
+ * One row per value of every facet of a content, named as in the search API, e.g. gradeLevel or medium.
+ */
+public abstract class ContentSearchFacetEntry implements BaseColumns {
+
+    public static final String TABLE_NAME = "content_search_facet";
+    public static final String COLUMN_NAME_IDENTIFIER = "identifier";
+    public static final String COLUMN_NAME_NAME = "name";
+    public static final String COLUMN_NAME_VALUE = "value";
+
+    public static final String getCreateEntry() {
+        return "CREATE TABLE IF NOT EXISTS " + TABLE_NAME + " (" +
+                _ID + " INTEGER PRIMARY KEY," +
+                COLUMN_NAME_IDENTIFIER + DbConstants.TEXT_TYPE + DbConstants.NOT_NULL + DbConstants.COMMA_SEP +
+                COLUMN_NAME_NAME + DbConstants.TEXT_TYPE + DbConstants.NOT_NULL + DbConstants.COMMA_SEP +
+                COLUMN_NAME_VALUE + DbConstants.TEXT_TYPE + DbConstants.NOT_NULL +
+                " )";
+    }
+
+    public static final List<String> getIndexEntries() {
+        return Arrays.asList(
+                "CREATE INDEX IF NOT EXISTS content_search_facet_name_idx ON " + TABLE_NAME +
+                        " (" + COLUMN_NAME_NAME + DbConstants.COMMA_SEP + COLUMN_NAME_IDENTIFIER + DbConstants.COMMA_SEP + COLUMN_NAME_VALUE + ")",
+                "CREATE INDEX IF NOT EXISTS content_search_facet_identifier_idx ON " + TABLE_NAME + " (" + COLUMN_NAME_IDENTIFIER + ")"
+        );
+    }
+
+    public static final String getDeleteEntry() {
+        return "DROP TABLE IF EXISTS " + TABLE_NAME;
+    }
+}
@@ -0,0 +1,46 @@
+package org.ekstep.genieservices.commons.db.contract;
+
+import org.ekstep.genieservices.commons.db.BaseColumns;
+import org.ekstep.genieservices.commons.db.DbConstants;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The inverted index of the local contents, used by the offline search. One row per term of every content.
+ * <p>
+ * Terms are the lower cased words of the searchable fields of the local data. The weight of a term is the sum
+ * of the weights of the fields it appears in. Every indexed content has a row for its own identifier as well,
+ * with a weight of 0, so that a content without any row is known to be not indexed yet.
+ */
+public abstract class ContentSearchTermEntry implements BaseColumns {
+
+    public static final String TABLE_NAME = "content_search_term";
+    public static final String COLUMN_NAME_IDENTIFIER = "identifier";
+    public static final String COLUMN_NAME_TERM = "term";
+    public static final String COLUMN_NAME_WEIGHT = "weight";
+
+    public static final String getCreateEntry() {
+        return "CREATE TABLE IF NOT EXISTS " + TABLE_NAME + " (" +
+                _ID + " INTEGER PRIMARY KEY," +
+                COLUMN_NAME_IDENTIFIER + DbConstants.TEXT_TYPE + DbConstants.NOT_NULL + DbConstants.COMMA_SEP +
+                COLUMN_NAME_TERM + DbConstants.TEXT_TYPE + DbConstants.NOT_NULL + DbConstants.COMMA_SEP +
+                COLUMN_NAME_WEIGHT + DbConstants.INT_TYPE + DbConstants.NOT_NULL +
+                " )";
+    }
+
+    /**
+     * The term index covers the prefix lookups of the search, the identifier index the deletes.
+     */
+    public static final List<String> getIndexEntries() {
+        return Arrays.asList(
+                "CREATE INDEX IF NOT EXISTS content_search_term_term_idx ON " + TABLE_NAME +
+                        " (" + COLUMN_NAME_TERM + DbConstants.COMMA_SEP + COLUMN_NAME_IDENTIFIER + DbConstants.COMMA_SEP + COLUMN_NAME_WEIGHT + ")",
+                "CREATE INDEX IF NOT EXISTS content_search_term_identifier_idx ON " + TABLE_NAME + " (" + COLUMN_NAME_IDENTIFIER + ")"
+        );
+    }
+
+    public static final String getDeleteEntry() {
+        return "DROP TABLE IF EXISTS " + TABLE_NAME;
+    }
+}
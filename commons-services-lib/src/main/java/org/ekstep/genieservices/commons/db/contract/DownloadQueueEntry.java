@@ -0,0 +1,49 @@
+package org.ekstep.genieservices.commons.db.contract;
+
+import org.ekstep.genieservices.commons.db.BaseColumns;
+import org.ekstep.genieservices.commons.db.DbConstants;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The download queue, one row per content waiting to be or being downloaded.
+ */
+public abstract class DownloadQueueEntry implements BaseColumns {
+
+    public static final String TABLE_NAME = "download_queue";
+    public static final String COLUMN_NAME_IDENTIFIER = "identifier";
+    public static final String COLUMN_NAME_DOWNLOAD_ID = "download_id";
+    public static final String COLUMN_NAME_STATUS = "status";
+    public static final String COLUMN_NAME_PRIORITY = "priority";
+    public static final String COLUMN_NAME_REQUEST = "request";
+
+    public static final int STATUS_QUEUED = 0;
+    public static final int STATUS_DOWNLOADING = 1;
+
+    public static final String getCreateEntry() {
+        return "CREATE TABLE IF NOT EXISTS " + TABLE_NAME + " (" +
+                _ID + " INTEGER PRIMARY KEY," +
+                COLUMN_NAME_IDENTIFIER + DbConstants.TEXT_TYPE + " UNIQUE NOT NULL" + DbConstants.COMMA_SEP +
+                COLUMN_NAME_DOWNLOAD_ID + DbConstants.INT_TYPE + " DEFAULT -1" + DbConstants.COMMA_SEP +
+                COLUMN_NAME_STATUS + DbConstants.INT_TYPE + " DEFAULT " + STATUS_QUEUED + DbConstants.COMMA_SEP +
+                COLUMN_NAME_PRIORITY + DbConstants.INT_TYPE + " DEFAULT 0" + DbConstants.COMMA_SEP +
+                COLUMN_NAME_REQUEST + DbConstants.TEXT_TYPE + DbConstants.NOT_NULL +
+                " )";
+    }
+
+    /**
+     * The identifier is indexed through its UNIQUE constraint.
+     */
+    public static final List<String> getIndexEntries() {
+        return Arrays.asList(
+                "CREATE INDEX IF NOT EXISTS download_queue_download_id_idx ON " + TABLE_NAME + " (" + COLUMN_NAME_DOWNLOAD_ID + ")",
+                "CREATE INDEX IF NOT EXISTS download_queue_status_priority_idx ON " + TABLE_NAME +
+                        " (" + COLUMN_NAME_STATUS + DbConstants.COMMA_SEP + COLUMN_NAME_PRIORITY + " DESC" + DbConstants.COMMA_SEP + _ID + ")"
+        );
+    }
+
+    public static final String getDeleteEntry() {
+        return "DROP TABLE IF EXISTS " + TABLE_NAME;
+    }
+}
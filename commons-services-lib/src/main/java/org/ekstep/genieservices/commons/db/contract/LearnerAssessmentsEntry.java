@@ -3,6 +3,9 @@ package org.ekstep.genieservices.commons.db.contract;
 import org.ekstep.genieservices.commons.db.BaseColumns;
 import org.ekstep.genieservices.commons.db.DbConstants;
 
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * Created on 18/03/16.
  *
@@ -44,6 +47,17 @@ public abstract class LearnerAssessmentsEntry implements BaseColumns {
                 " )";
     }
 
+    /**
+     * An assessment is looked up by uid, content, hierarchy and question before it is saved.
+     */
+    public static final List<String> getIndexEntries() {
+        return Arrays.asList(
+                "CREATE INDEX IF NOT EXISTS learner_assessments_uid_content_idx ON " + TABLE_NAME +
+                        " (" + COLUMN_NAME_UID + DbConstants.COMMA_SEP + COLUMN_NAME_CONTENT_ID + DbConstants.COMMA_SEP +
+                        COLUMN_NAME_HIERARCHY_DATA + DbConstants.COMMA_SEP + COLUMN_NAME_QID + ")"
+        );
+    }
+
     public static final String getDeleteEntry() {
         return "DROP TABLE IF EXISTS " + TABLE_NAME;
     }
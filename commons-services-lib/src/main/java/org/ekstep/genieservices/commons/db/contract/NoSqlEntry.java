@@ -4,6 +4,9 @@ package org.ekstep.genieservices.commons.db.contract;
 import org.ekstep.genieservices.commons.db.BaseColumns;
 import org.ekstep.genieservices.commons.db.DbConstants;
 
+import java.util.Arrays;
+import java.util.List;
+
 public abstract class NoSqlEntry implements BaseColumns {
     public static final String TABLE_NAME = "no_sql";
     public static final String COLUMN_NAME_KEY = "key";
@@ -18,6 +21,12 @@ public abstract class NoSqlEntry implements BaseColumns {
                 " )";
     }
 
+    public static final List<String> getIndexEntries() {
+        return Arrays.asList(
+                "CREATE INDEX IF NOT EXISTS no_sql_key_idx ON " + TABLE_NAME + " (" + COLUMN_NAME_KEY + ")"
+        );
+    }
+
     public static final String getDeleteEntry() {
         return "DROP TABLE IF EXISTS " + TABLE_NAME;
     }
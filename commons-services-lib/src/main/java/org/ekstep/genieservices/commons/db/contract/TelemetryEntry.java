@@ -3,6 +3,9 @@ package org.ekstep.genieservices.commons.db.contract;
 import org.ekstep.genieservices.commons.db.BaseColumns;
 import org.ekstep.genieservices.commons.db.DbConstants;
 
+import java.util.Arrays;
+import java.util.List;
+
 public abstract class TelemetryEntry implements BaseColumns {
 
     public static final String TABLE_NAME = "telemetry";
@@ -21,6 +24,16 @@ public abstract class TelemetryEntry implements BaseColumns {
                 " )";
     }
 
+    /**
+     * Events are processed by lowest priority first, in the order they were saved.
+     */
+    public static final List<String> getIndexEntries() {
+        return Arrays.asList(
+                "CREATE INDEX IF NOT EXISTS telemetry_priority_timestamp_idx ON " + TABLE_NAME +
+                        " (" + COLUMN_NAME_PRIORITY + DbConstants.COMMA_SEP + COLUMN_NAME_TIMESTAMP + ")"
+        );
+    }
+
     public static final String getDeleteEntry() {
         return "DROP TABLE IF EXISTS " + TABLE_NAME;
     }
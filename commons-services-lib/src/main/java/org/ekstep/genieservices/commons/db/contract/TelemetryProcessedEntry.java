@@ -3,6 +3,9 @@ package org.ekstep.genieservices.commons.db.contract;
 import org.ekstep.genieservices.commons.db.BaseColumns;
 import org.ekstep.genieservices.commons.db.DbConstants;
 
+import java.util.Arrays;
+import java.util.List;
+
 public abstract class TelemetryProcessedEntry implements BaseColumns {
     public static final String TABLE_NAME = "processed_telemetry";
     public static final String COLUMN_NAME_MSG_ID = "msg_id";
@@ -20,6 +23,18 @@ public abstract class TelemetryProcessedEntry implements BaseColumns {
                 " )";
     }
 
+    /**
+     * Processed batches are synced and paged through in (priority, _id) order, and looked up by msg_id when
+     * imported so that a batch is not imported twice.
+     */
+    public static final List<String> getIndexEntries() {
+        return Arrays.asList(
+                "CREATE INDEX IF NOT EXISTS processed_telemetry_priority_idx ON " + TABLE_NAME +
+                        " (" + COLUMN_NAME_PRIORITY + DbConstants.COMMA_SEP + _ID + ")",
+                "CREATE INDEX IF NOT EXISTS processed_telemetry_msg_id_idx ON " + TABLE_NAME + " (" + COLUMN_NAME_MSG_ID + ")"
+        );
+    }
+
     public static final String getDeleteEntry() {
         return "DROP TABLE IF EXISTS " + TABLE_NAME;
     }
@@ -0,0 +1,11 @@
+package org.ekstep.genieservices.commons.db.core;
+
+/**
+ * {@link ICleanable} whose {@link #selectionToClean()} uses ? placeholders instead of inlined values, so that
+ * the compiled statement can be reused for every row.
+ */
+public interface IBindableCleanable extends ICleanable {
+
+    String[] selectionArgsToClean();
+
+}
@@ -0,0 +1,11 @@
+package org.ekstep.genieservices.commons.db.core;
+
+/**
+ * {@link IUpdatable} whose {@link #updateBy()} uses ? placeholders instead of inlined values, so that the
+ * compiled statement can be reused for every row.
+ */
+public interface IBindableUpdatable extends IUpdatable {
+
+    String[] selectionArgsForUpdate();
+
+}
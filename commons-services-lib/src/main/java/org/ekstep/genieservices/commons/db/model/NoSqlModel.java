@@ -4,10 +4,10 @@ import org.ekstep.genieservices.commons.AppContext;
 import org.ekstep.genieservices.commons.db.BaseColumns;
 import org.ekstep.genieservices.commons.db.contract.NoSqlEntry;
 import org.ekstep.genieservices.commons.db.core.ContentValues;
-import org.ekstep.genieservices.commons.db.core.ICleanable;
+import org.ekstep.genieservices.commons.db.core.IBindableCleanable;
+import org.ekstep.genieservices.commons.db.core.IBindableUpdatable;
 import org.ekstep.genieservices.commons.db.core.IReadable;
 import org.ekstep.genieservices.commons.db.core.IResultSet;
-import org.ekstep.genieservices.commons.db.core.IUpdatable;
 import org.ekstep.genieservices.commons.db.core.IWritable;
 import org.ekstep.genieservices.commons.db.operations.IDBSession;
 
@@ -17,7 +17,7 @@ import java.util.Locale;
  * Created by swayangjit on 10/9/17.
  */
 
-public class NoSqlModel implements IWritable, IReadable, IUpdatable, ICleanable {
+public class NoSqlModel implements IWritable, IReadable, IBindableUpdatable, IBindableCleanable {
 
     private Long id = -1L;
     private IDBSession mDBSession;
@@ -106,12 +106,22 @@ public class NoSqlModel implements IWritable, IReadable, IUpdatable, ICleanable
 
     @Override
     public String selectionToClean() {
-        return String.format(Locale.US, "WHERE %s = '%s';", NoSqlEntry.COLUMN_NAME_KEY, mKey);
+        return String.format(Locale.US, "WHERE %s = ?", NoSqlEntry.COLUMN_NAME_KEY);
+    }
+
+    @Override
+    public String[] selectionArgsToClean() {
+        return new String[]{mKey};
     }
 
     @Override
     public String updateBy() {
-        return String.format(Locale.US, "%s = '%s'", NoSqlEntry.COLUMN_NAME_KEY, mKey);
+        return String.format(Locale.US, "%s = ?", NoSqlEntry.COLUMN_NAME_KEY);
+    }
+
+    @Override
+    public String[] selectionArgsForUpdate() {
+        return new String[]{mKey};
     }
 
     @Override
@@ -121,12 +131,13 @@ public class NoSqlModel implements IWritable, IReadable, IUpdatable, ICleanable
 
     @Override
     public String filterForRead() {
-        return String.format(Locale.US, "where %s = '%s'", NoSqlEntry.COLUMN_NAME_KEY, mKey);
+        return String.format(Locale.US, "where %s = ?", NoSqlEntry.COLUMN_NAME_KEY);
     }
 
     @Override
     public String[] selectionArgsForFilter() {
-        return new String[0];
+        // Custom queries are built without a key and carry their own filter.
+        return mKey == null ? null : new String[]{mKey};
     }
 
     @Override
@@ -5,6 +5,8 @@ import org.ekstep.genieservices.commons.db.core.IReadable;
 import org.ekstep.genieservices.commons.db.core.IUpdatable;
 import org.ekstep.genieservices.commons.db.core.IWritable;
 
+import java.util.List;
+
 /**
  * Created on 4/17/2017.
  *
@@ -34,6 +36,36 @@ public interface IDBSession {
 
     Void execute(String query);
 
+    /**
+     * Runs the statement once for every set of bind arguments, in a single transaction. The statement is
+     * compiled once for the call.
+     *
+     * @param statement     insert, update or delete statement with ? placeholders.
+     * @param bindArgsList  arguments for each run of the statement.
+     */
+    Void executeBatch(String statement, List<Object[]> bindArgsList);
+
+    /**
+     * Inserts the models in one transaction. A row that fails does not stop the others.
+     *
+     * @return the row id of each model, -1 for the ones that were not written.
+     */
+    long[] createAll(List<? extends IWritable> writables);
+
+    /**
+     * Updates the models in one transaction. A row that fails does not stop the others.
+     *
+     * @return the number of rows updated for each model, -1 for the ones that failed.
+     */
+    long[] updateAll(List<? extends IUpdatable> updatables);
+
+    /**
+     * Updates each model, or inserts it if there is no row to update, in one transaction.
+     *
+     * @return for each model the row id if it was inserted, 0 if it was updated, -1 if it was not written.
+     */
+    <T extends IWritable & IUpdatable> long[] upsertAll(List<T> models);
+
     Void executeInTransaction(IDBTransaction transaction);
 
 }
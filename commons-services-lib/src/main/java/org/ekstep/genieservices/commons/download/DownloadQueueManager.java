@@ -1,21 +1,23 @@
 package org.ekstep.genieservices.commons.download;
 
-import com.google.gson.reflect.TypeToken;
-
 import org.ekstep.genieservices.ServiceConstants;
 import org.ekstep.genieservices.commons.bean.DownloadRequest;
 import org.ekstep.genieservices.commons.db.cache.IKeyValueStore;
-import org.ekstep.genieservices.commons.db.model.NoSqlModel;
+import org.ekstep.genieservices.commons.db.contract.DownloadQueueEntry;
 import org.ekstep.genieservices.commons.db.operations.IDBSession;
-import org.ekstep.genieservices.commons.utils.CollectionUtil;
-import org.ekstep.genieservices.commons.utils.GsonUtil;
-import org.ekstep.genieservices.commons.utils.StringUtil;
+import org.ekstep.genieservices.commons.download.db.model.DownloadRequestModel;
+import org.ekstep.genieservices.commons.download.db.model.DownloadRequestsModel;
 
-import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -25,178 +27,177 @@ import java.util.Set;
  */
 public class DownloadQueueManager {
 
-    private static final String CURRENT_DOWNLOAD = "current_download";
+    private static final String DELETE_BY_IDENTIFIER = String.format(Locale.US, "DELETE FROM %s WHERE %s = ?",
+            DownloadQueueEntry.TABLE_NAME, DownloadQueueEntry.COLUMN_NAME_IDENTIFIER);
 
     private IKeyValueStore mKeyValueStore;
     private IDBSession mDbSession;
-    private List<DownloadRequest> mDownloadRequestList;
-    private List<String> mCurrentDownloads;
+
+    // The queue is read from the db once and then served from memory, keyed by identifier in download order.
+    private LinkedHashMap<String, DownloadRequest> mQueue;
+    private Map<Long, DownloadRequest> mQueueByDownloadId;
+    private Set<String> mCurrentDownloads;
+
+    // Rows changed since the last write, written together at the end of every call.
+    private Set<String> mPendingWrites = new LinkedHashSet<>();
+    private Set<String> mPendingDeletes = new HashSet<>();
 
     public DownloadQueueManager(IKeyValueStore keyValueStore, IDBSession dbSession) {
         this.mDbSession = dbSession;
         this.mKeyValueStore = keyValueStore;
     }
 
-    private List<DownloadRequest> getAllRequests() {
-        if (CollectionUtil.isNullOrEmpty(mDownloadRequestList)) {
-            mDownloadRequestList = new ArrayList<>();
-            NoSqlModel noSqlModel = NoSqlModel.findByKey(mDbSession, ServiceConstants.DOWNLOAD_QUEUE);
-            if (noSqlModel != null) {
-                String jsonDownloadRequest = noSqlModel.getValue();
-                if (!StringUtil.isNullOrEmpty(jsonDownloadRequest)) {
-                    Type type = new TypeToken<List<DownloadRequest>>() {
-                    }.getType();
-                    List<DownloadRequest> reqList = GsonUtil.getGson().fromJson(jsonDownloadRequest, type);
-                    mDownloadRequestList.addAll(reqList != null ? reqList : new ArrayList<DownloadRequest>());
+    private void load() {
+        if (mQueue != null) {
+            return;
+        }
+
+        mQueue = new LinkedHashMap<>();
+        mQueueByDownloadId = new HashMap<>();
+        mCurrentDownloads = new LinkedHashSet<>();
+
+        DownloadRequestsModel downloadRequestsModel = DownloadRequestsModel.find(mDbSession);
+        if (downloadRequestsModel != null) {
+            for (DownloadRequestModel model : downloadRequestsModel.getDownloadRequestList()) {
+                DownloadRequest request = model.getDownloadRequest();
+                put(request);
+                if (model.getStatus() == DownloadQueueEntry.STATUS_DOWNLOADING) {
+                    mCurrentDownloads.add(request.getIdentifier());
                 }
             }
         }
-        return mDownloadRequestList;
     }
 
-
-    public DownloadRequest popDownloadRequest() {
-        DownloadRequest request = null;
-        List<DownloadRequest> requestList = getAllRequests();
-        if (requestList.size() > 0) {
-            request = requestList.get(0);
+    public synchronized DownloadRequest popDownloadRequest() {
+        load();
+        if (mQueue.isEmpty()) {
+            return null;
         }
-        return request;
+        return mQueue.values().iterator().next();
     }
 
-    public DownloadRequest getRequestByDownloadId(long downloadId) {
-        List<DownloadRequest> requestList = getAllRequests();
-        for (DownloadRequest request : requestList) {
-            if (request.getDownloadId() == downloadId) {
-                return request;
-            }
-        }
-        return null;
+    public synchronized DownloadRequest getRequestByDownloadId(long downloadId) {
+        load();
+        return mQueueByDownloadId.get(downloadId);
     }
 
-    public DownloadRequest getRequestByIdentifier(String identifier) {
-        List<DownloadRequest> requestList = getAllRequests();
-        for (DownloadRequest request : requestList) {
-            if (identifier.equals(request.getIdentifier())) {
-                return request;
-            }
-        }
-        return null;
+    public synchronized DownloadRequest getRequestByIdentifier(String identifier) {
+        load();
+        return mQueue.get(identifier);
     }
 
-    public void updateDownload(DownloadRequest downloadRequest) {
-        List<DownloadRequest> downloadRequestList = getAllRequests();
-        int index = downloadRequestList.indexOf(downloadRequest);
-        if (index != -1) {
-            downloadRequestList.set(index, downloadRequest);
-            save(downloadRequestList);
+    public synchronized void updateDownload(DownloadRequest downloadRequest) {
+        load();
+        if (mQueue.containsKey(downloadRequest.getIdentifier())) {
+            put(downloadRequest);
+            markForWrite(downloadRequest.getIdentifier());
+            flush();
         }
     }
 
-    public void removeFromQueue(long downloadId) {
-        List<DownloadRequest> contentList = getAllRequests();
-        for (int i = 0; i < contentList.size(); i++) {
-            DownloadRequest downloadingRequest = contentList.get(i);
-            if (downloadingRequest.getDownloadId() == downloadId) {
-                contentList.remove(i);
-                save(contentList);
-            }
+    public synchronized void removeFromQueue(long downloadId) {
+        load();
+        DownloadRequest request = mQueueByDownloadId.get(downloadId);
+        if (request != null) {
+            remove(request.getIdentifier());
+            flush();
         }
     }
 
-    public void removeFromQueue(String identifier) {
-        List<DownloadRequest> contentList = getAllRequests();
-        for (int i = 0; i < contentList.size(); i++) {
-            DownloadRequest downloadingRequest = contentList.get(i);
-            if (identifier.equals(downloadingRequest.getIdentifier())) {
-                contentList.remove(i);
-                save(contentList);
-            }
+    public synchronized void removeFromQueue(String identifier) {
+        load();
+        if (mQueue.containsKey(identifier)) {
+            remove(identifier);
+            flush();
         }
     }
 
+    public synchronized void addToQueue(DownloadRequest request) {
+        addToQueue(Collections.singletonList(request));
+    }
 
-    public void save(Object requestList) {
-        Collection collection = (Collection) requestList;
-        String jsonContents = GsonUtil.getGson().toJson(requestList);
-
-        if (CollectionUtil.isNullOrEmpty(collection)) {
-            NoSqlModel noSqlModel = NoSqlModel.build(mDbSession, ServiceConstants.DOWNLOAD_QUEUE, jsonContents);
-            noSqlModel.delete();
-        } else {
-            NoSqlModel noSqlModel = NoSqlModel.build(mDbSession, ServiceConstants.DOWNLOAD_QUEUE, jsonContents);
-            NoSqlModel noSqlModelInDb = NoSqlModel.findByKey(mDbSession, ServiceConstants.DOWNLOAD_QUEUE);
-            if (noSqlModelInDb == null) {
-                noSqlModel.save();
-            } else {
-                noSqlModel.update();
+    /**
+     * Adds the requests which are not in the queue yet, and writes them in a single transaction.
+     */
+    public synchronized void addToQueue(Collection<DownloadRequest> requests) {
+        load();
+        for (DownloadRequest request : requests) {
+            if (!mQueue.containsKey(request.getIdentifier())) {
+                put(request);
+                markForWrite(request.getIdentifier());
             }
         }
+        flush();
+    }
 
+    public synchronized List<String> getCurrentDownloads() {
+        load();
+        return new ArrayList<>(mCurrentDownloads);
+    }
 
+    public synchronized void addToCurrentDownloadQueue(String identifier) {
+        load();
+        if (mCurrentDownloads.add(identifier) && mQueue.containsKey(identifier)) {
+            markForWrite(identifier);
+            flush();
+        }
     }
 
+    public synchronized void removeFromCurrentDownloadQueue(String identifier) {
+        load();
+        if (mCurrentDownloads.remove(identifier) && mQueue.containsKey(identifier)) {
+            markForWrite(identifier);
+            flush();
+        }
+    }
 
-    public void addToQueue(DownloadRequest request) {
-        List<DownloadRequest> requestList = getAllRequests();
-        Set<DownloadRequest> downloadRequestSet = new LinkedHashSet<>(requestList);
-        downloadRequestSet.add(request);
-        mDownloadRequestList = new ArrayList<>(downloadRequestSet);
-        save(downloadRequestSet);
+    public boolean shouldResume() {
+        return mKeyValueStore.getInt(ServiceConstants.PreferenceKey.KEY_DOWNLOAD_STATUS, 0) == 0;
     }
 
-    public List<String> getCurrentDownloads() {
-        if (CollectionUtil.isNullOrEmpty(mCurrentDownloads)) {
-            mCurrentDownloads = new ArrayList<>();
-            NoSqlModel noSqlModel = NoSqlModel.findByKey(mDbSession, CURRENT_DOWNLOAD);
-            if (noSqlModel != null) {
-                String jsonCurrentDownloads = noSqlModel.getValue();
-                if (!StringUtil.isNullOrEmpty(jsonCurrentDownloads)) {
-                    Type type = new TypeToken<List<String>>() {
-                    }.getType();
-                    List<String> reqList = GsonUtil.getGson().fromJson(jsonCurrentDownloads, type);
-                    mCurrentDownloads.addAll(reqList != null ? reqList : new ArrayList<String>());
-                }
-            }
+    private void put(DownloadRequest request) {
+        DownloadRequest previous = mQueue.put(request.getIdentifier(), request);
+        if (previous != null) {
+            mQueueByDownloadId.remove(previous.getDownloadId());
+        }
+        if (request.getDownloadId() != -1) {
+            mQueueByDownloadId.put(request.getDownloadId(), request);
         }
+    }
 
-        return mCurrentDownloads;
+    private void remove(String identifier) {
+        DownloadRequest request = mQueue.remove(identifier);
+        if (request != null) {
+            mQueueByDownloadId.remove(request.getDownloadId());
+        }
+        mCurrentDownloads.remove(identifier);
+        mPendingWrites.remove(identifier);
+        mPendingDeletes.add(identifier);
     }
 
-    public void addToCurrentDownloadQueue(String identifier) {
-        List<String> currentlyDownloading = getCurrentDownloads();
-        currentlyDownloading.add(identifier);
-        saveCurrentDownloads(currentlyDownloading);
+    private void markForWrite(String identifier) {
+        mPendingDeletes.remove(identifier);
+        mPendingWrites.add(identifier);
     }
 
-    public void removeFromCurrentDownloadQueue(String identifier) {
-        List<String> currentlyDownloading = getCurrentDownloads();
-        for (String currentItem : currentlyDownloading) {
-            if (identifier.equals(currentItem)) {
-                currentlyDownloading.remove(currentItem);
-                saveCurrentDownloads(currentlyDownloading);
+    private void flush() {
+        if (!mPendingDeletes.isEmpty()) {
+            List<Object[]> bindArgsList = new ArrayList<>(mPendingDeletes.size());
+            for (String identifier : mPendingDeletes) {
+                bindArgsList.add(new Object[]{identifier});
             }
+            mDbSession.executeBatch(DELETE_BY_IDENTIFIER, bindArgsList);
+            mPendingDeletes.clear();
         }
-    }
 
-    private void saveCurrentDownloads(List<String> identifiers) {
-        String currentDownloads = GsonUtil.getGson().toJson(identifiers);
-        if (CollectionUtil.isNullOrEmpty(identifiers)) {
-            NoSqlModel noSqlModel = NoSqlModel.build(mDbSession, CURRENT_DOWNLOAD, currentDownloads);
-            noSqlModel.delete();
-        } else {
-            NoSqlModel noSqlModelinDb = NoSqlModel.findByKey(mDbSession, CURRENT_DOWNLOAD);
-            NoSqlModel noSqlModel = NoSqlModel.build(mDbSession, CURRENT_DOWNLOAD, currentDownloads);
-            if (noSqlModelinDb == null) {
-                noSqlModel.save();
-            } else {
-                noSqlModel.update();
+        if (!mPendingWrites.isEmpty()) {
+            List<DownloadRequestModel> models = new ArrayList<>(mPendingWrites.size());
+            for (String identifier : mPendingWrites) {
+                int status = mCurrentDownloads.contains(identifier) ? DownloadQueueEntry.STATUS_DOWNLOADING : DownloadQueueEntry.STATUS_QUEUED;
+                models.add(DownloadRequestModel.build(mDbSession, mQueue.get(identifier), status, 0));
             }
+            mDbSession.upsertAll(models);
+            mPendingWrites.clear();
         }
-
-    }
-
-    public boolean shouldResume() {
-        return mKeyValueStore.getInt(ServiceConstants.PreferenceKey.KEY_DOWNLOAD_STATUS, 0) == 0;
     }
 }
@@ -19,6 +19,7 @@ import org.ekstep.genieservices.eventbus.EventBus;
 import org.ekstep.genieservices.telemetry.TelemetryLogger;
 
 import java.io.File;
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
@@ -43,9 +44,7 @@ public class DownloadServiceImpl implements IDownloadService {
     @Override
     public void enqueue(DownloadRequest... downloadRequest) {
         if (downloadRequest.length > 0) {
-            for (DownloadRequest request : downloadRequest) {
-                mDownloadQueueManager.addToQueue(request);
-            }
+            mDownloadQueueManager.addToQueue(Arrays.asList(downloadRequest));
         }
         resumeDownloads();
     }
@@ -0,0 +1,129 @@
+package org.ekstep.genieservices.commons.download.db.model;
+
+import org.ekstep.genieservices.commons.AppContext;
+import org.ekstep.genieservices.commons.bean.DownloadRequest;
+import org.ekstep.genieservices.commons.db.contract.DownloadQueueEntry;
+import org.ekstep.genieservices.commons.db.core.ContentValues;
+import org.ekstep.genieservices.commons.db.core.IBindableCleanable;
+import org.ekstep.genieservices.commons.db.core.IBindableUpdatable;
+import org.ekstep.genieservices.commons.db.core.IResultSet;
+import org.ekstep.genieservices.commons.db.core.IWritable;
+import org.ekstep.genieservices.commons.db.operations.IDBSession;
+import org.ekstep.genieservices.commons.utils.GsonUtil;
+
+import java.util.Locale;
+
+/**
+ * A row of the download queue.
+ */
+public class DownloadRequestModel implements IWritable, IBindableUpdatable, IBindableCleanable {
+
+    private IDBSession mDBSession;
+    private Long id = -1L;
+    private DownloadRequest mDownloadRequest;
+    private int mStatus;
+    private int mPriority;
+
+    private DownloadRequestModel(IDBSession dbSession) {
+        this.mDBSession = dbSession;
+    }
+
+    private DownloadRequestModel(IDBSession dbSession, DownloadRequest downloadRequest, int status, int priority) {
+        this.mDBSession = dbSession;
+        this.mDownloadRequest = downloadRequest;
+        this.mStatus = status;
+        this.mPriority = priority;
+    }
+
+    public static DownloadRequestModel build(IDBSession dbSession, DownloadRequest downloadRequest, int status, int priority) {
+        return new DownloadRequestModel(dbSession, downloadRequest, status, priority);
+    }
+
+    public static DownloadRequestModel build(IDBSession dbSession) {
+        return new DownloadRequestModel(dbSession);
+    }
+
+    public void readWithoutMoving(IResultSet resultSet) {
+        id = resultSet.getLong(resultSet.getColumnIndex(DownloadQueueEntry._ID));
+        mDownloadRequest = GsonUtil.fromJson(resultSet.getString(resultSet.getColumnIndex(DownloadQueueEntry.COLUMN_NAME_REQUEST)), DownloadRequest.class);
+        mStatus = resultSet.getInt(resultSet.getColumnIndex(DownloadQueueEntry.COLUMN_NAME_STATUS));
+        mPriority = resultSet.getInt(resultSet.getColumnIndex(DownloadQueueEntry.COLUMN_NAME_PRIORITY));
+    }
+
+    @Override
+    public ContentValues getContentValues() {
+        ContentValues contentValues = getFieldsToUpdate();
+        contentValues.put(DownloadQueueEntry.COLUMN_NAME_IDENTIFIER, mDownloadRequest.getIdentifier());
+        contentValues.put(DownloadQueueEntry.COLUMN_NAME_PRIORITY, mPriority);
+        return contentValues;
+    }
+
+    @Override
+    public ContentValues getFieldsToUpdate() {
+        ContentValues contentValues = new ContentValues();
+        contentValues.put(DownloadQueueEntry.COLUMN_NAME_DOWNLOAD_ID, mDownloadRequest.getDownloadId());
+        contentValues.put(DownloadQueueEntry.COLUMN_NAME_STATUS, mStatus);
+        contentValues.put(DownloadQueueEntry.COLUMN_NAME_REQUEST, GsonUtil.toJson(mDownloadRequest));
+        return contentValues;
+    }
+
+    @Override
+    public void updateId(long id) {
+        this.id = id;
+    }
+
+    @Override
+    public String getTableName() {
+        return DownloadQueueEntry.TABLE_NAME;
+    }
+
+    @Override
+    public void beforeWrite(AppContext context) {
+
+    }
+
+    @Override
+    public String updateBy() {
+        return String.format(Locale.US, "%s = ?", DownloadQueueEntry.COLUMN_NAME_IDENTIFIER);
+    }
+
+    @Override
+    public String[] selectionArgsForUpdate() {
+        return new String[]{mDownloadRequest.getIdentifier()};
+    }
+
+    @Override
+    public void clean() {
+        id = -1L;
+    }
+
+    @Override
+    public String selectionToClean() {
+        return String.format(Locale.US, "WHERE %s = ?", DownloadQueueEntry.COLUMN_NAME_IDENTIFIER);
+    }
+
+    @Override
+    public String[] selectionArgsToClean() {
+        return new String[]{mDownloadRequest.getIdentifier()};
+    }
+
+    public void save() {
+        mDBSession.create(this);
+    }
+
+    public void delete() {
+        mDBSession.clean(this);
+    }
+
+    public DownloadRequest getDownloadRequest() {
+        return mDownloadRequest;
+    }
+
+    public int getStatus() {
+        return mStatus;
+    }
+
+    public int getPriority() {
+        return mPriority;
+    }
+}
@@ -0,0 +1,77 @@
+package org.ekstep.genieservices.commons.download.db.model;
+
+import org.ekstep.genieservices.commons.db.BaseColumns;
+import org.ekstep.genieservices.commons.db.contract.DownloadQueueEntry;
+import org.ekstep.genieservices.commons.db.core.IReadable;
+import org.ekstep.genieservices.commons.db.core.IResultSet;
+import org.ekstep.genieservices.commons.db.operations.IDBSession;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * The whole download queue, in the order the requests are to be downloaded.
+ */
+public class DownloadRequestsModel implements IReadable {
+
+    private IDBSession mDBSession;
+    private List<DownloadRequestModel> mDownloadRequestList;
+
+    private DownloadRequestsModel(IDBSession dbSession) {
+        this.mDBSession = dbSession;
+    }
+
+    public static DownloadRequestsModel find(IDBSession dbSession) {
+        DownloadRequestsModel model = new DownloadRequestsModel(dbSession);
+        dbSession.read(model);
+
+        if (model.mDownloadRequestList == null) {
+            return null;
+        } else {
+            return model;
+        }
+    }
+
+    @Override
+    public IReadable read(IResultSet resultSet) {
+        if (resultSet != null && resultSet.moveToFirst()) {
+            mDownloadRequestList = new ArrayList<>();
+            do {
+                DownloadRequestModel downloadRequest = DownloadRequestModel.build(mDBSession);
+                downloadRequest.readWithoutMoving(resultSet);
+                mDownloadRequestList.add(downloadRequest);
+            } while (resultSet.moveToNext());
+        }
+        return this;
+    }
+
+    @Override
+    public String getTableName() {
+        return DownloadQueueEntry.TABLE_NAME;
+    }
+
+    @Override
+    public String orderBy() {
+        return String.format(Locale.US, "order by %s desc, %s", DownloadQueueEntry.COLUMN_NAME_PRIORITY, BaseColumns._ID);
+    }
+
+    @Override
+    public String filterForRead() {
+        return "";
+    }
+
+    @Override
+    public String[] selectionArgsForFilter() {
+        return null;
+    }
+
+    @Override
+    public String limitBy() {
+        return "";
+    }
+
+    public List<DownloadRequestModel> getDownloadRequestList() {
+        return mDownloadRequestList;
+    }
+}
@@ -0,0 +1,90 @@
+package org.ekstep.genieservices.commons.executor;
+
+/**
+ * Snapshot of the counters of one {@link SDKExecutor.Lane}.
+ */
+public class LaneMetrics {
+
+    private SDKExecutor.Lane lane;
+    private int queueDepth;
+    private int activeTasks;
+    private long submittedTasks;
+    private long rejectedTasks;
+    private long completedTasks;
+    private long totalQueueTimeMillis;
+    private long maxQueueTimeMillis;
+    private long totalRunTimeMillis;
+
+    LaneMetrics(SDKExecutor.Lane lane, int queueDepth, int activeTasks, long submittedTasks, long rejectedTasks,
+                long completedTasks, long totalQueueTimeMillis, long maxQueueTimeMillis, long totalRunTimeMillis) {
+        this.lane = lane;
+        this.queueDepth = queueDepth;
+        this.activeTasks = activeTasks;
+        this.submittedTasks = submittedTasks;
+        this.rejectedTasks = rejectedTasks;
+        this.completedTasks = completedTasks;
+        this.totalQueueTimeMillis = totalQueueTimeMillis;
+        this.maxQueueTimeMillis = maxQueueTimeMillis;
+        this.totalRunTimeMillis = totalRunTimeMillis;
+    }
+
+    public SDKExecutor.Lane getLane() {
+        return lane;
+    }
+
+    /**
+     * Number of tasks waiting to start.
+     */
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    public int getActiveTasks() {
+        return activeTasks;
+    }
+
+    public long getSubmittedTasks() {
+        return submittedTasks;
+    }
+
+    /**
+     * Number of tasks which found the queue full.
+     */
+    public long getRejectedTasks() {
+        return rejectedTasks;
+    }
+
+    /**
+     * Number of tasks which ran, successfully or not.
+     */
+    public long getCompletedTasks() {
+        return completedTasks;
+    }
+
+    public long getAverageQueueTimeMillis() {
+        return completedTasks == 0 ? 0 : totalQueueTimeMillis / completedTasks;
+    }
+
+    public long getMaxQueueTimeMillis() {
+        return maxQueueTimeMillis;
+    }
+
+    public long getAverageRunTimeMillis() {
+        return completedTasks == 0 ? 0 : totalRunTimeMillis / completedTasks;
+    }
+
+    @Override
+    public String toString() {
+        return "LaneMetrics{" +
+                "lane=" + lane +
+                ", queueDepth=" + queueDepth +
+                ", activeTasks=" + activeTasks +
+                ", submittedTasks=" + submittedTasks +
+                ", rejectedTasks=" + rejectedTasks +
+                ", completedTasks=" + completedTasks +
+                ", averageQueueTimeMillis=" + getAverageQueueTimeMillis() +
+                ", maxQueueTimeMillis=" + maxQueueTimeMillis +
+                ", averageRunTimeMillis=" + getAverageRunTimeMillis() +
+                '}';
+    }
+}
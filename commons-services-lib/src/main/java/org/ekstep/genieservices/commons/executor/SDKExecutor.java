@@ -0,0 +1,235 @@
+package org.ekstep.genieservices.commons.executor;
+
+import org.ekstep.genieservices.commons.utils.Logger;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs the background work of the SDK.
+ * <p>
+ * The work is split in {@link Lane}s. Every lane has its own threads, bounded queue and thread priority,
+ * so a burst of background refreshes or a long import can never hold up the calls the user is waiting for.
+ * <p>
+ * A task that finds the queue of its lane full is rejected. For {@link Lane#REFRESH} the task is just
+ * dropped, since a refresh only updates data which is already served from the db. For the other lanes
+ * {@link #submit(Lane, Runnable)} throws a {@link RejectedExecutionException}.
+ */
+public class SDKExecutor {
+
+    private static final String TAG = SDKExecutor.class.getSimpleName();
+
+    private static final long KEEP_ALIVE_SECONDS = 30;
+
+    public enum Lane {
+        /**
+         * Calls whose result the user is waiting for.
+         */
+        INTERACTIVE(Math.max(2, Runtime.getRuntime().availableProcessors()), 256, Thread.NORM_PRIORITY),
+
+        /**
+         * Refreshing the cached server data in the background.
+         */
+        REFRESH(2, 32, Thread.MIN_PRIORITY + 1),
+
+        /**
+         * Long running I/O such as import, export, move and sync.
+         */
+        BULK(2, 64, Thread.MIN_PRIORITY),
+
+        /**
+         * Uploads which a {@link #BULK} task posts and waits for, such as the telemetry batches of a sync. They
+         * have their own threads so that the waiting task never holds the threads its uploads need.
+         */
+        UPLOAD(3, 64, Thread.MIN_PRIORITY);
+
+        private final int threads;
+        private final int queueCapacity;
+        private final int threadPriority;
+
+        Lane(int threads, int queueCapacity, int threadPriority) {
+            this.threads = threads;
+            this.queueCapacity = queueCapacity;
+            this.threadPriority = threadPriority;
+        }
+    }
+
+    private static volatile SDKExecutor sInstance;
+
+    private final Map<Lane, LaneExecutor> mExecutors = new EnumMap<>(Lane.class);
+
+    private SDKExecutor() {
+        for (Lane lane : Lane.values()) {
+            mExecutors.put(lane, new LaneExecutor(lane));
+        }
+    }
+
+    public static SDKExecutor getInstance() {
+        if (sInstance == null) {
+            synchronized (SDKExecutor.class) {
+                if (sInstance == null) {
+                    sInstance = new SDKExecutor();
+                }
+            }
+        }
+        return sInstance;
+    }
+
+    /**
+     * Queues the task on the given lane.
+     *
+     * @return the future of the task, which can be used to cancel it.
+     * @throws RejectedExecutionException if the queue of the lane is full, except for {@link Lane#REFRESH}.
+     */
+    public Future<?> submit(Lane lane, Runnable task) {
+        TimedTask timedTask = new TimedTask(mExecutors.get(lane), task);
+        mExecutors.get(lane).execute(timedTask);
+        return timedTask;
+    }
+
+    /**
+     * Cancels every task of the lane which has not started yet.
+     *
+     * @return number of tasks cancelled.
+     */
+    public int cancelPending(Lane lane) {
+        List<Runnable> pending = new ArrayList<>();
+        mExecutors.get(lane).getQueue().drainTo(pending);
+        for (Runnable runnable : pending) {
+            ((Future<?>) runnable).cancel(false);
+        }
+        return pending.size();
+    }
+
+    public LaneMetrics getMetrics(Lane lane) {
+        return mExecutors.get(lane).getMetrics();
+    }
+
+    private static class LaneExecutor extends ThreadPoolExecutor {
+
+        private final Lane lane;
+        private final AtomicLong submittedTasks = new AtomicLong();
+        private final AtomicLong rejectedTasks = new AtomicLong();
+        private final AtomicLong completedTasks = new AtomicLong();
+        private final AtomicLong totalQueueTimeMillis = new AtomicLong();
+        private final AtomicLong totalRunTimeMillis = new AtomicLong();
+        private volatile long maxQueueTimeMillis;
+
+        LaneExecutor(final Lane lane) {
+            super(lane.threads, lane.threads, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<Runnable>(lane.queueCapacity), new LaneThreadFactory(lane));
+            this.lane = lane;
+            allowCoreThreadTimeOut(true);
+            setRejectedExecutionHandler(new LaneRejectionHandler(lane));
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            submittedTasks.incrementAndGet();
+            super.execute(command);
+        }
+
+        void onRun(long queueTimeMillis, long runTimeMillis) {
+            completedTasks.incrementAndGet();
+            totalQueueTimeMillis.addAndGet(queueTimeMillis);
+            totalRunTimeMillis.addAndGet(runTimeMillis);
+            if (queueTimeMillis > maxQueueTimeMillis) {
+                maxQueueTimeMillis = queueTimeMillis;
+            }
+        }
+
+        LaneMetrics getMetrics() {
+            return new LaneMetrics(lane, getQueue().size(), getActiveCount(), submittedTasks.get(), rejectedTasks.get(),
+                    completedTasks.get(), totalQueueTimeMillis.get(), maxQueueTimeMillis, totalRunTimeMillis.get());
+        }
+    }
+
+    private static class LaneRejectionHandler implements RejectedExecutionHandler {
+
+        private final Lane lane;
+
+        LaneRejectionHandler(Lane lane) {
+            this.lane = lane;
+        }
+
+        @Override
+        public void rejectedExecution(Runnable runnable, ThreadPoolExecutor executor) {
+            ((LaneExecutor) executor).rejectedTasks.incrementAndGet();
+            ((Future<?>) runnable).cancel(false);
+            if (lane == Lane.REFRESH) {
+                Logger.i(TAG, "Refresh queue is full, dropping the refresh");
+                return;
+            }
+            throw new RejectedExecutionException(lane + " queue is full");
+        }
+    }
+
+    private static class LaneThreadFactory implements ThreadFactory {
+
+        private final Lane lane;
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        LaneThreadFactory(Lane lane) {
+            this.lane = lane;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "genie-" + lane.name().toLowerCase(Locale.US) + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setPriority(lane.threadPriority);
+            return thread;
+        }
+    }
+
+    private static class TimedTask extends FutureTask<Void> {
+
+        private final LaneExecutor executor;
+        private final long queuedAt;
+
+        TimedTask(LaneExecutor executor, Runnable task) {
+            super(task, null);
+            this.executor = executor;
+            this.queuedAt = System.currentTimeMillis();
+        }
+
+        @Override
+        public void run() {
+            if (isDone()) {
+                return;
+            }
+
+            long startedAt = System.currentTimeMillis();
+            try {
+                super.run();
+            } finally {
+                executor.onRun(startedAt - queuedAt, System.currentTimeMillis() - startedAt);
+            }
+        }
+
+        @Override
+        protected void done() {
+            if (isCancelled()) {
+                return;
+            }
+            try {
+                get();
+            } catch (Exception e) {
+                Logger.e(TAG, "Task failed", e.getCause() != null ? e.getCause() : e);
+            }
+        }
+    }
+}
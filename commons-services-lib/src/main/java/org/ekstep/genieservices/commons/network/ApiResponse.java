@@ -1,13 +1,22 @@
 package org.ekstep.genieservices.commons.network;
 
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+
 /**
  * Created on 20/4/17.
  */
 
-public class ApiResponse {
+public class ApiResponse implements Closeable {
+    private static final String CHARSET = "UTF-8";
+
     private boolean successful;
     private int responseCode;
     private String responseBody;
+    private InputStream responseStream;
+    private Closeable connection;
 
     public ApiResponse(boolean status, String responseBody, int responseCode) {
         this.successful = status;
@@ -15,10 +24,46 @@ public class ApiResponse {
         this.responseCode = responseCode;
     }
 
+    /**
+     * Response whose body is read from the connection as it is consumed. It has to be closed once read.
+     *
+     * @param connection closed along with the stream, can be null.
+     */
+    public ApiResponse(boolean status, InputStream responseStream, int responseCode, Closeable connection) {
+        this.successful = status;
+        this.responseStream = responseStream;
+        this.responseCode = responseCode;
+        this.connection = connection;
+    }
+
+    /**
+     * Body of the response. For a streaming response the remaining body is read in full, so use it only
+     * for small bodies such as error messages.
+     */
     public String getResponseBody() {
+        if (responseBody == null && responseStream != null) {
+            try {
+                responseBody = readFully(responseStream);
+            } catch (IOException e) {
+                responseBody = "";
+            } finally {
+                close();
+            }
+        }
         return responseBody;
     }
 
+    /**
+     * @return the body stream of a streaming response, null otherwise.
+     */
+    public InputStream getResponseStream() {
+        return responseStream;
+    }
+
+    public boolean isStreaming() {
+        return responseStream != null;
+    }
+
     public boolean isSuccessful() {
         return successful;
     }
@@ -26,4 +71,28 @@ public class ApiResponse {
     public int getResponseCode() {
         return responseCode;
     }
+
+    @Override
+    public void close() {
+        try {
+            if (responseStream != null) {
+                responseStream.close();
+            }
+            if (connection != null) {
+                connection.close();
+            }
+        } catch (IOException e) {
+            // Nothing left to read.
+        }
+    }
+
+    private static String readFully(InputStream inputStream) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int count;
+        while ((count = inputStream.read(buffer)) != -1) {
+            outputStream.write(buffer, 0, count);
+        }
+        return outputStream.toString(CHARSET);
+    }
 }
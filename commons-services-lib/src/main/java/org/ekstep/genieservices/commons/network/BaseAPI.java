@@ -9,9 +9,14 @@ import org.ekstep.genieservices.commons.utils.GsonUtil;
 import org.ekstep.genieservices.commons.utils.Logger;
 import org.ekstep.genieservices.commons.utils.StringUtil;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.reflect.Type;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Created on 4/19/2017.
@@ -24,12 +29,14 @@ public abstract class BaseAPI {
     private static final String POST = "POST";
     private static final String PATCH = "PATCH";
     private static final int AUTHENTICATION_FAILURE = 401;
+    private static final String BEARER = "Bearer ";
 
     private AppContext mAppContext;
     private IHttpClientFactory httpClientFactory;
     private Map<String, String> headers;
     private String url;
     private String TAG;
+    private String requestAuthToken;
 
     public BaseAPI(AppContext appContext, String url, String TAG) {
         this.url = url;
@@ -37,98 +44,186 @@ public abstract class BaseAPI {
         this.TAG = TAG;
         this.httpClientFactory = appContext.getHttpClientFactory();
         this.headers = new HashMap<>();
-//        this.headers.put("Accept-Encoding", "gzip, deflate");
+        // Accept-Encoding is left to the http client, which asks for gzip and decompresses the body itself.
         this.headers.put("X-Channel-Id", mAppContext.getParams().getString(IParams.Key.CHANNEL_ID));
         this.headers.put("X-App-Id", mAppContext.getParams().getString(IParams.Key.PRODUCER_ID));
         this.headers.put("X-Device-Id", mAppContext.getDeviceInfo().getDeviceID());
     }
 
     public GenieResponse get() {
-        return fetchFromServer(GET, true);
+        return fetchFromServer(GET, true, null);
     }
 
     public GenieResponse post() {
-        return fetchFromServer(POST, true);
+        return fetchFromServer(POST, true, null);
     }
 
     public GenieResponse patch() {
-        return fetchFromServer(PATCH, true);
+        return fetchFromServer(PATCH, true, null);
+    }
+
+    /**
+     * Same as {@link #get()}, but the body is parsed into resultType while it is read off the connection,
+     * so a large response is never held as a String.
+     */
+    public <T> GenieResponse<T> get(Type resultType) {
+        return fetchFromServer(GET, true, resultType);
+    }
+
+    /**
+     * Same as {@link #post()}, but the body is parsed into resultType while it is read off the connection,
+     * so a large response is never held as a String.
+     */
+    public <T> GenieResponse<T> post(Type resultType) {
+        return fetchFromServer(POST, true, resultType);
     }
 
     protected void processAuthFailure(ApiResponse apiResponse) {
-        AuthHandler.resetAuthToken(mAppContext);
+        AuthHandler.resetAuthToken(mAppContext, getRequestAuthToken());
+    }
+
+    /**
+     * @return the bearer token the last request was sent with, null if it had none.
+     */
+    protected String getRequestAuthToken() {
+        return requestAuthToken;
     }
 
 
-    private GenieResponse fetchFromServer(String requestType, boolean retryForAuthError) {
+    private GenieResponse fetchFromServer(String requestType, boolean retryForAuthError, Type resultType) {
         if (!mAppContext.getConnectionInfo().isConnected()) {
             return getErrorResponse(NetworkConstants.CONNECTION_ERROR, NetworkConstants.CONNECTION_ERROR_MESSAGE);
         }
         try {
-            ApiResponse apiResponse = invokeApi(requestType);
-            if (apiResponse.isSuccessful()) {
-                return getSuccessResponse(apiResponse.getResponseBody());
-            } else if (apiResponse.getResponseCode() == AUTHENTICATION_FAILURE) {
-                if (retryForAuthError) {
+            ApiResponse apiResponse = invokeApi(requestType, resultType != null);
+            if (apiResponse.isSuccessful() && apiResponse.isStreaming()) {
+                return getParsedResponse(apiResponse, resultType);
+            }
+
+            try {
+                if (apiResponse.isSuccessful()) {
+                    return getSuccessResponse(apiResponse.getResponseBody());
+                } else if (apiResponse.getResponseCode() == AUTHENTICATION_FAILURE) {
+                    if (!retryForAuthError) {
+                        String error = NetworkConstants.SERVERAUTH_ERROR;
+                        String errorMsg = NetworkConstants.SERVERAUTH_ERROR_MESSAGE;
+                        if (!StringUtil.isNullOrEmpty(apiResponse.getResponseBody())) {
+                            errorMsg = apiResponse.getResponseBody();
+                        }
+
+                        return getErrorResponse(error, errorMsg);
+                    }
                     processAuthFailure(apiResponse);
-                    return fetchFromServer(requestType, false);
                 } else {
-                    String error = NetworkConstants.SERVERAUTH_ERROR;
-                    String errorMsg = NetworkConstants.SERVERAUTH_ERROR_MESSAGE;
+                    String error = NetworkConstants.SERVER_ERROR;
+                    String errorMsg = NetworkConstants.SERVER_ERROR_MESSAGE;
                     if (!StringUtil.isNullOrEmpty(apiResponse.getResponseBody())) {
-                        errorMsg = apiResponse.getResponseBody();
+                        try {
+                            Map<String, Object> errorResponseBodyMap = GsonUtil.fromJson(apiResponse.getResponseBody(), Map.class);
+                            if (errorResponseBodyMap != null && !errorResponseBodyMap.isEmpty()
+                                    && errorResponseBodyMap.containsKey("params")) {
+                                Map<String, Object> params = (Map<String, Object>) errorResponseBodyMap.get("params");
+                                error = (String) params.get("err");
+                                errorMsg = (String) params.get("errmsg");
+                            }
+                        } catch (Exception e) {
+                            e.printStackTrace();
+                        }
                     }
 
                     return getErrorResponse(error, errorMsg);
                 }
-            } else {
-                String error = NetworkConstants.SERVER_ERROR;
-                String errorMsg = NetworkConstants.SERVER_ERROR_MESSAGE;
-                if (!StringUtil.isNullOrEmpty(apiResponse.getResponseBody())) {
-                    try {
-                        Map<String, Object> errorResponseBodyMap = GsonUtil.fromJson(apiResponse.getResponseBody(), Map.class);
-                        if (errorResponseBodyMap != null && !errorResponseBodyMap.isEmpty()
-                                && errorResponseBodyMap.containsKey("params")) {
-                            Map<String, Object> params = (Map<String, Object>) errorResponseBodyMap.get("params");
-                            error = (String) params.get("err");
-                            errorMsg = (String) params.get("errmsg");
-                        }
-                    } catch (Exception e) {
-                        e.printStackTrace();
-                    }
-                }
-
-                return getErrorResponse(error, errorMsg);
+            } finally {
+                apiResponse.close();
             }
+
+            // The failed response is closed before the request is sent again with a new token.
+            return fetchFromServer(requestType, false, resultType);
         } catch (IOException e) {
             Logger.e(TAG, e.getMessage());
             return getErrorResponse(NetworkConstants.NETWORK_ERROR, e.getMessage());
         }
     }
 
-    private ApiResponse invokeApi(String requestType) throws IOException {
-        IHttpClient httpClient = prepareClient();
+    private ApiResponse invokeApi(String requestType, boolean streaming) throws IOException {
+        Map<String, String> requestHeaders = prepareHeaders();
+        final IHttpClient httpClient = httpClientFactory.getClient();
+        httpClient.createRequest(url);
+
         ApiResponse apiResponse = null;
         if (GET.equals(requestType)) {
-            apiResponse = httpClient.doGet();
-        } else if (POST.equals(requestType)) {
-            apiResponse = httpClient.doPost(getRequestBody());
-        } else if (PATCH.equals(requestType)) {
-            apiResponse = httpClient.doPatch(getRequestBody());
+            httpClient.setHeaders(requestHeaders);
+            if (streaming) {
+                apiResponse = httpClient.doGetStreaming();
+            } else {
+                // A buffered response can be handed to every caller asking for the same thing at the same time.
+                apiResponse = InFlightRequests.execute(url, requestHeaders, new Callable<ApiResponse>() {
+                    @Override
+                    public ApiResponse call() throws IOException {
+                        return httpClient.doGet();
+                    }
+                });
+            }
+        } else {
+            IRequestBody requestBody = getRequestBody();
+            if (shouldCompressRequest() && requestBody.getBody() instanceof byte[]) {
+                requestBody.setBody(gzip((byte[]) requestBody.getBody()));
+                requestHeaders.put("Content-Encoding", "gzip");
+            }
+            httpClient.setHeaders(requestHeaders);
+
+            if (POST.equals(requestType)) {
+                apiResponse = streaming ? httpClient.doPostStreaming(requestBody) : httpClient.doPost(requestBody);
+            } else if (PATCH.equals(requestType)) {
+                apiResponse = httpClient.doPatch(requestBody);
+            }
         }
         return apiResponse;
     }
 
-    private IHttpClient prepareClient() {
-        IHttpClient httpClient = httpClientFactory.getClient();
-        httpClient.createRequest(url);
+    private Map<String, String> prepareHeaders() {
+        Map<String, String> requestHeaders = new HashMap<>();
         if (shouldAuthenticate()) {
             IHttpAuthenticator authenticator = httpClientFactory.getHttpAuthenticator();
-            httpClient.setHeaders(authenticator.getAuthHeaders());
+            putAll(requestHeaders, authenticator.getAuthHeaders());
+        }
+        putAll(requestHeaders, headers);
+        putAll(requestHeaders, getRequestHeaders());
+
+        String authorization = requestHeaders.get("Authorization");
+        requestAuthToken = authorization != null && authorization.startsWith(BEARER) ? authorization.substring(BEARER.length()) : null;
+        return requestHeaders;
+    }
+
+    private void putAll(Map<String, String> requestHeaders, Map<String, String> headers) {
+        if (headers != null) {
+            requestHeaders.putAll(headers);
         }
-        httpClient.setHeaders(headers);
-        httpClient.setHeaders(getRequestHeaders());
-        return httpClient;
+    }
+
+    private <T> GenieResponse<T> getParsedResponse(ApiResponse apiResponse, Type resultType) {
+        try {
+            T result = GsonUtil.getGson().fromJson(new InputStreamReader(apiResponse.getResponseStream(), "UTF-8"), resultType);
+            GenieResponse<T> response = GenieResponseBuilder.getSuccessResponse("");
+            response.setResult(result);
+            return response;
+        } catch (Exception e) {
+            Logger.e(TAG, "Unable to parse the response", e);
+            return GenieResponseBuilder.getErrorResponse(NetworkConstants.SERVER_ERROR, NetworkConstants.SERVER_ERROR_MESSAGE, TAG);
+        } finally {
+            apiResponse.close();
+        }
+    }
+
+    private static byte[] gzip(byte[] data) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(data.length / 4 + 64);
+        GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream);
+        try {
+            gzipOutputStream.write(data);
+        } finally {
+            gzipOutputStream.close();
+        }
+        return outputStream.toByteArray();
     }
 
     private GenieResponse<String> getSuccessResponse(String responseBody) {
@@ -151,6 +246,14 @@ public abstract class BaseAPI {
         return true;
     }
 
+    /**
+     * Return true to send the request body gzipped, for the endpoints that accept a gzip Content-Encoding.
+     * Only byte array bodies are compressed.
+     */
+    protected boolean shouldCompressRequest() {
+        return false;
+    }
+
     protected abstract Map<String, String> getRequestHeaders();
 
     protected byte[] getRequestData() {
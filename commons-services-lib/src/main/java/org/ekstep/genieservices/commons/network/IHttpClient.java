@@ -21,4 +21,14 @@ public interface IHttpClient {
 
     ApiResponse doPatch(IRequestBody requestBody) throws IOException;
 
+    /**
+     * Same as {@link #doGet()}, but the body is left on the connection. See {@link ApiResponse#getResponseStream()}.
+     */
+    ApiResponse doGetStreaming() throws IOException;
+
+    /**
+     * Same as {@link #doPost(IRequestBody)}, but the body is left on the connection. See {@link ApiResponse#getResponseStream()}.
+     */
+    ApiResponse doPostStreaming(IRequestBody requestBody) throws IOException;
+
 }
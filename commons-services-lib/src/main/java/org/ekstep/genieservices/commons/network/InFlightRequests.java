@@ -0,0 +1,61 @@
+package org.ekstep.genieservices.commons.network;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Coalesces identical GET requests which are in flight at the same time.
+ * <p>
+ * The first caller for a url and header set runs the request, the callers that come while it is running
+ * wait for it and get the same {@link ApiResponse}. Nothing is cached once the request is done.
+ */
+class InFlightRequests {
+
+    private static final ConcurrentHashMap<String, FutureTask<ApiResponse>> sRequests = new ConcurrentHashMap<>();
+
+    private InFlightRequests() {
+    }
+
+    static ApiResponse execute(String url, Map<String, String> headers, Callable<ApiResponse> request) throws IOException {
+        String key = key(url, headers);
+
+        FutureTask<ApiResponse> task = new FutureTask<>(request);
+        FutureTask<ApiResponse> inFlight = sRequests.putIfAbsent(key, task);
+        if (inFlight == null) {
+            try {
+                task.run();
+            } finally {
+                sRequests.remove(key, task);
+            }
+            inFlight = task;
+        }
+
+        try {
+            return inFlight.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for " + url);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    private static String key(String url, Map<String, String> headers) {
+        StringBuilder key = new StringBuilder(url);
+        for (Map.Entry<String, String> header : new TreeMap<>(headers).entrySet()) {
+            key.append('\n').append(header.getKey()).append(':').append(header.getValue());
+        }
+        return key.toString();
+    }
+}
@@ -27,7 +27,7 @@ public abstract class SunbirdBaseAPI extends BaseAPI {
         if (apiResponse != null) {
             Map<String, Object> responseMap = GsonUtil.fromJson(apiResponse.getResponseBody(), Map.class);
             if (responseMap.containsKey("message")) {
-                AuthHandler.resetAuthToken(mAppContext);
+                AuthHandler.resetAuthToken(mAppContext, getRequestAuthToken());
             } else {
                 IAuthSession mAuthSession = null;
                 String authSessionClass = mAppContext.getParams().getString(ServiceConstants.Params.OAUTH_SESSION);
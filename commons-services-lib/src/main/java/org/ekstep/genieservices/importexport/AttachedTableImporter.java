@@ -0,0 +1,127 @@
+package org.ekstep.genieservices.importexport;
+
+import org.ekstep.genieservices.commons.bean.ImportDataProgress;
+import org.ekstep.genieservices.commons.db.BaseColumns;
+import org.ekstep.genieservices.commons.db.model.CustomReadersModel;
+import org.ekstep.genieservices.commons.db.operations.IDBSession;
+import org.ekstep.genieservices.commons.utils.DateUtil;
+import org.ekstep.genieservices.eventbus.EventBus;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Copies the rows of a table of an imported database into the same table of the Genie database.
+ * <p>
+ * The imported database is attached to the Genie database and the rows are copied with INSERT ... SELECT, a chunk
+ * of {@link #CHUNK_SIZE} rows in _id order per statement, so that no row is held in memory. A row for which the
+ * duplicate filter holds is skipped; the filter should be answered from an index of the Genie table. An
+ * {@link ImportDataProgress} is posted after every chunk.
+ */
+public class AttachedTableImporter {
+
+    /**
+     * Alias of the imported table, which the duplicate filter refers to.
+     */
+    public static final String SOURCE_ALIAS = "s";
+
+    private static final String SOURCE_SCHEMA = "import_source";
+    private static final int CHUNK_SIZE = 500;
+
+    private final IDBSession dbSession;
+    private final String sourceDBFilePath;
+
+    public AttachedTableImporter(IDBSession dbSession, String sourceDBFilePath) {
+        this.dbSession = dbSession;
+        this.sourceDBFilePath = sourceDBFilePath;
+    }
+
+    /**
+     * @param columns         comma separated columns copied, without the _id.
+     * @param duplicateFilter condition on the row {@link #SOURCE_ALIAS} which holds if it is on the device already.
+     * @return number of rows copied.
+     * @throws IOException if the imported database could not be read or a chunk could not be written.
+     */
+    public int importTable(String tableName, String columns, String duplicateFilter) throws IOException {
+        dbSession.execute(String.format(Locale.US, "ATTACH DATABASE '%s' AS %s", sourceDBFilePath.replace("'", "''"), SOURCE_SCHEMA));
+        try {
+            return copyChunks(tableName, columns, duplicateFilter);
+        } finally {
+            dbSession.execute("DETACH DATABASE " + SOURCE_SCHEMA);
+        }
+    }
+
+    private int copyChunks(String tableName, String columns, String duplicateFilter) throws IOException {
+        String sourceTable = SOURCE_SCHEMA + "." + tableName;
+        int totalRowCount = (int) readLong(dbSession, String.format(Locale.US, "SELECT count(*) FROM %s", sourceTable), -1);
+        if (totalRowCount < 0) {
+            throw new IOException("Cannot read " + sourceTable);
+        }
+
+        long startedAt = DateUtil.getEpochTime();
+        int processedRowCount = 0;
+        int importedRowCount = 0;
+        long lastId = Long.MIN_VALUE;
+        while (processedRowCount < totalRowCount) {
+            long chunkEndId = readLong(dbSession, String.format(Locale.US, "SELECT max(%s) FROM (SELECT %s FROM %s WHERE %s > %d ORDER BY %s LIMIT %d)",
+                    BaseColumns._ID, BaseColumns._ID, sourceTable, BaseColumns._ID, lastId, BaseColumns._ID, CHUNK_SIZE), Long.MIN_VALUE);
+            if (chunkEndId == Long.MIN_VALUE) {
+                break;
+            }
+
+            String chunkFilter = String.format(Locale.US, "%s.%s > %d AND %s.%s <= %d",
+                    SOURCE_ALIAS, BaseColumns._ID, lastId, SOURCE_ALIAS, BaseColumns._ID, chunkEndId);
+            String pendingQuery = String.format(Locale.US, "SELECT count(*) FROM %s %s WHERE %s AND NOT (%s)",
+                    sourceTable, SOURCE_ALIAS, chunkFilter, duplicateFilter);
+            long pendingRowCount = readLong(dbSession, pendingQuery, -1);
+
+            // A single statement, so the chunk is written in one transaction.
+            dbSession.execute(String.format(Locale.US, "INSERT INTO main.%s (%s) SELECT %s FROM %s %s WHERE %s AND NOT (%s)",
+                    tableName, columns, prefix(columns), sourceTable, SOURCE_ALIAS, chunkFilter, duplicateFilter));
+
+            // Errors of the session are only logged, rows which were not written are still pending.
+            if (pendingRowCount < 0 || readLong(dbSession, pendingQuery, -1) != 0) {
+                throw new IOException("Cannot import " + sourceTable);
+            }
+
+            processedRowCount += readLong(dbSession, String.format(Locale.US, "SELECT count(*) FROM %s %s WHERE %s",
+                    sourceTable, SOURCE_ALIAS, chunkFilter), 0);
+            importedRowCount += pendingRowCount;
+            lastId = chunkEndId;
+
+            long elapsedMillis = DateUtil.getEpochTime() - startedAt;
+            long rowsPerSecond = elapsedMillis > 0 ? processedRowCount * 1000L / elapsedMillis : processedRowCount;
+            EventBus.postEvent(new ImportDataProgress(tableName, processedRowCount, importedRowCount, totalRowCount, rowsPerSecond));
+        }
+        return importedRowCount;
+    }
+
+    private static String prefix(String columns) {
+        StringBuilder prefixed = new StringBuilder();
+        for (String column : columns.split(",")) {
+            if (prefixed.length() > 0) {
+                prefixed.append(", ");
+            }
+            prefixed.append(SOURCE_ALIAS).append('.').append(column.trim());
+        }
+        return prefixed.toString();
+    }
+
+    /**
+     * @return the first column of the first row, or the default if the query failed or returned null.
+     */
+    private static long readLong(IDBSession dbSession, String query, long defaultValue) {
+        CustomReadersModel customReadersModel = CustomReadersModel.find(dbSession, query);
+        if (customReadersModel == null) {
+            return defaultValue;
+        }
+
+        List<String> dataList = customReadersModel.getDataList();
+        try {
+            return dataList.get(0) == null ? defaultValue : Long.parseLong(dataList.get(0));
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+}
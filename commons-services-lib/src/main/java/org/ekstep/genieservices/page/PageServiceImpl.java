@@ -11,6 +11,7 @@ import org.ekstep.genieservices.commons.IParams;
 import org.ekstep.genieservices.commons.bean.GenieResponse;
 import org.ekstep.genieservices.commons.bean.PageAssemble;
 import org.ekstep.genieservices.commons.bean.PageAssembleCriteria;
+import org.ekstep.genieservices.commons.cache.RefreshAheadCache;
 import org.ekstep.genieservices.commons.db.model.NoSqlModel;
 import org.ekstep.genieservices.commons.utils.DateUtil;
 import org.ekstep.genieservices.commons.utils.GsonUtil;
@@ -33,8 +34,35 @@ public class PageServiceImpl extends BaseService implements IPageService {
     private static final Double DEFAULT_TTL = 3d;   // In hours
 
 
+    private final RefreshAheadCache<PageAssembleCriteria, PageAssemble> mPageCache;
+
     public PageServiceImpl(AppContext appContext) {
         super(appContext);
+
+        mPageCache = new RefreshAheadCache<>("page", appContext.getParams().getInt(IParams.Key.CACHE_SIZE),
+                new RefreshAheadCache.Source<PageAssembleCriteria, PageAssemble>() {
+                    @Override
+                    public PageAssemble load(String key) {
+                        NoSqlModel pageData = NoSqlModel.findByKey(mAppContext.getDBSession(), key);
+                        return pageData != null ? parsePageAssemble(pageData.getValue()) : null;
+                    }
+
+                    @Override
+                    public long getExpirationTime(String key) {
+                        return getLongFromKeyValueStore(key);
+                    }
+
+                    @Override
+                    public boolean refresh(String key, PageAssembleCriteria pageAssembleCriteria) {
+                        GenieResponse pageAssembleResponse = invokeAPI(pageAssembleCriteria);
+                        if (pageAssembleResponse.getStatus()) {
+                            String jsonResponse = pageAssembleResponse.getResult().toString();
+                            savePageData(jsonResponse, pageAssembleCriteria);
+                            return true;
+                        }
+                        return false;
+                    }
+                });
     }
 
     @Override
@@ -47,20 +75,18 @@ public class PageServiceImpl extends BaseService implements IPageService {
         pageAssembleCriteria.getFilters().setCompatibilityLevel(getCompatibilityLevelFilter(mAppContext));
         String key = getKeyForDB(pageAssembleCriteria);
 
-        //get the expiration time to check if the cached data has expired
-        long expirationTime = getLongFromKeyValueStore(key);
-
         GenieResponse<PageAssemble> response;
 
-        //check if is their any data stored in DB, for the key we have generated
-        NoSqlModel pageData = NoSqlModel.findByKey(mAppContext.getDBSession(), key);
-
-        if (pageData == null) {
+        PageAssemble pageAssemble = mPageCache.get(key, pageAssembleCriteria);
+        if (pageAssemble == null) {
             GenieResponse pageAssembleResponse = invokeAPI(pageAssembleCriteria);
             if (pageAssembleResponse.getStatus()) {
                 String jsonResponse = pageAssembleResponse.getResult().toString();
-                pageData = NoSqlModel.build(mAppContext.getDBSession(), key, jsonResponse);
-                savePageData(pageData.getValue(), pageAssembleCriteria);
+                savePageData(jsonResponse, pageAssembleCriteria);
+                pageAssemble = parsePageAssemble(jsonResponse);
+                if (pageAssemble != null) {
+                    mPageCache.put(key, pageAssemble);
+                }
             } else {
                 response = GenieResponseBuilder.getErrorResponse(pageAssembleResponse.getError(),
                         pageAssembleResponse.getMessage(), TAG);
@@ -68,28 +94,12 @@ public class PageServiceImpl extends BaseService implements IPageService {
                 TelemetryLogger.logFailure(mAppContext, response, TAG, methodName, params, pageAssembleResponse.getMessage());
                 return response;
             }
-        } else if (hasExpired(expirationTime)) {
-            refreshPageData(pageAssembleCriteria);
-        }
-
-        LinkedTreeMap map = GsonUtil.fromJson(pageData.getValue(), LinkedTreeMap.class);
-
-        PageAssemble pageAssemble = null;
-
-        if (map != null && map.get("result") != null) {
-            LinkedTreeMap responseMap = (LinkedTreeMap) ((LinkedTreeMap) map.get("result")).get("response");
-
-            if (responseMap != null) {
-                pageAssemble = new PageAssemble();
-                pageAssemble.setId((String) responseMap.get("id"));
-                pageAssemble.setName((String) responseMap.get("name"));
-                pageAssemble.setSections(GsonUtil.toJson(responseMap.get("sections")));
-            }
         }
 
         if (pageAssemble != null) {
             response = GenieResponseBuilder.getSuccessResponse(ServiceConstants.SUCCESS_RESPONSE);
-            response.setResult(pageAssemble);
+            // The cached page is shared, the caller gets its own copy.
+            response.setResult(copyOf(pageAssemble));
             TelemetryLogger.logSuccess(mAppContext, response, TAG, methodName, params);
         } else {
             response = GenieResponseBuilder.getErrorResponse(ServiceConstants.ErrorCode.NO_PAGE_DATA_FOUND, ServiceConstants.ErrorMessage.UNABLE_TO_FIND_PAGE, TAG);
@@ -103,22 +113,32 @@ public class PageServiceImpl extends BaseService implements IPageService {
         return KEY_PAGE_ASSEMBLE + pageAssembleCriteria.getName() + pageAssembleCriteria.getMode() + pageAssembleCriteria.getFilters().toString();
     }
 
-    private boolean hasExpired(long expirationTime) {
-        Long currentTime = DateUtil.getEpochTime();
-        return currentTime > expirationTime;
+    private static PageAssemble copyOf(PageAssemble pageAssemble) {
+        PageAssemble copy = new PageAssemble();
+        copy.setId(pageAssemble.getId());
+        copy.setName(pageAssemble.getName());
+        copy.setTtl(pageAssemble.getTtl());
+        copy.setSections(pageAssemble.getSections());
+        return copy;
     }
 
-    private void refreshPageData(final PageAssembleCriteria pageAssembleCriteria) {
-        new Thread(new Runnable() {
-            @Override
-            public void run() {
-                GenieResponse pageAssembleResponse = invokeAPI(pageAssembleCriteria);
-                if (pageAssembleResponse.getStatus()) {
-                    String jsonResponse = pageAssembleResponse.getResult().toString();
-                    savePageData(jsonResponse, pageAssembleCriteria);
-                }
+    private PageAssemble parsePageAssemble(String jsonResponse) {
+        LinkedTreeMap map = GsonUtil.fromJson(jsonResponse, LinkedTreeMap.class);
+
+        PageAssemble pageAssemble = null;
+
+        if (map != null && map.get("result") != null) {
+            LinkedTreeMap responseMap = (LinkedTreeMap) ((LinkedTreeMap) map.get("result")).get("response");
+
+            if (responseMap != null) {
+                pageAssemble = new PageAssemble();
+                pageAssemble.setId((String) responseMap.get("id"));
+                pageAssemble.setName((String) responseMap.get("name"));
+                pageAssemble.setSections(GsonUtil.toJson(responseMap.get("sections")));
             }
-        }).start();
+        }
+
+        return pageAssemble;
     }
 
     private GenieResponse invokeAPI(PageAssembleCriteria pageAssembleCriteria) {
@@ -143,7 +163,6 @@ public class PageServiceImpl extends BaseService implements IPageService {
         } else {
             pageData.update();
         }
-        pageData.save();
     }
 
     private void saveDataExpirationTime(Double ttl, String key) {
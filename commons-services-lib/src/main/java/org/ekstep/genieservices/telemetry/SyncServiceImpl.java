@@ -10,9 +10,8 @@ import org.ekstep.genieservices.commons.bean.GenieResponse;
 import org.ekstep.genieservices.commons.bean.SyncStat;
 import org.ekstep.genieservices.commons.bean.TelemetryStat;
 import org.ekstep.genieservices.commons.utils.DateUtil;
-import org.ekstep.genieservices.telemetry.model.ProcessedEventModel;
-import org.ekstep.genieservices.telemetry.network.TelemetrySyncAPI;
 import org.ekstep.genieservices.telemetry.processors.EventProcessorFactory;
+import org.ekstep.genieservices.telemetry.sync.TelemetrySyncPipeline;
 
 import java.util.HashMap;
 import java.util.Locale;
@@ -23,6 +22,7 @@ import java.util.Locale;
 public class SyncServiceImpl extends BaseService implements ISyncService {
 
     private static final String TAG = TelemetryServiceImpl.class.getSimpleName();
+    private static final int MAX_UPLOADS_IN_FLIGHT = 3;
     private ITelemetryService mTelemetryService;
 
     public SyncServiceImpl(AppContext appContext, ITelemetryService telemetryService) {
@@ -42,28 +42,22 @@ public class SyncServiceImpl extends BaseService implements ISyncService {
         }
         EventProcessorFactory.processEvents(mAppContext);
 
-        int numberOfSync = 0;
-        int numberOfEventsProcessed = 0;
-        long totalByteSize = 0;
+        TelemetrySyncPipeline pipeline = new TelemetrySyncPipeline(mAppContext, MAX_UPLOADS_IN_FLIGHT);
+        boolean synced = pipeline.sync();
 
-        ProcessedEventModel processedEvent = ProcessedEventModel.find(mAppContext.getDBSession());
+        int numberOfSync = pipeline.getSyncedBatchCount();
+        int numberOfEventsProcessed = pipeline.getSyncedEventCount();
+        long totalByteSize = pipeline.getSyncedByteCount();
 
-        while (!isEmpty(processedEvent)) {
-            totalByteSize = totalByteSize + processedEvent.getData().length;
-
-            GenieResponse response = new TelemetrySyncAPI(mAppContext, processedEvent.getData()).post();
-            if (!response.getStatus()) {
-                String message = getMessage(numberOfSync, numberOfEventsProcessed);
-                response.setMessage(message);
-                TelemetryLogger.logFailure(mAppContext, response, TAG, methodName, params, ServiceConstants.ErrorMessage.UNABLE_TO_SYNC);
-                return response;
+        if (!synced) {
+            GenieResponse response = pipeline.getFailedResponse();
+            if (response == null) {
+                response = GenieResponseBuilder.getErrorResponse(ServiceConstants.ErrorCode.PROCESSING_ERROR, ServiceConstants.ErrorMessage.UNABLE_TO_SYNC, TAG);
             }
-
-            numberOfSync++;
-            numberOfEventsProcessed += processedEvent.getNumberOfEvents();
-
-            processedEvent.delete();
-            processedEvent = ProcessedEventModel.find(mAppContext.getDBSession());
+            String message = getMessage(numberOfSync, numberOfEventsProcessed);
+            response.setMessage(message);
+            TelemetryLogger.logFailure(mAppContext, response, TAG, methodName, params, ServiceConstants.ErrorMessage.UNABLE_TO_SYNC);
+            return response;
         }
 
         String fileSize = calculateByteCountInKB(totalByteSize);
@@ -90,8 +84,4 @@ public class SyncServiceImpl extends BaseService implements ISyncService {
         return String.format(Locale.US, "%d events synced in %d sync", numberOfEventsProcessed, numberOfSync);
     }
 
-    private boolean isEmpty(ProcessedEventModel processedEvent) {
-        return processedEvent.getNumberOfEvents() == 0 || processedEvent.getData() == null || processedEvent.getData().length == 0;
-    }
-
 }
@@ -2,7 +2,11 @@ package org.ekstep.genieservices.telemetry;
 
 import org.ekstep.genieservices.commons.bean.HierarchyInfo;
 import org.ekstep.genieservices.commons.bean.telemetry.Rollup;
+import org.ekstep.genieservices.commons.bean.telemetry.Telemetry;
 import org.ekstep.genieservices.commons.utils.CollectionUtil;
+import org.ekstep.genieservices.commons.utils.GsonUtil;
+import org.ekstep.genieservices.eventbus.EventBus;
+import org.ekstep.genieservices.telemetry.model.EventModel;
 
 import java.util.List;
 
@@ -37,4 +41,13 @@ public class TelemetryHandler {
         Rollup rollup = new Rollup(l1, l2, l3, l4);
         return rollup;
     }
+
+    /**
+     * Posts a V3 event on the {@link EventBus}, once it has been written to the db.
+     */
+    public static void postSavedEvent(EventModel eventModel) {
+        if ("3.0".equals(String.valueOf(eventModel.getEventMap().get("ver")))) {
+            EventBus.postEvent(GsonUtil.fromMap(eventModel.getEventMap(), Telemetry.class));
+        }
+    }
 }
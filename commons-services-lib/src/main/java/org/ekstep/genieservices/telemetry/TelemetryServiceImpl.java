@@ -25,19 +25,19 @@ import org.ekstep.genieservices.commons.utils.FileUtil;
 import org.ekstep.genieservices.commons.utils.GsonUtil;
 import org.ekstep.genieservices.commons.utils.Logger;
 import org.ekstep.genieservices.commons.utils.StringUtil;
-import org.ekstep.genieservices.eventbus.EventBus;
 import org.ekstep.genieservices.importexport.bean.ExportTelemetryContext;
 import org.ekstep.genieservices.importexport.bean.ImportTelemetryContext;
 import org.ekstep.genieservices.tag.cache.TelemetryTagCache;
 import org.ekstep.genieservices.telemetry.chained.export.AddGeTransferTelemetryExportEvent;
 import org.ekstep.genieservices.telemetry.chained.export.CleanCurrentDatabase;
 import org.ekstep.genieservices.telemetry.chained.export.CleanupExportedFile;
-import org.ekstep.genieservices.telemetry.chained.export.CopyDatabase;
 import org.ekstep.genieservices.telemetry.chained.export.CreateMetadata;
+import org.ekstep.genieservices.telemetry.chained.export.ExportProcessedEvents;
 import org.ekstep.genieservices.telemetry.chained.imports.AddGeTransferTelemetryImportEvent;
 import org.ekstep.genieservices.telemetry.chained.imports.TransportProcessedEventsImportEvent;
 import org.ekstep.genieservices.telemetry.chained.imports.UpdateImportedTelemetryMetadata;
 import org.ekstep.genieservices.telemetry.chained.imports.ValidateTelemetryMetadata;
+import org.ekstep.genieservices.telemetry.ingest.TelemetryBatchWriter;
 import org.ekstep.genieservices.telemetry.model.EventModel;
 import org.ekstep.genieservices.telemetry.processors.EventProcessorFactory;
 
@@ -91,6 +91,49 @@ public class TelemetryServiceImpl extends BaseService implements ITelemetryServi
         return saveTelemetry(event.toString());
     }
 
+    @Override
+    public GenieResponse<Integer> saveTelemetry(List<String> eventStrings) {
+        String methodName = "saveTelemetry@TelemetryServiceImpl";
+
+        List<EventModel> eventModels = new ArrayList<>(eventStrings.size());
+        int invalidEventCount = 0;
+        for (String eventString : eventStrings) {
+            try {
+                eventModels.add(buildEvent(eventString));
+            } catch (InvalidDataException e) {
+                invalidEventCount++;
+                Map<String, Object> params = new HashMap<>();
+                params.put("Event", eventString);
+                params.put("logLevel", "2");
+                GenieResponse<Void> errorResponse = GenieResponseBuilder.getErrorResponse(ServiceConstants.ErrorCode.VALIDATION_ERROR,
+                        ServiceConstants.ErrorMessage.UNABLE_TO_SAVE_EVENT, TAG, Void.class);
+                saveEvent(TelemetryLogger.create(mAppContext, errorResponse, TAG, methodName, params, new HashMap<String, Object>()).toString());
+            }
+        }
+
+        // The whole batch is written in one transaction, next to the events of the TelemetryBatchWriter.
+        int savedEventCount = 0;
+        long[] ids = mAppContext.getDBSession().createAll(eventModels);
+        for (int i = 0; i < ids.length; i++) {
+            if (ids[i] != -1) {
+                savedEventCount++;
+                TelemetryHandler.postSavedEvent(eventModels.get(i));
+            }
+        }
+        Logger.i(TAG, savedEventCount + " of " + eventStrings.size() + " events saved");
+
+        GenieResponse<Integer> response;
+        if (savedEventCount == eventStrings.size()) {
+            response = GenieResponseBuilder.getSuccessResponse("Events Saved Successfully", Integer.class);
+        } else if (invalidEventCount > 0) {
+            response = GenieResponseBuilder.getErrorResponse(ServiceConstants.ErrorCode.VALIDATION_ERROR, ServiceConstants.ErrorMessage.UNABLE_TO_SAVE_EVENT, TAG, Integer.class);
+        } else {
+            response = GenieResponseBuilder.getErrorResponse(ServiceConstants.ErrorCode.PROCESSING_ERROR, ServiceConstants.ErrorMessage.UNABLE_TO_SAVE_EVENT, TAG, Integer.class);
+        }
+        response.setResult(savedEventCount);
+        return response;
+    }
+
 
     @Override
     public GenieResponse<TelemetryStat> getTelemetryStat() {
@@ -98,6 +141,8 @@ public class TelemetryServiceImpl extends BaseService implements ITelemetryServi
         Map<String, Object> params = new HashMap<>();
         params.put("logLevel", "2");
 
+        TelemetryBatchWriter.flushPending();
+
         String telemetryEventCountQuery = "select count(*) from telemetry";
         String processedTelemetryEventCountQuery = "select sum(event_count) from processed_telemetry";
         CustomReaderModel telemetryCountReader = CustomReaderModel.find(mAppContext.getDBSession(), telemetryEventCountQuery);
@@ -123,6 +168,20 @@ public class TelemetryServiceImpl extends BaseService implements ITelemetryServi
     }
 
     private GenieResponse<Void> saveEvent(String eventString) {
+        EventModel eventModel = buildEvent(eventString);
+        TelemetryBatchWriter batchWriter = TelemetryBatchWriter.getInstance();
+        if (batchWriter != null && batchWriter.enqueue(eventModel)) {
+            // The writer posts the event once its batch is written.
+            Logger.i(TAG, "Event queued successfully");
+        } else {
+            eventModel.save();
+            TelemetryHandler.postSavedEvent(eventModel);
+            Logger.i(TAG, "Event saved successfully");
+        }
+        return GenieResponseBuilder.getSuccessResponse("Event Saved Successfully", Void.class);
+    }
+
+    private EventModel buildEvent(String eventString) {
         Map<String, Object> event = GsonUtil.fromJson(eventString, Map.class, ServiceConstants.Event.ERROR_INVALID_EVENT);
         String eventType = (String) event.get("eid");
         if (StringUtil.isNullOrEmpty(eventType)) {
@@ -131,13 +190,7 @@ public class TelemetryServiceImpl extends BaseService implements ITelemetryServi
 
         decorateEvent(event);
 
-        EventModel eventModel = EventModel.build(mAppContext.getDBSession(), event, eventType);
-        eventModel.save();
-        if ("3.0".equals(readVersion(event))) {
-            EventBus.postEvent(GsonUtil.fromMap(eventModel.getEventMap(), Telemetry.class));
-        }
-        Logger.i(TAG, "Event saved successfully");
-        return GenieResponseBuilder.getSuccessResponse("Event Saved Successfully", Void.class);
+        return EventModel.build(mAppContext.getDBSession(), event, eventType);
     }
 
     private void decorateEvent(Map<String, Object> event) {
@@ -496,8 +549,8 @@ public class TelemetryServiceImpl extends BaseService implements ITelemetryServi
         EventProcessorFactory.processEvents(mAppContext);
 
         ExportTelemetryContext exportTelemetryContext = new ExportTelemetryContext(telemetryExportRequest.getDestinationFolder(), destinationDBFilePath);
-        CopyDatabase copyDatabase = new CopyDatabase();
-        copyDatabase.then(new CreateMetadata())
+        ExportProcessedEvents exportProcessedEvents = new ExportProcessedEvents();
+        exportProcessedEvents.then(new CreateMetadata())
                 .then(new CleanupExportedFile())
                 .then(new CleanCurrentDatabase())
                 .then(new AddGeTransferTelemetryExportEvent());
@@ -505,7 +558,7 @@ public class TelemetryServiceImpl extends BaseService implements ITelemetryServi
         // TODO: 6/12/2017 - if export failed.
 //                .then(new RemoveExportFile(destinationDBFilePath));
 
-        return copyDatabase.execute(mAppContext, exportTelemetryContext);
+        return exportProcessedEvents.execute(mAppContext, exportTelemetryContext);
     }
 
 }
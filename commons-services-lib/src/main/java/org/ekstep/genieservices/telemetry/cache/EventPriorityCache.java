@@ -0,0 +1,65 @@
+package org.ekstep.genieservices.telemetry.cache;
+
+import org.ekstep.genieservices.commons.db.operations.IDBSession;
+import org.ekstep.genieservices.telemetry.model.PrioritiesModel;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Keeps the event type to priority mapping of the event_priority table in memory, for each {@link IDBSession}.
+ * <p>
+ * The table of a session is read once, on the first lookup, and its map is never modified afterwards. A new
+ * session, such as the one opened after a migration, reads its own table. Writes to the table have to call
+ * {@link #clearCache(IDBSession)} so that the next lookup reads it again.
+ */
+public class EventPriorityCache {
+
+    private static final Map<IDBSession, Map<String, Integer>> priorities = new WeakHashMap<>();
+    private static int generation;
+
+    /**
+     * @return the priority of the event type, or null if the table has no entry for it.
+     */
+    public static Integer getPriority(IDBSession dbSession, String eventType) {
+        return priorities(dbSession).get(eventType);
+    }
+
+    /**
+     * Drops the priorities read from the session.
+     */
+    public static synchronized void clearCache(IDBSession dbSession) {
+        generation++;
+        priorities.remove(dbSession);
+    }
+
+    /**
+     * Drops the priorities of every session.
+     */
+    public static synchronized void clearCache() {
+        generation++;
+        priorities.clear();
+    }
+
+    private static Map<String, Integer> priorities(IDBSession dbSession) {
+        int loadedGeneration;
+        synchronized (EventPriorityCache.class) {
+            Map<String, Integer> cached = priorities.get(dbSession);
+            if (cached != null) {
+                return cached;
+            }
+            loadedGeneration = generation;
+        }
+
+        Map<String, Integer> cached = Collections.unmodifiableMap(PrioritiesModel.findAll(dbSession).getPriorities());
+
+        // Don't keep the map if the table was written while it was being read.
+        synchronized (EventPriorityCache.class) {
+            if (loadedGeneration == generation) {
+                priorities.put(dbSession, cached);
+            }
+        }
+        return cached;
+    }
+}
@@ -0,0 +1,122 @@
+package org.ekstep.genieservices.telemetry.chained.export;
+
+import org.ekstep.genieservices.ServiceConstants;
+import org.ekstep.genieservices.commons.AppContext;
+import org.ekstep.genieservices.commons.GenieResponseBuilder;
+import org.ekstep.genieservices.commons.bean.GenieResponse;
+import org.ekstep.genieservices.commons.bean.TelemetryExportProgress;
+import org.ekstep.genieservices.commons.bean.TelemetryExportResponse;
+import org.ekstep.genieservices.commons.chained.IChainable;
+import org.ekstep.genieservices.commons.db.BaseColumns;
+import org.ekstep.genieservices.commons.db.contract.TelemetryProcessedEntry;
+import org.ekstep.genieservices.commons.db.model.CustomReadersModel;
+import org.ekstep.genieservices.commons.db.operations.IDBSession;
+import org.ekstep.genieservices.commons.utils.Logger;
+import org.ekstep.genieservices.eventbus.EventBus;
+import org.ekstep.genieservices.importexport.bean.ExportTelemetryContext;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Writes the processed telemetry into a new database file, which holds nothing else.
+ * <p>
+ * The Genie database is attached to the export file and the rows are copied with INSERT ... SELECT, a page at a
+ * time, posting a {@link TelemetryExportProgress} after every page. Nothing else of the Genie database is read,
+ * so the export file is about as big as the processed telemetry.
+ */
+public class ExportProcessedEvents implements IChainable<TelemetryExportResponse, ExportTelemetryContext> {
+
+    private static final String TAG = ExportProcessedEvents.class.getSimpleName();
+
+    private static final String SOURCE_SCHEMA = "genie";
+    private static final int PAGE_SIZE = 200;
+
+    private static final String COLUMNS = BaseColumns._ID + ", " + TelemetryProcessedEntry.COLUMN_NAME_MSG_ID + ", "
+            + TelemetryProcessedEntry.COLUMN_NAME_DATA + ", " + TelemetryProcessedEntry.COLUMN_NAME_NUMBER_OF_EVENTS + ", "
+            + TelemetryProcessedEntry.COLUMN_NAME_PRIORITY;
+
+    private IChainable<TelemetryExportResponse, ExportTelemetryContext> nextLink;
+
+    @Override
+    public GenieResponse<TelemetryExportResponse> execute(AppContext appContext, ExportTelemetryContext exportContext) {
+        File destinationFile = new File(exportContext.getDestinationDBFilePath());
+        try {
+            // SQLite takes an empty file for an empty database.
+            if (!destinationFile.createNewFile()) {
+                throw new IOException("Cannot create " + destinationFile.getPath());
+            }
+
+            IDBSession destinationDBSession = appContext.getExternalDBSession(destinationFile.getPath());
+            destinationDBSession.execute(TelemetryProcessedEntry.getCreateEntry());
+            destinationDBSession.execute(String.format(Locale.US, "ATTACH DATABASE '%s' AS %s",
+                    appContext.getDBSession().getDatabasePath().replace("'", "''"), SOURCE_SCHEMA));
+            try {
+                copyProcessedEvents(destinationDBSession);
+            } finally {
+                destinationDBSession.execute("DETACH DATABASE " + SOURCE_SCHEMA);
+            }
+        } catch (IOException e) {
+            Logger.e(TAG, "Export telemetry failed", e);
+            destinationFile.delete();
+            return GenieResponseBuilder.getErrorResponse(ServiceConstants.ErrorCode.EXPORT_FAILED, e.getMessage(), TAG);
+        }
+
+        if (nextLink != null) {
+            return nextLink.execute(appContext, exportContext);
+        } else {
+            return GenieResponseBuilder.getErrorResponse(ServiceConstants.ErrorCode.EXPORT_FAILED, "Export telemetry failed", TAG);
+        }
+    }
+
+    @Override
+    public IChainable<TelemetryExportResponse, ExportTelemetryContext> then(IChainable<TelemetryExportResponse, ExportTelemetryContext> link) {
+        nextLink = link;
+        return link;
+    }
+
+    /**
+     * Copies the batches in _id order, the next page starting after the last _id written.
+     *
+     * @throws IOException if a page could not be written.
+     */
+    private void copyProcessedEvents(IDBSession destinationDBSession) throws IOException {
+        String sourceTable = SOURCE_SCHEMA + "." + TelemetryProcessedEntry.TABLE_NAME;
+        int totalBatchCount = (int) readLong(destinationDBSession, String.format(Locale.US, "SELECT count(*) FROM %s", sourceTable));
+
+        int exportedBatchCount = 0;
+        long lastId = Long.MIN_VALUE;
+        EventBus.postEvent(new TelemetryExportProgress(exportedBatchCount, totalBatchCount));
+        while (exportedBatchCount < totalBatchCount) {
+            destinationDBSession.execute(String.format(Locale.US, "INSERT INTO %s (%s) SELECT %s FROM %s WHERE %s > %d ORDER BY %s LIMIT %d",
+                    TelemetryProcessedEntry.TABLE_NAME, COLUMNS, COLUMNS, sourceTable, BaseColumns._ID, lastId, BaseColumns._ID, PAGE_SIZE));
+
+            // Errors of the session are only logged, a page which was not written shows as a page without rows.
+            long pageCount = readLong(destinationDBSession, String.format(Locale.US, "SELECT count(*) FROM %s WHERE %s > %d",
+                    TelemetryProcessedEntry.TABLE_NAME, BaseColumns._ID, lastId));
+            if (pageCount == 0) {
+                break;
+            }
+            lastId = readLong(destinationDBSession, String.format(Locale.US, "SELECT max(%s) FROM %s",
+                    BaseColumns._ID, TelemetryProcessedEntry.TABLE_NAME));
+            exportedBatchCount += pageCount;
+            EventBus.postEvent(new TelemetryExportProgress(exportedBatchCount, totalBatchCount));
+        }
+
+        if (exportedBatchCount < totalBatchCount) {
+            throw new IOException(String.format(Locale.US, "Exported %d of %d telemetry batches", exportedBatchCount, totalBatchCount));
+        }
+    }
+
+    private long readLong(IDBSession dbSession, String query) throws IOException {
+        CustomReadersModel customReadersModel = CustomReadersModel.find(dbSession, query);
+        if (customReadersModel == null) {
+            throw new IOException("Cannot read " + query);
+        }
+
+        List<String> dataList = customReadersModel.getDataList();
+        return dataList.get(0) == null ? 0 : Long.parseLong(dataList.get(0));
+    }
+}
@@ -5,10 +5,13 @@ import org.ekstep.genieservices.commons.AppContext;
 import org.ekstep.genieservices.commons.GenieResponseBuilder;
 import org.ekstep.genieservices.commons.bean.GenieResponse;
 import org.ekstep.genieservices.commons.chained.IChainable;
-import org.ekstep.genieservices.commons.db.operations.IDBSession;
+import org.ekstep.genieservices.commons.db.contract.TelemetryProcessedEntry;
+import org.ekstep.genieservices.commons.utils.Logger;
+import org.ekstep.genieservices.importexport.AttachedTableImporter;
 import org.ekstep.genieservices.importexport.bean.ImportTelemetryContext;
-import org.ekstep.genieservices.telemetry.model.ProcessedEventModel;
-import org.ekstep.genieservices.telemetry.model.ProcessedEventsModel;
+
+import java.io.IOException;
+import java.util.Locale;
 
 /**
  * Created on 6/8/2017.
@@ -18,17 +21,24 @@ import org.ekstep.genieservices.telemetry.model.ProcessedEventsModel;
 public class TransportProcessedEventsImportEvent implements IChainable<Void, ImportTelemetryContext> {
 
     private static final String TAG = TransportProcessedEventsImportEvent.class.getSimpleName();
+
+    private static final String COLUMNS = TelemetryProcessedEntry.COLUMN_NAME_MSG_ID + ", " + TelemetryProcessedEntry.COLUMN_NAME_DATA + ", "
+            + TelemetryProcessedEntry.COLUMN_NAME_NUMBER_OF_EVENTS + ", " + TelemetryProcessedEntry.COLUMN_NAME_PRIORITY;
+
+    // A batch imported before, from this file or from another export of the same device, is skipped.
+    private static final String DUPLICATE_FILTER = String.format(Locale.US, "EXISTS (SELECT 1 FROM %1$s t WHERE t.%2$s = %3$s.%2$s)",
+            TelemetryProcessedEntry.TABLE_NAME, TelemetryProcessedEntry.COLUMN_NAME_MSG_ID, AttachedTableImporter.SOURCE_ALIAS);
+
     private IChainable<Void, ImportTelemetryContext> nextLink;
 
     @Override
     public GenieResponse<Void> execute(AppContext appContext, ImportTelemetryContext importContext) {
-        IDBSession externalDBSession = appContext.getExternalDBSession(importContext.getSourceDBFilePath());
-        ProcessedEventsModel processedEventsModel = ProcessedEventsModel.find(externalDBSession);
-        if (processedEventsModel != null) {
-            for (ProcessedEventModel model : processedEventsModel.getProcessedEventList()) {
-                ProcessedEventModel processedEventModel = ProcessedEventModel.build(appContext.getDBSession(), model.getMsgId(), model.getData(), model.getNumberOfEvents(), model.getPriority());
-                processedEventModel.save();
-            }
+        try {
+            new AttachedTableImporter(appContext.getDBSession(), importContext.getSourceDBFilePath())
+                    .importTable(TelemetryProcessedEntry.TABLE_NAME, COLUMNS, DUPLICATE_FILTER);
+        } catch (IOException e) {
+            Logger.e(TAG, "Import telemetry failed", e);
+            return GenieResponseBuilder.getErrorResponse(ServiceConstants.ErrorCode.IMPORT_FAILED, e.getMessage(), TAG);
         }
 
         if (nextLink != null) {
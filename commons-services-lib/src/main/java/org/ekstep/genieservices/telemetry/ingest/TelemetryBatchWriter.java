@@ -0,0 +1,311 @@
+package org.ekstep.genieservices.telemetry.ingest;
+
+import org.ekstep.genieservices.commons.AppContext;
+import org.ekstep.genieservices.commons.utils.Logger;
+import org.ekstep.genieservices.telemetry.TelemetryHandler;
+import org.ekstep.genieservices.telemetry.model.EventModel;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Group-commit writer for telemetry events.
+ * <p>
+ * Callers put the built {@link EventModel} on a bounded {@link EventRingBuffer} and return. A single
+ * background thread drains the ring and writes the events in one transaction per batch. A batch is
+ * committed when it reaches the max batch size or when the oldest event in it has waited for the max
+ * latency, whichever comes first.
+ * <p>
+ * When the ring is full the caller is parked for a short while to let the writer catch up. If the ring
+ * is still full after that, {@link #enqueue(EventModel)} returns false and the caller has to write the
+ * event itself.
+ * <p>
+ * The events are posted on the {@link org.ekstep.genieservices.eventbus.EventBus} once they are written.
+ * <p>
+ * The host is expected to call {@link #requestFlushPending()} when the app goes to the background, and
+ * {@link #flushPending()} or {@link #shutdown()} before it stops, so that no accepted event is left in the ring.
+ */
+public class TelemetryBatchWriter {
+
+    private static final String TAG = TelemetryBatchWriter.class.getSimpleName();
+
+    private static final int DEFAULT_CAPACITY = 4096;
+    private static final int DEFAULT_MAX_BATCH_SIZE = 200;
+    private static final long DEFAULT_MAX_LATENCY_MILLIS = 500;
+
+    private static final long BACKPRESSURE_TIMEOUT_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final long BACKPRESSURE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long IDLE_PARK_NANOS = TimeUnit.SECONDS.toNanos(5);
+    private static final long FLUSH_TIMEOUT_MILLIS = 10000;
+
+    private static volatile TelemetryBatchWriter sInstance;
+
+    private final AppContext mAppContext;
+    private final EventRingBuffer<EventModel> mRing;
+    private final int mMaxBatchSize;
+    private final long mMaxLatencyNanos;
+    private final Object mFlushLock = new Object();
+
+    private final AtomicLong mEnqueuedEvents = new AtomicLong();
+    private final AtomicLong mOverflowEvents = new AtomicLong();
+    private volatile long mProcessedEvents;
+    private volatile long mCommittedEvents;
+    private volatile long mCommits;
+    private volatile int mLastBatchSize;
+    private volatile long mLastCommitLatencyMillis;
+    private volatile long mMaxCommitLatencyMillis;
+    private volatile long mTotalCommitLatencyMillis;
+
+    private volatile boolean mRunning;
+    private volatile boolean mFlushRequested;
+    private Thread mWriterThread;
+
+    private TelemetryBatchWriter(AppContext appContext, int capacity, int maxBatchSize, long maxLatencyMillis) {
+        this.mAppContext = appContext;
+        this.mRing = new EventRingBuffer<>(capacity);
+        this.mMaxBatchSize = maxBatchSize;
+        this.mMaxLatencyNanos = TimeUnit.MILLISECONDS.toNanos(maxLatencyMillis);
+    }
+
+    public static void init(AppContext appContext) {
+        init(appContext, DEFAULT_CAPACITY, DEFAULT_MAX_BATCH_SIZE, DEFAULT_MAX_LATENCY_MILLIS);
+    }
+
+    /**
+     * Starts the writer. Subsequent calls are ignored until {@link #shutdown()} is called.
+     *
+     * @param capacity         number of events the ring can hold.
+     * @param maxBatchSize     max number of events written in a single transaction.
+     * @param maxLatencyMillis max time an event waits in the ring before its batch is committed.
+     */
+    public static synchronized void init(AppContext appContext, int capacity, int maxBatchSize, long maxLatencyMillis) {
+        if (sInstance == null) {
+            sInstance = new TelemetryBatchWriter(appContext, capacity, maxBatchSize, maxLatencyMillis);
+            sInstance.start();
+        }
+    }
+
+    public static TelemetryBatchWriter getInstance() {
+        return sInstance;
+    }
+
+    /**
+     * Writes every pending event, if the writer is running.
+     */
+    public static void flushPending() {
+        TelemetryBatchWriter writer = getInstance();
+        if (writer != null) {
+            writer.flush();
+        }
+    }
+
+    /**
+     * Asks the writer to commit every pending event now, without waiting for it. Safe to call from the main thread.
+     */
+    public static void requestFlushPending() {
+        TelemetryBatchWriter writer = getInstance();
+        if (writer != null) {
+            writer.requestFlush();
+        }
+    }
+
+    /**
+     * Stops the writer after writing every pending event.
+     */
+    public static void shutdown() {
+        TelemetryBatchWriter writer;
+        synchronized (TelemetryBatchWriter.class) {
+            writer = sInstance;
+            sInstance = null;
+        }
+
+        if (writer != null) {
+            writer.stop();
+        }
+    }
+
+    private void start() {
+        mRunning = true;
+        mWriterThread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                writeLoop();
+            }
+        }, "genie-telemetry-writer");
+        mWriterThread.setDaemon(true);
+        mWriterThread.start();
+    }
+
+    private void stop() {
+        mRunning = false;
+        LockSupport.unpark(mWriterThread);
+        try {
+            mWriterThread.join(FLUSH_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Puts the event on the ring, waiting for a short while if the ring is full.
+     *
+     * @return false if the event was not accepted, in which case the caller should save it.
+     */
+    public boolean enqueue(EventModel event) {
+        if (!mRunning) {
+            return false;
+        }
+
+        if (offer(event)) {
+            return true;
+        }
+
+        long deadline = System.nanoTime() + BACKPRESSURE_TIMEOUT_NANOS;
+        do {
+            LockSupport.unpark(mWriterThread);
+            LockSupport.parkNanos(this, BACKPRESSURE_PARK_NANOS);
+            if (offer(event)) {
+                return true;
+            }
+        } while (mRunning && System.nanoTime() < deadline);
+
+        mOverflowEvents.incrementAndGet();
+        Logger.i(TAG, "Telemetry ring is full, writing the event on the calling thread");
+        return false;
+    }
+
+    /**
+     * Blocks until every event accepted before this call is written.
+     */
+    public void flush() {
+        if (Thread.currentThread() == mWriterThread) {
+            return;
+        }
+
+        long target = mEnqueuedEvents.get();
+        long deadline = System.currentTimeMillis() + FLUSH_TIMEOUT_MILLIS;
+        synchronized (mFlushLock) {
+            while (mProcessedEvents < target && mWriterThread.isAlive()) {
+                mFlushRequested = true;
+                LockSupport.unpark(mWriterThread);
+
+                long wait = deadline - System.currentTimeMillis();
+                if (wait <= 0) {
+                    Logger.i(TAG, "Timed out while flushing telemetry events");
+                    break;
+                }
+
+                try {
+                    mFlushLock.wait(wait);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Wakes the writer to commit the events in the ring without waiting for the batch to fill up.
+     */
+    public void requestFlush() {
+        mFlushRequested = true;
+        LockSupport.unpark(mWriterThread);
+    }
+
+    public TelemetryWriterMetrics getMetrics() {
+        return new TelemetryWriterMetrics(mRing.size(), mRing.capacity(), mEnqueuedEvents.get(), mCommittedEvents,
+                mOverflowEvents.get(), mCommits, mLastBatchSize, mLastCommitLatencyMillis, mMaxCommitLatencyMillis,
+                mTotalCommitLatencyMillis);
+    }
+
+    private boolean offer(EventModel event) {
+        if (!mRing.offer(event)) {
+            return false;
+        }
+
+        mEnqueuedEvents.incrementAndGet();
+
+        // Wake the writer to start the latency clock, or because a full batch is ready.
+        int depth = mRing.size();
+        if (depth == 1 || depth >= mMaxBatchSize) {
+            LockSupport.unpark(mWriterThread);
+        }
+        return true;
+    }
+
+    private void writeLoop() {
+        List<EventModel> batch = new ArrayList<>(mMaxBatchSize);
+        while (mRunning || !mRing.isEmpty()) {
+            awaitBatch();
+
+            batch.clear();
+            mRing.drainTo(batch, mMaxBatchSize);
+            if (!batch.isEmpty()) {
+                commit(batch);
+            }
+
+            if (mRing.isEmpty()) {
+                mFlushRequested = false;
+            }
+
+            synchronized (mFlushLock) {
+                mProcessedEvents += batch.size();
+                mFlushLock.notifyAll();
+            }
+        }
+    }
+
+    private void awaitBatch() {
+        while (mRunning && !mFlushRequested && mRing.isEmpty()) {
+            LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            Thread.interrupted();
+        }
+
+        long deadline = System.nanoTime() + mMaxLatencyNanos;
+        long remaining = mMaxLatencyNanos;
+        while (mRunning && !mFlushRequested && mRing.size() < mMaxBatchSize && remaining > 0) {
+            LockSupport.parkNanos(this, remaining);
+            Thread.interrupted();
+            remaining = deadline - System.nanoTime();
+        }
+    }
+
+    private void commit(List<EventModel> batch) {
+        long startTime = System.nanoTime();
+
+        // A row that fails is left out and the others are committed, a failed commit leaves every row out.
+        // The rows left out are written once more on their own, so that no committed row is written twice.
+        long[] ids = mAppContext.getDBSession().createAll(batch);
+
+        int savedCount = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            EventModel event = batch.get(i);
+            if (ids[i] == -1) {
+                ids[i] = mAppContext.getDBSession().createAll(Collections.singletonList(event))[0];
+            }
+
+            if (ids[i] != -1) {
+                savedCount++;
+                TelemetryHandler.postSavedEvent(event);
+            } else {
+                Logger.i(TAG, "Failed to write a telemetry event");
+            }
+        }
+
+        long latencyMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        mCommits++;
+        mCommittedEvents += savedCount;
+        mLastBatchSize = batch.size();
+        mLastCommitLatencyMillis = latencyMillis;
+        mTotalCommitLatencyMillis += latencyMillis;
+        if (latencyMillis > mMaxCommitLatencyMillis) {
+            mMaxCommitLatencyMillis = latencyMillis;
+        }
+    }
+
+}
@@ -0,0 +1,104 @@
+package org.ekstep.genieservices.telemetry.ingest;
+
+/**
+ * Snapshot of the {@link TelemetryBatchWriter} counters.
+ */
+public class TelemetryWriterMetrics {
+
+    private int queueDepth;
+    private int queueCapacity;
+    private long enqueuedEvents;
+    private long committedEvents;
+    private long overflowEvents;
+    private long commits;
+    private int lastBatchSize;
+    private long lastCommitLatencyMillis;
+    private long maxCommitLatencyMillis;
+    private long totalCommitLatencyMillis;
+
+    TelemetryWriterMetrics(int queueDepth, int queueCapacity, long enqueuedEvents, long committedEvents, long overflowEvents,
+                           long commits, int lastBatchSize, long lastCommitLatencyMillis, long maxCommitLatencyMillis,
+                           long totalCommitLatencyMillis) {
+        this.queueDepth = queueDepth;
+        this.queueCapacity = queueCapacity;
+        this.enqueuedEvents = enqueuedEvents;
+        this.committedEvents = committedEvents;
+        this.overflowEvents = overflowEvents;
+        this.commits = commits;
+        this.lastBatchSize = lastBatchSize;
+        this.lastCommitLatencyMillis = lastCommitLatencyMillis;
+        this.maxCommitLatencyMillis = maxCommitLatencyMillis;
+        this.totalCommitLatencyMillis = totalCommitLatencyMillis;
+    }
+
+    /**
+     * Number of events waiting in the ring.
+     */
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    /**
+     * Number of events accepted by the ring.
+     */
+    public long getEnqueuedEvents() {
+        return enqueuedEvents;
+    }
+
+    /**
+     * Number of events written by the background writer.
+     */
+    public long getCommittedEvents() {
+        return committedEvents;
+    }
+
+    /**
+     * Number of events which found the ring full and were written on the calling thread.
+     */
+    public long getOverflowEvents() {
+        return overflowEvents;
+    }
+
+    /**
+     * Number of transactions committed by the background writer.
+     */
+    public long getCommits() {
+        return commits;
+    }
+
+    public int getLastBatchSize() {
+        return lastBatchSize;
+    }
+
+    public long getLastCommitLatencyMillis() {
+        return lastCommitLatencyMillis;
+    }
+
+    public long getMaxCommitLatencyMillis() {
+        return maxCommitLatencyMillis;
+    }
+
+    public long getAverageCommitLatencyMillis() {
+        return commits == 0 ? 0 : totalCommitLatencyMillis / commits;
+    }
+
+    @Override
+    public String toString() {
+        return "TelemetryWriterMetrics{" +
+                "queueDepth=" + queueDepth +
+                ", queueCapacity=" + queueCapacity +
+                ", enqueuedEvents=" + enqueuedEvents +
+                ", committedEvents=" + committedEvents +
+                ", overflowEvents=" + overflowEvents +
+                ", commits=" + commits +
+                ", lastBatchSize=" + lastBatchSize +
+                ", lastCommitLatencyMillis=" + lastCommitLatencyMillis +
+                ", maxCommitLatencyMillis=" + maxCommitLatencyMillis +
+                ", averageCommitLatencyMillis=" + getAverageCommitLatencyMillis() +
+                '}';
+    }
+}
@@ -27,8 +27,10 @@ public class EventModel implements IWritable, IReadable {
     private Long id;
     private IDBSession mDBSession;
     private Map<String, Object> event;
+    private String eventJson;
     private String eventType;
     private PriorityModel priority;
+    private Long timestamp;
     private ContentValues contentValues;
 
     private EventModel(IDBSession dbSession) {
@@ -48,12 +50,14 @@ public class EventModel implements IWritable, IReadable {
     }
 
     public static EventModel build(IDBSession dbSession, Map<String, Object> event, String eventType) {
-        EventModel eventModel = new EventModel(dbSession, event, eventType, PriorityModel.build(dbSession, eventType));
+        EventModel eventModel = new EventModel(dbSession, event, eventType, PriorityModel.findByType(dbSession, eventType));
+        // Stamp the event while building it, the row may be written later by the TelemetryBatchWriter.
+        eventModel.addMID();
+        eventModel.timestamp = DateUtil.getEpochTime();
         return eventModel;
     }
 
     public Void save() {
-        this.priority = PriorityModel.findByType(this.mDBSession, this.priority.getEventType());
         this.mDBSession.create(this);
         return null;
     }
@@ -63,7 +67,7 @@ public class EventModel implements IWritable, IReadable {
         contentValues.clear();
         contentValues.put(TelemetryEntry.COLUMN_NAME_EVENT, GsonUtil.toJson(event));
         contentValues.put(TelemetryEntry.COLUMN_NAME_EVENT_TYPE, eventType.toUpperCase());
-        contentValues.put(TelemetryEntry.COLUMN_NAME_TIMESTAMP, DateUtil.getEpochTime());
+        contentValues.put(TelemetryEntry.COLUMN_NAME_TIMESTAMP, timestamp != null ? timestamp : DateUtil.getEpochTime());
         contentValues.put(TelemetryEntry.COLUMN_NAME_PRIORITY, priority.getPriority());
         return contentValues;
     }
@@ -108,14 +112,14 @@ public class EventModel implements IWritable, IReadable {
 
     @Override
     public void beforeWrite(AppContext context) {
-        addMID();
     }
 
     public void readWithoutMoving(IResultSet resultSet) {
         id = resultSet.getLong(resultSet.getColumnIndex(BaseColumns._ID));
         eventType = resultSet.getString(resultSet.getColumnIndex(TelemetryEntry.COLUMN_NAME_EVENT_TYPE));
-        String eventString = resultSet.getString(resultSet.getColumnIndex(TelemetryEntry.COLUMN_NAME_EVENT));
-        event = GsonUtil.fromJson(eventString, HashMap.class);
+        // The stored json is parsed only if the event map is asked for, see getEventMap().
+        eventJson = resultSet.getString(resultSet.getColumnIndex(TelemetryEntry.COLUMN_NAME_EVENT));
+        event = null;
 //        timestamp = resultSet.getString(resultSet.getColumnIndex(TelemetryEntry.COLUMN_NAME_TIMESTAMP));
         priority = PriorityModel.build(mDBSession, eventType, resultSet.getInt(resultSet.getColumnIndex(TelemetryEntry.COLUMN_NAME_PRIORITY)));
     }
@@ -126,9 +130,22 @@ public class EventModel implements IWritable, IReadable {
 
     // TODO: 7/12/2017 - Delete this
     public Map getEventMap() {
+        if (this.event == null && this.eventJson != null) {
+            this.event = GsonUtil.fromJson(this.eventJson, HashMap.class);
+        }
         return this.event;
     }
 
+    /**
+     * Returns the event as json, without parsing it when the event was read from the db.
+     */
+    public String getEventJson() {
+        if (this.eventJson == null) {
+            return GsonUtil.toJson(this.event);
+        }
+        return this.eventJson;
+    }
+
     // TODO: 7/12/2017 - Move this to TelemetrySeriveImpl
     private void addMID() {
         this.event.put("mid", UUID.randomUUID().toString());
@@ -102,6 +102,14 @@ public class EventsModel implements IReadable, ICleanable {
         return eventMaps;
     }
 
+    public List<String> getEventsJson() {
+        ArrayList<String> eventsJson = new ArrayList<>(events.size());
+        for (EventModel event : events) {
+            eventsJson.add(event.getEventJson());
+        }
+        return eventsJson;
+    }
+
     public Boolean isEmpty() {
         return events == null || events.isEmpty();
     }
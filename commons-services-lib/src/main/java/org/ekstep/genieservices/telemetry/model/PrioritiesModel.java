@@ -0,0 +1,68 @@
+package org.ekstep.genieservices.telemetry.model;
+
+import org.ekstep.genieservices.commons.db.contract.EventPriorityEntry;
+import org.ekstep.genieservices.commons.db.core.IReadable;
+import org.ekstep.genieservices.commons.db.core.IResultSet;
+import org.ekstep.genieservices.commons.db.operations.IDBSession;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Reads the whole event_priority table as an event type to priority map.
+ */
+public class PrioritiesModel implements IReadable {
+
+    private Map<String, Integer> priorities;
+
+    private PrioritiesModel() {
+        this.priorities = new HashMap<>();
+    }
+
+    public static PrioritiesModel findAll(IDBSession dbSession) {
+        PrioritiesModel model = new PrioritiesModel();
+        dbSession.read(model);
+        return model;
+    }
+
+    @Override
+    public IReadable read(IResultSet resultSet) {
+        if (resultSet != null && resultSet.moveToFirst()) {
+            do {
+                String eventType = resultSet.getString(resultSet.getColumnIndex(EventPriorityEntry.COLUMN_NAME_EVENT));
+                int priority = resultSet.getInt(resultSet.getColumnIndex(EventPriorityEntry.COLUMN_NAME_PRIORITY));
+                priorities.put(eventType, priority);
+            } while (resultSet.moveToNext());
+        }
+        return this;
+    }
+
+    @Override
+    public String getTableName() {
+        return EventPriorityEntry.TABLE_NAME;
+    }
+
+    @Override
+    public String orderBy() {
+        return "";
+    }
+
+    @Override
+    public String filterForRead() {
+        return "";
+    }
+
+    @Override
+    public String[] selectionArgsForFilter() {
+        return null;
+    }
+
+    @Override
+    public String limitBy() {
+        return "";
+    }
+
+    public Map<String, Integer> getPriorities() {
+        return priorities;
+    }
+}
@@ -1,9 +1,13 @@
 package org.ekstep.genieservices.telemetry.model;
 
+import org.ekstep.genieservices.commons.AppContext;
 import org.ekstep.genieservices.commons.db.contract.EventPriorityEntry;
+import org.ekstep.genieservices.commons.db.core.ContentValues;
 import org.ekstep.genieservices.commons.db.core.IReadable;
 import org.ekstep.genieservices.commons.db.core.IResultSet;
+import org.ekstep.genieservices.commons.db.core.IWritable;
 import org.ekstep.genieservices.commons.db.operations.IDBSession;
+import org.ekstep.genieservices.telemetry.cache.EventPriorityCache;
 
 import java.util.Locale;
 
@@ -12,7 +16,7 @@ import java.util.Locale;
  *
  * @author swayangjit
  */
-public class PriorityModel implements IReadable {
+public class PriorityModel implements IReadable, IWritable {
 
     private static final int DEFAULT_PRIORITY = 2;
     private IDBSession dBSession;
@@ -38,12 +42,20 @@ public class PriorityModel implements IReadable {
         return new PriorityModel(dbSession, eventType, priority);
     }
 
+    /**
+     * Looks the priority up in the {@link EventPriorityCache}, the table is read only if the cache is empty.
+     */
     public static PriorityModel findByType(IDBSession dbSession, String eventType) {
         PriorityModel priority = new PriorityModel(dbSession, eventType);
-        dbSession.read(priority);
+        priority.priority = EventPriorityCache.getPriority(dbSession, eventType);
         return priority;
     }
 
+    public void save() {
+        dBSession.create(this);
+        EventPriorityCache.clearCache(dBSession);
+    }
+
     @Override
     public IReadable read(IResultSet resultSet) {
         if (resultSet != null && resultSet.moveToFirst())
@@ -66,12 +78,12 @@ public class PriorityModel implements IReadable {
 
     @Override
     public String filterForRead() {
-        return String.format(Locale.US, "where event = '%s'", eventType);
+        return String.format(Locale.US, "where %s = ?", EventPriorityEntry.COLUMN_NAME_EVENT);
     }
 
     @Override
     public String[] selectionArgsForFilter() {
-        return null;
+        return new String[]{eventType};
     }
 
     @Override
@@ -79,6 +91,22 @@ public class PriorityModel implements IReadable {
         return "limit 1";
     }
 
+    @Override
+    public ContentValues getContentValues() {
+        ContentValues contentValues = new ContentValues();
+        contentValues.put(EventPriorityEntry.COLUMN_NAME_EVENT, eventType);
+        contentValues.put(EventPriorityEntry.COLUMN_NAME_PRIORITY, getPriority());
+        return contentValues;
+    }
+
+    @Override
+    public void updateId(long id) {
+    }
+
+    @Override
+    public void beforeWrite(AppContext context) {
+    }
+
     public int getPriority() {
         if (priority != null) {
             return priority;
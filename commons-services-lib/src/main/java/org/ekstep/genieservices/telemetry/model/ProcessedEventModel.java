@@ -5,7 +5,7 @@ import org.ekstep.genieservices.commons.db.BaseColumns;
 import org.ekstep.genieservices.commons.db.DbConstants;
 import org.ekstep.genieservices.commons.db.contract.TelemetryProcessedEntry;
 import org.ekstep.genieservices.commons.db.core.ContentValues;
-import org.ekstep.genieservices.commons.db.core.ICleanable;
+import org.ekstep.genieservices.commons.db.core.IBindableCleanable;
 import org.ekstep.genieservices.commons.db.core.IReadable;
 import org.ekstep.genieservices.commons.db.core.IResultSet;
 import org.ekstep.genieservices.commons.db.core.IWritable;
@@ -18,7 +18,7 @@ import java.util.Locale;
  *
  * @author swayangjit
  */
-public class ProcessedEventModel implements IWritable, ICleanable, IReadable {
+public class ProcessedEventModel implements IWritable, IBindableCleanable, IReadable {
 
     private Long id = -1L;
     private IDBSession dbSession;
@@ -105,7 +105,12 @@ public class ProcessedEventModel implements IWritable, ICleanable, IReadable {
 
     @Override
     public String selectionToClean() {
-        return String.format(Locale.US, "WHERE _id = %d", id);
+        return String.format(Locale.US, "WHERE %s = ?", BaseColumns._ID);
+    }
+
+    @Override
+    public String[] selectionArgsToClean() {
+        return new String[]{String.valueOf(id)};
     }
 
     @Override
@@ -139,6 +144,10 @@ public class ProcessedEventModel implements IWritable, ICleanable, IReadable {
         priority = resultSet.getInt(resultSet.getColumnIndex(TelemetryProcessedEntry.COLUMN_NAME_PRIORITY));
     }
 
+    public long getId() {
+        return id;
+    }
+
     public String getMsgId() {
         return msgId;
     }
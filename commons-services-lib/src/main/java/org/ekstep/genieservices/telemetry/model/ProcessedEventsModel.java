@@ -1,5 +1,6 @@
 package org.ekstep.genieservices.telemetry.model;
 
+import org.ekstep.genieservices.commons.db.BaseColumns;
 import org.ekstep.genieservices.commons.db.contract.TelemetryProcessedEntry;
 import org.ekstep.genieservices.commons.db.core.ICleanable;
 import org.ekstep.genieservices.commons.db.core.IReadable;
@@ -21,6 +22,8 @@ public class ProcessedEventsModel implements IReadable, ICleanable {
     private List<ProcessedEventModel> processedEventList;
     private boolean onlyCount;
     private int count;
+    private String filter;
+    private String limit;
 
     private ProcessedEventsModel(IDBSession dbSession) {
         this.dBSession = dbSession;
@@ -42,6 +45,27 @@ public class ProcessedEventsModel implements IReadable, ICleanable {
         }
     }
 
+    /**
+     * Reads the next page of processed batches in (priority, _id) order, starting after the given batch.
+     * Pass {@link Integer#MIN_VALUE} as afterPriority to read the first page.
+     *
+     * @return null if there are no more batches.
+     */
+    public static ProcessedEventsModel findNextPage(IDBSession dbSession, int afterPriority, long afterId, int pageSize) {
+        ProcessedEventsModel model = new ProcessedEventsModel(dbSession);
+        model.filter = String.format(Locale.US, "where %s > %d or (%s = %d and %s > %d)",
+                TelemetryProcessedEntry.COLUMN_NAME_PRIORITY, afterPriority,
+                TelemetryProcessedEntry.COLUMN_NAME_PRIORITY, afterPriority, BaseColumns._ID, afterId);
+        model.limit = String.format(Locale.US, "limit %d", pageSize);
+        dbSession.read(model);
+
+        if (model.processedEventList == null) {
+            return null;
+        } else {
+            return model;
+        }
+    }
+
     public static int count(IDBSession dbSession) {
         String query = String.format(Locale.US, "select sum(%s) from %s;", TelemetryProcessedEntry.COLUMN_NAME_NUMBER_OF_EVENTS, TelemetryProcessedEntry.TABLE_NAME);
         ProcessedEventsModel model = new ProcessedEventsModel(dbSession, true);
@@ -92,12 +116,15 @@ public class ProcessedEventsModel implements IReadable, ICleanable {
 
     @Override
     public String orderBy() {
-        return "";
+        if (filter == null) {
+            return "";
+        }
+        return String.format(Locale.US, "order by %s, %s", TelemetryProcessedEntry.COLUMN_NAME_PRIORITY, BaseColumns._ID);
     }
 
     @Override
     public String filterForRead() {
-        return "";
+        return filter == null ? "" : filter;
     }
 
     @Override
@@ -107,7 +134,7 @@ public class ProcessedEventsModel implements IReadable, ICleanable {
 
     @Override
     public String limitBy() {
-        return "";
+        return limit == null ? "" : limit;
     }
 
     public List<ProcessedEventModel> getProcessedEventList() {
@@ -5,6 +5,7 @@ import org.ekstep.genieservices.commons.AppContext;
 import org.ekstep.genieservices.commons.IDeviceInfo;
 import org.ekstep.genieservices.commons.db.operations.IDBSession;
 import org.ekstep.genieservices.commons.db.operations.IDBTransaction;
+import org.ekstep.genieservices.telemetry.ingest.TelemetryBatchWriter;
 import org.ekstep.genieservices.telemetry.model.EventsModel;
 import org.ekstep.genieservices.telemetry.model.ProcessedEventModel;
 
@@ -19,6 +20,9 @@ import java.util.List;
 public class EventProcessorFactory {
 
     public static void processEvents(final AppContext appContext) {
+        // Events still waiting in the ingest ring have to be in the telemetry table before processing.
+        TelemetryBatchWriter.flushPending();
+
         appContext.getDBSession().executeInTransaction(new IDBTransaction() {
             @Override
             public Void perform(IDBSession dbSession) {
@@ -42,8 +46,7 @@ public class EventProcessorFactory {
 
     private static List<IProcessEvent> getProcessors(IDBSession dbSession, EventsModel events, IDeviceInfo deviceInfo) {
         ArrayList<IProcessEvent> processors = new ArrayList<>();
-        processors.add(new DataPopulator(dbSession, events, deviceInfo));
-        processors.add(new DataZipper());
+        processors.add(new EventStreamZipper(dbSession, events, deviceInfo));
         return processors;
     }
 }
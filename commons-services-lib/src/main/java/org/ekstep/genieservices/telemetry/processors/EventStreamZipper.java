@@ -0,0 +1,81 @@
+package org.ekstep.genieservices.telemetry.processors;
+
+import com.google.gson.stream.JsonWriter;
+
+import org.ekstep.genieservices.commons.IDeviceInfo;
+import org.ekstep.genieservices.commons.db.operations.IDBSession;
+import org.ekstep.genieservices.commons.exception.DbException;
+import org.ekstep.genieservices.commons.utils.DateUtil;
+import org.ekstep.genieservices.telemetry.model.EventsModel;
+import org.ekstep.genieservices.telemetry.model.ProcessedEventModel;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.Charset;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Does the work of {@link DataPopulator} and {@link DataZipper} in a single pass.
+ * <p>
+ * The stored event json is spliced as it is into a {@link JsonWriter} which writes straight into the
+ * {@link GZIPOutputStream}, so the events are never parsed into maps and the uncompressed envelope is
+ * never held in memory.
+ */
+public class EventStreamZipper implements IProcessEvent {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+    private static final int BUFFER_SIZE = 8192;
+
+    private EventsModel events;
+    private IDeviceInfo deviceInfo;
+    private IDBSession mDbSession;
+
+    public EventStreamZipper(IDBSession dbSession, EventsModel events, IDeviceInfo deviceInfo) {
+        this.mDbSession = dbSession;
+        this.events = events;
+        this.deviceInfo = deviceInfo;
+    }
+
+    @Override
+    public ProcessedEventModel process(ProcessedEventModel processedEvent) {
+        String msgId = UUID.randomUUID().toString();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(BUFFER_SIZE);
+        try {
+            JsonWriter writer = new JsonWriter(new OutputStreamWriter(new GZIPOutputStream(outputStream, BUFFER_SIZE), UTF_8));
+            writer.beginObject();
+            writer.name("id").value("ekstep.telemetry");
+            writer.name("ver").value("1.0");
+            writer.name("ts").value(DateUtil.getCurrentTimestamp());
+            writeParams(writer, msgId);
+            writer.name("events");
+            writeEvents(writer, events.getEventsJson());
+            writer.endObject();
+            writer.close();
+        } catch (IOException e) {
+            throw new DbException("Unable to process telemetry events: " + e.getMessage());
+        }
+
+        return ProcessedEventModel.build(mDbSession, msgId, outputStream.toByteArray(), events.size(), events.getPriority());
+    }
+
+    private void writeParams(JsonWriter writer, String msgId) throws IOException {
+        writer.name("params").beginObject();
+        writer.name("did").value(deviceInfo.getDeviceID());
+        writer.name("msgid").value(msgId);
+        writer.name("key").value("");
+        writer.name("requesterId").value("");
+        writer.endObject();
+    }
+
+    private void writeEvents(JsonWriter writer, List<String> eventsJson) throws IOException {
+        writer.beginArray();
+        for (String eventJson : eventsJson) {
+            writer.jsonValue(eventJson);
+        }
+        writer.endArray();
+    }
+
+}
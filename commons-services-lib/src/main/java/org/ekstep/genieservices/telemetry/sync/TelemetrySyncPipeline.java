@@ -0,0 +1,240 @@
+package org.ekstep.genieservices.telemetry.sync;
+
+import org.ekstep.genieservices.ServiceConstants;
+import org.ekstep.genieservices.commons.AppContext;
+import org.ekstep.genieservices.commons.GenieResponseBuilder;
+import org.ekstep.genieservices.commons.bean.GenieResponse;
+import org.ekstep.genieservices.commons.bean.TelemetrySyncProgress;
+import org.ekstep.genieservices.commons.db.operations.IDBSession;
+import org.ekstep.genieservices.commons.executor.SDKExecutor;
+import org.ekstep.genieservices.commons.utils.Logger;
+import org.ekstep.genieservices.eventbus.EventBus;
+import org.ekstep.genieservices.telemetry.model.ProcessedEventModel;
+import org.ekstep.genieservices.telemetry.model.ProcessedEventsModel;
+import org.ekstep.genieservices.telemetry.network.TelemetrySyncAPI;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Uploads the processed telemetry batches with a few uploads in flight.
+ * <p>
+ * Batches are read ahead in (priority, _id) order and posted on the {@link SDKExecutor.Lane#UPLOAD} lane. All
+ * db work stays on the calling thread: a row is deleted only after the server has acknowledged its msgId, so a
+ * sync that dies halfway resumes with the batches that were not acknowledged, and an acknowledged batch is
+ * never sent again.
+ * <p>
+ * After the first failed upload, or if the sync is interrupted, no new batch is posted. The uploads already in
+ * flight are still waited for, and the ones that succeed are deleted.
+ */
+public class TelemetrySyncPipeline {
+
+    private static final String TAG = TelemetrySyncPipeline.class.getSimpleName();
+
+    private final AppContext mAppContext;
+    private final int mMaxUploadsInFlight;
+    private final int mReadAheadSize;
+
+    private int mSyncedBatchCount;
+    private int mSyncedEventCount;
+    private long mSyncedByteCount;
+    private GenieResponse mFailedResponse;
+
+    public TelemetrySyncPipeline(AppContext appContext, int maxUploadsInFlight) {
+        this.mAppContext = appContext;
+        this.mMaxUploadsInFlight = maxUploadsInFlight;
+        this.mReadAheadSize = maxUploadsInFlight * 2;
+    }
+
+    /**
+     * Uploads every processed batch, or stops at the first failure.
+     *
+     * @return true if every batch was acknowledged.
+     */
+    public boolean sync() {
+        IDBSession dbSession = mAppContext.getDBSession();
+        CompletionService<UploadResult> completionService = new ExecutorCompletionService<>(new Executor() {
+            @Override
+            public void execute(Runnable upload) {
+                SDKExecutor.getInstance().submit(SDKExecutor.Lane.UPLOAD, upload);
+            }
+        });
+        Deque<ProcessedEventModel> readAhead = new ArrayDeque<>();
+
+        int lastPriority = Integer.MIN_VALUE;
+        long lastId = Long.MIN_VALUE;
+        boolean exhausted = false;
+        int inFlight = 0;
+
+        try {
+            while (true) {
+                if (!exhausted && mFailedResponse == null && readAhead.size() < mReadAheadSize) {
+                    ProcessedEventsModel page = ProcessedEventsModel.findNextPage(dbSession, lastPriority, lastId,
+                            mReadAheadSize - readAhead.size());
+                    if (page == null) {
+                        exhausted = true;
+                    } else {
+                        for (ProcessedEventModel batch : page.getProcessedEventList()) {
+                            lastPriority = batch.getPriority();
+                            lastId = batch.getId();
+                            if (isEmpty(batch)) {
+                                Logger.i(TAG, "Skipping empty telemetry batch " + batch.getMsgId());
+                                continue;
+                            }
+                            readAhead.add(batch);
+                        }
+                    }
+                }
+
+                while (mFailedResponse == null && inFlight < mMaxUploadsInFlight && !readAhead.isEmpty()) {
+                    try {
+                        completionService.submit(new Upload(readAhead.peek()));
+                    } catch (RejectedExecutionException e) {
+                        onFailed("Upload queue is full", e);
+                        break;
+                    }
+                    readAhead.poll();
+                    inFlight++;
+                }
+
+                if (inFlight == 0) {
+                    break;
+                }
+
+                Future<UploadResult> upload = completionService.take();
+                inFlight--;
+                collect(upload);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            onFailed("Telemetry sync interrupted", e);
+        } finally {
+            awaitUploads(completionService, inFlight);
+        }
+
+        return mFailedResponse == null && exhausted && readAhead.isEmpty();
+    }
+
+    private static boolean isEmpty(ProcessedEventModel batch) {
+        return batch.getNumberOfEvents() == 0 || batch.getData() == null || batch.getData().length == 0;
+    }
+
+    /**
+     * Waits for the uploads still in flight, which reach the server anyway, so that the acknowledged batches are
+     * deleted and not sent again. An interrupt is kept for the caller.
+     */
+    private void awaitUploads(CompletionService<UploadResult> completionService, int inFlight) {
+        boolean interrupted = Thread.interrupted();
+        while (inFlight > 0) {
+            try {
+                Future<UploadResult> upload = completionService.take();
+                inFlight--;
+                collect(upload);
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void collect(Future<UploadResult> upload) throws InterruptedException {
+        try {
+            onUploaded(upload.get());
+        } catch (ExecutionException e) {
+            onFailed("Telemetry upload failed", e.getCause());
+        }
+    }
+
+    private void onFailed(String message, Throwable cause) {
+        Logger.e(TAG, message, cause);
+        if (mFailedResponse == null) {
+            mFailedResponse = GenieResponseBuilder.getErrorResponse(ServiceConstants.ErrorCode.PROCESSING_ERROR, message, TAG);
+        }
+    }
+
+    private void onUploaded(UploadResult result) {
+        ProcessedEventModel batch = result.batch;
+        if (!result.response.getStatus()) {
+            Logger.i(TAG, "Telemetry batch " + batch.getMsgId() + " failed, it will be sent in the next sync");
+            if (mFailedResponse == null) {
+                mFailedResponse = result.response;
+            }
+            return;
+        }
+
+        batch.delete();
+
+        int eventCount = batch.getNumberOfEvents();
+        long byteCount = result.byteCount;
+        mSyncedBatchCount++;
+        mSyncedEventCount += eventCount;
+        mSyncedByteCount += byteCount;
+
+        TelemetrySyncProgress progress = new TelemetrySyncProgress(batch.getMsgId(), eventCount, byteCount,
+                result.uploadTimeInMillis, mSyncedBatchCount, mSyncedEventCount);
+        Logger.i(TAG, String.format(Locale.US, "Synced batch %s: %d events, %d bytes in %d ms (%d bytes/s)",
+                batch.getMsgId(), eventCount, byteCount, result.uploadTimeInMillis, progress.getBytesPerSecond()));
+        EventBus.postEvent(progress);
+    }
+
+    public int getSyncedBatchCount() {
+        return mSyncedBatchCount;
+    }
+
+    public int getSyncedEventCount() {
+        return mSyncedEventCount;
+    }
+
+    public long getSyncedByteCount() {
+        return mSyncedByteCount;
+    }
+
+    /**
+     * Response of the first failed upload, null if there was none.
+     */
+    public GenieResponse getFailedResponse() {
+        return mFailedResponse;
+    }
+
+    private class Upload implements Callable<UploadResult> {
+
+        private final ProcessedEventModel batch;
+
+        Upload(ProcessedEventModel batch) {
+            this.batch = batch;
+        }
+
+        @Override
+        public UploadResult call() {
+            long startTime = System.currentTimeMillis();
+            GenieResponse response = new TelemetrySyncAPI(mAppContext, batch.getData()).post();
+            return new UploadResult(batch, response, batch.getData().length, System.currentTimeMillis() - startTime);
+        }
+    }
+
+    private static class UploadResult {
+
+        private final ProcessedEventModel batch;
+        private final GenieResponse response;
+        private final long byteCount;
+        private final long uploadTimeInMillis;
+
+        UploadResult(ProcessedEventModel batch, GenieResponse response, long byteCount, long uploadTimeInMillis) {
+            this.batch = batch;
+            this.response = response;
+            this.byteCount = byteCount;
+            this.uploadTimeInMillis = uploadTimeInMillis;
+        }
+    }
+}
@@ -7,9 +7,12 @@ import org.ekstep.genieservices.IConfigService;
 import org.ekstep.genieservices.ServiceConstants;
 import org.ekstep.genieservices.commons.AppContext;
 import org.ekstep.genieservices.commons.GenieResponseBuilder;
+import org.ekstep.genieservices.commons.IParams;
 import org.ekstep.genieservices.commons.bean.GenieResponse;
 import org.ekstep.genieservices.commons.bean.MasterData;
 import org.ekstep.genieservices.commons.bean.enums.MasterDataType;
+import org.ekstep.genieservices.commons.cache.RefreshAheadCache;
+import org.ekstep.genieservices.commons.utils.CollectionUtil;
 import org.ekstep.genieservices.commons.utils.DateUtil;
 import org.ekstep.genieservices.commons.utils.FileUtil;
 import org.ekstep.genieservices.commons.utils.GsonUtil;
@@ -22,6 +25,7 @@ import org.ekstep.genieservices.config.network.ResourceBundleAPI;
 import org.ekstep.genieservices.config.network.TermsAPI;
 import org.ekstep.genieservices.telemetry.TelemetryLogger;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -34,9 +38,94 @@ public class ConfigServiceImpl extends BaseService implements IConfigService {
     private static final String TAG = ConfigServiceImpl.class.getSimpleName();
 
     private static final String DB_KEY_ORDINALS = "ordinals_key";
+    private static final String REFRESH_KEY_TERMS = "terms";
+    private static final String REFRESH_KEY_RESOURCE_BUNDLES = "resource_bundles";
+
+    private final RefreshAheadCache<Void, MasterData> mMasterDataCache;
+    private final RefreshAheadCache<Void, String> mResourceBundleCache;
+    private final RefreshAheadCache<Void, Map<String, Object>> mOrdinalsCache;
 
     public ConfigServiceImpl(AppContext appContext) {
         super(appContext);
+
+        int cacheSize = appContext.getParams().getInt(IParams.Key.CACHE_SIZE);
+        // Every type comes from the same terms call, so a single refresh runs for all of them.
+        mMasterDataCache = new RefreshAheadCache<>("master_data", cacheSize, REFRESH_KEY_TERMS, new RefreshAheadCache.Source<Void, MasterData>() {
+            @Override
+            public MasterData load(String type) {
+                MasterDataModel masterDataModel = MasterDataModel.findByType(mAppContext.getDBSession(), type);
+                return masterDataModel != null ? GsonUtil.fromJson(masterDataModel.getMasterDataJson(), MasterData.class) : null;
+            }
+
+            @Override
+            public long getExpirationTime(String type) {
+                return getLongFromKeyValueStore(ConfigConstants.PreferenceKey.MASTER_DATA_API_EXPIRATION_KEY);
+            }
+
+            @Override
+            public boolean refresh(String type, Void request) {
+                TermsAPI termsAPI = new TermsAPI(mAppContext);
+                GenieResponse genieResponse = termsAPI.get();
+                if (genieResponse.getStatus()) {
+                    String body = genieResponse.getResult().toString();
+                    saveMasterData(body);
+                    return true;
+                }
+                return false;
+            }
+        });
+
+        // Every language comes from the same resource bundles call.
+        mResourceBundleCache = new RefreshAheadCache<>("resource_bundle", cacheSize, REFRESH_KEY_RESOURCE_BUNDLES, new RefreshAheadCache.Source<Void, String>() {
+            @Override
+            public String load(String languageIdentifier) {
+                ResourceBundleModel resourceBundleModel = ResourceBundleModel.findById(mAppContext.getDBSession(), languageIdentifier);
+                return resourceBundleModel != null ? resourceBundleModel.getResourceString() : null;
+            }
+
+            @Override
+            public long getExpirationTime(String languageIdentifier) {
+                return getLongFromKeyValueStore(ConfigConstants.PreferenceKey.RESOURCE_BUNDLE_API_EXPIRATION_KEY);
+            }
+
+            @Override
+            public boolean refresh(String languageIdentifier, Void request) {
+                ResourceBundleAPI resourceBundleAPI = new ResourceBundleAPI(mAppContext);
+                GenieResponse genieResponse = resourceBundleAPI.get();
+                if (genieResponse.getStatus()) {
+                    String body = genieResponse.getResult().toString();
+                    saveResourceBundle(body);
+                    return true;
+                }
+                return false;
+            }
+        });
+
+        mOrdinalsCache = new RefreshAheadCache<>("ordinals", 1, new RefreshAheadCache.Source<Void, Map<String, Object>>() {
+            @Override
+            public Map<String, Object> load(String key) {
+                OrdinalsModel ordinals = OrdinalsModel.findById(mAppContext.getDBSession(), key);
+                return ordinals != null ? GsonUtil.fromJson(ordinals.getJSON(), HashMap.class) : null;
+            }
+
+            @Override
+            public long getExpirationTime(String key) {
+                return getLongFromKeyValueStore(ConfigConstants.PreferenceKey.ORDINAL_API_EXPIRATION_KEY);
+            }
+
+            @Override
+            public boolean refresh(String key, Void request) {
+                OrdinalsAPI api = new OrdinalsAPI(mAppContext);
+                GenieResponse genieResponse = api.get();
+
+                if (genieResponse.getStatus()) {
+                    String body = genieResponse.getResult().toString();
+                    saveOrdinals(body);
+                    return true;
+                }
+                return false;
+            }
+        });
     }
 
     @Override
@@ -52,18 +141,11 @@ public class ConfigServiceImpl extends BaseService implements IConfigService {
         params.put("type", type.getValue());
         params.put("logLevel", "2");
 
-        long expirationTime = getLongFromKeyValueStore(ConfigConstants.PreferenceKey.MASTER_DATA_API_EXPIRATION_KEY);
-        if (expirationTime == 0) {
-            initializeMasterData();
-        } else if (hasExpired(expirationTime)) {
-            refreshMasterData();
+        if (getLongFromKeyValueStore(ConfigConstants.PreferenceKey.MASTER_DATA_API_EXPIRATION_KEY) == 0) {
+            initializeMasterData(type.getValue());
         }
 
-        MasterDataModel masterDataModel = MasterDataModel.findByType(mAppContext.getDBSession(), type.getValue());
-        MasterData masterData = null;
-        if (masterDataModel != null) {
-            masterData = GsonUtil.fromJson(masterDataModel.getMasterDataJson(), MasterData.class);
-        }
+        MasterData masterData = mMasterDataCache.get(type.getValue(), null);
 
         GenieResponse<MasterData> response;
         if (masterData != null) {
@@ -77,12 +159,12 @@ public class ConfigServiceImpl extends BaseService implements IConfigService {
         return response;
     }
 
-    private void initializeMasterData() {
+    private void initializeMasterData(String type) {
         String storedData = FileUtil.readFileFromClasspath(ConfigConstants.ResourceFile.MASTER_DATA_JSON_FILE);
         if (!StringUtil.isNullOrEmpty(storedData)) {
             saveMasterData(storedData);
         }
-        refreshMasterData();
+        mMasterDataCache.refresh(type, null);
     }
 
     private void saveMasterData(String response) {
@@ -92,30 +174,15 @@ public class ConfigServiceImpl extends BaseService implements IConfigService {
             Double ttl = (Double) result.get("ttl");
             saveDataExpirationTime(ttl, ConfigConstants.PreferenceKey.MASTER_DATA_API_EXPIRATION_KEY);
             result.remove("ttl");
+            List<MasterDataModel> masterDataList = new ArrayList<>();
             for (Object key : result.keySet()) {
-                MasterDataModel eachMasterData = MasterDataModel.build(mAppContext.getDBSession(), (String) key, GsonUtil.toJson(result.get(key)));
-                MasterDataModel masterDataInDb = MasterDataModel.findByType(mAppContext.getDBSession(), String.valueOf(key));
-                if (masterDataInDb != null) {
-                    eachMasterData.update();
-                } else {
-                    eachMasterData.save();
-                }
+                masterDataList.add(MasterDataModel.build(mAppContext.getDBSession(), (String) key, GsonUtil.toJson(result.get(key))));
             }
-        }
-    }
+            mAppContext.getDBSession().upsertAll(masterDataList);
 
-    private void refreshMasterData() {
-        new Thread(new Runnable() {
-            @Override
-            public void run() {
-                TermsAPI termsAPI = new TermsAPI(mAppContext);
-                GenieResponse genieResponse = termsAPI.get();
-                if (genieResponse.getStatus()) {
-                    String body = genieResponse.getResult().toString();
-                    saveMasterData(body);
-                }
-            }
-        }).start();
+            // Every type comes in the same response.
+            mMasterDataCache.invalidateAll();
+        }
     }
 
     @Override
@@ -126,29 +193,22 @@ public class ConfigServiceImpl extends BaseService implements IConfigService {
         params.put("mode", TelemetryLogger.getNetworkMode(mAppContext.getConnectionInfo()));
         params.put("logLevel", "2");
 
-        long expirationTime = getLongFromKeyValueStore(ConfigConstants.PreferenceKey.RESOURCE_BUNDLE_API_EXPIRATION_KEY);
-        if (expirationTime == 0) {
-            initializeResourceBundle();
-        } else if (hasExpired(expirationTime)) {
-            refreshResourceBundle();
+        if (getLongFromKeyValueStore(ConfigConstants.PreferenceKey.RESOURCE_BUNDLE_API_EXPIRATION_KEY) == 0) {
+            initializeResourceBundle(languageIdentifier);
         }
 
-        ResourceBundleModel resourceBundleModel = ResourceBundleModel.findById(mAppContext.getDBSession(), languageIdentifier);
-        String result = null;
-        if (resourceBundleModel == null) {
+        String identifier = languageIdentifier;
+        String result = mResourceBundleCache.get(identifier, null);
+        if (result == null) {
             //language data not available in the resources API
-            resourceBundleModel = ResourceBundleModel.findById(mAppContext.getDBSession(), "en");
-            if (resourceBundleModel != null) {
-                result = resourceBundleModel.getResourceString();
-            }
-        } else {
-            result = resourceBundleModel.getResourceString();
+            identifier = "en";
+            result = mResourceBundleCache.get(identifier, null);
         }
 
         Map<String, Object> resourceBundleMap = null;
         if (result != null) {
             resourceBundleMap = new HashMap<>();
-            resourceBundleMap.put(resourceBundleModel.getIdentifier(), resourceBundleModel.getResourceString());
+            resourceBundleMap.put(identifier, result);
         }
 
         GenieResponse<Map<String, Object>> response;
@@ -164,12 +224,12 @@ public class ConfigServiceImpl extends BaseService implements IConfigService {
         return response;
     }
 
-    private void initializeResourceBundle() {
+    private void initializeResourceBundle(String languageIdentifier) {
         String storedData = FileUtil.readFileFromClasspath(ConfigConstants.ResourceFile.RESOURCE_BUNDLE_JSON_FILE);
         if (!StringUtil.isNullOrEmpty(storedData)) {
             saveResourceBundle(storedData);
         }
-        refreshResourceBundle();
+        mResourceBundleCache.refresh(languageIdentifier, null);
     }
 
     private void saveResourceBundle(String response) {
@@ -184,30 +244,15 @@ public class ConfigServiceImpl extends BaseService implements IConfigService {
         if (result != null) {
             Double ttl = (Double) resultMap.get("ttl");
             saveDataExpirationTime(ttl, ConfigConstants.PreferenceKey.RESOURCE_BUNDLE_API_EXPIRATION_KEY);
+            List<ResourceBundleModel> resourceBundleList = new ArrayList<>();
             for (Object key : result.keySet()) {
-                ResourceBundleModel eachResourceBundle = ResourceBundleModel.build(mAppContext.getDBSession(), (String) key, GsonUtil.toJson(result.get(key)));
-                ResourceBundleModel resourceBundleInDb = ResourceBundleModel.findById(mAppContext.getDBSession(), String.valueOf(key));
-                if (resourceBundleInDb != null) {
-                    eachResourceBundle.update();
-                } else {
-                    eachResourceBundle.save();
-                }
+                resourceBundleList.add(ResourceBundleModel.build(mAppContext.getDBSession(), (String) key, GsonUtil.toJson(result.get(key))));
             }
-        }
-    }
+            mAppContext.getDBSession().upsertAll(resourceBundleList);
 
-    private void refreshResourceBundle() {
-        new Thread(new Runnable() {
-            @Override
-            public void run() {
-                ResourceBundleAPI resourceBundleAPI = new ResourceBundleAPI(mAppContext);
-                GenieResponse genieResponse = resourceBundleAPI.get();
-                if (genieResponse.getStatus()) {
-                    String body = genieResponse.getResult().toString();
-                    saveResourceBundle(body);
-                }
-            }
-        }).start();
+            // Every language comes in the same response.
+            mResourceBundleCache.invalidateAll();
+        }
     }
 
     public GenieResponse<Map<String, Object>> getOrdinals() {
@@ -216,23 +261,17 @@ public class ConfigServiceImpl extends BaseService implements IConfigService {
         params.put("mode", TelemetryLogger.getNetworkMode(mAppContext.getConnectionInfo()));
         params.put("logLevel", "2");
 
-        long expirationTime = getLongFromKeyValueStore(ConfigConstants.PreferenceKey.ORDINAL_API_EXPIRATION_KEY);
-        if (expirationTime == 0) {
+        if (getLongFromKeyValueStore(ConfigConstants.PreferenceKey.ORDINAL_API_EXPIRATION_KEY) == 0) {
             initializeOrdinalsData();
-        } else if (hasExpired(expirationTime)) {
-            refreshOrdinals();
         }
 
-        OrdinalsModel ordinals = OrdinalsModel.findById(mAppContext.getDBSession(), DB_KEY_ORDINALS);
-        Map<String, Object> ordinalsMap = null;
-        if (ordinals != null) {
-            ordinalsMap = GsonUtil.fromJson(ordinals.getJSON(), HashMap.class);
-        }
+        Map<String, Object> ordinalsMap = mOrdinalsCache.get(DB_KEY_ORDINALS, null);
 
         GenieResponse<Map<String, Object>> response;
         if (ordinalsMap != null) {
             response = GenieResponseBuilder.getSuccessResponse(ServiceConstants.SUCCESS_RESPONSE);
-            response.setResult(ordinalsMap);
+            // The cached map is shared, the caller gets its own copy.
+            response.setResult(CollectionUtil.deepCopy(ordinalsMap));
             TelemetryLogger.logSuccess(mAppContext, response, TAG, methodName, params);
         } else {
             response = GenieResponseBuilder.getErrorResponse(ServiceConstants.ErrorCode.NO_DATA_FOUND, ServiceConstants.ErrorMessage.UNABLE_TO_FIND_ORDINALS, TAG);
@@ -247,7 +286,7 @@ public class ConfigServiceImpl extends BaseService implements IConfigService {
         if (!StringUtil.isNullOrEmpty(storedData)) {
             saveOrdinals(storedData);
         }
-        refreshOrdinals();
+        mOrdinalsCache.refresh(DB_KEY_ORDINALS, null);
     }
 
     private void saveOrdinals(String response) {
@@ -266,21 +305,6 @@ public class ConfigServiceImpl extends BaseService implements IConfigService {
         }
     }
 
-    private void refreshOrdinals() {
-        new Thread(new Runnable() {
-            @Override
-            public void run() {
-                OrdinalsAPI api = new OrdinalsAPI(mAppContext);
-                GenieResponse genieResponse = api.get();
-
-                if (genieResponse.getStatus()) {
-                    String body = genieResponse.getResult().toString();
-                    saveOrdinals(body);
-                }
-            }
-        }).start();
-    }
-
     private void saveDataExpirationTime(Double ttl, String key) {
         if (ttl != null) {
             long ttlInMilliSeconds = (long) (ttl * DateUtil.MILLISECONDS_IN_AN_HOUR);
@@ -291,9 +315,4 @@ public class ConfigServiceImpl extends BaseService implements IConfigService {
         }
     }
 
-    private boolean hasExpired(long expirationTime) {
-        Long currentTime = DateUtil.getEpochTime();
-        return currentTime > expirationTime;
-    }
-
 }
@@ -5,8 +5,10 @@ import org.ekstep.genieservices.IFormService;
 import org.ekstep.genieservices.ServiceConstants;
 import org.ekstep.genieservices.commons.AppContext;
 import org.ekstep.genieservices.commons.GenieResponseBuilder;
+import org.ekstep.genieservices.commons.IParams;
 import org.ekstep.genieservices.commons.bean.FormRequest;
 import org.ekstep.genieservices.commons.bean.GenieResponse;
+import org.ekstep.genieservices.commons.cache.RefreshAheadCache;
 import org.ekstep.genieservices.commons.db.model.NoSqlModel;
 import org.ekstep.genieservices.commons.utils.CollectionUtil;
 import org.ekstep.genieservices.commons.utils.DateUtil;
@@ -29,8 +31,35 @@ public class FormServiceImpl extends BaseService implements IFormService {
     private static final String KEY_FORM = "form-";
 //    private static final String SYLLABUS_INFO_KEY_PREFIX = "syllabusInfo-";
 
+    private final RefreshAheadCache<FormRequest, Map> mFormCache;
+
     public FormServiceImpl(AppContext appContext) {
         super(appContext);
+
+        mFormCache = new RefreshAheadCache<>("form", appContext.getParams().getInt(IParams.Key.CACHE_SIZE),
+                new RefreshAheadCache.Source<FormRequest, Map>() {
+                    @Override
+                    public Map load(String key) {
+                        NoSqlModel formInDB = NoSqlModel.findByKey(mAppContext.getDBSession(), key);
+                        return formInDB != null ? parseFormData(formInDB.getValue()) : null;
+                    }
+
+                    @Override
+                    public long getExpirationTime(String key) {
+                        return getLongFromKeyValueStore(key);
+                    }
+
+                    @Override
+                    public boolean refresh(String key, FormRequest formRequest) {
+                        GenieResponse formReadAPIResponse = invokeAPI(formRequest);
+                        if (formReadAPIResponse.getStatus()) {
+                            String body = formReadAPIResponse.getResult().toString();
+                            saveFormData(body, formRequest);
+                            return true;
+                        }
+                        return false;
+                    }
+                });
     }
 
     @Override
@@ -42,11 +71,9 @@ public class FormServiceImpl extends BaseService implements IFormService {
         GenieResponse<Map<String, Object>> response;
 
         String key = getKeyForDB(formRequest);
-        long expirationTime = getLongFromKeyValueStore(key);
-
-        NoSqlModel formInDB = NoSqlModel.findByKey(mAppContext.getDBSession(), key);
 
-        if (formInDB == null) {
+        Map formData = mFormCache.get(key, formRequest);
+        if (formData == null) {
             String responseBody = FileUtil.readFileFromClasspath(formRequest.getDefaultFormPath());
             GenieResponse formReadAPIResponse = null;
             if (StringUtil.isNullOrEmpty(responseBody)) {
@@ -57,8 +84,11 @@ public class FormServiceImpl extends BaseService implements IFormService {
             }
 
             if (!StringUtil.isNullOrEmpty(responseBody)) {
-                formInDB = NoSqlModel.build(mAppContext.getDBSession(), key, responseBody);
-                saveFormData(formInDB.getValue(), formRequest);
+                saveFormData(responseBody, formRequest);
+                formData = parseFormData(responseBody);
+                if (formData != null) {
+                    mFormCache.put(key, formData);
+                }
             } else {
                 List<String> errorMessages = formReadAPIResponse.getErrorMessages();
                 String errorMessage = null;
@@ -69,25 +99,12 @@ public class FormServiceImpl extends BaseService implements IFormService {
                 TelemetryLogger.logFailure(mAppContext, response, TAG, methodName, params, errorMessage);
                 return response;
             }
-
-        } else if (hasExpired(expirationTime)) {
-            refreshFormData(formRequest);
         }
 
-        Map map = GsonUtil.fromJson(formInDB.getValue(), Map.class);
-        Map formData = null;
-        if (map != null) {
-            Map result = (Map) map.get("result");
-            if (result != null) {
-                Map form = (Map) result.get("form");
-                if (form != null) {
-                    formData = (Map) form.get("data");
-                }
-            }
-        }
         if (formData != null) {
             response = GenieResponseBuilder.getSuccessResponse(ServiceConstants.SUCCESS_RESPONSE);
-            response.setResult(formData);
+            // The cached map is shared, the caller gets its own copy.
+            response.setResult(CollectionUtil.deepCopy(formData));
             TelemetryLogger.logSuccess(mAppContext, response, TAG, methodName, params);
         } else {
             response = GenieResponseBuilder.getErrorResponse(ServiceConstants.ErrorCode.NO_FORM_DATA_FOUND,
@@ -116,17 +133,19 @@ public class FormServiceImpl extends BaseService implements IFormService {
         }
     }
 
-    private void refreshFormData(final FormRequest formRequest) {
-        new Thread(new Runnable() {
-            @Override
-            public void run() {
-                GenieResponse formReadAPIResponse = invokeAPI(formRequest);
-                if (formReadAPIResponse.getStatus()) {
-                    String body = formReadAPIResponse.getResult().toString();
-                    saveFormData(body, formRequest);
+    private Map parseFormData(String response) {
+        Map map = GsonUtil.fromJson(response, Map.class);
+        Map formData = null;
+        if (map != null) {
+            Map result = (Map) map.get("result");
+            if (result != null) {
+                Map form = (Map) result.get("form");
+                if (form != null) {
+                    formData = (Map) form.get("data");
                 }
             }
-        }).start();
+        }
+        return formData;
     }
 
     private GenieResponse invokeAPI(FormRequest formRequest) {
@@ -156,9 +175,4 @@ public class FormServiceImpl extends BaseService implements IFormService {
         mAppContext.getKeyValueStore().putLong(key, expiration_time);
     }
 
-    private boolean hasExpired(long expirationTime) {
-        Long currentTime = DateUtil.getEpochTime();
-        return currentTime > expirationTime;
-    }
-
 }
@@ -13,6 +13,7 @@ import org.ekstep.genieservices.commons.bean.ChannelDetailsRequest;
 import org.ekstep.genieservices.commons.bean.Framework;
 import org.ekstep.genieservices.commons.bean.FrameworkDetailsRequest;
 import org.ekstep.genieservices.commons.bean.GenieResponse;
+import org.ekstep.genieservices.commons.cache.RefreshAheadCache;
 import org.ekstep.genieservices.commons.db.model.NoSqlModel;
 import org.ekstep.genieservices.commons.utils.DateUtil;
 import org.ekstep.genieservices.commons.utils.FileUtil;
@@ -37,8 +38,84 @@ public class FrameworkServiceImpl extends BaseService implements IFrameworkServi
     private static final String DB_KEY_FRAMEWORK_DETAILS = "framework_details_key-";
     private static final Double DEFAULT_TTL = 1d;   // In hours
 
+    private final RefreshAheadCache<String, Channel> mChannelCache;
+    private final RefreshAheadCache<String, Framework> mFrameworkCache;
+
     public FrameworkServiceImpl(AppContext appContext) {
         super(appContext);
+
+        int cacheSize = appContext.getParams().getInt(IParams.Key.CACHE_SIZE);
+        mChannelCache = new RefreshAheadCache<>("channel", cacheSize, new RefreshAheadCache.Source<String, Channel>() {
+            @Override
+            public Channel load(String channelId) {
+                NoSqlModel channelDetailsInDb = NoSqlModel.findByKey(mAppContext.getDBSession(), DB_KEY_CHANNEL_DETAILS + channelId);
+                if (channelDetailsInDb == null) {
+                    return null;
+                }
+
+                //this channel is imported
+                String expirationKey = getChannelExpirationKey(channelId);
+                if (getLongFromKeyValueStore(expirationKey) == 0) {
+                    saveDataExpirationTime(DEFAULT_TTL, expirationKey);
+                }
+                return parseChannelDetails(channelDetailsInDb.getValue());
+            }
+
+            @Override
+            public long getExpirationTime(String channelId) {
+                return getLongFromKeyValueStore(getChannelExpirationKey(channelId));
+            }
+
+            @Override
+            public boolean refresh(String channelId, String request) {
+                GenieResponse genieResponse = getChannelDetailsFromServer(channelId);
+                if (genieResponse.getStatus()) {
+                    String body = genieResponse.getResult().toString();
+                    saveChannelDetails(body, channelId);
+                    return true;
+                }
+                return false;
+            }
+        });
+
+        mFrameworkCache = new RefreshAheadCache<>("framework", cacheSize, new RefreshAheadCache.Source<String, Framework>() {
+            @Override
+            public Framework load(String frameworkId) {
+                NoSqlModel frameworkDetailsInDb = NoSqlModel.findByKey(mAppContext.getDBSession(), DB_KEY_FRAMEWORK_DETAILS + frameworkId);
+                if (frameworkDetailsInDb == null) {
+                    return null;
+                }
+
+                //this framework is imported
+                String expirationKey = getFrameworkExpirationKey(frameworkId);
+                if (getLongFromKeyValueStore(expirationKey) == 0) {
+                    saveDataExpirationTime(DEFAULT_TTL, expirationKey);
+                }
+                return new Framework(frameworkDetailsInDb.getValue());
+            }
+
+            @Override
+            public long getExpirationTime(String frameworkId) {
+                return getLongFromKeyValueStore(getFrameworkExpirationKey(frameworkId));
+            }
+
+            @Override
+            public boolean refresh(String frameworkId, String request) {
+                //make a silent call to update in db only if network in available
+                if (!mAppContext.getConnectionInfo().isConnected()) {
+                    return false;
+                }
+
+                GenieResponse frameworkDetailsAPIResponse = getFrameworkDetailsFromServer(frameworkId);
+                if (frameworkDetailsAPIResponse.getStatus()) {
+                    String responseBodyFromNetwork = frameworkDetailsAPIResponse.getResult().toString();
+                    saveFrameworkExpirationTime(responseBodyFromNetwork);
+                    saveFrameworkDetails(responseBodyFromNetwork);
+                    return true;
+                }
+                return false;
+            }
+        });
     }
 
     @Override
@@ -49,32 +126,24 @@ public class FrameworkServiceImpl extends BaseService implements IFrameworkServi
         params.put("logLevel", "2");
 
         String channelId = channelDetailsRequest.getChannelId();
-        String expirationKey = FrameworkConstants.PreferenceKey.CHANNEL_DETAILS_API_EXPIRATION_KEY + "-" + channelId;
-        long expirationTime = getLongFromKeyValueStore(expirationKey);
 
-        NoSqlModel refreshDetailsInDb = NoSqlModel.findByKey(mAppContext.getDBSession(), DB_KEY_CHANNEL_DETAILS + channelId);
-
-        if (expirationTime == 0) {
+        Channel channelDetails = mChannelCache.get(channelId, channelId);
+        if (channelDetails == null) {
             boolean callAPI = true;
 
-            //this channel is imported
-            if (refreshDetailsInDb != null) {
-                saveDataExpirationTime(DEFAULT_TTL, expirationKey);
-                callAPI = false;
-            } else { // return default packaged channel
-                String storedData = FileUtil.readFileFromClasspath(FrameworkConstants.ResourceFile.CHANNEL_DETAILS_JSON_FILE);
-                if (!StringUtil.isNullOrEmpty(storedData)) {
-                    LinkedTreeMap map = GsonUtil.fromJson(storedData, LinkedTreeMap.class);
-                    LinkedTreeMap resultMap = (LinkedTreeMap) map.get("result");
-
-                    if (resultMap != null) {
-                        LinkedTreeMap channelMap = (LinkedTreeMap) resultMap.get("channel");
-                        String defaultChannelId = (String) channelMap.get("identifier");
-                        if (defaultChannelId.equalsIgnoreCase(channelId)) {
-                            saveChannelDetails(storedData, channelId);
-                            refreshChannelDetails(channelId);
-                            callAPI = false;
-                        }
+            // return default packaged channel
+            String storedData = FileUtil.readFileFromClasspath(FrameworkConstants.ResourceFile.CHANNEL_DETAILS_JSON_FILE);
+            if (!StringUtil.isNullOrEmpty(storedData)) {
+                LinkedTreeMap map = GsonUtil.fromJson(storedData, LinkedTreeMap.class);
+                LinkedTreeMap resultMap = (LinkedTreeMap) map.get("result");
+
+                if (resultMap != null) {
+                    LinkedTreeMap channelMap = (LinkedTreeMap) resultMap.get("channel");
+                    String defaultChannelId = (String) channelMap.get("identifier");
+                    if (defaultChannelId.equalsIgnoreCase(channelId)) {
+                        saveChannelDetails(storedData, channelId);
+                        mChannelCache.refresh(channelId, channelId);
+                        callAPI = false;
                     }
                 }
             }
@@ -88,17 +157,7 @@ public class FrameworkServiceImpl extends BaseService implements IFrameworkServi
                 }
             }
 
-        } else if (hasExpired(expirationTime)) {
-            refreshChannelDetails(channelId);
-        }
-
-        refreshDetailsInDb = NoSqlModel.findByKey(mAppContext.getDBSession(), DB_KEY_CHANNEL_DETAILS + channelId);
-        Channel channelDetails = null;
-        if (refreshDetailsInDb != null) {
-            LinkedTreeMap map = GsonUtil.fromJson(refreshDetailsInDb.getValue(), LinkedTreeMap.class);
-            LinkedTreeMap result = (LinkedTreeMap) map.get("result");
-            String channel = GsonUtil.toJson(result.get("channel"));
-            channelDetails = GsonUtil.fromJson(channel, Channel.class);
+            channelDetails = mChannelCache.get(channelId, channelId);
         }
 
         GenieResponse<Channel> response;
@@ -125,8 +184,7 @@ public class FrameworkServiceImpl extends BaseService implements IFrameworkServi
         LinkedTreeMap result = (LinkedTreeMap) map.get("result");
         if (result != null) {
             Double ttl = (Double) result.get("ttl");
-            String expirationKey = FrameworkConstants.PreferenceKey.CHANNEL_DETAILS_API_EXPIRATION_KEY + "-" + channelId;
-            saveDataExpirationTime(ttl, expirationKey);
+            saveDataExpirationTime(ttl, getChannelExpirationKey(channelId));
             String key = DB_KEY_CHANNEL_DETAILS + channelId;
 
             NoSqlModel channelDetails = NoSqlModel.build(mAppContext.getDBSession(), key, response);
@@ -139,18 +197,15 @@ public class FrameworkServiceImpl extends BaseService implements IFrameworkServi
         }
     }
 
-    private void refreshChannelDetails(final String channelId) {
-        new Thread(new Runnable() {
-            @Override
-            public void run() {
-                ChannelDetailsAPI channelAPI = new ChannelDetailsAPI(mAppContext, channelId);
-                GenieResponse genieResponse = channelAPI.get();
-                if (genieResponse.getStatus()) {
-                    String body = genieResponse.getResult().toString();
-                    saveChannelDetails(body, channelId);
-                }
-            }
-        }).start();
+    private Channel parseChannelDetails(String response) {
+        LinkedTreeMap map = GsonUtil.fromJson(response, LinkedTreeMap.class);
+        LinkedTreeMap result = (LinkedTreeMap) map.get("result");
+        String channel = GsonUtil.toJson(result.get("channel"));
+        return GsonUtil.fromJson(channel, Channel.class);
+    }
+
+    private String getChannelExpirationKey(String channelId) {
+        return FrameworkConstants.PreferenceKey.CHANNEL_DETAILS_API_EXPIRATION_KEY + "-" + channelId;
     }
 
     @Override
@@ -170,75 +225,48 @@ public class FrameworkServiceImpl extends BaseService implements IFrameworkServi
         }
 
         if (StringUtil.isNullOrEmpty(frameworkId)) {
-            return prepareGenieResponse(responseBody, methodName, params);
+            return prepareGenieResponse(null, methodName, params);
         }
 
-        String expirationKey = FrameworkConstants.PreferenceKey.FRAMEWORK_DETAILS_API_EXPIRATION_KEY + "-" + frameworkId;
-        long expirationTime = getLongFromKeyValueStore(expirationKey);
-
-        NoSqlModel frameworkDetailsInDb = NoSqlModel.findByKey(mAppContext.getDBSession(), DB_KEY_FRAMEWORK_DETAILS + frameworkId);
-
-        //no expiration time in shared preferences
-        if (expirationTime == 0) {
-
-            boolean callAPI = true;
-            //return default framework
-            if (frameworkDetailsRequest.isDefaultFrameworkDetails()) {
-                responseBody = FileUtil.readFileFromClasspath(frameworkDetailsRequest.getDefaultFrameworkPath());
-
-                LinkedTreeMap map = GsonUtil.fromJson(responseBody, LinkedTreeMap.class);
-                Map resultMap = ((LinkedTreeMap) map.get("result"));
-                if (resultMap != null) {
-                    LinkedTreeMap frameworkMap = (LinkedTreeMap) resultMap.get("framework");
-                    String defaultFrameworkId = (String) frameworkMap.get("identifier");
-                    if (defaultFrameworkId.equalsIgnoreCase(frameworkId)) {
-                        callAPI = false;
-                    }
-                }
-            }
-
-            //this framework is imported
-            else if (frameworkDetailsInDb != null) {
-                saveDataExpirationTime(DEFAULT_TTL, expirationKey);
-                responseBody = frameworkDetailsInDb.getValue();
-                callAPI = false;
-            }
+        Framework frameworkDetails = mFrameworkCache.get(frameworkId, frameworkId);
+        if (frameworkDetails != null) {
+            return prepareGenieResponse(frameworkDetails, methodName, params);
+        }
 
-            //make api call to fetch other than default
-            if (callAPI) {
-                GenieResponse frameworkDetailsAPIResponse = getFrameworkDetailsFromServer(frameworkId);
-                if (frameworkDetailsAPIResponse.getStatus()) {
-                    String responseBodyFromNetwork = frameworkDetailsAPIResponse.getResult().toString();
-                    responseBody = responseBodyFromNetwork;
-                    saveFrameworkExpirationTime(responseBodyFromNetwork);
+        boolean callAPI = true;
+        //return default framework
+        if (frameworkDetailsRequest.isDefaultFrameworkDetails()) {
+            responseBody = FileUtil.readFileFromClasspath(frameworkDetailsRequest.getDefaultFrameworkPath());
+
+            LinkedTreeMap map = GsonUtil.fromJson(responseBody, LinkedTreeMap.class);
+            Map resultMap = ((LinkedTreeMap) map.get("result"));
+            if (resultMap != null) {
+                LinkedTreeMap frameworkMap = (LinkedTreeMap) resultMap.get("framework");
+                String defaultFrameworkId = (String) frameworkMap.get("identifier");
+                if (defaultFrameworkId.equalsIgnoreCase(frameworkId)) {
+                    callAPI = false;
                 }
             }
-        } else {
+        }
 
-            //get from db including default
-            if (frameworkDetailsInDb != null) {
-                responseBody = frameworkDetailsInDb.getValue();
-            }
-
-            //make a silent call to update in db only if network in available
-            // and the ttl is expired
-            if (mAppContext.getConnectionInfo().isConnected() && hasExpired(expirationTime)) {
-                GenieResponse frameworkDetailsAPIResponse = getFrameworkDetailsFromServer(frameworkId);
-                if (frameworkDetailsAPIResponse.getStatus()) {
-                    String responseBodyFromNetwork = frameworkDetailsAPIResponse.getResult().toString();
-                    responseBody = responseBodyFromNetwork;
-                    saveFrameworkExpirationTime(responseBodyFromNetwork);
-                }
+        //make api call to fetch other than default
+        if (callAPI) {
+            responseBody = null;
+            GenieResponse frameworkDetailsAPIResponse = getFrameworkDetailsFromServer(frameworkId);
+            if (frameworkDetailsAPIResponse.getStatus()) {
+                String responseBodyFromNetwork = frameworkDetailsAPIResponse.getResult().toString();
+                responseBody = responseBodyFromNetwork;
+                saveFrameworkExpirationTime(responseBodyFromNetwork);
+                saveFrameworkDetails(responseBodyFromNetwork);
             }
         }
 
-        return prepareGenieResponse(responseBody, methodName, params);
+        return prepareGenieResponse(responseBody != null ? new Framework(responseBody) : null, methodName, params);
     }
 
-    private GenieResponse<Framework> prepareGenieResponse(String responseBody, String methodName, Map<String, Object> params) {
+    private GenieResponse<Framework> prepareGenieResponse(Framework frameworkDetails, String methodName, Map<String, Object> params) {
         GenieResponse<Framework> response;
-        if (responseBody != null) {
-            Framework frameworkDetails = new Framework(responseBody);
+        if (frameworkDetails != null) {
             response = GenieResponseBuilder.getSuccessResponse(ServiceConstants.SUCCESS_RESPONSE);
             response.setResult(frameworkDetails);
             TelemetryLogger.logSuccess(mAppContext, response, TAG, methodName, params);
@@ -271,11 +299,6 @@ public class FrameworkServiceImpl extends BaseService implements IFrameworkServi
         }
     }
 
-    private boolean hasExpired(long expirationTime) {
-        Long currentTime = DateUtil.getEpochTime();
-        return currentTime > expirationTime;
-    }
-
     private GenieResponse getFrameworkDetailsFromServer(String frameworkId) {
         FrameworkDetailsAPI frameworkDetailsAPI = new FrameworkDetailsAPI(mAppContext, frameworkId);
         return frameworkDetailsAPI.get();
@@ -294,23 +317,40 @@ public class FrameworkServiceImpl extends BaseService implements IFrameworkServi
 
     @Override
     public GenieResponse<Void> persistFrameworkDetails(String responseBody) {
+        String frameworkId = saveFrameworkDetails(responseBody);
+        if (frameworkId != null) {
+            mFrameworkCache.invalidate(frameworkId);
+        }
+
+        return GenieResponseBuilder.getSuccessResponse(ServiceConstants.SUCCESS_RESPONSE);
+    }
+
+    /**
+     * @return identifier of the framework saved, null if the response has no result.
+     */
+    private String saveFrameworkDetails(String responseBody) {
         LinkedTreeMap map = GsonUtil.fromJson(responseBody, LinkedTreeMap.class);
         Map resultMap = ((LinkedTreeMap) map.get("result"));
-        if (resultMap != null) {
-            LinkedTreeMap frameworkMap = (LinkedTreeMap) resultMap.get("framework");
-            String frameworkId = (String) frameworkMap.get("identifier");
-            String key = DB_KEY_FRAMEWORK_DETAILS + frameworkId;
+        if (resultMap == null) {
+            return null;
+        }
 
-            NoSqlModel frameworkDetails = NoSqlModel.build(mAppContext.getDBSession(), key, responseBody);
-            NoSqlModel frameworkDetailsInDb = NoSqlModel.findByKey(mAppContext.getDBSession(), key);
-            if (frameworkDetailsInDb != null) {
-                frameworkDetails.update();
-            } else {
-                frameworkDetails.save();
-            }
+        LinkedTreeMap frameworkMap = (LinkedTreeMap) resultMap.get("framework");
+        String frameworkId = (String) frameworkMap.get("identifier");
+        String key = DB_KEY_FRAMEWORK_DETAILS + frameworkId;
+
+        NoSqlModel frameworkDetails = NoSqlModel.build(mAppContext.getDBSession(), key, responseBody);
+        NoSqlModel frameworkDetailsInDb = NoSqlModel.findByKey(mAppContext.getDBSession(), key);
+        if (frameworkDetailsInDb != null) {
+            frameworkDetails.update();
+        } else {
+            frameworkDetails.save();
         }
+        return frameworkId;
+    }
 
-        return GenieResponseBuilder.getSuccessResponse(ServiceConstants.SUCCESS_RESPONSE);
+    private String getFrameworkExpirationKey(String frameworkId) {
+        return FrameworkConstants.PreferenceKey.FRAMEWORK_DETAILS_API_EXPIRATION_KEY + "-" + frameworkId;
     }
 
     private void saveFrameworkExpirationTime(String responseBody) {
@@ -321,8 +361,7 @@ public class FrameworkServiceImpl extends BaseService implements IFrameworkServi
             LinkedTreeMap frameworkMap = (LinkedTreeMap) resultMap.get("framework");
             String frameworkId = (String) frameworkMap.get("identifier");
 
-            String expirationKey = FrameworkConstants.PreferenceKey.FRAMEWORK_DETAILS_API_EXPIRATION_KEY + "-" + frameworkId;
-            saveDataExpirationTime(ttl, expirationKey);
+            saveDataExpirationTime(ttl, getFrameworkExpirationKey(frameworkId));
         }
     }
 
@@ -3,10 +3,10 @@ package org.ekstep.genieservices.config.db.model;
 import org.ekstep.genieservices.commons.AppContext;
 import org.ekstep.genieservices.commons.db.contract.MasterDataEntry;
 import org.ekstep.genieservices.commons.db.core.ContentValues;
+import org.ekstep.genieservices.commons.db.core.IBindableUpdatable;
 import org.ekstep.genieservices.commons.db.core.ICleanable;
 import org.ekstep.genieservices.commons.db.core.IReadable;
 import org.ekstep.genieservices.commons.db.core.IResultSet;
-import org.ekstep.genieservices.commons.db.core.IUpdatable;
 import org.ekstep.genieservices.commons.db.core.IWritable;
 import org.ekstep.genieservices.commons.db.operations.IDBSession;
 
@@ -17,7 +17,7 @@ import java.util.Locale;
  *
  * @author swayangjit
  */
-public class MasterDataModel implements IReadable, ICleanable, IWritable,IUpdatable {
+public class MasterDataModel implements IReadable, ICleanable, IWritable, IBindableUpdatable {
 
     private Long id = -1L;
 
@@ -99,7 +99,12 @@ public class MasterDataModel implements IReadable, ICleanable, IWritable,IUpdata
 
     @Override
     public String updateBy() {
-        return String.format(Locale.US, "%s = '%s'", MasterDataEntry.COLUMN_NAME_TYPE, mType);
+        return String.format(Locale.US, "%s = ?", MasterDataEntry.COLUMN_NAME_TYPE);
+    }
+
+    @Override
+    public String[] selectionArgsForUpdate() {
+        return new String[]{mType};
     }
 
     @Override
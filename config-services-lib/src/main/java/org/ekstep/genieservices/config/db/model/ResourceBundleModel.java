@@ -4,16 +4,16 @@ import org.ekstep.genieservices.commons.AppContext;
 import org.ekstep.genieservices.commons.db.BaseColumns;
 import org.ekstep.genieservices.commons.db.contract.ResourceBundleEntry;
 import org.ekstep.genieservices.commons.db.core.ContentValues;
+import org.ekstep.genieservices.commons.db.core.IBindableUpdatable;
 import org.ekstep.genieservices.commons.db.core.ICleanable;
 import org.ekstep.genieservices.commons.db.core.IReadable;
 import org.ekstep.genieservices.commons.db.core.IResultSet;
-import org.ekstep.genieservices.commons.db.core.IUpdatable;
 import org.ekstep.genieservices.commons.db.core.IWritable;
 import org.ekstep.genieservices.commons.db.operations.IDBSession;
 
 import java.util.Locale;
 
-public class ResourceBundleModel implements IWritable, IReadable, IUpdatable, ICleanable {
+public class ResourceBundleModel implements IWritable, IReadable, IBindableUpdatable, ICleanable {
     private static final String TAG = "model-ResourceBundle";
     private Long id = -1L;
     private String mIdentifier;
@@ -112,7 +112,12 @@ public class ResourceBundleModel implements IWritable, IReadable, IUpdatable, IC
 
     @Override
     public String updateBy() {
-        return String.format(Locale.US, "%s = '%s'", ResourceBundleEntry.COLUMN_NAME_BUNDLE_IDENTIFIER, mIdentifier);
+        return String.format(Locale.US, "%s = ?", ResourceBundleEntry.COLUMN_NAME_BUNDLE_IDENTIFIER);
+    }
+
+    @Override
+    public String[] selectionArgsForUpdate() {
+        return new String[]{mIdentifier};
     }
 
     @Override
@@ -0,0 +1,132 @@
+package org.ekstep.genieservices.benchmark;
+
+import org.ekstep.genieservices.commons.bean.Content;
+import org.ekstep.genieservices.commons.db.BaseColumns;
+import org.ekstep.genieservices.commons.db.contract.ContentEntry;
+import org.ekstep.genieservices.commons.utils.GsonUtil;
+import org.ekstep.genieservices.content.ContentConstants;
+import org.ekstep.genieservices.content.ContentHandler;
+import org.ekstep.genieservices.content.db.model.ContentDataCache;
+import org.ekstep.genieservices.content.db.model.ContentModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads and converts {@link #CONTENT_COUNT} local contents the way getAllLocalContent does, with every row
+ * parsed again (cold {@link ContentDataCache}) and with the rows already decoded by an earlier call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContentDataBenchmark {
+
+    private static final int CONTENT_COUNT = 1000;
+
+    private static final String[] COLUMNS = {BaseColumns._ID, ContentEntry.COLUMN_NAME_IDENTIFIER,
+            ContentEntry.COLUMN_NAME_SERVER_DATA, ContentEntry.COLUMN_NAME_LOCAL_DATA, ContentEntry.COLUMN_NAME_MIME_TYPE,
+            ContentEntry.COLUMN_NAME_PATH, ContentEntry.COLUMN_NAME_VISIBILITY, ContentEntry.COLUMN_NAME_REF_COUNT,
+            ContentEntry.COLUMN_NAME_CONTENT_STATE, ContentEntry.COLUMN_NAME_CONTENT_TYPE,
+            ContentEntry.COLUMN_NAME_LOCAL_LAST_UPDATED_ON, ContentEntry.COLUMN_NAME_SERVER_LAST_UPDATED_ON,
+            ContentEntry.COLUMN_NAME_AUDIENCE, ContentEntry.COLUMN_NAME_PRAGMA, ContentEntry.COLUMN_NAME_SIZE_ON_DEVICE};
+
+    private InMemoryDBSession dbSession;
+
+    @Setup
+    public void setup() {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (int i = 0; i < CONTENT_COUNT; i++) {
+            String identifier = "do_" + (30000000 + i);
+            Map<String, Object> row = new HashMap<>();
+            row.put(BaseColumns._ID, (long) i);
+            row.put(ContentEntry.COLUMN_NAME_IDENTIFIER, identifier);
+            row.put(ContentEntry.COLUMN_NAME_SERVER_DATA, GsonUtil.toJson(sampleContentData(identifier, i, 2)));
+            row.put(ContentEntry.COLUMN_NAME_LOCAL_DATA, GsonUtil.toJson(sampleContentData(identifier, i, 1)));
+            row.put(ContentEntry.COLUMN_NAME_MIME_TYPE, "application/vnd.ekstep.ecml-archive");
+            row.put(ContentEntry.COLUMN_NAME_PATH, "/storage/content/" + identifier);
+            row.put(ContentEntry.COLUMN_NAME_VISIBILITY, ContentConstants.Visibility.DEFAULT);
+            row.put(ContentEntry.COLUMN_NAME_REF_COUNT, 1);
+            row.put(ContentEntry.COLUMN_NAME_CONTENT_STATE, ContentConstants.State.ARTIFACT_AVAILABLE);
+            row.put(ContentEntry.COLUMN_NAME_CONTENT_TYPE, "story");
+            row.put(ContentEntry.COLUMN_NAME_LOCAL_LAST_UPDATED_ON, "2018-03-15T10:20:30+0530");
+            row.put(ContentEntry.COLUMN_NAME_SERVER_LAST_UPDATED_ON, "2018-03-10T08:00:00.000+0000");
+            row.put(ContentEntry.COLUMN_NAME_AUDIENCE, "Learner");
+            row.put(ContentEntry.COLUMN_NAME_SIZE_ON_DEVICE, 1024L * i);
+            rows.add(row);
+        }
+
+        dbSession = new InMemoryDBSession();
+        dbSession.setRows(ContentEntry.TABLE_NAME, COLUMNS, rows);
+    }
+
+    @State(Scope.Thread)
+    public static class ColdCache {
+
+        @Setup(Level.Invocation)
+        public void clear() {
+            ContentDataCache.getInstance().clear();
+        }
+    }
+
+    @Benchmark
+    public List<Content> withoutCache(ColdCache coldCache) {
+        return getAllLocalContent();
+    }
+
+    @Benchmark
+    public List<Content> withCache() {
+        return getAllLocalContent();
+    }
+
+    private List<Content> getAllLocalContent() {
+        List<ContentModel> contentModelList = ContentHandler.getAllLocalContent(dbSession, null);
+        List<Content> contentList = new ArrayList<>(contentModelList.size());
+        for (ContentModel contentModel : contentModelList) {
+            contentList.add(ContentHandler.convertContentModelToBean(contentModel));
+        }
+        return contentList;
+    }
+
+    private static Map<String, Object> sampleContentData(String identifier, int index, int pkgVersion) {
+        Map<String, Object> contentData = new HashMap<>();
+        contentData.put("identifier", identifier);
+        contentData.put("name", "Story " + index);
+        contentData.put("description", "A story about the number " + index + ", told over a few pages with pictures and audio.");
+        contentData.put("appIcon", "https://ekstep-public.s3.amazonaws.com/content/" + identifier + "/icon.png");
+        contentData.put("pkgVersion", pkgVersion);
+        contentData.put("status", "Live");
+        contentData.put("size", 1048576 + index);
+        contentData.put("owner", "EkStep");
+        contentData.put("creator", "EkStep");
+        contentData.put("subject", "literacy");
+        contentData.put("board", "CBSE");
+        contentData.put("medium", "English");
+        contentData.put("language", Arrays.asList("English"));
+        contentData.put("gradeLevel", Arrays.asList("Grade 1", "Grade 2"));
+        contentData.put("contentType", "Story");
+        contentData.put("mimeType", "application/vnd.ekstep.ecml-archive");
+        contentData.put("audience", Arrays.asList("Learner"));
+        contentData.put("downloadUrl", "https://ekstep-public.s3.amazonaws.com/ecar_files/" + identifier + ".ecar");
+        contentData.put("artifactUrl", "https://ekstep-public.s3.amazonaws.com/content/" + identifier + "/artifact.zip");
+        contentData.put("lastUpdatedOn", "2018-03-10T08:00:00.000+0000");
+        return contentData;
+    }
+}
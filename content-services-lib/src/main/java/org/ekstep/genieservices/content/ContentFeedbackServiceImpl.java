@@ -99,14 +99,7 @@ public class ContentFeedbackServiceImpl extends BaseService implements IContentF
         List<ContentFeedback> contentFeedbackList = new ArrayList<>();
         if (contentFeedbacksModel != null) {
             for (ContentFeedbackModel contentFeedbackModel : contentFeedbacksModel.getContentFeedbackModelList()) {
-                ContentFeedback contentFeedback = new ContentFeedback(contentFeedbackModel.getCreatedAt());
-                contentFeedback.setContentId(contentFeedbackModel.getContentId());
-                if (!StringUtil.isNullOrEmpty(contentFeedbackModel.getRating())) {
-                    contentFeedback.setRating(Float.valueOf(contentFeedbackModel.getRating()));
-                }
-                contentFeedback.setComments(contentFeedbackModel.getComments());
-
-                contentFeedbackList.add(contentFeedback);
+                contentFeedbackList.add(ContentHandler.convertContentFeedbackModelToBean(contentFeedbackModel));
             }
         }
 
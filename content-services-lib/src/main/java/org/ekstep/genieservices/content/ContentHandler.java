@@ -37,14 +37,19 @@ import org.ekstep.genieservices.commons.bean.enums.MasterDataType;
 import org.ekstep.genieservices.commons.bean.enums.SearchType;
 import org.ekstep.genieservices.commons.bean.enums.SortOrder;
 import org.ekstep.genieservices.commons.db.contract.ContentAccessEntry;
+import org.ekstep.genieservices.commons.db.contract.ContentFeedbackEntry;
 import org.ekstep.genieservices.commons.db.contract.ContentEntry;
 import org.ekstep.genieservices.commons.db.operations.IDBSession;
+import org.ekstep.genieservices.commons.executor.SDKExecutor;
 import org.ekstep.genieservices.commons.utils.CollectionUtil;
 import org.ekstep.genieservices.commons.utils.DateUtil;
 import org.ekstep.genieservices.commons.utils.FileUtil;
 import org.ekstep.genieservices.commons.utils.GsonUtil;
 import org.ekstep.genieservices.commons.utils.Logger;
 import org.ekstep.genieservices.commons.utils.StringUtil;
+import org.ekstep.genieservices.content.db.model.ContentAccessListModel;
+import org.ekstep.genieservices.content.db.model.ContentFeedbackModel;
+import org.ekstep.genieservices.content.db.model.ContentFeedbacksModel;
 import org.ekstep.genieservices.content.db.model.ContentListingModel;
 import org.ekstep.genieservices.content.db.model.ContentModel;
 import org.ekstep.genieservices.content.db.model.ContentsModel;
@@ -82,6 +87,7 @@ public class ContentHandler {
     public static final String KEY_DB_DIAL_CODES = "DIAL_CODES-";
 
     private static final String TAG = ContentHandler.class.getSimpleName();
+    private static final int MAX_BIND_ARGS = 500;
 
     private static final String KEY_IDENTIFIER = "identifier";
     private static final String KEY_PKG_VERSION = "pkgVersion";
@@ -353,10 +359,6 @@ public class ContentHandler {
         return null;
     }
 
-    private static List<String> getPreRequisitesIdentifiers(String localData) {
-        return getPreRequisitesIdentifiers(GsonUtil.fromJson(localData, Map.class));
-    }
-
     public static List<String> getPreRequisitesIdentifiers(Map contentData) {
         List<String> childIdentifiers = new ArrayList<>();
 
@@ -387,10 +389,6 @@ public class ContentHandler {
         return null;
     }
 
-    private static List<String> getChildContentsIdentifiers(String localData) {
-        return getChildContentsIdentifiers(GsonUtil.fromJson(localData, Map.class));
-    }
-
     public static List<String> getChildContentsIdentifiers(Map contentData) {
         List<String> childIdentifiers = new ArrayList<>();
 
@@ -419,7 +417,7 @@ public class ContentHandler {
     }
 
     public static void refreshContentDetailsFromServer(final AppContext appContext, final String contentIdentifier, final ContentModel existingContentModel) {
-        new Thread(new Runnable() {
+        SDKExecutor.getInstance().submit(SDKExecutor.Lane.REFRESH, new Runnable() {
             @Override
             public void run() {
 
@@ -446,23 +444,15 @@ public class ContentHandler {
                     }
                 }
             }
-        }).start();
+        });
     }
 
     public static Content convertContentModelToBean(ContentModel contentModel) {
         Content content = new Content();
         content.setIdentifier(contentModel.getIdentifier());
-        ContentData localData = null, serverData = null;
-        if (contentModel.getLocalData() != null) {
-            localData = GsonUtil.fromJson(contentModel.getLocalData(), ContentData.class);
-            content.setContentData(localData);
-        }
-        if (contentModel.getServerData() != null) {
-            serverData = GsonUtil.fromJson(contentModel.getServerData(), ContentData.class);
-            if (localData == null) {
-                content.setContentData(serverData);
-            }
-        }
+        ContentData localData = contentModel.getLocalContentData();
+        ContentData serverData = contentModel.getServerContentData();
+        content.setContentData(localData != null ? localData : serverData);
 
         content.setUpdateAvailable(isUpdateAvailable(serverData, localData));
         content.setMimeType(contentModel.getMimeType());
@@ -521,6 +511,87 @@ public class ContentHandler {
         return null;
     }
 
+    public static ContentFeedback convertContentFeedbackModelToBean(ContentFeedbackModel contentFeedbackModel) {
+        ContentFeedback contentFeedback = new ContentFeedback(contentFeedbackModel.getCreatedAt());
+        contentFeedback.setContentId(contentFeedbackModel.getContentId());
+        if (!StringUtil.isNullOrEmpty(contentFeedbackModel.getRating())) {
+            contentFeedback.setRating(Float.valueOf(contentFeedbackModel.getRating()));
+        }
+        contentFeedback.setComments(contentFeedbackModel.getComments());
+        return contentFeedback;
+    }
+
+    /**
+     * Reads the feedback of all the contents at once, instead of a {@link IContentFeedbackService#getFeedback} call per content.
+     *
+     * @param uid null for the feedback of every user.
+     * @return feedback by content identifier, with an empty list for the contents without any.
+     */
+    public static Map<String, List<ContentFeedback>> getContentFeedback(IDBSession dbSession, List<String> contentIdentifiers, String uid) {
+        Map<String, List<ContentFeedback>> feedbackByContent = new HashMap<>();
+        for (String identifier : contentIdentifiers) {
+            feedbackByContent.put(identifier, new ArrayList<ContentFeedback>());
+        }
+
+        for (int from = 0; from < contentIdentifiers.size(); from += MAX_BIND_ARGS) {
+            List<String> chunk = contentIdentifiers.subList(from, Math.min(from + MAX_BIND_ARGS, contentIdentifiers.size()));
+            List<String> selectionArgs = new ArrayList<>(chunk);
+            String filter = String.format(Locale.US, " where %s in (%s)", ContentFeedbackEntry.COLUMN_NAME_CONTENT_ID, placeholders(chunk.size()));
+            if (uid != null) {
+                filter = filter + String.format(Locale.US, " AND %s = ?", ContentFeedbackEntry.COLUMN_NAME_UID);
+                selectionArgs.add(uid);
+            }
+
+            ContentFeedbacksModel contentFeedbacksModel = ContentFeedbacksModel.find(dbSession, filter, selectionArgs.toArray(new String[selectionArgs.size()]));
+            if (contentFeedbacksModel != null) {
+                for (ContentFeedbackModel contentFeedbackModel : contentFeedbacksModel.getContentFeedbackModelList()) {
+                    List<ContentFeedback> contentFeedbackList = feedbackByContent.get(contentFeedbackModel.getContentId());
+                    if (contentFeedbackList != null) {
+                        contentFeedbackList.add(convertContentFeedbackModelToBean(contentFeedbackModel));
+                    }
+                }
+            }
+        }
+
+        return feedbackByContent;
+    }
+
+    /**
+     * Reads the access of all the contents at once, instead of a {@link IUserService#getAllContentAccess} call per content,
+     * which would log an API call each.
+     *
+     * @param uid null for the access of every user.
+     * @return access by content identifier, the latest first, with an empty list for the contents without any.
+     */
+    public static Map<String, List<ContentAccess>> getContentAccess(IDBSession dbSession, List<String> contentIdentifiers, String uid) {
+        Map<String, List<ContentAccess>> accessByContent = new HashMap<>();
+        for (String identifier : contentIdentifiers) {
+            accessByContent.put(identifier, new ArrayList<ContentAccess>());
+        }
+
+        for (int from = 0; from < contentIdentifiers.size(); from += MAX_BIND_ARGS) {
+            List<String> chunk = contentIdentifiers.subList(from, Math.min(from + MAX_BIND_ARGS, contentIdentifiers.size()));
+            List<String> selectionArgs = new ArrayList<>(chunk);
+            String filter = String.format(Locale.US, " where %s in (%s)", ContentAccessEntry.COLUMN_NAME_CONTENT_IDENTIFIER, placeholders(chunk.size()));
+            if (!StringUtil.isNullOrEmpty(uid)) {
+                filter = filter + String.format(Locale.US, " AND %s = ?", ContentAccessEntry.COLUMN_NAME_UID);
+                selectionArgs.add(uid);
+            }
+
+            ContentAccessListModel contentAccessListModel = ContentAccessListModel.find(dbSession, filter, selectionArgs.toArray(new String[selectionArgs.size()]));
+            if (contentAccessListModel != null) {
+                for (ContentAccess contentAccess : contentAccessListModel.getContentAccessList()) {
+                    List<ContentAccess> contentAccessList = accessByContent.get(contentAccess.getContentId());
+                    if (contentAccessList != null) {
+                        contentAccessList.add(contentAccess);
+                    }
+                }
+            }
+        }
+
+        return accessByContent;
+    }
+
     private static boolean isUpdateAvailable(ContentData serverData, ContentData localData) {
         float lVersion = DEFAULT_PACKAGE_VERSION;
         float sVersion = DEFAULT_PACKAGE_VERSION;
@@ -785,7 +856,7 @@ public class ContentHandler {
             // Update the refCount
             contentModel.addOrUpdateRefCount(refCount);
             contentModel.addOrUpdateContentState(contentState);
-            contentModel.setSizeOnDevice(FileUtil.getFileSize(new File(contentModel.getPath())));
+            contentModel.setOwnSizeOnDevice(FileUtil.getFileSize(new File(contentModel.getPath())));
             contentModel.doNotUpdateLocalLastUpdatedTime();
 
             contentModel.update();
@@ -793,7 +864,7 @@ public class ContentHandler {
     }
 
     public static void deleteAllPreRequisites(AppContext appContext, ContentModel contentModel, boolean isChildContent) {
-        List<String> preRequisitesIdentifier = getPreRequisitesIdentifiers(contentModel.getLocalData());
+        List<String> preRequisitesIdentifier = getPreRequisitesIdentifiers(contentModel.getLocalDataMap());
         List<ContentModel> contentModelListInDB = findAllContentsWithIdentifiers(appContext.getDBSession(), preRequisitesIdentifier);
 
         if (contentModelListInDB != null) {
@@ -812,8 +883,8 @@ public class ContentHandler {
         while (!queue.isEmpty()) {
             node = queue.remove();
 
-            if (hasChildren(node.getLocalData())) {
-                List<String> childContentsIdentifiers = getChildContentsIdentifiers(node.getLocalData());
+            if (hasChildren(node.getLocalDataMap())) {
+                List<String> childContentsIdentifiers = getChildContentsIdentifiers(node.getLocalDataMap());
                 List<ContentModel> contentModelListInDB = findAllContentsWithIdentifiers(appContext.getDBSession(), childContentsIdentifiers);
                 if (contentModelListInDB != null) {
                     queue.addAll(contentModelListInDB);
@@ -828,17 +899,45 @@ public class ContentHandler {
     }
 
     public static List<ContentModel> findAllContentsWithIdentifiers(IDBSession dbSession, List<String> identifiers) {
-        String filter = String.format(Locale.US, " where %s in ('%s') AND %s > 0", ContentEntry.COLUMN_NAME_IDENTIFIER, StringUtil.join("','", identifiers), ContentEntry.COLUMN_NAME_REF_COUNT);
+        return findAllContentsWithIdentifiers(dbSession, identifiers, true);
+    }
 
+    /**
+     * @param onlyReferenced false to find the contents whose refCount is 0 as well.
+     */
+    public static List<ContentModel> findAllContentsWithIdentifiers(IDBSession dbSession, List<String> identifiers, boolean onlyReferenced) {
         List<ContentModel> contentModelListInDB = null;
-        ContentsModel contentsModel = ContentsModel.find(dbSession, filter);
-        if (contentsModel != null) {
-            contentModelListInDB = contentsModel.getContentModelList();
+
+        String refCountFilter = onlyReferenced ? String.format(Locale.US, " AND %s > 0", ContentEntry.COLUMN_NAME_REF_COUNT) : "";
+
+        // SQLite allows at most 999 bind arguments in a statement.
+        for (int from = 0; from < identifiers.size(); from += MAX_BIND_ARGS) {
+            List<String> chunk = identifiers.subList(from, Math.min(from + MAX_BIND_ARGS, identifiers.size()));
+            String filter = String.format(Locale.US, " where %s in (%s)%s", ContentEntry.COLUMN_NAME_IDENTIFIER, placeholders(chunk.size()), refCountFilter);
+
+            ContentsModel contentsModel = ContentsModel.find(dbSession, filter, chunk.toArray(new String[chunk.size()]));
+            if (contentsModel != null) {
+                if (contentModelListInDB == null) {
+                    contentModelListInDB = new ArrayList<>();
+                }
+                contentModelListInDB.addAll(contentsModel.getContentModelList());
+            }
         }
 
         return contentModelListInDB;
     }
 
+    private static String placeholders(int count) {
+        StringBuilder placeholders = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                placeholders.append(",");
+            }
+            placeholders.append("?");
+        }
+        return placeholders.toString();
+    }
+
     public static List<ContentModel> findAllContent(IDBSession dbSession) {
         String contentStateFilter = String.format(Locale.US, "%s > '0'", ContentEntry.COLUMN_NAME_REF_COUNT);
 
@@ -876,7 +975,7 @@ public class ContentHandler {
             String newVisibility = readVisibility(newContentData);
 
             if (oldIdentifier.equals(newIdentifier) && oldVisibility.equals(newVisibility)) {
-                isExist = readPkgVersion(oldContentModel.getLocalData()) >= readPkgVersion(newContentData);
+                isExist = readPkgVersion(oldContentModel.getLocalDataMap()) >= readPkgVersion(newContentData);
             }
         } catch (Exception e) {
             Logger.e(TAG, "isImportFileExist", e);
@@ -910,18 +1009,18 @@ public class ContentHandler {
             if (oldIdentifier.equalsIgnoreCase(newIdentifier)) {
                 boolean overrideDB = false;
                 if (keepLowerVersion) {
-                    if ((readPkgVersion(oldContent.getLocalData()) < newPkgVersion)) {
+                    if ((readPkgVersion(oldContent.getLocalDataMap()) < newPkgVersion)) {
                         overrideDB = false;
                     } else {
                         overrideDB = true;
                     }
-                } else if ((readPkgVersion(oldContent.getLocalData()) < newPkgVersion)) {
+                } else if ((readPkgVersion(oldContent.getLocalDataMap()) < newPkgVersion)) {
                     overrideDB = true;
                 }
 
                 if (overrideDB
                         // If old content's pkgVersion is less than the new content then return false.
-//                        && ((readPkgVersion(oldContent.getLocalData()) < newPkgVersion)
+//                        && ((readPkgVersion(oldContent.getLocalDataMap()) < newPkgVersion)
                         //  If content_state is other than artifact available then also return  false.
                         || (!keepLowerVersion && oldContent.getContentState() != ContentConstants.State.ARTIFACT_AVAILABLE)) {
                     isExist = false;
@@ -1560,6 +1659,10 @@ public class ContentHandler {
             filterBuilder.softFilters();
         }
 
+        if (previousCriteria.isOfflineSearch()) {
+            filterBuilder.offlineSearch();
+        }
+
         if (facets == null) {
             filterBuilder.facetFilters(facetFilters);
             return filterBuilder.build();
@@ -1705,12 +1808,12 @@ public class ContentHandler {
 
     public static void refreshContentListingFromServer(final AppContext appContext, final IConfigService configService,
                                                        final ContentListingCriteria contentListingCriteria, final String did) {
-        new Thread(new Runnable() {
+        SDKExecutor.getInstance().submit(SDKExecutor.Lane.REFRESH, new Runnable() {
             @Override
             public void run() {
                 fetchContentListingFromServer(appContext, configService, contentListingCriteria, did);
             }
-        }).start();
+        });
     }
 
     public static String fetchContentListingFromServer(AppContext appContext, IConfigService configService, ContentListingCriteria contentListingCriteria, String did) {
@@ -2043,14 +2146,14 @@ public class ContentHandler {
         while (!queue.isEmpty()) {
             node = queue.remove();
 
-            if (hasChildren(node.getLocalData())) {
-                List<String> childContentsIdentifiers = getChildContentsIdentifiers(node.getLocalData());
+            if (hasChildren(node.getLocalDataMap())) {
+                List<String> childContentsIdentifiers = getChildContentsIdentifiers(node.getLocalDataMap());
                 List<ContentModel> contentModelListInDB = findAllContentsWithIdentifiers(dbSession, childContentsIdentifiers);
                 if (contentModelListInDB != null) {
                     queue.addAll(contentModelListInDB);
                 }
-            } else if (hasPreRequisites(node.getLocalData())) {
-                List<String> preRequisitesIdentifiers = getPreRequisitesIdentifiers(node.getLocalData());
+            } else if (hasPreRequisites(node.getLocalDataMap())) {
+                List<String> preRequisitesIdentifiers = getPreRequisitesIdentifiers(node.getLocalDataMap());
                 List<ContentModel> preRequisitesListInDB = findAllContentsWithIdentifiers(dbSession, preRequisitesIdentifiers);
                 if (preRequisitesListInDB != null) {
                     queue.addAll(preRequisitesListInDB);
@@ -2098,7 +2201,7 @@ public class ContentHandler {
 
             double pkgVersion;
             try {
-                pkgVersion = readPkgVersion(firstContent.getLocalData());
+                pkgVersion = readPkgVersion(firstContent.getLocalDataMap());
             } catch (Exception e) {
                 pkgVersion = 0;
             }
@@ -2124,8 +2227,8 @@ public class ContentHandler {
             while (!queue.isEmpty()) {
                 node = queue.remove();
 
-                if (hasChildren(node.getLocalData())) {
-                    List<String> childContentsIdentifiers = getChildContentsIdentifiers(node.getLocalData());
+                if (hasChildren(node.getLocalDataMap())) {
+                    List<String> childContentsIdentifiers = getChildContentsIdentifiers(node.getLocalDataMap());
                     List<ContentModel> contentModelListInDB = findAllContentsWithIdentifiers(appContext.getDBSession(), childContentsIdentifiers);
                     if (contentModelListInDB != null) {
                         queue.addAll(contentModelListInDB);
@@ -2421,43 +2524,6 @@ public class ContentHandler {
         }
     }
 
-    public static void updateSizeOnDevice(AppContext appContext) {
-        List<ContentModel> dbContentModelList = findAllContent(appContext.getDBSession());
-        if (!CollectionUtil.isNullOrEmpty(dbContentModelList)) {
-            for (ContentModel contentModel : dbContentModelList) {
-                if (hasChildren(contentModel.getLocalData())) {
-                    long sizeOnDevice = 0;
-                    Queue<ContentModel> queue = new LinkedList<>();
-
-                    queue.add(contentModel);
-
-                    ContentModel node;
-                    while (!queue.isEmpty()) {
-                        node = queue.remove();
-
-                        if (hasChildren(node.getLocalData())) {
-                            List<String> childContentsIdentifiers = getChildContentsIdentifiers(node.getLocalData());
-                            List<ContentModel> contentModelListInDB = findAllContentsWithIdentifiers(appContext.getDBSession(), childContentsIdentifiers);
-                            if (contentModelListInDB != null) {
-                                queue.addAll(contentModelListInDB);
-                            }
-                        }
-
-                        if (ContentConstants.MimeType.COLLECTION.equals(node.getMimeType())) {
-                            sizeOnDevice = sizeOnDevice + FileUtil.getFileSize(new File(node.getPath()));
-                        } else {
-                            sizeOnDevice = sizeOnDevice + node.getSizeOnDevice();
-                        }
-                    }
-
-                    contentModel.setSizeOnDevice(sizeOnDevice);
-                    contentModel.doNotUpdateLocalLastUpdatedTime();
-                    contentModel.update();
-                }
-            }
-        }
-    }
-
     public static long getUsageSpace(String path, AppContext appContext) {
         String query = String.format(Locale.US, "select sum(%s) from %s where %s LIKE '%s' AND %s != '%s';",
                 ContentEntry.COLUMN_NAME_SIZE_ON_DEVICE, ContentEntry.TABLE_NAME, ContentEntry.COLUMN_NAME_PATH, (path + "%"), ContentEntry.COLUMN_NAME_MIME_TYPE, ContentConstants.MimeType.COLLECTION);
@@ -0,0 +1,241 @@
+package org.ekstep.genieservices.content;
+
+import org.ekstep.genieservices.commons.db.contract.ContentHierarchyEntry;
+import org.ekstep.genieservices.commons.db.operations.IDBSession;
+import org.ekstep.genieservices.commons.db.operations.IDBTransaction;
+import org.ekstep.genieservices.commons.utils.StringUtil;
+import org.ekstep.genieservices.content.db.model.ContentHierarchyModel;
+import org.ekstep.genieservices.content.db.model.ContentHierarchyRootsModel;
+import org.ekstep.genieservices.content.db.model.ContentModel;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps the flattened tree of the collections in {@link ContentHierarchyEntry}.
+ * <p>
+ * The tree of a root is indexed the first time it is asked for, and dropped whenever a content in it is
+ * imported or deleted, so that it is indexed again from the current local data on the next call.
+ * Children which are not in the db are indexed as well, so that importing one of them drops the tree.
+ */
+public class ContentHierarchyIndex {
+
+    private static final String DELETE_BY_ROOT = String.format(Locale.US, "DELETE FROM %s WHERE %s = ?",
+            ContentHierarchyEntry.TABLE_NAME, ContentHierarchyEntry.COLUMN_NAME_ROOT_IDENTIFIER);
+
+    private static final String DELETE_ROOTS_CONTAINING = String.format(Locale.US, "DELETE FROM %s WHERE %s IN (SELECT %s FROM %s WHERE %s = ?)",
+            ContentHierarchyEntry.TABLE_NAME, ContentHierarchyEntry.COLUMN_NAME_ROOT_IDENTIFIER,
+            ContentHierarchyEntry.COLUMN_NAME_ROOT_IDENTIFIER, ContentHierarchyEntry.TABLE_NAME, ContentHierarchyEntry.COLUMN_NAME_IDENTIFIER);
+
+    private static final String PATH_SEPARATOR = "/";
+
+    private static final int MAX_BIND_ARGS = 500;
+
+    private ContentHierarchyIndex() {
+    }
+
+    /**
+     * Indexes the tree of the root, unless it is indexed already.
+     */
+    public static void ensureIndexed(IDBSession dbSession, String rootIdentifier) {
+        if (ContentHierarchyModel.findRoot(dbSession, rootIdentifier) == null) {
+            index(dbSession, rootIdentifier);
+        }
+    }
+
+    /**
+     * Drops the tree of every root which contains one of the contents.
+     *
+     * @return roots of the dropped trees.
+     */
+    public static Set<String> invalidate(IDBSession dbSession, Collection<String> identifiers) {
+        Set<String> rootIdentifiers = new LinkedHashSet<>();
+        if (identifiers == null || identifiers.isEmpty()) {
+            return rootIdentifiers;
+        }
+
+        List<String> identifierList = new ArrayList<>(identifiers);
+        for (int from = 0; from < identifierList.size(); from += MAX_BIND_ARGS) {
+            List<String> chunk = identifierList.subList(from, Math.min(from + MAX_BIND_ARGS, identifierList.size()));
+            rootIdentifiers.addAll(ContentHierarchyRootsModel.findContaining(dbSession, chunk).getRootIdentifiers());
+        }
+
+        List<Object[]> bindArgsList = new ArrayList<>(identifiers.size());
+        for (String identifier : identifiers) {
+            bindArgsList.add(new Object[]{identifier});
+        }
+        dbSession.executeBatch(DELETE_ROOTS_CONTAINING, bindArgsList);
+        return rootIdentifiers;
+    }
+
+    /**
+     * Indexes the tree of the root again, reading the content of one level of the tree at a time.
+     */
+    public static void index(IDBSession dbSession, final String rootIdentifier) {
+        ContentModel root = ContentModel.find(dbSession, rootIdentifier);
+        if (root == null) {
+            invalidate(dbSession, Collections.singletonList(rootIdentifier));
+            return;
+        }
+
+        Map<String, ContentModel> contents = new HashMap<>();
+        Map<String, List<String>> childrenByParent = new HashMap<>();
+        contents.put(root.getIdentifier(), root);
+
+        List<ContentModel> level = Collections.singletonList(root);
+        while (!level.isEmpty()) {
+            Set<String> toRead = new LinkedHashSet<>();
+            for (ContentModel node : level) {
+                List<String> children = getSortedChildIdentifiers(node.getLocalDataMap());
+                childrenByParent.put(node.getIdentifier(), children);
+                for (String child : children) {
+                    if (!contents.containsKey(child)) {
+                        toRead.add(child);
+                    }
+                }
+            }
+
+            List<ContentModel> nextLevel = new ArrayList<>();
+            if (!toRead.isEmpty()) {
+                List<ContentModel> contentModelList = ContentHandler.findAllContentsWithIdentifiers(dbSession, new ArrayList<>(toRead), false);
+                if (contentModelList != null) {
+                    for (ContentModel contentModel : contentModelList) {
+                        contents.put(contentModel.getIdentifier(), contentModel);
+                        nextLevel.add(contentModel);
+                    }
+                }
+            }
+            level = nextLevel;
+        }
+
+        final List<ContentHierarchyModel> rows = flatten(dbSession, rootIdentifier, contents, childrenByParent);
+        dbSession.executeInTransaction(new IDBTransaction() {
+            @Override
+            public Void perform(IDBSession dbSession) {
+                List<Object[]> bindArgsList = new ArrayList<>();
+                bindArgsList.add(new Object[]{rootIdentifier});
+                dbSession.executeBatch(DELETE_BY_ROOT, bindArgsList);
+                dbSession.createAll(rows);
+                return null;
+            }
+        });
+    }
+
+    private static List<ContentHierarchyModel> flatten(IDBSession dbSession, String rootIdentifier,
+                                                       Map<String, ContentModel> contents, Map<String, List<String>> childrenByParent) {
+        List<ContentHierarchyModel> rows = new ArrayList<>();
+        int sequence = 0;
+        int playbackSequence = 0;
+
+        Deque<Node> stack = new ArrayDeque<>();
+        stack.push(new Node(rootIdentifier, null, 0, ""));
+        while (!stack.isEmpty()) {
+            Node node = stack.pop();
+            ContentModel contentModel = contents.get(node.identifier);
+
+            int nodePlaybackSequence = -1;
+            if (node.depth > 0 && contentModel != null && !ContentConstants.MimeType.COLLECTION.equals(contentModel.getMimeType())) {
+                nodePlaybackSequence = playbackSequence++;
+            }
+            rows.add(ContentHierarchyModel.build(dbSession, rootIdentifier, node.identifier, node.parentIdentifier,
+                    node.depth, sequence++, nodePlaybackSequence, node.path));
+
+            List<String> children = childrenByParent.get(node.identifier);
+            if (contentModel == null || children == null) {
+                continue;
+            }
+
+            String childPath = node.depth == 0 ? node.identifier : node.path + PATH_SEPARATOR + node.identifier;
+            // Pushed in reverse so that the first child is popped first.
+            for (int i = children.size() - 1; i >= 0; i--) {
+                String child = children.get(i);
+                if (!isInPath(childPath, child)) {
+                    stack.push(new Node(child, node.identifier, node.depth + 1, childPath));
+                }
+            }
+        }
+
+        return rows;
+    }
+
+    private static boolean isInPath(String path, String identifier) {
+        return (PATH_SEPARATOR + path + PATH_SEPARATOR).contains(PATH_SEPARATOR + identifier + PATH_SEPARATOR);
+    }
+
+    private static List<String> getSortedChildIdentifiers(Map localDataMap) {
+        List<String> childIdentifiers = new ArrayList<>();
+        List<Map> children = localDataMap != null ? (List<Map>) localDataMap.get("children") : null;
+        if (children == null || children.isEmpty()) {
+            return childIdentifiers;
+        }
+
+        // Sort by index of child content, the ones without an index keep their order at the end.
+        List<Map> sortedChildren = new ArrayList<>(children);
+        Collections.sort(sortedChildren, new Comparator<Map>() {
+            @Override
+            public int compare(Map left, Map right) {
+                return Double.compare(readIndex(left), readIndex(right));
+            }
+        });
+
+        for (Map child : sortedChildren) {
+            Object identifier = child.get("identifier");
+            if (identifier != null) {
+                childIdentifiers.add(identifier.toString());
+            }
+        }
+        return childIdentifiers;
+    }
+
+    private static double readIndex(Map child) {
+        Object index = child.get("index");
+        if (index == null) {
+            return Double.MAX_VALUE;
+        }
+        try {
+            return Double.valueOf(index.toString());
+        } catch (NumberFormatException e) {
+            return Double.MAX_VALUE;
+        }
+    }
+
+    /**
+     * @return identifiers from the root to the parent of the node, as stored in {@link ContentHierarchyEntry#COLUMN_NAME_PATH}.
+     */
+    public static List<String> splitPath(String path) {
+        List<String> identifiers = new ArrayList<>();
+        if (!StringUtil.isNullOrEmpty(path)) {
+            Collections.addAll(identifiers, path.split(PATH_SEPARATOR));
+        }
+        return identifiers;
+    }
+
+    public static String joinPath(List<String> identifiers) {
+        return StringUtil.join(PATH_SEPARATOR, identifiers);
+    }
+
+    private static class Node {
+
+        private final String identifier;
+        private final String parentIdentifier;
+        private final int depth;
+        private final String path;
+
+        Node(String identifier, String parentIdentifier, int depth, String path) {
+            this.identifier = identifier;
+            this.parentIdentifier = parentIdentifier;
+            this.depth = depth;
+            this.path = path;
+        }
+    }
+}
@@ -0,0 +1,421 @@
+package org.ekstep.genieservices.content;
+
+import org.ekstep.genieservices.commons.bean.SunbirdContentSearchCriteria;
+import org.ekstep.genieservices.commons.db.contract.ContentEntry;
+import org.ekstep.genieservices.commons.db.contract.ContentSearchFacetEntry;
+import org.ekstep.genieservices.commons.db.contract.ContentSearchTermEntry;
+import org.ekstep.genieservices.commons.db.operations.IDBSession;
+import org.ekstep.genieservices.commons.db.operations.IDBTransaction;
+import org.ekstep.genieservices.commons.utils.StringUtil;
+import org.ekstep.genieservices.content.db.model.ContentModel;
+import org.ekstep.genieservices.content.db.model.ContentSearchFacetModel;
+import org.ekstep.genieservices.content.db.model.ContentSearchFacetsModel;
+import org.ekstep.genieservices.content.db.model.ContentSearchMatchesModel;
+import org.ekstep.genieservices.content.db.model.ContentSearchTermModel;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Keeps the local contents in {@link ContentSearchTermEntry} and {@link ContentSearchFacetEntry}, and searches them
+ * when the device is offline.
+ * <p>
+ * A content is indexed when it is imported and dropped from the index when it is deleted. The contents which are
+ * not indexed yet, e.g. the ones imported before the index existed, are indexed by the next search.
+ */
+public class ContentSearchIndex {
+
+    private static final String DELETE_TERMS = String.format(Locale.US, "DELETE FROM %s WHERE %s = ?",
+            ContentSearchTermEntry.TABLE_NAME, ContentSearchTermEntry.COLUMN_NAME_IDENTIFIER);
+
+    private static final String DELETE_FACETS = String.format(Locale.US, "DELETE FROM %s WHERE %s = ?",
+            ContentSearchFacetEntry.TABLE_NAME, ContentSearchFacetEntry.COLUMN_NAME_IDENTIFIER);
+
+    private static final String DELETE_ORPHAN_TERMS = String.format(Locale.US, "DELETE FROM %s WHERE %s NOT IN (SELECT %s FROM %s)",
+            ContentSearchTermEntry.TABLE_NAME, ContentSearchTermEntry.COLUMN_NAME_IDENTIFIER, ContentEntry.COLUMN_NAME_IDENTIFIER, ContentEntry.TABLE_NAME);
+
+    private static final String DELETE_ORPHAN_FACETS = String.format(Locale.US, "DELETE FROM %s WHERE %s NOT IN (SELECT %s FROM %s)",
+            ContentSearchFacetEntry.TABLE_NAME, ContentSearchFacetEntry.COLUMN_NAME_IDENTIFIER, ContentEntry.COLUMN_NAME_IDENTIFIER, ContentEntry.TABLE_NAME);
+
+    // Letters, their combining marks and digits make up a term, so that words of the Indic scripts are kept whole.
+    private static final Pattern TERM_SEPARATOR = Pattern.compile("[^\\p{L}\\p{M}\\p{N}]+");
+
+    private static final Map<String, Integer> FIELD_WEIGHTS = new LinkedHashMap<>();
+
+    static {
+        FIELD_WEIGHTS.put("name", 10);
+        FIELD_WEIGHTS.put("keywords", 6);
+        FIELD_WEIGHTS.put("subject", 4);
+        FIELD_WEIGHTS.put("gradeLevel", 3);
+        FIELD_WEIGHTS.put("medium", 3);
+        FIELD_WEIGHTS.put("language", 3);
+        FIELD_WEIGHTS.put("description", 1);
+    }
+
+    /**
+     * Facets kept in the index, named as in the search API.
+     */
+    private static final List<String> FACETS = Arrays.asList("contentType", "gradeLevel", "medium", "board", "subject", "language", "keywords");
+
+    // Number of contents read at once while indexing the ones which are not indexed yet.
+    private static final int INDEX_BATCH_SIZE = 100;
+
+    private ContentSearchIndex() {
+    }
+
+    /**
+     * Indexes the contents again from their current local data. The ones which are not in the db are dropped.
+     */
+    public static void index(IDBSession dbSession, final Collection<String> identifiers) {
+        if (identifiers == null || identifiers.isEmpty()) {
+            return;
+        }
+
+        final List<ContentSearchTermModel> terms = new ArrayList<>();
+        final List<ContentSearchFacetModel> facets = new ArrayList<>();
+        List<ContentModel> contentModelList = ContentHandler.findAllContentsWithIdentifiers(dbSession, new ArrayList<>(identifiers), false);
+        if (contentModelList != null) {
+            for (ContentModel contentModel : contentModelList) {
+                addTerms(dbSession, contentModel, terms);
+                addFacets(dbSession, contentModel, facets);
+            }
+        }
+
+        dbSession.executeInTransaction(new IDBTransaction() {
+            @Override
+            public Void perform(IDBSession dbSession) {
+                remove(dbSession, identifiers);
+                dbSession.createAll(terms);
+                dbSession.createAll(facets);
+                return null;
+            }
+        });
+    }
+
+    public static void remove(IDBSession dbSession, Collection<String> identifiers) {
+        if (identifiers == null || identifiers.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> bindArgsList = new ArrayList<>(identifiers.size());
+        for (String identifier : identifiers) {
+            bindArgsList.add(new Object[]{identifier});
+        }
+        dbSession.executeBatch(DELETE_TERMS, bindArgsList);
+        dbSession.executeBatch(DELETE_FACETS, bindArgsList);
+    }
+
+    /**
+     * Drops the contents which are no more in the db, e.g. the children deleted along with their collection.
+     */
+    public static void removeOrphans(IDBSession dbSession) {
+        dbSession.execute(DELETE_ORPHAN_TERMS);
+        dbSession.execute(DELETE_ORPHAN_FACETS);
+    }
+
+    /**
+     * Indexes the contents which have no row in the index.
+     */
+    public static void ensureIndexed(IDBSession dbSession) {
+        List<String> identifiers = new ArrayList<>(ContentSearchMatchesModel.findNotIndexed(dbSession).getMatches().keySet());
+        for (int from = 0; from < identifiers.size(); from += INDEX_BATCH_SIZE) {
+            index(dbSession, identifiers.subList(from, Math.min(from + INDEX_BATCH_SIZE, identifiers.size())));
+        }
+    }
+
+    /**
+     * Searches the contents shown in the library.
+     * <p>
+     * Every word of the query has to start a term of the content, and the contents are ranked by the weight
+     * of their matching terms. Contents with the same score, or all of them when there is no query, are in
+     * the order they were imported, the latest first.
+     *
+     * @param filters filters of the search request, as built for the search API. Only the ones on the
+     *                indexed facets are applied.
+     */
+    public static Result search(IDBSession dbSession, SunbirdContentSearchCriteria criteria, Map<String, Object> filters) {
+        ensureIndexed(dbSession);
+
+        Map<String, Integer> available = ContentSearchMatchesModel.findAvailable(dbSession).getMatches();
+        final Map<String, Integer> scores = findScores(dbSession, tokenize(criteria.getQuery()));
+
+        List<String> identifiers = new ArrayList<>();
+        for (String identifier : available.keySet()) {
+            if (scores == null || scores.containsKey(identifier)) {
+                identifiers.add(identifier);
+            }
+        }
+        if (scores != null) {
+            Collections.sort(identifiers, new Comparator<String>() {
+                @Override
+                public int compare(String left, String right) {
+                    return scores.get(right).compareTo(scores.get(left));
+                }
+            });
+        }
+
+        Map<String, Set<String>> appliedFilters = getAppliedFilters(filters);
+        List<String> facetNames = new ArrayList<>();
+        if (criteria.getFacets() != null) {
+            for (String facet : criteria.getFacets()) {
+                if (FACETS.contains(facet)) {
+                    facetNames.add(facet);
+                }
+            }
+        }
+
+        List<Map<String, Object>> facets = null;
+        if (!appliedFilters.isEmpty() || !facetNames.isEmpty()) {
+            Set<String> names = new HashSet<>(appliedFilters.keySet());
+            names.addAll(facetNames);
+            ContentSearchFacetsModel facetsModel = ContentSearchFacetsModel.find(dbSession, names);
+
+            List<String> filtered = new ArrayList<>();
+            for (String identifier : identifiers) {
+                if (matchesFilters(facetsModel.getFacets(identifier), appliedFilters)) {
+                    filtered.add(identifier);
+                }
+            }
+            identifiers = filtered;
+            facets = countFacets(facetsModel, identifiers, facetNames);
+        }
+
+        int from = (int) Math.min(Math.max(criteria.getOffset(), 0), identifiers.size());
+        int to = criteria.getLimit() > 0 ? (int) Math.min(from + criteria.getLimit(), identifiers.size()) : identifiers.size();
+        return new Result(new ArrayList<>(identifiers.subList(from, to)), identifiers.size(), facets);
+    }
+
+    /**
+     * @return score by identifier of the contents matching every word, null if there is no word to match.
+     */
+    private static Map<String, Integer> findScores(IDBSession dbSession, Set<String> words) {
+        Map<String, Integer> scores = null;
+        for (String word : words) {
+            Map<String, Integer> matches = ContentSearchMatchesModel.findByTermPrefix(dbSession, word).getMatches();
+            if (scores == null) {
+                scores = new HashMap<>(matches);
+            } else {
+                Map<String, Integer> matchingAll = new HashMap<>();
+                for (Map.Entry<String, Integer> entry : scores.entrySet()) {
+                    Integer score = matches.get(entry.getKey());
+                    if (score != null) {
+                        matchingAll.put(entry.getKey(), entry.getValue() + score);
+                    }
+                }
+                scores = matchingAll;
+            }
+
+            if (scores.isEmpty()) {
+                break;
+            }
+        }
+        return scores;
+    }
+
+    private static Map<String, Set<String>> getAppliedFilters(Map<String, Object> filters) {
+        Map<String, Set<String>> appliedFilters = new HashMap<>();
+        if (filters == null) {
+            return appliedFilters;
+        }
+
+        for (String facet : FACETS) {
+            Set<String> values = new HashSet<>();
+            for (String value : readValues(filters.get(facet))) {
+                values.add(value.toLowerCase(Locale.US));
+            }
+            if (!values.isEmpty()) {
+                appliedFilters.put(facet, values);
+            }
+        }
+        return appliedFilters;
+    }
+
+    private static boolean matchesFilters(Map<String, List<String>> contentFacets, Map<String, Set<String>> appliedFilters) {
+        for (Map.Entry<String, Set<String>> filter : appliedFilters.entrySet()) {
+            boolean matches = false;
+            List<String> values = contentFacets.get(filter.getKey());
+            if (values != null) {
+                for (String value : values) {
+                    if (filter.getValue().contains(value.toLowerCase(Locale.US))) {
+                        matches = true;
+                        break;
+                    }
+                }
+            }
+
+            if (!matches) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return facets in the format of the search API, values being ordered by their count.
+     */
+    private static List<Map<String, Object>> countFacets(ContentSearchFacetsModel facetsModel, List<String> identifiers, List<String> facetNames) {
+        List<Map<String, Object>> facets = new ArrayList<>();
+        for (String facetName : facetNames) {
+            // Values differing only by case are counted together, under the first one found.
+            final Map<String, Integer> counts = new HashMap<>();
+            Map<String, String> names = new LinkedHashMap<>();
+            for (String identifier : identifiers) {
+                List<String> values = facetsModel.getFacets(identifier).get(facetName);
+                if (values == null) {
+                    continue;
+                }
+
+                for (String value : values) {
+                    String key = value.toLowerCase(Locale.US);
+                    if (!names.containsKey(key)) {
+                        names.put(key, value);
+                    }
+                    Integer count = counts.get(key);
+                    counts.put(key, count == null ? 1 : count + 1);
+                }
+            }
+
+            List<String> keys = new ArrayList<>(names.keySet());
+            Collections.sort(keys, new Comparator<String>() {
+                @Override
+                public int compare(String left, String right) {
+                    return counts.get(right).compareTo(counts.get(left));
+                }
+            });
+
+            List<Map<String, Object>> values = new ArrayList<>();
+            for (String key : keys) {
+                Map<String, Object> value = new HashMap<>();
+                value.put("name", names.get(key));
+                // Counts are read back as doubles, as parsed from the search API.
+                value.put("count", (double) counts.get(key));
+                values.add(value);
+            }
+
+            Map<String, Object> facet = new HashMap<>();
+            facet.put("name", facetName);
+            facet.put("values", values);
+            facets.add(facet);
+        }
+        return facets;
+    }
+
+    private static void addTerms(IDBSession dbSession, ContentModel contentModel, List<ContentSearchTermModel> terms) {
+        Map localData = contentModel.getLocalDataMap();
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        // Marks the content as indexed, and is never matched.
+        weights.put(contentModel.getIdentifier(), 0);
+        if (localData != null) {
+            for (Map.Entry<String, Integer> field : FIELD_WEIGHTS.entrySet()) {
+                Set<String> fieldTerms = new LinkedHashSet<>();
+                for (String value : readValues(localData.get(field.getKey()))) {
+                    fieldTerms.addAll(tokenize(value));
+                }
+
+                // A term counts once per field, however often it is repeated in it.
+                for (String term : fieldTerms) {
+                    Integer weight = weights.get(term);
+                    weights.put(term, weight == null ? field.getValue() : weight + field.getValue());
+                }
+            }
+        }
+
+        for (Map.Entry<String, Integer> entry : weights.entrySet()) {
+            terms.add(ContentSearchTermModel.build(dbSession, contentModel.getIdentifier(), entry.getKey(), entry.getValue()));
+        }
+    }
+
+    private static void addFacets(IDBSession dbSession, ContentModel contentModel, List<ContentSearchFacetModel> facets) {
+        Map localData = contentModel.getLocalDataMap();
+        if (localData == null) {
+            return;
+        }
+
+        for (String facet : FACETS) {
+            for (String value : new LinkedHashSet<>(readValues(localData.get(facet)))) {
+                facets.add(ContentSearchFacetModel.build(dbSession, contentModel.getIdentifier(), facet, value));
+            }
+        }
+    }
+
+    /**
+     * @return the values of a field of the local data, which can be a single value or a list.
+     */
+    private static List<String> readValues(Object field) {
+        List<String> values = new ArrayList<>();
+        if (field instanceof Collection) {
+            for (Object value : (Collection) field) {
+                if (value != null && !StringUtil.isNullOrEmpty(value.toString().trim())) {
+                    values.add(value.toString().trim());
+                }
+            }
+        } else if (field != null && !StringUtil.isNullOrEmpty(field.toString().trim())) {
+            values.add(field.toString().trim());
+        }
+        return values;
+    }
+
+    /**
+     * @return the lower cased words of the text.
+     */
+    private static Set<String> tokenize(String text) {
+        Set<String> words = new LinkedHashSet<>();
+        if (StringUtil.isNullOrEmpty(text)) {
+            return words;
+        }
+
+        for (String word : TERM_SEPARATOR.split(text.toLowerCase(Locale.US))) {
+            if (word.length() > 0) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    public static class Result {
+
+        private final List<String> identifiers;
+        private final int count;
+        private final List<Map<String, Object>> facets;
+
+        Result(List<String> identifiers, int count, List<Map<String, Object>> facets) {
+            this.identifiers = identifiers;
+            this.count = count;
+            this.facets = facets;
+        }
+
+        /**
+         * @return identifiers of the requested page of results, in their rank.
+         */
+        public List<String> getIdentifiers() {
+            return identifiers;
+        }
+
+        /**
+         * @return number of results across all the pages.
+         */
+        public int getCount() {
+            return count;
+        }
+
+        /**
+         * @return counts of the requested facets, in the format of the search API. Null if no facet was requested
+         * and no filter applied.
+         */
+        public List<Map<String, Object>> getFacets() {
+            return facets;
+        }
+    }
+}
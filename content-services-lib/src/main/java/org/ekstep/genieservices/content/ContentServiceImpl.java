@@ -15,6 +15,7 @@ import org.ekstep.genieservices.commons.AppContext;
 import org.ekstep.genieservices.commons.GenieResponseBuilder;
 import org.ekstep.genieservices.commons.bean.ChildContentRequest;
 import org.ekstep.genieservices.commons.bean.Content;
+import org.ekstep.genieservices.commons.bean.ContentAccess;
 import org.ekstep.genieservices.commons.bean.ContentData;
 import org.ekstep.genieservices.commons.bean.ContentDelete;
 import org.ekstep.genieservices.commons.bean.ContentDeleteRequest;
@@ -22,6 +23,7 @@ import org.ekstep.genieservices.commons.bean.ContentDeleteResponse;
 import org.ekstep.genieservices.commons.bean.ContentDetailsRequest;
 import org.ekstep.genieservices.commons.bean.ContentExportRequest;
 import org.ekstep.genieservices.commons.bean.ContentExportResponse;
+import org.ekstep.genieservices.commons.bean.ContentFeedback;
 import org.ekstep.genieservices.commons.bean.ContentFilterCriteria;
 import org.ekstep.genieservices.commons.bean.ContentImport;
 import org.ekstep.genieservices.commons.bean.ContentImportRequest;
@@ -60,12 +62,15 @@ import org.ekstep.genieservices.commons.bean.telemetry.Interact;
 import org.ekstep.genieservices.commons.bean.telemetry.Rollup;
 import org.ekstep.genieservices.commons.chained.IChainable;
 import org.ekstep.genieservices.commons.db.model.NoSqlModel;
+import org.ekstep.genieservices.commons.db.operations.IDBSession;
+import org.ekstep.genieservices.commons.executor.SDKExecutor;
 import org.ekstep.genieservices.commons.utils.CollectionUtil;
 import org.ekstep.genieservices.commons.utils.DateUtil;
 import org.ekstep.genieservices.commons.utils.FileUtil;
 import org.ekstep.genieservices.commons.utils.GsonUtil;
 import org.ekstep.genieservices.commons.utils.Logger;
 import org.ekstep.genieservices.commons.utils.StringUtil;
+import org.ekstep.genieservices.content.bean.ContentSearchResponse;
 import org.ekstep.genieservices.content.bean.ExportContentContext;
 import org.ekstep.genieservices.content.bean.ImportContentContext;
 import org.ekstep.genieservices.content.bean.MoveContentContext;
@@ -85,6 +90,8 @@ import org.ekstep.genieservices.content.chained.imports.DeviceMemoryCheck;
 import org.ekstep.genieservices.content.chained.imports.EcarCleanUp;
 import org.ekstep.genieservices.content.chained.imports.ExtractEcar;
 import org.ekstep.genieservices.content.chained.imports.ExtractPayloads;
+import org.ekstep.genieservices.content.chained.imports.UpdateContentHierarchy;
+import org.ekstep.genieservices.content.chained.imports.UpdateContentSearchIndex;
 import org.ekstep.genieservices.content.chained.imports.UpdateSizeOnDevice;
 import org.ekstep.genieservices.content.chained.imports.ValidateEcar;
 import org.ekstep.genieservices.content.chained.move.CopyContentFromSourceToDestination;
@@ -95,6 +102,8 @@ import org.ekstep.genieservices.content.chained.move.StoreDestinationContentInDB
 import org.ekstep.genieservices.content.chained.move.UpdateSourceContentPathInDB;
 import org.ekstep.genieservices.content.chained.move.ValidateDestinationContent;
 import org.ekstep.genieservices.content.chained.move.ValidateDestinationFolder;
+import org.ekstep.genieservices.content.db.model.ContentHierarchyModel;
+import org.ekstep.genieservices.content.db.model.ContentHierarchyNodesModel;
 import org.ekstep.genieservices.content.db.model.ContentListingModel;
 import org.ekstep.genieservices.content.db.model.ContentModel;
 import org.ekstep.genieservices.content.network.ContentSearchAPI;
@@ -226,15 +235,32 @@ public class ContentServiceImpl extends BaseService implements IContentService {
 
         List<ContentModel> contentModelListInDB = ContentHandler.getAllLocalContent(mAppContext.getDBSession(), criteria);
 
+        // Feedback and access of all the contents are read at once, and attached below.
+        Map<String, List<ContentFeedback>> feedbackByContent = null;
+        Map<String, List<ContentAccess>> accessByContent = null;
+        if (criteria != null && (criteria.attachFeedback() || criteria.attachContentAccess())) {
+            List<String> identifiers = new ArrayList<>();
+            for (ContentModel contentModel : contentModelListInDB) {
+                identifiers.add(contentModel.getIdentifier());
+            }
+
+            if (criteria.attachFeedback()) {
+                feedbackByContent = ContentHandler.getContentFeedback(mAppContext.getDBSession(), identifiers, criteria.getUid());
+            }
+            if (criteria.attachContentAccess()) {
+                accessByContent = ContentHandler.getContentAccess(mAppContext.getDBSession(), identifiers, criteria.getUid());
+            }
+        }
+
         List<Content> contentList = new ArrayList<>();
         for (ContentModel contentModel : contentModelListInDB) {
             Content c = ContentHandler.convertContentModelToBean(contentModel);
 
-            if (criteria != null && criteria.attachFeedback()) {
-                c.setContentFeedback(ContentHandler.getContentFeedback(contentFeedbackService, c.getIdentifier(), criteria.getUid()));
+            if (feedbackByContent != null) {
+                c.setContentFeedback(feedbackByContent.get(c.getIdentifier()));
             }
-            if (criteria != null && criteria.attachContentAccess()) {
-                c.setContentAccess(ContentHandler.getContentAccess(userService, c.getIdentifier(), criteria.getUid()));
+            if (accessByContent != null) {
+                c.setContentAccess(accessByContent.get(c.getIdentifier()));
             }
             contentList.add(c);
         }
@@ -289,7 +315,7 @@ public class ContentServiceImpl extends BaseService implements IContentService {
         } else if (!hierarchyInfoList.isEmpty()) {
             /* If the nested collection is C/C1/C11 and somebody is asking for C1's children they would be sending the hierarchy of C1 which is C/C1.
              * We are removing the last element here so that the further processing can continue to add it back
-             * In other words, the checkAndFetchChildrenOfContent method assumes that the sourceInfoList is the parent's hierarchy info
+             * In other words, the getContentWithChildren method assumes that the sourceInfoList is the parent's hierarchy info
              */
             if (hierarchyInfoList.get(hierarchyInfoList.size() - 1).getIdentifier().equalsIgnoreCase(childContentRequest.getContentId())) {
                 hierarchyInfoList.remove(hierarchyInfoList.size() - 1);
@@ -297,7 +323,7 @@ public class ContentServiceImpl extends BaseService implements IContentService {
         }
 
         //check and fetch all children of this content
-        Content content = checkAndFetchChildrenOfContent(contentModel, hierarchyInfoList, 0, childContentRequest.getLevel());
+        Content content = getContentWithChildren(contentModel, hierarchyInfoList, childContentRequest.getLevel());
 
         response = GenieResponseBuilder.getSuccessResponse(ServiceConstants.SUCCESS_RESPONSE);
         response.setResult(content);
@@ -305,28 +331,64 @@ public class ContentServiceImpl extends BaseService implements IContentService {
         return response;
     }
 
-    private Content checkAndFetchChildrenOfContent(ContentModel contentModel, List<HierarchyInfo> sourceInfoList, int currentLevel, int level) {
-        Content content = ContentHandler.convertContentModelToBean(contentModel);
-
-        // check if the content model has immediate children
-        List<ContentModel> contentModelList = ContentHandler.getSortedChildrenList(mAppContext.getDBSession(), contentModel.getLocalData(), ContentConstants.ChildContents.ALL);
-        if (contentModelList.size() > 0) {
-            List<HierarchyInfo> hierarchyInfoList = new ArrayList<>(sourceInfoList);
-            hierarchyInfoList.add(new HierarchyInfo(contentModel.getIdentifier(), contentModel.getContentType()));
-            content.setHierarchyInfo(hierarchyInfoList);
-            if (level == -1 || currentLevel < level) {
-                List<Content> childContents = new ArrayList<>();
-                for (ContentModel perContentModel : contentModelList) {
-                    Content iteratedContent = checkAndFetchChildrenOfContent(perContentModel, hierarchyInfoList, currentLevel + 1, level);
-                    childContents.add(iteratedContent);
+    /**
+     * Builds the tree of the content from its indexed nodes, which are read in depth first order.
+     * A node is followed by its children, so it has children if the next node is one level deeper.
+     */
+    private Content getContentWithChildren(ContentModel contentModel, List<HierarchyInfo> sourceInfoList, int level) {
+        IDBSession dbSession = mAppContext.getDBSession();
+        ContentHierarchyIndex.ensureIndexed(dbSession, contentModel.getIdentifier());
+
+        // One level more than asked for is read, to know if the nodes of the last level have children.
+        ContentHierarchyNodesModel nodesModel = ContentHierarchyNodesModel.find(dbSession, contentModel.getIdentifier(), level == -1 ? -1 : level + 1);
+        if (nodesModel == null) {
+            Content content = ContentHandler.convertContentModelToBean(contentModel);
+            content.setHierarchyInfo(sourceInfoList);
+            return content;
+        }
+
+        List<ContentHierarchyNodesModel.Node> nodeList = nodesModel.getNodeList();
+        Content root = null;
+        // Contents from the root to the parent of the current node, with the hierarchy info of their children.
+        Stack<Content> parents = new Stack<>();
+        Stack<List<HierarchyInfo>> parentInfos = new Stack<>();
+        for (int i = 0; i < nodeList.size(); i++) {
+            ContentHierarchyNodesModel.Node node = nodeList.get(i);
+            int depth = node.getDepth();
+            if (level != -1 && depth > level) {
+                continue;
+            }
+
+            while (parents.size() > depth) {
+                parents.pop();
+                parentInfos.pop();
+            }
+
+            ContentModel nodeModel = node.getContentModel();
+            Content content = ContentHandler.convertContentModelToBean(nodeModel);
+            List<HierarchyInfo> infoOfParent = parentInfos.isEmpty() ? sourceInfoList : parentInfos.peek();
+            if (parents.isEmpty()) {
+                root = content;
+            } else {
+                parents.peek().getChildren().add(content);
+            }
+
+            boolean hasChildren = i + 1 < nodeList.size() && nodeList.get(i + 1).getDepth() == depth + 1;
+            if (hasChildren) {
+                List<HierarchyInfo> hierarchyInfoList = new ArrayList<>(infoOfParent);
+                hierarchyInfoList.add(new HierarchyInfo(nodeModel.getIdentifier(), nodeModel.getContentType()));
+                content.setHierarchyInfo(hierarchyInfoList);
+                if (level == -1 || depth < level) {
+                    content.setChildren(new ArrayList<Content>());
+                    parents.push(content);
+                    parentInfos.push(hierarchyInfoList);
                 }
-                //add children to the main content
-                content.setChildren(childContents);
+            } else {
+                content.setHierarchyInfo(infoOfParent);
             }
-        } else {
-            content.setHierarchyInfo(sourceInfoList);
         }
-        return content;
+
+        return root;
     }
 
     @Override
@@ -337,6 +399,7 @@ public class ContentServiceImpl extends BaseService implements IContentService {
         String methodName = "deleteContent@ContentServiceImpl";
 
         List<ContentDeleteResponse> contentDeleteResponseList = new ArrayList<>();
+        List<String> deletedIdentifiers = new ArrayList<>();
         for (ContentDelete contentDelete : deleteRequest.getContentDeleteList()) {
             ContentModel contentModel = ContentModel.find(mAppContext.getDBSession(), contentDelete.getContentId());
 
@@ -346,27 +409,33 @@ public class ContentServiceImpl extends BaseService implements IContentService {
                 contentDeleteResponseList.add(new ContentDeleteResponse(contentDelete.getContentId(), ContentDeleteStatus.DELETED_SUCCESSFULLY));
 
                 //delete or update pre-requisites
-                if (ContentHandler.hasPreRequisites(contentModel.getLocalData())) {
+                if (ContentHandler.hasPreRequisites(contentModel.getLocalDataMap())) {
                     ContentHandler.deleteAllPreRequisites(mAppContext, contentModel, contentDelete.isChildContent());
                 }
 
                 //delete or update child items
-                if (ContentHandler.hasChildren(contentModel.getLocalData())) {
+                if (ContentHandler.hasChildren(contentModel.getLocalDataMap())) {
                     ContentHandler.deleteAllChild(mAppContext, contentModel, contentDelete.isChildContent());
                 }
 
                 //delete or update root item
                 ContentHandler.deleteOrUpdateContent(mAppContext, contentModel, false, contentDelete.isChildContent());
+                deletedIdentifiers.add(contentModel.getIdentifier());
             }
         }
 
-        // Update size on device value in DB after content deletion.
-        new Thread(new Runnable() {
+        final Set<String> changedRootIdentifiers = ContentHierarchyIndex.invalidate(mAppContext.getDBSession(), deletedIdentifiers);
+        changedRootIdentifiers.addAll(deletedIdentifiers);
+        ContentSearchIndex.removeOrphans(mAppContext.getDBSession());
+
+        // Update size on device of the collections which had any of the deleted contents.
+        SDKExecutor.getInstance().submit(SDKExecutor.Lane.REFRESH, new Runnable() {
             @Override
             public void run() {
-                ContentHandler.updateSizeOnDevice(mAppContext);
+                ContentSizeAccounting.rollUp(mAppContext.getDBSession(), changedRootIdentifiers);
+                ContentSizeAccounting.reconcileIfDue(mAppContext);
             }
-        }).start();
+        });
 
         GenieResponse<List<ContentDeleteResponse>> response = GenieResponseBuilder.getSuccessResponse(ServiceConstants.SUCCESS_RESPONSE);
         response.setResult(contentDeleteResponseList);
@@ -425,41 +494,18 @@ public class ContentServiceImpl extends BaseService implements IContentService {
         Map<String, Object> requestMap = ContentHandler.getSearchContentRequest(mAppContext, configService, contentSearchCriteria);
 
         ContentSearchAPI contentSearchAPI = new ContentSearchAPI(mAppContext, requestMap);
-        GenieResponse apiResponse = contentSearchAPI.post();
+        GenieResponse<ContentSearchResponse> apiResponse = contentSearchAPI.post(ContentSearchResponse.class);
         if (apiResponse.getStatus()) {
-            String body = apiResponse.getResult().toString();
-
-            LinkedTreeMap map = GsonUtil.fromJson(body, LinkedTreeMap.class);
-            String id = (String) map.get("id");
-            LinkedTreeMap responseParams = (LinkedTreeMap) map.get("params");
-            LinkedTreeMap result = (LinkedTreeMap) map.get("result");
-
-            String responseMessageId = null;
-            if (responseParams.containsKey("resmsgid")) {
-                responseMessageId = (String) responseParams.get("resmsgid");
-            }
-
-            List<Map<String, Object>> facets = null;
-            if (result.containsKey("facets")) {
-                facets = (List<Map<String, Object>>) result.get("facets");
-            }
-
-            String contentDataList = null;
-            if (result.containsKey("content")) {
-                contentDataList = GsonUtil.toJson(result.get("content"));
-            }
+            ContentSearchResponse searchResponse = apiResponse.getResult();
 
             ContentSearchResult searchResult = new ContentSearchResult();
-            searchResult.setId(id);
-            searchResult.setResponseMessageId(responseMessageId);
+            searchResult.setId(searchResponse.getId());
+            searchResult.setResponseMessageId(searchResponse.getResponseMessageId());
             searchResult.setRequest(requestMap);
 
-            if (!StringUtil.isNullOrEmpty(contentDataList)) {
-                Type type = new TypeToken<List<ContentData>>() {
-                }.getType();
-                List<ContentData> contentData = GsonUtil.getGson().fromJson(contentDataList, type);
-                searchResult.setContentDataList(contentData);
-                searchResult.setFilterCriteria(ContentHandler.createFilterCriteria(configService, contentSearchCriteria, facets, (Map<String, Object>) requestMap.get("filters")));
+            if (searchResponse.getContentDataList() != null) {
+                searchResult.setContentDataList(searchResponse.getContentDataList());
+                searchResult.setFilterCriteria(ContentHandler.createFilterCriteria(configService, contentSearchCriteria, searchResponse.getFacets(), (Map<String, Object>) requestMap.get("filters")));
             } else {
                 searchResult.setContentDataList(new ArrayList<ContentData>());
                 searchResult.setFilterCriteria(null);
@@ -583,102 +629,9 @@ public class ContentServiceImpl extends BaseService implements IContentService {
         params.put("contentIdentifiers", GsonUtil.toJson(hierarchyInfo));
         params.put("logLevel", "2");
 
-        List<HierarchyInfo> prevContentHierarchyList = new ArrayList<>();
         Content prevContent = null;
         try {
-            List<String> contentsKeyList = new ArrayList<>();
-            List<String> parentChildRelation = new ArrayList<>();
-            String key = null;
-
-            // Root content
-            ContentModel contentModel = ContentModel.find(mAppContext.getDBSession(), hierarchyInfo.get(0).getIdentifier());
-
-            Stack<ContentModel> stack = new Stack<>();
-            stack.push(contentModel);
-
-            ContentModel node;
-            while (!stack.isEmpty()) {
-                node = stack.pop();
-                if (ContentHandler.hasChildren(node.getLocalData())) {
-                    List<ContentModel> childContents = ContentHandler.getSortedChildrenList(mAppContext.getDBSession(), node.getLocalData(), ContentConstants.ChildContents.ALL);
-                    stack.addAll(childContents);
-
-                    for (ContentModel c : childContents) {
-                        parentChildRelation.add(node.getIdentifier() + "/" + c.getIdentifier());
-                    }
-                }
-
-                if (StringUtil.isNullOrEmpty(key)) {
-                    key = node.getIdentifier();
-
-                    // First content
-//                contents.put(key, node);
-
-                } else {
-                    String tempKey;
-
-                    for (int i = key.split("/").length - 1; i >= 0; i--) {
-                        String immediateParent = key.split("/")[i];
-
-                        if (parentChildRelation.contains(immediateParent + "/" + node.getIdentifier())) {
-                            break;
-                        } else {
-                            key = key.substring(0, key.lastIndexOf("/"));
-                        }
-                    }
-
-                    if (ContentConstants.MimeType.COLLECTION.equals(node.getMimeType())) {
-                        key = key + "/" + node.getIdentifier();
-
-                    } else {
-                        tempKey = key + "/" + node.getIdentifier();
-
-                        contentsKeyList.add(tempKey);
-                    }
-                }
-            }
-
-            String currentIdentifiers = null;
-            for (HierarchyInfo hierarchyItem : hierarchyInfo) {
-                if (StringUtil.isNullOrEmpty(currentIdentifiers)) {
-                    currentIdentifiers = hierarchyItem.getIdentifier();
-                } else {
-                    currentIdentifiers = currentIdentifiers + "/" + hierarchyItem.getIdentifier();
-                }
-            }
-            currentIdentifiers += "/" + currentContentIdentifier;
-
-            int indexOfCurrentContentIdentifier = contentsKeyList.indexOf(currentIdentifiers);
-            String prevContentIdentifier = null;
-            if (indexOfCurrentContentIdentifier < (contentsKeyList.size() - 1)) {
-                prevContentIdentifier = contentsKeyList.get(indexOfCurrentContentIdentifier + 1);
-            }
-
-            if (!StringUtil.isNullOrEmpty(prevContentIdentifier)) {
-
-                String prevContentIdentifierList[] = prevContentIdentifier.split("/");
-                int idCount = prevContentIdentifierList.length;
-                boolean isAllHierarchyContentFound = true;
-                for (int i = 0; i < (idCount - 1); i++) {
-                    ContentModel contentModelObj = ContentModel.find(mAppContext.getDBSession(), prevContentIdentifierList[i]);
-                    if (contentModelObj != null) {
-                        prevContentHierarchyList.add(new HierarchyInfo(contentModelObj.getIdentifier(), contentModelObj.getContentType()));
-                    } else {
-                        isAllHierarchyContentFound = false;
-                        break;
-                    }
-                }
-
-                if (isAllHierarchyContentFound) {
-                    ContentModel prevContentModel = ContentModel.find(mAppContext.getDBSession(), prevContentIdentifierList[idCount - 1]);
-                    if (prevContentModel != null) {
-                        prevContent = ContentHandler.convertContentModelToBean(prevContentModel);
-                        prevContent.setHierarchyInfo(prevContentHierarchyList);
-                        Rollup rollup = TelemetryHandler.getRollup(prevContent.getIdentifier(), prevContent.getHierarchyInfo());
-                        prevContent.setRollup(rollup);
-                    }
-                }
-            }
+            prevContent = getAdjacentContent(hierarchyInfo, currentContentIdentifier, -1);
         } catch (Exception e) {
             Logger.e(TAG, "" + e.getMessage());
         }
@@ -696,110 +649,73 @@ public class ContentServiceImpl extends BaseService implements IContentService {
         params.put("contentIdentifiers", GsonUtil.toJson(hierarchyInfo));
         params.put("logLevel", "2");
 
-        List<HierarchyInfo> nextContentHierarchyList = new ArrayList<>();
         Content nextContent = null;
         try {
-            List<String> contentsKeyList = new ArrayList<>();
-            List<String> parentChildRelation = new ArrayList<>();
-            String key = null;
-
-            // Root content
-            ContentModel contentModel = ContentModel.find(mAppContext.getDBSession(), hierarchyInfo.get(0).getIdentifier());
-
-            Stack<ContentModel> stack = new Stack<>();
-            stack.push(contentModel);
-
-            ContentModel node;
-            while (!stack.isEmpty()) {
-                node = stack.pop();
-                if (ContentHandler.hasChildren(node.getLocalData())) {
-                    List<ContentModel> childContents = ContentHandler.getSortedChildrenList(mAppContext.getDBSession(), node.getLocalData(), ContentConstants.ChildContents.ALL);
-                    stack.addAll(childContents);
-
-                    for (ContentModel c : childContents) {
-                        parentChildRelation.add(node.getIdentifier() + "/" + c.getIdentifier());
-                    }
-                }
-
-                if (StringUtil.isNullOrEmpty(key)) {
-                    key = node.getIdentifier();
-
-                    // First content
-//                contents.put(key, node);
-
-                } else {
-                    String tempKey;
-
-                    for (int i = key.split("/").length - 1; i >= 0; i--) {
-                        String immediateParent = key.split("/")[i];
+            nextContent = getAdjacentContent(hierarchyInfo, currentContentIdentifier, 1);
+        } catch (Exception e) {
+            Logger.e(TAG, "" + e.getMessage());
+        }
 
-                        if (parentChildRelation.contains(immediateParent + "/" + node.getIdentifier())) {
-                            break;
-                        } else {
-                            key = key.substring(0, key.lastIndexOf("/"));
-                        }
-                    }
+        GenieResponse<Content> response = GenieResponseBuilder.getSuccessResponse(ServiceConstants.SUCCESS_RESPONSE);
+        response.setResult(nextContent);
+        TelemetryLogger.logSuccess(mAppContext, response, TAG, methodName, params);
+        return response;
+    }
 
-                    if (ContentConstants.MimeType.COLLECTION.equals(node.getMimeType())) {
-                        key = key + "/" + node.getIdentifier();
+    /**
+     * @param hierarchyInfo contents from the root collection to the parent of the current content.
+     * @param offset        1 for the playable content after the current one, -1 for the one before it.
+     * @return the adjacent playable content in the tree of the root, null if there is none or if one of its parents is not on the device.
+     */
+    private Content getAdjacentContent(List<HierarchyInfo> hierarchyInfo, String currentContentIdentifier, int offset) {
+        IDBSession dbSession = mAppContext.getDBSession();
+        String rootIdentifier = hierarchyInfo.get(0).getIdentifier();
+        ContentHierarchyIndex.ensureIndexed(dbSession, rootIdentifier);
+
+        List<String> currentPath = new ArrayList<>();
+        for (HierarchyInfo hierarchyItem : hierarchyInfo) {
+            currentPath.add(hierarchyItem.getIdentifier());
+        }
 
-                    } else {
-                        tempKey = key + "/" + node.getIdentifier();
+        ContentHierarchyModel current = ContentHierarchyModel.find(dbSession, rootIdentifier,
+                ContentHierarchyIndex.joinPath(currentPath), currentContentIdentifier);
+        if (current == null || current.getPlaybackSequence() == -1) {
+            return null;
+        }
 
-                        contentsKeyList.add(tempKey);
-                    }
-                }
-            }
+        ContentHierarchyModel adjacent = ContentHierarchyModel.findByPlaybackSequence(dbSession, rootIdentifier, current.getPlaybackSequence() + offset);
+        if (adjacent == null) {
+            return null;
+        }
 
-            String currentIdentifiers = null;
-            for (HierarchyInfo hierarchyItem : hierarchyInfo) {
-                if (StringUtil.isNullOrEmpty(currentIdentifiers)) {
-                    currentIdentifiers = hierarchyItem.getIdentifier();
-                } else {
-                    currentIdentifiers = currentIdentifiers + "/" + hierarchyItem.getIdentifier();
-                }
+        List<String> parentIdentifiers = ContentHierarchyIndex.splitPath(adjacent.getPath());
+        List<ContentModel> parentModels = ContentHandler.findAllContentsWithIdentifiers(dbSession, parentIdentifiers, false);
+        Map<String, ContentModel> parentModelMap = new HashMap<>();
+        if (parentModels != null) {
+            for (ContentModel parentModel : parentModels) {
+                parentModelMap.put(parentModel.getIdentifier(), parentModel);
             }
-            currentIdentifiers += "/" + currentContentIdentifier;
+        }
 
-            int indexOfCurrentContentIdentifier = contentsKeyList.indexOf(currentIdentifiers);
-            String nextContentIdentifier = null;
-            if (indexOfCurrentContentIdentifier > 0) {
-                nextContentIdentifier = contentsKeyList.get(indexOfCurrentContentIdentifier - 1);
+        List<HierarchyInfo> adjacentHierarchyList = new ArrayList<>();
+        for (String parentIdentifier : parentIdentifiers) {
+            ContentModel parentModel = parentModelMap.get(parentIdentifier);
+            if (parentModel == null) {
+                return null;
             }
+            adjacentHierarchyList.add(new HierarchyInfo(parentModel.getIdentifier(), parentModel.getContentType()));
+        }
 
-            if (!StringUtil.isNullOrEmpty(nextContentIdentifier)) {
-
-                String nextContentIdentifierList[] = nextContentIdentifier.split("/");
-                int idCount = nextContentIdentifierList.length;
-                boolean isAllHierarchyContentFound = true;
-                for (int i = 0; i < (idCount - 1); i++) {
-                    ContentModel contentModelObj = ContentModel.find(mAppContext.getDBSession(), nextContentIdentifierList[i]);
-                    if (contentModelObj != null) {
-                        nextContentHierarchyList.add(new HierarchyInfo(contentModelObj.getIdentifier(), contentModelObj.getContentType()));
-                    } else {
-                        isAllHierarchyContentFound = false;
-                        break;
-                    }
-                }
-
-                if (isAllHierarchyContentFound) {
-                    ContentModel nextContentModel = ContentModel.find(mAppContext.getDBSession(), nextContentIdentifierList[idCount - 1]);
-                    if (nextContentModel != null) {
-                        nextContent = ContentHandler.convertContentModelToBean(nextContentModel);
-                        nextContent.setHierarchyInfo(nextContentHierarchyList);
-                        Rollup rollup = TelemetryHandler.getRollup(nextContent.getIdentifier(), nextContent.getHierarchyInfo());
-                        nextContent.setRollup(rollup);
-                    }
-                }
-            }
-        } catch (Exception e) {
-            Logger.e(TAG, "" + e.getMessage());
+        ContentModel adjacentModel = ContentModel.find(dbSession, adjacent.getIdentifier());
+        if (adjacentModel == null) {
+            return null;
         }
 
-        GenieResponse<Content> response = GenieResponseBuilder.getSuccessResponse(ServiceConstants.SUCCESS_RESPONSE);
-        response.setResult(nextContent);
-        TelemetryLogger.logSuccess(mAppContext, response, TAG, methodName, params);
-        return response;
+        Content adjacentContent = ContentHandler.convertContentModelToBean(adjacentModel);
+        adjacentContent.setHierarchyInfo(adjacentHierarchyList);
+        Rollup rollup = TelemetryHandler.getRollup(adjacentContent.getIdentifier(), adjacentContent.getHierarchyInfo());
+        adjacentContent.setRollup(rollup);
+        return adjacentContent;
     }
 
     @Override
@@ -834,12 +750,19 @@ public class ContentServiceImpl extends BaseService implements IContentService {
             IChainable<List<ContentImportResponse>, ImportContentContext> deviceMemoryCheck = new DeviceMemoryCheck();
             deviceMemoryCheck.then(new ExtractEcar(tmpLocation))
                     .then(new ValidateEcar(tmpLocation))
-                    .then(new ExtractPayloads(tmpLocation))
+                    .then(new ExtractPayloads())
                     .then(new CreateContentImportManifest())
                     .then(new EcarCleanUp(tmpLocation))
+                    .then(new UpdateContentHierarchy())
+                    .then(new UpdateContentSearchIndex())
                     .then(new UpdateSizeOnDevice())
                     .then(new AddGeTransferContentImportEvent());
-            response = deviceMemoryCheck.execute(mAppContext, importContentContext);
+            try {
+                response = deviceMemoryCheck.execute(mAppContext, importContentContext);
+            } finally {
+                // Closed by EcarCleanUp, unless a link failed before it.
+                importContentContext.closeEcarArchive();
+            }
 
             if (response.getStatus()) {
                 String identifier = importContentContext.getIdentifiers() != null
@@ -930,24 +853,9 @@ public class ContentServiceImpl extends BaseService implements IContentService {
         Set<String> contentIds = contentImportMap.keySet();
 
         ContentSearchAPI contentSearchAPI = new ContentSearchAPI(mAppContext, ContentHandler.getSearchRequest(mAppContext, contentIds, importRequest.getContentStatusArray()));
-        GenieResponse apiResponse = contentSearchAPI.post();
+        GenieResponse<ContentSearchResponse> apiResponse = contentSearchAPI.post(ContentSearchResponse.class);
         if (apiResponse.getStatus()) {
-            String body = apiResponse.getResult().toString();
-
-            LinkedTreeMap map = GsonUtil.fromJson(body, LinkedTreeMap.class);
-            LinkedTreeMap result = (LinkedTreeMap) map.get("result");
-
-            String contents = null;
-            if (result.containsKey("content")) {
-                contents = GsonUtil.toJson(result.get("content"));
-            }
-
-            List<ContentData> contentDataList = null;
-            if (!StringUtil.isNullOrEmpty(contents)) {
-                Type type = new TypeToken<List<ContentData>>() {
-                }.getType();
-                contentDataList = GsonUtil.getGson().fromJson(contents, type);
-            }
+            List<ContentData> contentDataList = apiResponse.getResult().getContentDataList();
 
             if (!CollectionUtil.isNullOrEmpty(contentDataList)) {
                 List<DownloadRequest> downloadRequestList = new ArrayList<>();
@@ -1234,16 +1142,31 @@ public class ContentServiceImpl extends BaseService implements IContentService {
      */
     private void performActionOnContents(List<ScanStorageResponse> scannedIdentifiersList, File storageFolder) {
         if (!CollectionUtil.isNullOrEmpty(scannedIdentifiersList)) {
+            List<String> changedIdentifiers = new ArrayList<>();
             for (ScanStorageResponse scannedContent : scannedIdentifiersList) {
                 if (scannedContent.getStatus().equals(ScanStorageStatus.DELETED)) {
                     ContentHandler.deleteContentsFromDb(mAppContext.getDBSession(), scannedContent.getIdentifier());
+                    changedIdentifiers.add(scannedContent.getIdentifier());
                 } else if (scannedContent.getStatus().equals(ScanStorageStatus.ADDED)) {
                     ContentHandler.addContentToDb(mAppContext, scannedContent.getIdentifier(), storageFolder, false);
+                    changedIdentifiers.add(scannedContent.getIdentifier());
                 } else if (scannedContent.getStatus().equals(ScanStorageStatus.UPDATED)) {
                     // TODO: 12/10/17 Yet to be done - In progress
 //                    updateIdsList.add(scannedContent.getIdentifier());
                 }
             }
+
+            // The trees containing the changed contents are indexed again the next time they are read.
+            final Set<String> changedRootIdentifiers = ContentHierarchyIndex.invalidate(mAppContext.getDBSession(), changedIdentifiers);
+            changedRootIdentifiers.addAll(changedIdentifiers);
+            ContentSearchIndex.index(mAppContext.getDBSession(), changedIdentifiers);
+
+            SDKExecutor.getInstance().submit(SDKExecutor.Lane.REFRESH, new Runnable() {
+                @Override
+                public void run() {
+                    ContentSizeAccounting.rollUp(mAppContext.getDBSession(), changedRootIdentifiers);
+                }
+            });
         }
     }
 
@@ -1287,7 +1210,10 @@ public class ContentServiceImpl extends BaseService implements IContentService {
 
         GenieResponse<SunbirdContentSearchResult> response;
 
-        if (contentSearchCriteria.isOfflineSearch()) {
+        if (contentSearchCriteria.isOfflineSearch() && CollectionUtil.isEmpty(contentSearchCriteria.getDialCodes())) {
+            response = searchLocalContent(contentSearchCriteria);
+            TelemetryLogger.logSuccess(mAppContext, response, TAG, methodName, params);
+        } else if (contentSearchCriteria.isOfflineSearch()) {
             Map<String, ContentData> contentDataMap = new HashMap<>();
             Map<String, ContentData> collectionDataMap = new HashMap<>();
 
@@ -1368,58 +1294,26 @@ public class ContentServiceImpl extends BaseService implements IContentService {
             Map<String, Object> requestMap = ContentHandler.getSearchContentRequest(mAppContext, configService, contentSearchCriteria);
 
             ContentSearchAPI contentSearchAPI = new ContentSearchAPI(mAppContext, requestMap);
-            GenieResponse apiResponse = contentSearchAPI.post();
+            GenieResponse<ContentSearchResponse> apiResponse = contentSearchAPI.post(ContentSearchResponse.class);
             if (apiResponse.getStatus()) {
-                String body = apiResponse.getResult().toString();
-
-                LinkedTreeMap map = GsonUtil.fromJson(body, LinkedTreeMap.class);
-                String id = (String) map.get("id");
-                LinkedTreeMap responseParams = (LinkedTreeMap) map.get("params");
-                LinkedTreeMap result = (LinkedTreeMap) map.get("result");
-
-                String responseMessageId = null;
-                if (responseParams.containsKey("resmsgid")) {
-                    responseMessageId = (String) responseParams.get("resmsgid");
-                }
-
-                List<Map<String, Object>> facets = null;
-                if (result.containsKey("facets")) {
-                    facets = (List<Map<String, Object>>) result.get("facets");
-                }
-
-                String contentDataList = null;
-                if (result.containsKey("content")) {
-                    contentDataList = GsonUtil.toJson(result.get("content"));
-                }
-
-                String collectionDataList = null;
-                if (result.containsKey("collections")) {
-                    collectionDataList = GsonUtil.toJson(result.get("collections"));
-                }
+                ContentSearchResponse searchResponse = apiResponse.getResult();
 
                 SunbirdContentSearchResult searchResult = new SunbirdContentSearchResult();
-                searchResult.setId(id);
-                searchResult.setResponseMessageId(responseMessageId);
+                searchResult.setId(searchResponse.getId());
+                searchResult.setResponseMessageId(searchResponse.getResponseMessageId());
                 searchResult.setRequest(requestMap);
 
-                if (!StringUtil.isNullOrEmpty(contentDataList)
-                        || !StringUtil.isNullOrEmpty(collectionDataList)) {
-
-                    Type type = new TypeToken<List<ContentData>>() {
-                    }.getType();
-
-                    if (!StringUtil.isNullOrEmpty(contentDataList)) {
-                        List<ContentData> contentData = GsonUtil.getGson().fromJson(contentDataList, type);
-                        searchResult.setContentDataList(contentData);
+                if (searchResponse.getContentDataList() != null || searchResponse.getCollectionDataList() != null) {
+                    if (searchResponse.getContentDataList() != null) {
+                        searchResult.setContentDataList(searchResponse.getContentDataList());
                     }
 
-                    if (!StringUtil.isNullOrEmpty(collectionDataList)) {
-                        List<ContentData> contentData = GsonUtil.getGson().fromJson(collectionDataList, type);
-                        searchResult.setCollectionDataList(contentData);
+                    if (searchResponse.getCollectionDataList() != null) {
+                        searchResult.setCollectionDataList(searchResponse.getCollectionDataList());
                     }
 
                     searchResult.setFilterCriteria(ContentHandler.createFilterCriteria(configService,
-                            contentSearchCriteria, facets, (Map<String, Object>) requestMap.get("filters")));
+                            contentSearchCriteria, searchResponse.getFacets(), (Map<String, Object>) requestMap.get("filters")));
                 } else {
                     searchResult.setContentDataList(new ArrayList<ContentData>());
                     searchResult.setFilterCriteria(null);
@@ -1438,6 +1332,45 @@ public class ContentServiceImpl extends BaseService implements IContentService {
         return response;
     }
 
+    /**
+     * Searches the contents on the device through {@link ContentSearchIndex}, applying the filters built for the search API.
+     */
+    private GenieResponse<SunbirdContentSearchResult> searchLocalContent(SunbirdContentSearchCriteria contentSearchCriteria) {
+        Map<String, Object> requestMap = ContentHandler.getSearchContentRequest(mAppContext, configService, contentSearchCriteria);
+        Map<String, Object> filters = (Map<String, Object>) requestMap.get("filters");
+        ContentSearchIndex.Result result = ContentSearchIndex.search(mAppContext.getDBSession(), contentSearchCriteria, filters);
+
+        List<ContentData> contentDataList = new ArrayList<>();
+        if (!result.getIdentifiers().isEmpty()) {
+            Map<String, ContentModel> contentModelMap = new HashMap<>();
+            List<ContentModel> contentModelList = ContentHandler.findAllContentsWithIdentifiers(mAppContext.getDBSession(), result.getIdentifiers(), false);
+            if (contentModelList != null) {
+                for (ContentModel contentModel : contentModelList) {
+                    contentModelMap.put(contentModel.getIdentifier(), contentModel);
+                }
+            }
+
+            // Keep the rank of the results.
+            for (String identifier : result.getIdentifiers()) {
+                ContentModel contentModel = contentModelMap.get(identifier);
+                if (contentModel != null) {
+                    contentDataList.add(contentModel.getLocalContentData());
+                }
+            }
+        }
+
+        SunbirdContentSearchResult searchResult = new SunbirdContentSearchResult();
+        searchResult.setRequest(requestMap);
+        searchResult.setContentDataList(contentDataList);
+        if (!contentDataList.isEmpty()) {
+            searchResult.setFilterCriteria(ContentHandler.createFilterCriteria(configService, contentSearchCriteria, result.getFacets(), filters));
+        }
+
+        GenieResponse<SunbirdContentSearchResult> response = GenieResponseBuilder.getSuccessResponse(ServiceConstants.SUCCESS_RESPONSE);
+        response.setResult(searchResult);
+        return response;
+    }
+
     @Override
     public GenieResponse<Void> flagContent(FlagContentRequest flagContentRequest) {
         Map<String, Object> params = new HashMap<>();
@@ -0,0 +1,264 @@
+package org.ekstep.genieservices.content;
+
+import org.ekstep.genieservices.ServiceConstants;
+import org.ekstep.genieservices.commons.AppContext;
+import org.ekstep.genieservices.commons.db.contract.ContentEntry;
+import org.ekstep.genieservices.commons.db.operations.IDBSession;
+import org.ekstep.genieservices.commons.executor.SDKExecutor;
+import org.ekstep.genieservices.commons.utils.CollectionUtil;
+import org.ekstep.genieservices.commons.utils.DateUtil;
+import org.ekstep.genieservices.commons.utils.FileUtil;
+import org.ekstep.genieservices.commons.utils.Logger;
+import org.ekstep.genieservices.content.db.model.ContentHierarchySizesModel;
+import org.ekstep.genieservices.content.db.model.ContentModel;
+
+import java.io.File;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps {@link ContentEntry#COLUMN_NAME_SIZE_ON_DEVICE} of the collections up to date.
+ * <p>
+ * Every content keeps the size of its own folder in {@link ContentEntry#COLUMN_NAME_OWN_SIZE_ON_DEVICE}, which
+ * is set when the content is imported or deleted. The size of a collection is the sum of the own sizes of the
+ * distinct contents in its indexed tree, so that a child shared by two units is counted once. It is worked out
+ * from the db alone, for the trees touched by an import or a delete.
+ * <p>
+ * The own sizes drift from the disk when files are changed outside the SDK, and trees which were never indexed
+ * are not rolled up when one of their children changes. Once every {@link #RECONCILE_INTERVAL_MILLIS} the sizes
+ * are read from the disk again on the {@link SDKExecutor.Lane#BULK} lane, and every collection is rolled up.
+ */
+public class ContentSizeAccounting {
+
+    private static final String TAG = ContentSizeAccounting.class.getSimpleName();
+
+    private static final String UPDATE_SIZE = String.format(Locale.US, "UPDATE %s SET %s = ? WHERE %s = ?",
+            ContentEntry.TABLE_NAME, ContentEntry.COLUMN_NAME_SIZE_ON_DEVICE, ContentEntry.COLUMN_NAME_IDENTIFIER);
+
+    private static final String UPDATE_OWN_SIZE = String.format(Locale.US, "UPDATE %s SET %s = ? WHERE %s = ?",
+            ContentEntry.TABLE_NAME, ContentEntry.COLUMN_NAME_OWN_SIZE_ON_DEVICE, ContentEntry.COLUMN_NAME_IDENTIFIER);
+
+    private static final String UPDATE_OWN_AND_TOTAL_SIZE = String.format(Locale.US, "UPDATE %s SET %s = ?, %s = ? WHERE %s = ?",
+            ContentEntry.TABLE_NAME, ContentEntry.COLUMN_NAME_OWN_SIZE_ON_DEVICE, ContentEntry.COLUMN_NAME_SIZE_ON_DEVICE,
+            ContentEntry.COLUMN_NAME_IDENTIFIER);
+
+    private static final long RECONCILE_INTERVAL_MILLIS = TimeUnit.DAYS.toMillis(7);
+    private static final int RECONCILE_PARTITIONS = 2;
+    // Pause after reading the size of every content, so that the disk is not kept busy.
+    private static final long RECONCILE_THROTTLE_MILLIS = 10;
+
+    private static final AtomicBoolean sReconciling = new AtomicBoolean(false);
+
+    private ContentSizeAccounting() {
+    }
+
+    /**
+     * Works out again the size of every collection in the trees of the roots, indexing the trees which are not
+     * indexed yet. Only the sizes which changed are written.
+     */
+    public static void rollUp(IDBSession dbSession, Collection<String> rootIdentifiers) {
+        if (CollectionUtil.isNullOrEmpty(rootIdentifiers)) {
+            return;
+        }
+
+        Map<String, Long> totals = new LinkedHashMap<>();
+        for (String rootIdentifier : new HashSet<>(rootIdentifiers)) {
+            ContentHierarchyIndex.ensureIndexed(dbSession, rootIdentifier);
+            rollUp(ContentHierarchySizesModel.find(dbSession, rootIdentifier).getNodeList(), totals);
+        }
+
+        List<Object[]> bindArgsList = new ArrayList<>();
+        for (Map.Entry<String, Long> total : totals.entrySet()) {
+            bindArgsList.add(new Object[]{total.getValue(), total.getKey()});
+        }
+        if (!bindArgsList.isEmpty()) {
+            dbSession.executeBatch(UPDATE_SIZE, bindArgsList);
+        }
+    }
+
+    /**
+     * Adds to the totals the collections of the tree whose size changed.
+     *
+     * @param nodeList nodes of the tree in depth first order.
+     */
+    private static void rollUp(List<ContentHierarchySizesModel.Node> nodeList, Map<String, Long> totals) {
+        // Collections whose subtree is not over yet, the deepest on top.
+        Deque<OpenCollection> open = new ArrayDeque<>();
+        for (ContentHierarchySizesModel.Node node : nodeList) {
+            while (!open.isEmpty() && open.peek().node.getDepth() >= node.getDepth()) {
+                close(open.pop(), totals);
+            }
+
+            for (OpenCollection collection : open) {
+                if (collection.identifiers.add(node.getIdentifier())) {
+                    collection.size += node.getOwnSizeOnDevice();
+                }
+            }
+
+            if (ContentConstants.MimeType.COLLECTION.equals(node.getMimeType())) {
+                open.push(new OpenCollection(node));
+            }
+        }
+
+        while (!open.isEmpty()) {
+            close(open.pop(), totals);
+        }
+    }
+
+    private static void close(OpenCollection collection, Map<String, Long> totals) {
+        if (collection.size != collection.node.getSizeOnDevice()) {
+            totals.put(collection.node.getIdentifier(), collection.size);
+        }
+    }
+
+    /**
+     * Starts {@link #reconcile(AppContext)} if it did not run for {@link #RECONCILE_INTERVAL_MILLIS}.
+     */
+    public static void reconcileIfDue(AppContext appContext) {
+        long lastReconciled = appContext.getKeyValueStore().getLong(ServiceConstants.PreferenceKey.KEY_SIZE_ON_DEVICE_RECONCILED, 0L);
+        if (DateUtil.getEpochTime() - lastReconciled >= RECONCILE_INTERVAL_MILLIS) {
+            reconcile(appContext);
+        }
+    }
+
+    /**
+     * Reads the size of every content from the disk again on the {@link SDKExecutor.Lane#BULK} lane, and then
+     * rolls up every collection shown in the downloads. Does nothing if it is running already.
+     */
+    public static void reconcile(final AppContext appContext) {
+        if (!sReconciling.compareAndSet(false, true)) {
+            return;
+        }
+
+        List<ContentModel> contentModelList = ContentHandler.findAllContent(appContext.getDBSession());
+        if (CollectionUtil.isNullOrEmpty(contentModelList)) {
+            appContext.getKeyValueStore().putLong(ServiceConstants.PreferenceKey.KEY_SIZE_ON_DEVICE_RECONCILED, DateUtil.getEpochTime());
+            sReconciling.set(false);
+            return;
+        }
+
+        final List<String> rootIdentifiers = new ArrayList<>();
+        for (ContentModel contentModel : contentModelList) {
+            if (ContentConstants.MimeType.COLLECTION.equals(contentModel.getMimeType())
+                    && ContentConstants.Visibility.DEFAULT.equalsIgnoreCase(contentModel.getVisibility())) {
+                rootIdentifiers.add(contentModel.getIdentifier());
+            }
+        }
+
+        int partitionSize = (contentModelList.size() + RECONCILE_PARTITIONS - 1) / RECONCILE_PARTITIONS;
+        List<List<ContentModel>> partitions = new ArrayList<>();
+        for (int from = 0; from < contentModelList.size(); from += partitionSize) {
+            partitions.add(contentModelList.subList(from, Math.min(from + partitionSize, contentModelList.size())));
+        }
+
+        final AtomicInteger remaining = new AtomicInteger(partitions.size());
+        final AtomicBoolean failed = new AtomicBoolean(false);
+        for (final List<ContentModel> partition : partitions) {
+            Runnable task = new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        if (!reconcileOwnSizes(appContext.getDBSession(), partition)) {
+                            failed.set(true);
+                        }
+                    } catch (Exception e) {
+                        Logger.e(TAG, "Reading the size on device failed", e);
+                        failed.set(true);
+                    }
+                    onPartitionDone(appContext, rootIdentifiers, remaining, failed);
+                }
+            };
+
+            try {
+                SDKExecutor.getInstance().submit(SDKExecutor.Lane.BULK, task);
+            } catch (RejectedExecutionException e) {
+                // Tried again after the next import or delete.
+                failed.set(true);
+                onPartitionDone(appContext, rootIdentifiers, remaining, failed);
+            }
+        }
+    }
+
+    /**
+     * @return false if the thread was interrupted before every size was read.
+     */
+    private static boolean reconcileOwnSizes(IDBSession dbSession, List<ContentModel> contentModelList) {
+        List<Object[]> ownSizeBindArgsList = new ArrayList<>();
+        List<Object[]> sizeBindArgsList = new ArrayList<>();
+        boolean completed = true;
+        for (ContentModel contentModel : contentModelList) {
+            if (contentModel.getPath() == null) {
+                continue;
+            }
+
+            long ownSizeOnDevice = FileUtil.getFileSize(new File(contentModel.getPath()));
+            if (ContentConstants.MimeType.COLLECTION.equals(contentModel.getMimeType())) {
+                if (contentModel.getOwnSizeOnDevice() == null || ownSizeOnDevice != contentModel.getOwnSizeOnDevice()) {
+                    ownSizeBindArgsList.add(new Object[]{ownSizeOnDevice, contentModel.getIdentifier()});
+                }
+            } else if (contentModel.getOwnSizeOnDevice() == null || ownSizeOnDevice != contentModel.getOwnSizeOnDevice()
+                    || contentModel.getSizeOnDevice() == null || ownSizeOnDevice != contentModel.getSizeOnDevice()) {
+                sizeBindArgsList.add(new Object[]{ownSizeOnDevice, ownSizeOnDevice, contentModel.getIdentifier()});
+            }
+
+            try {
+                Thread.sleep(RECONCILE_THROTTLE_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                completed = false;
+                break;
+            }
+        }
+
+        if (!ownSizeBindArgsList.isEmpty()) {
+            dbSession.executeBatch(UPDATE_OWN_SIZE, ownSizeBindArgsList);
+        }
+        if (!sizeBindArgsList.isEmpty()) {
+            dbSession.executeBatch(UPDATE_OWN_AND_TOTAL_SIZE, sizeBindArgsList);
+        }
+        return completed;
+    }
+
+    private static void onPartitionDone(AppContext appContext, List<String> rootIdentifiers,
+                                        AtomicInteger remaining, AtomicBoolean failed) {
+        if (remaining.decrementAndGet() > 0) {
+            return;
+        }
+
+        try {
+            rollUp(appContext.getDBSession(), rootIdentifiers);
+            if (!failed.get()) {
+                appContext.getKeyValueStore().putLong(ServiceConstants.PreferenceKey.KEY_SIZE_ON_DEVICE_RECONCILED, DateUtil.getEpochTime());
+            }
+        } catch (Exception e) {
+            Logger.e(TAG, "Rolling up the size on device failed", e);
+        } finally {
+            sReconciling.set(false);
+        }
+    }
+
+    private static class OpenCollection {
+
+        private final ContentHierarchySizesModel.Node node;
+        private final Set<String> identifiers = new HashSet<>();
+        private long size;
+
+        OpenCollection(ContentHierarchySizesModel.Node node) {
+            this.node = node;
+            this.identifiers.add(node.getIdentifier());
+            this.size = node.getOwnSizeOnDevice();
+        }
+    }
+}
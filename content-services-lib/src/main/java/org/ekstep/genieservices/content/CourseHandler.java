@@ -7,6 +7,7 @@ import org.ekstep.genieservices.commons.bean.GenieResponse;
 import org.ekstep.genieservices.commons.bean.Session;
 import org.ekstep.genieservices.commons.bean.UpdateContentStateRequest;
 import org.ekstep.genieservices.commons.db.model.NoSqlModel;
+import org.ekstep.genieservices.commons.executor.SDKExecutor;
 import org.ekstep.genieservices.commons.utils.StringUtil;
 import org.ekstep.genieservices.content.network.BatchDetailsAPI;
 import org.ekstep.genieservices.content.network.CourseBatchesAPI;
@@ -40,7 +41,7 @@ public class CourseHandler {
 
     public static void refreshEnrolledCoursesFromServer(final AppContext appContext, final Session sessionData,
                                                         final String userId, final NoSqlModel enrolledCoursesInDB) {
-        new Thread(new Runnable() {
+        SDKExecutor.getInstance().submit(SDKExecutor.Lane.REFRESH, new Runnable() {
             @Override
             public void run() {
                 GenieResponse enrolledCoursesAPIResponse = fetchEnrolledCoursesFromServer(appContext, sessionData, userId);
@@ -52,7 +53,7 @@ public class CourseHandler {
                     }
                 }
             }
-        }).start();
+        });
     }
 
     public static GenieResponse enrolCourseInServer(AppContext appContext, Session sessionData, EnrollCourseRequest enrollCourseRequest) {
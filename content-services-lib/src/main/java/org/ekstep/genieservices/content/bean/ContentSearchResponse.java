@@ -0,0 +1,52 @@
+package org.ekstep.genieservices.content.bean;
+
+import org.ekstep.genieservices.commons.bean.ContentData;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Body of the search API response, parsed straight off the connection.
+ */
+public class ContentSearchResponse {
+
+    private String id;
+    private Params params;
+    private Result result;
+
+    public String getId() {
+        return id;
+    }
+
+    public String getResponseMessageId() {
+        return params != null ? params.resmsgid : null;
+    }
+
+    public List<Map<String, Object>> getFacets() {
+        return result != null ? result.facets : null;
+    }
+
+    /**
+     * @return null if the response has no content.
+     */
+    public List<ContentData> getContentDataList() {
+        return result != null ? result.content : null;
+    }
+
+    /**
+     * @return null if the response has no collections.
+     */
+    public List<ContentData> getCollectionDataList() {
+        return result != null ? result.collections : null;
+    }
+
+    private static class Params {
+        private String resmsgid;
+    }
+
+    private static class Result {
+        private List<Map<String, Object>> facets;
+        private List<ContentData> content;
+        private List<ContentData> collections;
+    }
+}
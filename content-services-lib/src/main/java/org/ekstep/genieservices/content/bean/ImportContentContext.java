@@ -1,11 +1,14 @@
 package org.ekstep.genieservices.content.bean;
 
 import org.ekstep.genieservices.commons.bean.ContentImportResponse;
+import org.ekstep.genieservices.commons.utils.ZipArchive;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Created on 5/16/2017.
@@ -24,6 +27,10 @@ public class ImportContentContext {
     private List<Map<String, Object>> items;
     private List<String> identifiers;
     private List<ContentImportResponse> contentImportResponseList;
+    // Roots of the indexed trees which contain any of the imported contents.
+    private Set<String> changedRootIdentifiers;
+    // The ecar being imported, open from ExtractEcar until EcarCleanUp.
+    private ZipArchive ecarArchive;
 
     public ImportContentContext(boolean isChildContent, String ecarFilePath, String destinationFolder) {
         this.isChildContent = isChildContent;
@@ -35,6 +42,7 @@ public class ImportContentContext {
         this.identifiers = new ArrayList<>();
         this.skippedItemsIdentifier = new ArrayList<>();
         this.contentImportResponseList = new ArrayList<>();
+        this.changedRootIdentifiers = new LinkedHashSet<>();
     }
 
     public boolean isChildContent() {
@@ -76,4 +84,23 @@ public class ImportContentContext {
     public List<ContentImportResponse> getContentImportResponseList() {
         return contentImportResponseList;
     }
+
+    public Set<String> getChangedRootIdentifiers() {
+        return changedRootIdentifiers;
+    }
+
+    public ZipArchive getEcarArchive() {
+        return ecarArchive;
+    }
+
+    public void setEcarArchive(ZipArchive ecarArchive) {
+        this.ecarArchive = ecarArchive;
+    }
+
+    public void closeEcarArchive() {
+        if (ecarArchive != null) {
+            ecarArchive.close();
+            ecarArchive = null;
+        }
+    }
 }
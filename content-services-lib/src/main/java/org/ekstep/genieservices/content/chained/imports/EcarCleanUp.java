@@ -32,6 +32,7 @@ public class EcarCleanUp implements IChainable<List<ContentImportResponse>, Impo
     @Override
     public GenieResponse<List<ContentImportResponse>> execute(AppContext appContext, ImportContentContext importContext) {
         Logger.d(TAG, tmpLocation.getPath());
+        importContext.closeEcarArchive();
         FileUtil.rm(tmpLocation);
 
         if (nextLink != null) {
@@ -6,10 +6,13 @@ import org.ekstep.genieservices.commons.GenieResponseBuilder;
 import org.ekstep.genieservices.commons.bean.ContentImportResponse;
 import org.ekstep.genieservices.commons.bean.GenieResponse;
 import org.ekstep.genieservices.commons.chained.IChainable;
-import org.ekstep.genieservices.commons.utils.Decompress;
+import org.ekstep.genieservices.commons.utils.FileUtil;
+import org.ekstep.genieservices.commons.utils.Logger;
+import org.ekstep.genieservices.commons.utils.ZipArchive;
 import org.ekstep.genieservices.content.bean.ImportContentContext;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.List;
 
 /**
@@ -33,7 +36,23 @@ public class ExtractEcar implements IChainable<List<ContentImportResponse>, Impo
         tmpLocation.mkdirs();
         File ecarFile = new File(importContext.getEcarFilePath());
 
-        if (Decompress.unzip(ecarFile, tmpLocation) && nextLink != null) {
+        // Only the manifest is extracted here, the payloads are extracted straight from the ecar by ExtractPayloads.
+        ZipArchive ecarArchive = null;
+        try {
+            ecarArchive = ZipArchive.open(ecarFile);
+            if (ecarArchive.getEntry(FileUtil.MANIFEST_FILE_NAME) != null) {
+                ecarArchive.copy(FileUtil.MANIFEST_FILE_NAME, new File(tmpLocation, FileUtil.MANIFEST_FILE_NAME));
+            }
+        } catch (IOException e) {
+            Logger.e(TAG, "Cannot read ecar!", e);
+            if (ecarArchive != null) {
+                ecarArchive.close();
+            }
+            ecarArchive = null;
+        }
+
+        if (ecarArchive != null && nextLink != null) {
+            importContext.setEcarArchive(ecarArchive);
             importContext.getMetadata().put(ServiceConstants.FILE_SIZE, ecarFile.length());
             return nextLink.execute(appContext, importContext);
         } else {
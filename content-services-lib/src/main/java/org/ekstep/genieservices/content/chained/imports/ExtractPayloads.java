@@ -9,11 +9,12 @@ import org.ekstep.genieservices.commons.bean.ImportContentProgress;
 import org.ekstep.genieservices.commons.chained.IChainable;
 import org.ekstep.genieservices.commons.db.model.NoSqlModel;
 import org.ekstep.genieservices.commons.utils.CollectionUtil;
-import org.ekstep.genieservices.commons.utils.Decompress;
 import org.ekstep.genieservices.commons.utils.FileUtil;
 import org.ekstep.genieservices.commons.utils.GsonUtil;
 import org.ekstep.genieservices.commons.utils.Logger;
 import org.ekstep.genieservices.commons.utils.StringUtil;
+import org.ekstep.genieservices.commons.utils.ZipArchive;
+import org.ekstep.genieservices.commons.utils.ZipExtractor;
 import org.ekstep.genieservices.content.ContentConstants;
 import org.ekstep.genieservices.content.ContentHandler;
 import org.ekstep.genieservices.content.bean.ImportContentContext;
@@ -22,8 +23,12 @@ import org.ekstep.genieservices.eventbus.EventBus;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Created on 5/16/2017.
@@ -33,18 +38,23 @@ import java.util.Map;
 public class ExtractPayloads implements IChainable<List<ContentImportResponse>, ImportContentContext> {
 
     private static final String TAG = ExtractPayloads.class.getSimpleName();
-    private final File tmpLocation;
+    private static final int WRITE_BATCH_SIZE = 50;
 
-    private IChainable<List<ContentImportResponse>, ImportContentContext> nextLink;
+    // Content rows are written in batches, the replaced content folders are deleted once their rows are written.
+    // A folder is kept if its row could not be written, as the old row still points to it.
+    private final List<ContentModel> pendingInserts = new ArrayList<>();
+    private final List<ContentModel> pendingUpdates = new ArrayList<>();
+    private final Set<String> pendingIdentifiers = new HashSet<>();
+    private final Map<String, File> pendingDeletes = new HashMap<>();
 
-    public ExtractPayloads(File tmpLocation) {
-        this.tmpLocation = tmpLocation;
-    }
+    private IChainable<List<ContentImportResponse>, ImportContentContext> nextLink;
 
     @Override
     public GenieResponse<List<ContentImportResponse>> execute(AppContext appContext, ImportContentContext importContext) {
 
         File destinationFolder = new File(importContext.getDestinationFolder());
+        // Artifacts and assets are read straight from the ecar, nothing but the manifest is extracted to a temp folder.
+        ZipArchive ecarArchive = importContext.getEcarArchive();
         String identifier, mimeType, contentType, visibility, audience, pragma, path,
                 contentEncoding, contentDisposition;
         Double compatibilityLevel, pkgVersion;
@@ -52,7 +62,6 @@ public class ExtractPayloads implements IChainable<List<ContentImportResponse>,
         int contentState = ContentConstants.State.ONLY_SPINE;
         String oldContentPath;
         String artifactUrl, iconURL, posterImage, grayScaleAppIcon;
-        File payload;
         File payloadDestination = null;
         ContentModel oldContentModel;
         List<String> dialcodes;
@@ -87,6 +96,10 @@ public class ExtractPayloads implements IChainable<List<ContentImportResponse>,
             grayScaleAppIcon = ContentHandler.readGrayScaleAppIcon(item);
             dialcodes = ContentHandler.readDialcodes(item);
 
+            // The same identifier can come twice in a manifest, read it only after its pending row is written.
+            if (pendingIdentifiers.contains(identifier)) {
+                writePendingContents(appContext);
+            }
             oldContentModel = ContentModel.find(appContext.getDBSession(), identifier);
             oldContentPath = oldContentModel == null ? null : oldContentModel.getPath();
             boolean isContentExist = ContentHandler.isContentExist(oldContentModel, identifier, pkgVersion, false);
@@ -106,7 +119,7 @@ public class ExtractPayloads implements IChainable<List<ContentImportResponse>,
                     payloadDestination.mkdirs();
 
                     try {
-                        copyAssets(tmpLocation.getPath(), iconURL, payloadDestination);
+                        copyAssets(ecarArchive, iconURL, payloadDestination);
                     } catch (IOException e) {
                         Logger.e(TAG, "Cannot copy asset!", e);
                     }
@@ -114,7 +127,7 @@ public class ExtractPayloads implements IChainable<List<ContentImportResponse>,
                     try {
                         // If compatibility level is not in range then do not copy artifact
                         if (ContentHandler.isCompatible(appContext, compatibilityLevel)) {
-                            copyAssets(tmpLocation.getPath(), artifactUrl, payloadDestination);
+                            copyAssets(ecarArchive, artifactUrl, payloadDestination);
                             contentState = ContentConstants.State.ARTIFACT_AVAILABLE;
                         }
                     } catch (IOException e) {
@@ -153,11 +166,16 @@ public class ExtractPayloads implements IChainable<List<ContentImportResponse>,
                         if (!StringUtil.isNullOrEmpty(artifactUrl)) {
                             if (StringUtil.isNullOrEmpty(contentDisposition) || StringUtil.isNullOrEmpty(contentEncoding)
                                     || (ContentConstants.ContentDisposition.INLINE.equals(contentDisposition) && ContentConstants.ContentEncoding.GZIP.equals(contentEncoding))) { // Content with zip artifact
-                                payload = new File(tmpLocation.getPath(), "/" + artifactUrl);
-                                unzipSuccess = Decompress.unzip(payload, payloadDestination);
+                                try {
+                                    unzipSuccess = ecarArchive.extractNested(artifactUrl, payloadDestination,
+                                            newProgressListener(currentCount, importContext.getItems().size()));
+                                } catch (IOException e) {
+                                    Logger.e(TAG, "Cannot extract artifact!", e);
+                                    unzipSuccess = false;
+                                }
                             } else if (ContentHandler.isInlineIdentity(contentDisposition, contentEncoding)) {    // Content with artifact without zip i.e. pfd, mp4
                                 try {
-                                    copyAssets(tmpLocation.getPath(), artifactUrl, payloadDestination);
+                                    copyAssets(ecarArchive, artifactUrl, payloadDestination);
                                     unzipSuccess = true;
                                 } catch (IOException e) {
                                     e.printStackTrace();
@@ -179,9 +197,9 @@ public class ExtractPayloads implements IChainable<List<ContentImportResponse>,
                     }
 
                     try {
-                        copyAssets(tmpLocation.getPath(), iconURL, payloadDestination);
-                        copyAssets(tmpLocation.getPath(), posterImage, payloadDestination);
-                        copyAssets(tmpLocation.getPath(), grayScaleAppIcon, payloadDestination);
+                        copyAssets(ecarArchive, iconURL, payloadDestination);
+                        copyAssets(ecarArchive, posterImage, payloadDestination);
+                        copyAssets(ecarArchive, grayScaleAppIcon, payloadDestination);
                     } catch (IOException e) {
                         Logger.e(TAG, "Cannot copy asset!", e);
                     }
@@ -231,17 +249,22 @@ public class ExtractPayloads implements IChainable<List<ContentImportResponse>,
                     mimeType, contentType, visibility, path, refCount, contentState, audience, pragma, sizeOnDevice);
 
             if (oldContentModel == null) {
-                newContentModel.save();
+                pendingInserts.add(newContentModel);
             } else {
-                newContentModel.update();
+                pendingUpdates.add(newContentModel);
             }
+            pendingIdentifiers.add(identifier);
 
             //Delete the content
             if (oldContentPath != null && payloadDestination != null && !oldContentPath.equals(payloadDestination.getPath()) && !isContentExist) {
                 if (!StringUtil.isNullOrEmpty(artifactUrl) && !artifactUrl.contains("." + ServiceConstants.FileExtension.APK)) {
-                    FileUtil.rm(new File(oldContentPath));
+                    pendingDeletes.put(identifier, new File(oldContentPath));
                 }
             }
+
+            if (pendingIdentifiers.size() >= WRITE_BATCH_SIZE) {
+                writePendingContents(appContext);
+            }
             importContext.getIdentifiers().add(identifier);
 
             // Store dial code mapping in DB
@@ -265,6 +288,8 @@ public class ExtractPayloads implements IChainable<List<ContentImportResponse>,
             EventBus.postEvent(new ImportContentProgress(currentCount, importContext.getItems().size()));
         }
 
+        writePendingContents(appContext);
+
         if (nextLink != null) {
             return nextLink.execute(appContext, importContext);
         } else {
@@ -272,25 +297,67 @@ public class ExtractPayloads implements IChainable<List<ContentImportResponse>,
         }
     }
 
+    private static ZipExtractor.IProgressListener newProgressListener(final int currentCount, final int totalCount) {
+        return new ZipExtractor.IProgressListener() {
+            @Override
+            public void onProgress(long extractedBytes, long totalBytes) {
+                EventBus.postEvent(new ImportContentProgress(currentCount, totalCount, extractedBytes, totalBytes));
+            }
+        };
+    }
+
     @Override
     public IChainable<List<ContentImportResponse>, ImportContentContext> then(IChainable<List<ContentImportResponse>, ImportContentContext> link) {
         nextLink = link;
         return link;
     }
 
-    private void copyAssets(String tempLocationPath, String asset, File payloadDestination) throws IOException {
+    private void writePendingContents(AppContext appContext) {
+        Set<String> unwrittenIdentifiers = new HashSet<>();
+        if (!pendingInserts.isEmpty()) {
+            addUnwritten(pendingInserts, appContext.getDBSession().createAll(pendingInserts), unwrittenIdentifiers);
+        }
+        if (!pendingUpdates.isEmpty()) {
+            addUnwritten(pendingUpdates, appContext.getDBSession().updateAll(pendingUpdates), unwrittenIdentifiers);
+        }
+
+        for (Map.Entry<String, File> pendingDelete : pendingDeletes.entrySet()) {
+            if (unwrittenIdentifiers.contains(pendingDelete.getKey())) {
+                Logger.i(TAG, "Content " + pendingDelete.getKey() + " was not written, keeping " + pendingDelete.getValue());
+                continue;
+            }
+            FileUtil.rm(pendingDelete.getValue());
+        }
+
+        pendingInserts.clear();
+        pendingUpdates.clear();
+        pendingIdentifiers.clear();
+        pendingDeletes.clear();
+    }
+
+    /**
+     * Adds the identifiers of the contents whose row was not written, that is with no row id or no row updated.
+     */
+    private static void addUnwritten(List<ContentModel> contentModels, long[] results, Set<String> unwrittenIdentifiers) {
+        for (int i = 0; i < contentModels.size(); i++) {
+            if (results[i] < 1) {
+                unwrittenIdentifiers.add(contentModels.get(i).getIdentifier());
+            }
+        }
+    }
+
+    private void copyAssets(ZipArchive ecarArchive, String asset, File payloadDestination) throws IOException {
         if (asset != null && asset.length() > 0) {
 
-            File iconSrc = new File(tempLocationPath, "/" + asset);
             File iconDestination = new File(payloadDestination, asset);
 
-            Logger.d(TAG, "Copy: " + iconSrc + "To: " + iconDestination);
+            Logger.d(TAG, "Copy: " + asset + "To: " + iconDestination);
 
             String folderContainingFile = asset.substring(0, asset.lastIndexOf("/"));
             FileUtil.createFolders(payloadDestination.getPath(), folderContainingFile);
 
             // If source icon is not available then copy assets is failing and throwing exception.
-            FileUtil.cp(iconSrc, iconDestination);
+            ecarArchive.copy(asset, iconDestination);
         }
     }
 
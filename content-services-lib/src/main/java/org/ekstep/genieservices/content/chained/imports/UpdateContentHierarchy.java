@@ -0,0 +1,51 @@
+package org.ekstep.genieservices.content.chained.imports;
+
+import org.ekstep.genieservices.ServiceConstants;
+import org.ekstep.genieservices.commons.AppContext;
+import org.ekstep.genieservices.commons.GenieResponseBuilder;
+import org.ekstep.genieservices.commons.bean.ContentImportResponse;
+import org.ekstep.genieservices.commons.bean.GenieResponse;
+import org.ekstep.genieservices.commons.chained.IChainable;
+import org.ekstep.genieservices.commons.db.operations.IDBSession;
+import org.ekstep.genieservices.commons.utils.Logger;
+import org.ekstep.genieservices.content.ContentHierarchyIndex;
+import org.ekstep.genieservices.content.bean.ImportContentContext;
+
+import java.util.List;
+
+/**
+ * Drops the indexed trees which contain any of the imported contents, and indexes the tree of the imported root.
+ */
+public class UpdateContentHierarchy implements IChainable<List<ContentImportResponse>, ImportContentContext> {
+
+    private static final String TAG = UpdateContentHierarchy.class.getSimpleName();
+
+    private IChainable<List<ContentImportResponse>, ImportContentContext> nextLink;
+
+    @Override
+    public GenieResponse<List<ContentImportResponse>> execute(AppContext appContext, ImportContentContext importContext) {
+        List<String> identifiers = importContext.getIdentifiers();
+        if (identifiers != null && !identifiers.isEmpty()) {
+            IDBSession dbSession = appContext.getDBSession();
+            try {
+                importContext.getChangedRootIdentifiers().addAll(ContentHierarchyIndex.invalidate(dbSession, identifiers));
+                ContentHierarchyIndex.index(dbSession, identifiers.get(0));
+            } catch (Exception e) {
+                // The tree is indexed again the next time it is read.
+                Logger.e(TAG, "Indexing the content hierarchy failed", e);
+            }
+        }
+
+        if (nextLink != null) {
+            return nextLink.execute(appContext, importContext);
+        } else {
+            return GenieResponseBuilder.getErrorResponse(ServiceConstants.ErrorCode.IMPORT_FAILED, "Import content failed", TAG);
+        }
+    }
+
+    @Override
+    public IChainable<List<ContentImportResponse>, ImportContentContext> then(IChainable<List<ContentImportResponse>, ImportContentContext> link) {
+        nextLink = link;
+        return link;
+    }
+}
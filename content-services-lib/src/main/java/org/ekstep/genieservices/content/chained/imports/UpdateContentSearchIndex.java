@@ -0,0 +1,50 @@
+package org.ekstep.genieservices.content.chained.imports;
+
+import org.ekstep.genieservices.ServiceConstants;
+import org.ekstep.genieservices.commons.AppContext;
+import org.ekstep.genieservices.commons.GenieResponseBuilder;
+import org.ekstep.genieservices.commons.bean.ContentImportResponse;
+import org.ekstep.genieservices.commons.bean.GenieResponse;
+import org.ekstep.genieservices.commons.chained.IChainable;
+import org.ekstep.genieservices.commons.db.operations.IDBSession;
+import org.ekstep.genieservices.commons.utils.Logger;
+import org.ekstep.genieservices.content.ContentSearchIndex;
+import org.ekstep.genieservices.content.bean.ImportContentContext;
+
+import java.util.List;
+
+/**
+ * Indexes the imported contents for the offline search.
+ */
+public class UpdateContentSearchIndex implements IChainable<List<ContentImportResponse>, ImportContentContext> {
+
+    private static final String TAG = UpdateContentSearchIndex.class.getSimpleName();
+
+    private IChainable<List<ContentImportResponse>, ImportContentContext> nextLink;
+
+    @Override
+    public GenieResponse<List<ContentImportResponse>> execute(AppContext appContext, ImportContentContext importContext) {
+        List<String> identifiers = importContext.getIdentifiers();
+        if (identifiers != null && !identifiers.isEmpty()) {
+            IDBSession dbSession = appContext.getDBSession();
+            try {
+                ContentSearchIndex.index(dbSession, identifiers);
+            } catch (Exception e) {
+                // The contents which are not indexed are indexed by the next offline search.
+                Logger.e(TAG, "Indexing the imported contents for search failed", e);
+            }
+        }
+
+        if (nextLink != null) {
+            return nextLink.execute(appContext, importContext);
+        } else {
+            return GenieResponseBuilder.getErrorResponse(ServiceConstants.ErrorCode.IMPORT_FAILED, "Import content failed", TAG);
+        }
+    }
+
+    @Override
+    public IChainable<List<ContentImportResponse>, ImportContentContext> then(IChainable<List<ContentImportResponse>, ImportContentContext> link) {
+        nextLink = link;
+        return link;
+    }
+}
@@ -5,11 +5,14 @@ import org.ekstep.genieservices.commons.GenieResponseBuilder;
 import org.ekstep.genieservices.commons.bean.ContentImportResponse;
 import org.ekstep.genieservices.commons.bean.GenieResponse;
 import org.ekstep.genieservices.commons.chained.IChainable;
+import org.ekstep.genieservices.commons.executor.SDKExecutor;
 import org.ekstep.genieservices.content.ContentConstants;
-import org.ekstep.genieservices.content.ContentHandler;
+import org.ekstep.genieservices.content.ContentSizeAccounting;
 import org.ekstep.genieservices.content.bean.ImportContentContext;
 
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Created on 5/16/2017.
@@ -24,12 +27,19 @@ public class UpdateSizeOnDevice implements IChainable<List<ContentImportResponse
 
     @Override
     public GenieResponse<List<ContentImportResponse>> execute(final AppContext appContext, ImportContentContext importContext) {
-        new Thread(new Runnable() {
+        final Set<String> rootIdentifiers = new LinkedHashSet<>(importContext.getChangedRootIdentifiers());
+        List<String> identifiers = importContext.getIdentifiers();
+        if (identifiers != null && !identifiers.isEmpty()) {
+            rootIdentifiers.add(identifiers.get(0));
+        }
+
+        SDKExecutor.getInstance().submit(SDKExecutor.Lane.REFRESH, new Runnable() {
             @Override
             public void run() {
-                ContentHandler.updateSizeOnDevice(appContext);
+                ContentSizeAccounting.rollUp(appContext.getDBSession(), rootIdentifiers);
+                ContentSizeAccounting.reconcileIfDue(appContext);
             }
-        }).start();
+        });
 
 
         if (nextLink != null) {
@@ -42,14 +42,14 @@ public class ValidateEcar implements IChainable<List<ContentImportResponse>, Imp
     public GenieResponse<List<ContentImportResponse>> execute(AppContext appContext, ImportContentContext importContext) {
         String manifestJson = FileUtil.readManifest(tmpLocation);
         if (manifestJson == null) {
-            return getErrorResponse(ContentConstants.NO_CONTENT_TO_IMPORT, "Empty ecar, cannot import!");
+            return getErrorResponse(importContext, ContentConstants.NO_CONTENT_TO_IMPORT, "Empty ecar, cannot import!");
         }
 
         LinkedTreeMap map = GsonUtil.fromJson(manifestJson, LinkedTreeMap.class);
 
         String manifestVersion = (String) map.get("ver");
         if (manifestVersion.equals("1.0")) {
-            return getErrorResponse(ContentConstants.UNSUPPORTED_MANIFEST, "Cannot import outdated ECAR!");
+            return getErrorResponse(importContext, ContentConstants.UNSUPPORTED_MANIFEST, "Cannot import outdated ECAR!");
         }
 
         LinkedTreeMap archive = (LinkedTreeMap) map.get("archive");
@@ -59,7 +59,7 @@ public class ValidateEcar implements IChainable<List<ContentImportResponse>, Imp
         }
 
         if (items == null || items.isEmpty()) {
-            return getErrorResponse(ContentConstants.NO_CONTENT_TO_IMPORT, "Empty ecar, cannot import!");
+            return getErrorResponse(importContext, ContentConstants.NO_CONTENT_TO_IMPORT, "Empty ecar, cannot import!");
         }
 
         importContext.setManifestVersion(manifestVersion);
@@ -102,7 +102,7 @@ public class ValidateEcar implements IChainable<List<ContentImportResponse>, Imp
         if (nextLink != null) {
             return nextLink.execute(appContext, importContext);
         } else {
-            return getErrorResponse(ServiceConstants.ErrorCode.IMPORT_FAILED, "Import content failed");
+            return getErrorResponse(importContext, ServiceConstants.ErrorCode.IMPORT_FAILED, "Import content failed");
         }
     }
 
@@ -122,8 +122,9 @@ public class ValidateEcar implements IChainable<List<ContentImportResponse>, Imp
         importContext.getSkippedItemsIdentifier().add(identifier);
     }
 
-    private GenieResponse<List<ContentImportResponse>> getErrorResponse(String error, String errorMessage) {
+    private GenieResponse<List<ContentImportResponse>> getErrorResponse(ImportContentContext importContext, String error, String errorMessage) {
         Logger.e(TAG, errorMessage);
+        importContext.closeEcarArchive();
         FileUtil.rm(tmpLocation);
         return GenieResponseBuilder.getErrorResponse(error, errorMessage, TAG);
     }
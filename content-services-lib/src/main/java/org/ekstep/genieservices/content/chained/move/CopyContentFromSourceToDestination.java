@@ -10,7 +10,7 @@ import org.ekstep.genieservices.commons.bean.enums.ExistingContentAction;
 import org.ekstep.genieservices.commons.bean.enums.MoveContentStatus;
 import org.ekstep.genieservices.commons.chained.IChainable;
 import org.ekstep.genieservices.commons.utils.CollectionUtil;
-import org.ekstep.genieservices.commons.utils.FileUtil;
+import org.ekstep.genieservices.commons.utils.FileCopier;
 import org.ekstep.genieservices.commons.utils.Logger;
 import org.ekstep.genieservices.content.bean.MoveContentContext;
 import org.ekstep.genieservices.content.db.model.ContentModel;
@@ -18,7 +18,9 @@ import org.ekstep.genieservices.eventbus.EventBus;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Created on 9/25/2017.
@@ -36,70 +38,28 @@ public class CopyContentFromSourceToDestination implements IChainable<List<MoveC
 
         if (!CollectionUtil.isNullOrEmpty(moveContentContext.getContentsInSource())) {
             int currentCount = 0;
-            EventBus.postEvent(new MoveContentProgress(currentCount, moveContentContext.getContentsInSource().size()));
+            MoveProgress progress = new MoveProgress(moveContentContext.getContentsInSource());
+            List<File[]> renamedFolders = new ArrayList<>();
+            progress.post(currentCount);
 
             ExistingContentAction existingContentAction = moveContentContext.getExistingContentAction();
             List<MoveContentResponse> duplicateContents = moveContentContext.getDuplicateContents();
 
             for (ContentModel contentModelInSource : moveContentContext.getContentsInSource()) {
+                progress.onContentStarted();
                 try {
-                    if (duplicateContents != null && duplicateContents.size() > 0) {
-                        for (MoveContentResponse duplicateContent : duplicateContents) {
-                            if (duplicateContent.getIdentifier().equalsIgnoreCase(contentModelInSource.getIdentifier())) {
-                                //this means by default we keep contents in the destination
-                                if (existingContentAction == null) {
-                                    currentCount++;
-                                } else {
-                                    switch (existingContentAction) {
-                                        case KEEP_HIGHER_VERSION:
-                                            if (duplicateContent.getStatus() == MoveContentStatus.SAME_VERSION_IN_BOTH ||
-                                                    duplicateContent.getStatus() == MoveContentStatus.HIGHER_VERSION_IN_DESTINATION) {
-                                                currentCount++;
-                                            } else {
-                                                renameAndCopyToDestination(moveContentContext, contentModelInSource, duplicateContent);
-                                                currentCount++;
-                                            }
-                                            break;
-                                        case KEEP_LOWER_VERSION:
-                                            if (duplicateContent.getStatus() == MoveContentStatus.SAME_VERSION_IN_BOTH ||
-                                                    duplicateContent.getStatus() == MoveContentStatus.LOWER_VERSION_IN_DESTINATION) {
-                                                currentCount++;
-                                            } else {
-                                                renameAndCopyToDestination(moveContentContext, contentModelInSource, duplicateContent);
-                                                currentCount++;
-                                            }
-                                            break;
-                                        case KEEP_SOURCE:
-                                            // TODO: 24/11/17
-                                            //Rename the destination folder to identifier_temp
-                                            //Delete of these temp folders will happen only on successful completion of copying the files
-                                            //Else rollback of temp folders will happen when cancel is initiated
-                                            if (duplicateContent.getStatus() == MoveContentStatus.SAME_VERSION_IN_BOTH) {
-                                                currentCount++;
-                                            } else {
-                                                renameAndCopyToDestination(moveContentContext, contentModelInSource, duplicateContent);
-                                                currentCount++;
-                                            }
-                                            break;
-                                        case IGNORE:
-                                        case KEEP_DESTINATION:
-                                        default:
-                                            currentCount++;
-                                            break;
-                                    }
-                                }
-                            } else {
-                                copyFolder(moveContentContext, contentModelInSource);
-                                currentCount++;
-                            }
-                        }
-                    } else {
-                        copyFolder(moveContentContext, contentModelInSource);
-                        currentCount++;
+                    // The action is decided once per content, as the folder can only be moved once.
+                    MoveContentResponse duplicateContent = findDuplicate(duplicateContents, contentModelInSource.getIdentifier());
+                    if (duplicateContent == null) {
+                        copyFolder(moveContentContext, contentModelInSource, progress, renamedFolders);
+                    } else if (shouldReplaceDuplicate(existingContentAction, duplicateContent.getStatus())) {
+                        renameAndCopyToDestination(moveContentContext, contentModelInSource, duplicateContent, progress, renamedFolders);
                     }
-                    EventBus.postEvent(new MoveContentProgress(currentCount, moveContentContext.getContentsInSource().size()));
+                    currentCount++;
+                    progress.onContentDone(currentCount, contentModelInSource);
                 } catch (IOException e) {
                     Logger.e(TAG, "Move failed", e);
+                    undoRenames(renamedFolders);
                     return GenieResponseBuilder.getErrorResponse(ServiceConstants.ErrorCode.MOVE_FAILED, e.getMessage(), TAG);
                 }
             }
@@ -110,9 +70,52 @@ public class CopyContentFromSourceToDestination implements IChainable<List<MoveC
         return GenieResponseBuilder.getErrorResponse(ServiceConstants.ErrorCode.MOVE_FAILED, ServiceConstants.ErrorMessage.NO_CONTENT_TO_MOVE, TAG);
     }
 
-    private void renameAndCopyToDestination(MoveContentContext moveContentContext, ContentModel contentModelInSource, MoveContentResponse duplicateContent) throws IOException {
+    private static MoveContentResponse findDuplicate(List<MoveContentResponse> duplicateContents, String identifier) {
+        if (duplicateContents != null) {
+            for (MoveContentResponse duplicateContent : duplicateContents) {
+                if (duplicateContent.getIdentifier().equalsIgnoreCase(identifier)) {
+                    return duplicateContent;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return true if the content in the destination is replaced with the one in the source.
+     */
+    private static boolean shouldReplaceDuplicate(ExistingContentAction existingContentAction, MoveContentStatus status) {
+        //this means by default we keep contents in the destination
+        if (existingContentAction == null) {
+            return false;
+        }
+
+        switch (existingContentAction) {
+            case KEEP_HIGHER_VERSION:
+                return !(status == MoveContentStatus.SAME_VERSION_IN_BOTH || status == MoveContentStatus.HIGHER_VERSION_IN_DESTINATION);
+
+            case KEEP_LOWER_VERSION:
+                return !(status == MoveContentStatus.SAME_VERSION_IN_BOTH || status == MoveContentStatus.LOWER_VERSION_IN_DESTINATION);
+
+            case KEEP_SOURCE:
+                // TODO: 24/11/17
+                //Rename the destination folder to identifier_temp
+                //Delete of these temp folders will happen only on successful completion of copying the files
+                //Else rollback of temp folders will happen when cancel is initiated
+                return status != MoveContentStatus.SAME_VERSION_IN_BOTH;
+
+            case IGNORE:
+            case KEEP_DESTINATION:
+            default:
+                return false;
+        }
+    }
+
+    private void renameAndCopyToDestination(MoveContentContext moveContentContext, ContentModel contentModelInSource,
+                                            MoveContentResponse duplicateContent, MoveProgress progress,
+                                            List<File[]> renamedFolders) throws IOException {
         renameDestinationDuplicateFolder(moveContentContext, duplicateContent.getIdentifier());
-        copyFolder(moveContentContext, contentModelInSource);
+        copyFolder(moveContentContext, contentModelInSource, progress, renamedFolders);
     }
 
     private void renameDestinationDuplicateFolder(MoveContentContext moveContentContext, String identifier) {
@@ -122,10 +125,92 @@ public class CopyContentFromSourceToDestination implements IChainable<List<MoveC
         oldFile.renameTo(newFile);
     }
 
-    private void copyFolder(MoveContentContext moveContentContext, ContentModel contentModelInSource) throws IOException {
+    /**
+     * Renames the content folder when the destination is on the same volume, DeleteSourceFolder has nothing left
+     * to delete then. The renamed folders are added to renamedFolders, as source and destination.
+     */
+    private void copyFolder(MoveContentContext moveContentContext, ContentModel contentModelInSource, MoveProgress progress,
+                            List<File[]> renamedFolders) throws IOException {
         File source = new File(contentModelInSource.getPath());
         File contentDestination = new File(moveContentContext.getContentRootFolder(), contentModelInSource.getIdentifier());
-        FileUtil.copyFolder(source, contentDestination);
+        if (FileCopier.renameOrCopyFolder(source, contentDestination, progress)) {
+            renamedFolders.add(new File[]{source, contentDestination});
+        }
+    }
+
+    /**
+     * Puts the renamed folders back, as the paths of their contents are not updated when the move fails.
+     */
+    private void undoRenames(List<File[]> renamedFolders) {
+        for (int i = renamedFolders.size() - 1; i >= 0; i--) {
+            File[] renamedFolder = renamedFolders.get(i);
+            if (!renamedFolder[1].renameTo(renamedFolder[0])) {
+                Logger.e(TAG, "Cannot move " + renamedFolder[1].getPath() + " back to " + renamedFolder[0].getPath());
+            }
+        }
+    }
+
+    /**
+     * Posts {@link MoveContentProgress} with the bytes copied so far, at most once every {@link #POST_INTERVAL_MILLIS}
+     * while a content is copied and once after every content.
+     */
+    private static class MoveProgress implements FileCopier.IProgressListener {
+
+        private static final long POST_INTERVAL_MILLIS = 500;
+
+        private final int totalCount;
+        private final long totalBytes;
+        private final long startedAt = System.currentTimeMillis();
+        private final AtomicLong copiedBytes = new AtomicLong();
+        private final AtomicLong postedAt = new AtomicLong();
+        private volatile int currentCount;
+        private long contentStartBytes;
+
+        MoveProgress(List<ContentModel> contents) {
+            this.totalCount = contents.size();
+            long bytes = 0;
+            for (ContentModel contentModel : contents) {
+                bytes += getSize(contentModel);
+            }
+            this.totalBytes = bytes;
+        }
+
+        void onContentStarted() {
+            contentStartBytes = copiedBytes.get();
+        }
+
+        /**
+         * Counts the whole content as copied, even if it was renamed or skipped rather than copied.
+         */
+        void onContentDone(int currentCount, ContentModel contentModel) {
+            long copiedForContent = copiedBytes.get() - contentStartBytes;
+            copiedBytes.addAndGet(Math.max(0, getSize(contentModel) - copiedForContent));
+            this.currentCount = currentCount;
+            post(currentCount);
+        }
+
+        @Override
+        public void onCopied(long bytes) {
+            copiedBytes.addAndGet(bytes);
+            long now = System.currentTimeMillis();
+            long last = postedAt.get();
+            if (now - last >= POST_INTERVAL_MILLIS && postedAt.compareAndSet(last, now)) {
+                post(currentCount);
+            }
+        }
+
+        void post(int currentCount) {
+            long copied = Math.min(copiedBytes.get(), totalBytes);
+            long elapsedMillis = System.currentTimeMillis() - startedAt;
+            long bytesPerSecond = elapsedMillis > 0 ? copied * 1000 / elapsedMillis : 0;
+            long remainingMillis = bytesPerSecond > 0 ? (totalBytes - copied) * 1000 / bytesPerSecond : -1;
+            EventBus.postEvent(new MoveContentProgress(currentCount, totalCount, copied, totalBytes, bytesPerSecond, remainingMillis));
+        }
+
+        private static long getSize(ContentModel contentModel) {
+            Long ownSizeOnDevice = contentModel.getOwnSizeOnDevice();
+            return ownSizeOnDevice != null ? ownSizeOnDevice : 0;
+        }
     }
 
     @Override
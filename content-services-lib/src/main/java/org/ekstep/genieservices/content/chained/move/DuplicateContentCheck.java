@@ -60,7 +60,7 @@ public class DuplicateContentCheck implements IChainable<List<MoveContentRespons
                 //get content model from file
                 Double destPkgVersion = getPkgVersionFromFile(moveContentContext, duplicateContentModel.getIdentifier());
 
-                Double srcPkgVersion = ContentHandler.readPkgVersion(duplicateContentModel.getLocalData());
+                Double srcPkgVersion = ContentHandler.readPkgVersion(duplicateContentModel.getLocalDataMap());
 
                 if (destPkgVersion > srcPkgVersion) {
                     moveContentResponse = new MoveContentResponse(duplicateContentModel.getIdentifier(), MoveContentStatus.HIGHER_VERSION_IN_DESTINATION);
@@ -0,0 +1,99 @@
+package org.ekstep.genieservices.content.db.model;
+
+import org.ekstep.genieservices.commons.bean.ContentAccess;
+import org.ekstep.genieservices.commons.bean.ContentLearnerState;
+import org.ekstep.genieservices.commons.db.contract.ContentAccessEntry;
+import org.ekstep.genieservices.commons.db.core.IReadable;
+import org.ekstep.genieservices.commons.db.core.IResultSet;
+import org.ekstep.genieservices.commons.db.operations.IDBSession;
+import org.ekstep.genieservices.commons.utils.GsonUtil;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The content access of the users, read along with the local contents they are attached to.
+ */
+public class ContentAccessListModel implements IReadable {
+
+    private String filterCondition;
+    private String[] selectionArgs;
+
+    private List<ContentAccess> contentAccessList;
+
+    private ContentAccessListModel(String filter, String[] selectionArgs) {
+        this.filterCondition = filter;
+        this.selectionArgs = selectionArgs;
+    }
+
+    /**
+     * @param filter        filter with ? placeholders.
+     * @param selectionArgs values of the placeholders.
+     */
+    public static ContentAccessListModel find(IDBSession dbSession, String filter, String[] selectionArgs) {
+        ContentAccessListModel model = new ContentAccessListModel(filter, selectionArgs);
+        dbSession.read(model);
+
+        if (model.contentAccessList == null) {
+            return null;
+        } else {
+            return model;
+        }
+    }
+
+    @Override
+    public IReadable read(IResultSet resultSet) {
+        if (resultSet != null && resultSet.moveToFirst()) {
+            contentAccessList = new ArrayList<>();
+            int identifierIndex = resultSet.getColumnIndex(ContentAccessEntry.COLUMN_NAME_CONTENT_IDENTIFIER);
+            int statusIndex = resultSet.getColumnIndex(ContentAccessEntry.COLUMN_NAME_STATUS);
+            int learnerStateIndex = resultSet.getColumnIndex(ContentAccessEntry.COLUMN_NAME_LEARNER_STATE);
+
+            do {
+                ContentAccess contentAccess = new ContentAccess();
+                contentAccess.setContentId(resultSet.getString(identifierIndex));
+                contentAccess.setStatus(resultSet.getInt(statusIndex));
+                Map learnerState = GsonUtil.fromJson(resultSet.getString(learnerStateIndex), HashMap.class);
+                ContentLearnerState contentLearnerState = new ContentLearnerState();
+                contentLearnerState.setLearnerState(learnerState);
+                contentAccess.setContentLearnerState(contentLearnerState);
+
+                contentAccessList.add(contentAccess);
+            } while (resultSet.moveToNext());
+        }
+
+        return this;
+    }
+
+    @Override
+    public String getTableName() {
+        return ContentAccessEntry.TABLE_NAME;
+    }
+
+    @Override
+    public String orderBy() {
+        return String.format(Locale.US, " order by %s desc", ContentAccessEntry.COLUMN_NAME_EPOCH_TIMESTAMP);
+    }
+
+    @Override
+    public String filterForRead() {
+        return filterCondition;
+    }
+
+    @Override
+    public String[] selectionArgsForFilter() {
+        return selectionArgs;
+    }
+
+    @Override
+    public String limitBy() {
+        return "";
+    }
+
+    public List<ContentAccess> getContentAccessList() {
+        return contentAccessList;
+    }
+}
@@ -0,0 +1,87 @@
+package org.ekstep.genieservices.content.db.model;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded cache of {@link DecodedContentData} keyed by content identifier, so that a content row is parsed
+ * at most once per change however many times it is read.
+ * <p>
+ * An entry is only reused for the same local_last_updated_on and server_last_updated_on of the row and the
+ * same data, as the timestamps only change once a second. The least recently used identifier is dropped once
+ * the cache is full.
+ */
+public class ContentDataCache {
+
+    private static final int MAX_SIZE = 1024;
+
+    private static final ContentDataCache sInstance = new ContentDataCache(MAX_SIZE);
+
+    private final LinkedHashMap<String, Entry> mEntries;
+    private final AtomicLong mHits = new AtomicLong();
+    private final AtomicLong mMisses = new AtomicLong();
+
+    private ContentDataCache(final int maxSize) {
+        this.mEntries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public static ContentDataCache getInstance() {
+        return sInstance;
+    }
+
+    /**
+     * @param localLastUpdatedOn  local_last_updated_on of the row, null if the model was not read from the db.
+     * @param serverLastUpdatedOn server_last_updated_on of the row.
+     */
+    DecodedContentData get(String identifier, String localLastUpdatedOn, String serverLastUpdatedOn,
+                           String localData, String serverData) {
+        if (identifier == null || localLastUpdatedOn == null) {
+            return new DecodedContentData(localData, serverData);
+        }
+
+        String version = localLastUpdatedOn + "|" + serverLastUpdatedOn;
+        synchronized (mEntries) {
+            Entry entry = mEntries.get(identifier);
+            if (entry != null && entry.version.equals(version) && entry.decodedData.isDecodedFrom(localData, serverData)) {
+                mHits.incrementAndGet();
+                return entry.decodedData;
+            }
+
+            mMisses.incrementAndGet();
+            DecodedContentData decodedData = new DecodedContentData(localData, serverData);
+            mEntries.put(identifier, new Entry(version, decodedData));
+            return decodedData;
+        }
+    }
+
+    public void clear() {
+        synchronized (mEntries) {
+            mEntries.clear();
+        }
+    }
+
+    public long getHits() {
+        return mHits.get();
+    }
+
+    public long getMisses() {
+        return mMisses.get();
+    }
+
+    private static class Entry {
+
+        private final String version;
+        private final DecodedContentData decodedData;
+
+        Entry(String version, DecodedContentData decodedData) {
+            this.version = version;
+            this.decodedData = decodedData;
+        }
+    }
+}
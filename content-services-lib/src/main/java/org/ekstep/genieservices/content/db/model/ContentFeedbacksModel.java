@@ -18,6 +18,7 @@ public class ContentFeedbacksModel implements IReadable, ICleanable {
 
     private IDBSession mDBSession;
     private String filterCondition;
+    private String[] selectionArgs;
 
     private List<ContentFeedbackModel> contentFeedbackModelList;
 
@@ -38,6 +39,23 @@ public class ContentFeedbacksModel implements IReadable, ICleanable {
         }
     }
 
+    /**
+     * @param filter        filter with ? placeholders.
+     * @param selectionArgs values of the placeholders.
+     */
+    public static ContentFeedbacksModel find(IDBSession dbSession, String filter, String[] selectionArgs) {
+        ContentFeedbacksModel contentFeedbacksModel = new ContentFeedbacksModel(dbSession, filter);
+        contentFeedbacksModel.selectionArgs = selectionArgs;
+
+        dbSession.read(contentFeedbacksModel);
+
+        if (contentFeedbacksModel.contentFeedbackModelList == null) {
+            return null;
+        } else {
+            return contentFeedbacksModel;
+        }
+    }
+
     public Void delete() {
         mDBSession.clean(this);
         return null;
@@ -72,7 +90,7 @@ public class ContentFeedbacksModel implements IReadable, ICleanable {
 
     @Override
     public String[] selectionArgsForFilter() {
-        return null;
+        return selectionArgs;
     }
 
     @Override
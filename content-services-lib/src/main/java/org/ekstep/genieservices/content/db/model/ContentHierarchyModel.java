@@ -0,0 +1,185 @@
+package org.ekstep.genieservices.content.db.model;
+
+import org.ekstep.genieservices.commons.AppContext;
+import org.ekstep.genieservices.commons.db.contract.ContentHierarchyEntry;
+import org.ekstep.genieservices.commons.db.core.ContentValues;
+import org.ekstep.genieservices.commons.db.core.IReadable;
+import org.ekstep.genieservices.commons.db.core.IResultSet;
+import org.ekstep.genieservices.commons.db.core.IWritable;
+import org.ekstep.genieservices.commons.db.operations.IDBSession;
+
+import java.util.Locale;
+
+/**
+ * A node of the indexed tree of a collection.
+ */
+public class ContentHierarchyModel implements IWritable, IReadable {
+
+    private IDBSession mDBSession;
+    private Long id = -1L;
+
+    private String rootIdentifier;
+    private String identifier;
+    private String parentIdentifier;
+    private int depth;
+    private int sequence;
+    private int playbackSequence = -1;
+    private String path;
+
+    private String filterCondition;
+    private String[] selectionArgs;
+
+    private ContentHierarchyModel(IDBSession dbSession) {
+        this.mDBSession = dbSession;
+    }
+
+    private ContentHierarchyModel(IDBSession dbSession, String rootIdentifier, String identifier, String parentIdentifier,
+                                  int depth, int sequence, int playbackSequence, String path) {
+        this.mDBSession = dbSession;
+        this.rootIdentifier = rootIdentifier;
+        this.identifier = identifier;
+        this.parentIdentifier = parentIdentifier;
+        this.depth = depth;
+        this.sequence = sequence;
+        this.playbackSequence = playbackSequence;
+        this.path = path;
+    }
+
+    public static ContentHierarchyModel build(IDBSession dbSession, String rootIdentifier, String identifier, String parentIdentifier,
+                                              int depth, int sequence, int playbackSequence, String path) {
+        return new ContentHierarchyModel(dbSession, rootIdentifier, identifier, parentIdentifier, depth, sequence, playbackSequence, path);
+    }
+
+    /**
+     * @return the root row, null if the tree of the root is not indexed.
+     */
+    public static ContentHierarchyModel findRoot(IDBSession dbSession, String rootIdentifier) {
+        String filter = String.format(Locale.US, "where %s = ? AND %s = 0",
+                ContentHierarchyEntry.COLUMN_NAME_ROOT_IDENTIFIER, ContentHierarchyEntry.COLUMN_NAME_SEQUENCE);
+        return find(dbSession, filter, new String[]{rootIdentifier});
+    }
+
+    /**
+     * @param path identifiers from the root to the parent of the node, separated by "/".
+     */
+    public static ContentHierarchyModel find(IDBSession dbSession, String rootIdentifier, String path, String identifier) {
+        String filter = String.format(Locale.US, "where %s = ? AND %s = ? AND %s = ?",
+                ContentHierarchyEntry.COLUMN_NAME_ROOT_IDENTIFIER, ContentHierarchyEntry.COLUMN_NAME_IDENTIFIER,
+                ContentHierarchyEntry.COLUMN_NAME_PATH);
+        return find(dbSession, filter, new String[]{rootIdentifier, identifier, path});
+    }
+
+    public static ContentHierarchyModel findByPlaybackSequence(IDBSession dbSession, String rootIdentifier, int playbackSequence) {
+        String filter = String.format(Locale.US, "where %s = ? AND %s = ?",
+                ContentHierarchyEntry.COLUMN_NAME_ROOT_IDENTIFIER, ContentHierarchyEntry.COLUMN_NAME_PLAYBACK_SEQUENCE);
+        return find(dbSession, filter, new String[]{rootIdentifier, String.valueOf(playbackSequence)});
+    }
+
+    private static ContentHierarchyModel find(IDBSession dbSession, String filter, String[] selectionArgs) {
+        ContentHierarchyModel model = new ContentHierarchyModel(dbSession);
+        model.filterCondition = filter;
+        model.selectionArgs = selectionArgs;
+        dbSession.read(model);
+
+        if (model.id == -1) {
+            return null;
+        } else {
+            return model;
+        }
+    }
+
+    @Override
+    public IReadable read(IResultSet resultSet) {
+        if (resultSet != null && resultSet.moveToFirst()) {
+            readWithoutMoving(resultSet);
+        }
+        return this;
+    }
+
+    public void readWithoutMoving(IResultSet resultSet) {
+        id = resultSet.getLong(resultSet.getColumnIndex(ContentHierarchyEntry._ID));
+        rootIdentifier = resultSet.getString(resultSet.getColumnIndex(ContentHierarchyEntry.COLUMN_NAME_ROOT_IDENTIFIER));
+        identifier = resultSet.getString(resultSet.getColumnIndex(ContentHierarchyEntry.COLUMN_NAME_IDENTIFIER));
+        parentIdentifier = resultSet.getString(resultSet.getColumnIndex(ContentHierarchyEntry.COLUMN_NAME_PARENT_IDENTIFIER));
+        depth = resultSet.getInt(resultSet.getColumnIndex(ContentHierarchyEntry.COLUMN_NAME_DEPTH));
+        sequence = resultSet.getInt(resultSet.getColumnIndex(ContentHierarchyEntry.COLUMN_NAME_SEQUENCE));
+        playbackSequence = resultSet.getInt(resultSet.getColumnIndex(ContentHierarchyEntry.COLUMN_NAME_PLAYBACK_SEQUENCE));
+        path = resultSet.getString(resultSet.getColumnIndex(ContentHierarchyEntry.COLUMN_NAME_PATH));
+    }
+
+    @Override
+    public ContentValues getContentValues() {
+        ContentValues contentValues = new ContentValues();
+        contentValues.put(ContentHierarchyEntry.COLUMN_NAME_ROOT_IDENTIFIER, rootIdentifier);
+        contentValues.put(ContentHierarchyEntry.COLUMN_NAME_IDENTIFIER, identifier);
+        contentValues.put(ContentHierarchyEntry.COLUMN_NAME_PARENT_IDENTIFIER, parentIdentifier);
+        contentValues.put(ContentHierarchyEntry.COLUMN_NAME_DEPTH, depth);
+        contentValues.put(ContentHierarchyEntry.COLUMN_NAME_SEQUENCE, sequence);
+        contentValues.put(ContentHierarchyEntry.COLUMN_NAME_PLAYBACK_SEQUENCE, playbackSequence);
+        contentValues.put(ContentHierarchyEntry.COLUMN_NAME_PATH, path);
+        return contentValues;
+    }
+
+    @Override
+    public void updateId(long id) {
+        this.id = id;
+    }
+
+    @Override
+    public String getTableName() {
+        return ContentHierarchyEntry.TABLE_NAME;
+    }
+
+    @Override
+    public void beforeWrite(AppContext context) {
+
+    }
+
+    @Override
+    public String orderBy() {
+        return "";
+    }
+
+    @Override
+    public String filterForRead() {
+        return filterCondition;
+    }
+
+    @Override
+    public String[] selectionArgsForFilter() {
+        return selectionArgs;
+    }
+
+    @Override
+    public String limitBy() {
+        return "limit 1";
+    }
+
+    public String getRootIdentifier() {
+        return rootIdentifier;
+    }
+
+    public String getIdentifier() {
+        return identifier;
+    }
+
+    public String getParentIdentifier() {
+        return parentIdentifier;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public int getSequence() {
+        return sequence;
+    }
+
+    public int getPlaybackSequence() {
+        return playbackSequence;
+    }
+
+    public String getPath() {
+        return path;
+    }
+}
@@ -0,0 +1,115 @@
+package org.ekstep.genieservices.content.db.model;
+
+import org.ekstep.genieservices.commons.db.contract.ContentEntry;
+import org.ekstep.genieservices.commons.db.contract.ContentHierarchyEntry;
+import org.ekstep.genieservices.commons.db.core.IReadable;
+import org.ekstep.genieservices.commons.db.core.IResultSet;
+import org.ekstep.genieservices.commons.db.operations.IDBSession;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * The indexed tree of a collection with the content of every node, in depth first order.
+ * Nodes whose content is not in the db are left out.
+ */
+public class ContentHierarchyNodesModel implements IReadable {
+
+    private IDBSession mDBSession;
+    private String mRootIdentifier;
+    private List<Node> mNodeList;
+
+    private ContentHierarchyNodesModel(IDBSession dbSession, String rootIdentifier) {
+        this.mDBSession = dbSession;
+        this.mRootIdentifier = rootIdentifier;
+    }
+
+    /**
+     * @param maxDepth deepest level to read, the root being at 0. -1 to read the whole tree.
+     */
+    public static ContentHierarchyNodesModel find(IDBSession dbSession, String rootIdentifier, int maxDepth) {
+        String depthFilter = "";
+        if (maxDepth != -1) {
+            depthFilter = String.format(Locale.US, " AND h.%s <= %d", ContentHierarchyEntry.COLUMN_NAME_DEPTH, maxDepth);
+        }
+
+        String query = String.format(Locale.US, "SELECT c.*, h.%s FROM %s h JOIN %s c ON c.%s = h.%s WHERE h.%s = ?%s ORDER BY h.%s",
+                ContentHierarchyEntry.COLUMN_NAME_DEPTH,
+                ContentHierarchyEntry.TABLE_NAME, ContentEntry.TABLE_NAME,
+                ContentEntry.COLUMN_NAME_IDENTIFIER, ContentHierarchyEntry.COLUMN_NAME_IDENTIFIER,
+                ContentHierarchyEntry.COLUMN_NAME_ROOT_IDENTIFIER, depthFilter,
+                ContentHierarchyEntry.COLUMN_NAME_SEQUENCE);
+
+        ContentHierarchyNodesModel model = new ContentHierarchyNodesModel(dbSession, rootIdentifier);
+        dbSession.read(model, query);
+
+        if (model.mNodeList == null) {
+            return null;
+        } else {
+            return model;
+        }
+    }
+
+    @Override
+    public IReadable read(IResultSet resultSet) {
+        if (resultSet != null && resultSet.moveToFirst()) {
+            mNodeList = new ArrayList<>();
+            int depthIndex = resultSet.getColumnIndex(ContentHierarchyEntry.COLUMN_NAME_DEPTH);
+            do {
+                ContentModel contentModel = ContentModel.build(mDBSession);
+                contentModel.readWithoutMoving(resultSet);
+                mNodeList.add(new Node(contentModel, resultSet.getInt(depthIndex)));
+            } while (resultSet.moveToNext());
+        }
+        return this;
+    }
+
+    @Override
+    public String getTableName() {
+        return ContentHierarchyEntry.TABLE_NAME;
+    }
+
+    @Override
+    public String orderBy() {
+        return "";
+    }
+
+    @Override
+    public String filterForRead() {
+        return "";
+    }
+
+    @Override
+    public String[] selectionArgsForFilter() {
+        return new String[]{mRootIdentifier};
+    }
+
+    @Override
+    public String limitBy() {
+        return "";
+    }
+
+    public List<Node> getNodeList() {
+        return mNodeList;
+    }
+
+    public static class Node {
+
+        private final ContentModel contentModel;
+        private final int depth;
+
+        Node(ContentModel contentModel, int depth) {
+            this.contentModel = contentModel;
+            this.depth = depth;
+        }
+
+        public ContentModel getContentModel() {
+            return contentModel;
+        }
+
+        public int getDepth() {
+            return depth;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package org.ekstep.genieservices.content.db.model;
+
+import org.ekstep.genieservices.commons.db.contract.ContentHierarchyEntry;
+import org.ekstep.genieservices.commons.db.core.IReadable;
+import org.ekstep.genieservices.commons.db.core.IResultSet;
+import org.ekstep.genieservices.commons.db.operations.IDBSession;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Roots of the indexed trees which contain a content.
+ */
+public class ContentHierarchyRootsModel implements IReadable {
+
+    private String filterCondition;
+    private String[] selectionArgs;
+    private Set<String> mRootIdentifiers = new LinkedHashSet<>();
+
+    private ContentHierarchyRootsModel(String filter, String[] selectionArgs) {
+        this.filterCondition = filter;
+        this.selectionArgs = selectionArgs;
+    }
+
+    /**
+     * @param identifiers at most 999, the number of bind args SQLite allows in a statement.
+     */
+    public static ContentHierarchyRootsModel findContaining(IDBSession dbSession, List<String> identifiers) {
+        StringBuilder placeholders = new StringBuilder();
+        for (int i = 0; i < identifiers.size(); i++) {
+            placeholders.append(i > 0 ? ",?" : "?");
+        }
+        String filter = String.format(Locale.US, "where %s in (%s)", ContentHierarchyEntry.COLUMN_NAME_IDENTIFIER, placeholders);
+
+        ContentHierarchyRootsModel model = new ContentHierarchyRootsModel(filter, identifiers.toArray(new String[identifiers.size()]));
+        dbSession.read(model);
+        return model;
+    }
+
+    @Override
+    public IReadable read(IResultSet resultSet) {
+        if (resultSet != null && resultSet.moveToFirst()) {
+            int rootIdentifierIndex = resultSet.getColumnIndex(ContentHierarchyEntry.COLUMN_NAME_ROOT_IDENTIFIER);
+            do {
+                mRootIdentifiers.add(resultSet.getString(rootIdentifierIndex));
+            } while (resultSet.moveToNext());
+        }
+        return this;
+    }
+
+    @Override
+    public String getTableName() {
+        return ContentHierarchyEntry.TABLE_NAME;
+    }
+
+    @Override
+    public String orderBy() {
+        return "";
+    }
+
+    @Override
+    public String filterForRead() {
+        return filterCondition;
+    }
+
+    @Override
+    public String[] selectionArgsForFilter() {
+        return selectionArgs;
+    }
+
+    @Override
+    public String limitBy() {
+        return "";
+    }
+
+    public Set<String> getRootIdentifiers() {
+        return mRootIdentifiers;
+    }
+}
@@ -0,0 +1,116 @@
+package org.ekstep.genieservices.content.db.model;
+
+import org.ekstep.genieservices.commons.db.contract.ContentEntry;
+import org.ekstep.genieservices.commons.db.contract.ContentHierarchyEntry;
+import org.ekstep.genieservices.commons.db.core.IReadable;
+import org.ekstep.genieservices.commons.db.core.IResultSet;
+import org.ekstep.genieservices.commons.db.operations.IDBSession;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * The sizes of the nodes of the indexed tree of a collection, in depth first order. Nodes whose content is
+ * not in the db are left out.
+ */
+public class ContentHierarchySizesModel implements IReadable {
+
+    private String mRootIdentifier;
+    private List<Node> mNodeList = new ArrayList<>();
+
+    private ContentHierarchySizesModel(String rootIdentifier) {
+        this.mRootIdentifier = rootIdentifier;
+    }
+
+    public static ContentHierarchySizesModel find(IDBSession dbSession, String rootIdentifier) {
+        String query = String.format(Locale.US, "SELECT h.%s, h.%s, c.%s, c.%s, c.%s FROM %s h JOIN %s c ON c.%s = h.%s WHERE h.%s = ? ORDER BY h.%s",
+                ContentHierarchyEntry.COLUMN_NAME_IDENTIFIER, ContentHierarchyEntry.COLUMN_NAME_DEPTH,
+                ContentEntry.COLUMN_NAME_MIME_TYPE, ContentEntry.COLUMN_NAME_SIZE_ON_DEVICE, ContentEntry.COLUMN_NAME_OWN_SIZE_ON_DEVICE,
+                ContentHierarchyEntry.TABLE_NAME, ContentEntry.TABLE_NAME,
+                ContentEntry.COLUMN_NAME_IDENTIFIER, ContentHierarchyEntry.COLUMN_NAME_IDENTIFIER,
+                ContentHierarchyEntry.COLUMN_NAME_ROOT_IDENTIFIER,
+                ContentHierarchyEntry.COLUMN_NAME_SEQUENCE);
+
+        ContentHierarchySizesModel model = new ContentHierarchySizesModel(rootIdentifier);
+        dbSession.read(model, query);
+        return model;
+    }
+
+    @Override
+    public IReadable read(IResultSet resultSet) {
+        if (resultSet != null && resultSet.moveToFirst()) {
+            do {
+                mNodeList.add(new Node(resultSet.getString(0), resultSet.getInt(1), resultSet.getString(2),
+                        resultSet.getLong(3), resultSet.getLong(4)));
+            } while (resultSet.moveToNext());
+        }
+        return this;
+    }
+
+    @Override
+    public String getTableName() {
+        return ContentHierarchyEntry.TABLE_NAME;
+    }
+
+    @Override
+    public String orderBy() {
+        return "";
+    }
+
+    @Override
+    public String filterForRead() {
+        return "";
+    }
+
+    @Override
+    public String[] selectionArgsForFilter() {
+        return new String[]{mRootIdentifier};
+    }
+
+    @Override
+    public String limitBy() {
+        return "";
+    }
+
+    public List<Node> getNodeList() {
+        return mNodeList;
+    }
+
+    public static class Node {
+
+        private final String identifier;
+        private final int depth;
+        private final String mimeType;
+        private final long sizeOnDevice;
+        private final long ownSizeOnDevice;
+
+        Node(String identifier, int depth, String mimeType, long sizeOnDevice, long ownSizeOnDevice) {
+            this.identifier = identifier;
+            this.depth = depth;
+            this.mimeType = mimeType;
+            this.sizeOnDevice = sizeOnDevice;
+            this.ownSizeOnDevice = ownSizeOnDevice;
+        }
+
+        public String getIdentifier() {
+            return identifier;
+        }
+
+        public int getDepth() {
+            return depth;
+        }
+
+        public String getMimeType() {
+            return mimeType;
+        }
+
+        public long getSizeOnDevice() {
+            return sizeOnDevice;
+        }
+
+        public long getOwnSizeOnDevice() {
+            return ownSizeOnDevice;
+        }
+    }
+}
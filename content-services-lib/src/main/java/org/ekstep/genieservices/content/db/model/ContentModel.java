@@ -1,18 +1,20 @@
 package org.ekstep.genieservices.content.db.model;
 
 import org.ekstep.genieservices.commons.AppContext;
+import org.ekstep.genieservices.commons.bean.ContentData;
 import org.ekstep.genieservices.commons.db.contract.ContentAccessEntry;
 import org.ekstep.genieservices.commons.db.contract.ContentEntry;
 import org.ekstep.genieservices.commons.db.core.ContentValues;
-import org.ekstep.genieservices.commons.db.core.ICleanable;
+import org.ekstep.genieservices.commons.db.core.IBindableCleanable;
+import org.ekstep.genieservices.commons.db.core.IBindableUpdatable;
 import org.ekstep.genieservices.commons.db.core.IReadable;
 import org.ekstep.genieservices.commons.db.core.IResultSet;
-import org.ekstep.genieservices.commons.db.core.IUpdatable;
 import org.ekstep.genieservices.commons.db.core.IWritable;
 import org.ekstep.genieservices.commons.db.operations.IDBSession;
 import org.ekstep.genieservices.commons.utils.DateUtil;
 
 import java.util.Locale;
+import java.util.Map;
 
 import static java.lang.String.valueOf;
 
@@ -21,7 +23,7 @@ import static java.lang.String.valueOf;
  *
  * @author anil
  */
-public class ContentModel implements IWritable, IUpdatable, IReadable, ICleanable {
+public class ContentModel implements IWritable, IBindableUpdatable, IReadable, IBindableCleanable {
 
     private IDBSession mDBSession;
     private Long id = -1L;
@@ -42,8 +44,10 @@ public class ContentModel implements IWritable, IUpdatable, IReadable, ICleanabl
     private String audience;
     private String pragma;
     private Long sizeOnDevice;
+    private Long ownSizeOnDevice;
     private Long lastUsedTime;
     private boolean updateLocalLastUpdatedTime = true;
+    private DecodedContentData mDecodedData;
 
     private ContentModel(IDBSession dbSession) {
         this.mDBSession = dbSession;
@@ -77,6 +81,7 @@ public class ContentModel implements IWritable, IUpdatable, IReadable, ICleanabl
         this.refCount = refCount;
         this.contentState = contentState;
         this.sizeOnDevice = sizeOnDevice;
+        this.ownSizeOnDevice = sizeOnDevice;
     }
 
     public static ContentModel find(IDBSession dbSession, Object identifier) {
@@ -140,6 +145,9 @@ public class ContentModel implements IWritable, IUpdatable, IReadable, ICleanabl
         with(contentValues, ContentEntry.COLUMN_NAME_PRAGMA, pragma);
 //        with(contentValues, ContentEntry.COLUMN_NAME_INDEX, null);
         with(contentValues, ContentEntry.COLUMN_NAME_SIZE_ON_DEVICE, sizeOnDevice);
+        if (ownSizeOnDevice != null) {
+            with(contentValues, ContentEntry.COLUMN_NAME_OWN_SIZE_ON_DEVICE, ownSizeOnDevice);
+        }
 
         return contentValues;
     }
@@ -179,6 +187,9 @@ public class ContentModel implements IWritable, IUpdatable, IReadable, ICleanabl
         with(contentValues, ContentEntry.COLUMN_NAME_PRAGMA, pragma);
 //        with(contentValues, ContentEntry.COLUMN_NAME_INDEX, null);
         with(contentValues, ContentEntry.COLUMN_NAME_SIZE_ON_DEVICE, sizeOnDevice);
+        if (ownSizeOnDevice != null) {
+            with(contentValues, ContentEntry.COLUMN_NAME_OWN_SIZE_ON_DEVICE, ownSizeOnDevice);
+        }
         return contentValues;
     }
 
@@ -194,12 +205,22 @@ public class ContentModel implements IWritable, IUpdatable, IReadable, ICleanabl
 
     @Override
     public String selectionToClean() {
-        return String.format(Locale.US, "where %s = '%s'", ContentEntry.COLUMN_NAME_IDENTIFIER, identifier);
+        return String.format(Locale.US, "where %s = ?", ContentEntry.COLUMN_NAME_IDENTIFIER);
+    }
+
+    @Override
+    public String[] selectionArgsToClean() {
+        return new String[]{identifier};
     }
 
     @Override
     public String updateBy() {
-        return String.format(Locale.US, "%s = '%s'", ContentEntry.COLUMN_NAME_IDENTIFIER, identifier);
+        return String.format(Locale.US, "%s = ?", ContentEntry.COLUMN_NAME_IDENTIFIER);
+    }
+
+    @Override
+    public String[] selectionArgsForUpdate() {
+        return new String[]{identifier};
     }
 
     @Override
@@ -239,13 +260,20 @@ public class ContentModel implements IWritable, IUpdatable, IReadable, ICleanabl
         contentState = resultSet.getInt(resultSet.getColumnIndex(ContentEntry.COLUMN_NAME_CONTENT_STATE));
         contentType = resultSet.getString(resultSet.getColumnIndex(ContentEntry.COLUMN_NAME_CONTENT_TYPE));
         localLastUpdatedTime = resultSet.getString(resultSet.getColumnIndex(ContentEntry.COLUMN_NAME_LOCAL_LAST_UPDATED_ON));
+        serverLastUpdatedOn = resultSet.getString(resultSet.getColumnIndex(ContentEntry.COLUMN_NAME_SERVER_LAST_UPDATED_ON));
         audience = resultSet.getString(resultSet.getColumnIndex(ContentEntry.COLUMN_NAME_AUDIENCE));
         pragma = resultSet.getString(resultSet.getColumnIndex(ContentEntry.COLUMN_NAME_PRAGMA));
         sizeOnDevice = resultSet.getLong(resultSet.getColumnIndex(ContentEntry.COLUMN_NAME_SIZE_ON_DEVICE));
 
+        // Missing while the migrations before the own size are applied.
+        if (resultSet.getColumnIndex(ContentEntry.COLUMN_NAME_OWN_SIZE_ON_DEVICE) != -1) {
+            ownSizeOnDevice = resultSet.getLong(resultSet.getColumnIndex(ContentEntry.COLUMN_NAME_OWN_SIZE_ON_DEVICE));
+        }
+
         if (resultSet.getColumnIndex(ContentAccessEntry.COLUMN_NAME_EPOCH_TIMESTAMP) != -1) {
             lastUsedTime = resultSet.getLong(resultSet.getColumnIndex(ContentAccessEntry.COLUMN_NAME_EPOCH_TIMESTAMP));
         }
+        mDecodedData = null;
     }
 
     private void with(ContentValues contentValues, String key, String value) {
@@ -290,6 +318,7 @@ public class ContentModel implements IWritable, IUpdatable, IReadable, ICleanabl
 
     public void setServerData(String serverData) {
         this.serverData = serverData;
+        this.mDecodedData = null;
     }
 
     public void setAudience(String audience) {
@@ -304,6 +333,34 @@ public class ContentModel implements IWritable, IUpdatable, IReadable, ICleanabl
         return localData;
     }
 
+    /**
+     * @return the parsed local data, shared with the other models of the same version of the row. Don't modify it.
+     */
+    public ContentData getLocalContentData() {
+        return getDecodedData().getLocalContentData();
+    }
+
+    /**
+     * @return the parsed server data, shared with the other models of the same version of the row. Don't modify it.
+     */
+    public ContentData getServerContentData() {
+        return getDecodedData().getServerContentData();
+    }
+
+    /**
+     * @return the local data as a map, shared with the other models of the same version of the row. Don't modify it.
+     */
+    public Map getLocalDataMap() {
+        return getDecodedData().getLocalDataMap();
+    }
+
+    private DecodedContentData getDecodedData() {
+        if (mDecodedData == null) {
+            mDecodedData = ContentDataCache.getInstance().get(identifier, localLastUpdatedTime, serverLastUpdatedOn, localData, serverData);
+        }
+        return mDecodedData;
+    }
+
     public String getMimeType() {
         return mimeType;
     }
@@ -352,6 +409,19 @@ public class ContentModel implements IWritable, IUpdatable, IReadable, ICleanabl
         this.sizeOnDevice = sizeOnDevice;
     }
 
+    public Long getOwnSizeOnDevice() {
+        return ownSizeOnDevice;
+    }
+
+    /**
+     * Sets the size of the files of the content itself, which is its size on device as well until the sizes
+     * of its children are rolled up into it.
+     */
+    public void setOwnSizeOnDevice(long ownSizeOnDevice) {
+        this.ownSizeOnDevice = ownSizeOnDevice;
+        this.sizeOnDevice = ownSizeOnDevice;
+    }
+
     public Long getLastUsedTime() {
         return lastUsedTime;
     }
@@ -0,0 +1,67 @@
+package org.ekstep.genieservices.content.db.model;
+
+import org.ekstep.genieservices.commons.AppContext;
+import org.ekstep.genieservices.commons.db.contract.ContentSearchFacetEntry;
+import org.ekstep.genieservices.commons.db.core.ContentValues;
+import org.ekstep.genieservices.commons.db.core.IWritable;
+import org.ekstep.genieservices.commons.db.operations.IDBSession;
+
+/**
+ * A value of a facet of a content in the offline search index.
+ */
+public class ContentSearchFacetModel implements IWritable {
+
+    private IDBSession mDBSession;
+    private Long id = -1L;
+
+    private String identifier;
+    private String name;
+    private String value;
+
+    private ContentSearchFacetModel(IDBSession dbSession, String identifier, String name, String value) {
+        this.mDBSession = dbSession;
+        this.identifier = identifier;
+        this.name = name;
+        this.value = value;
+    }
+
+    public static ContentSearchFacetModel build(IDBSession dbSession, String identifier, String name, String value) {
+        return new ContentSearchFacetModel(dbSession, identifier, name, value);
+    }
+
+    @Override
+    public ContentValues getContentValues() {
+        ContentValues contentValues = new ContentValues();
+        contentValues.put(ContentSearchFacetEntry.COLUMN_NAME_IDENTIFIER, identifier);
+        contentValues.put(ContentSearchFacetEntry.COLUMN_NAME_NAME, name);
+        contentValues.put(ContentSearchFacetEntry.COLUMN_NAME_VALUE, value);
+        return contentValues;
+    }
+
+    @Override
+    public void updateId(long id) {
+        this.id = id;
+    }
+
+    @Override
+    public String getTableName() {
+        return ContentSearchFacetEntry.TABLE_NAME;
+    }
+
+    @Override
+    public void beforeWrite(AppContext context) {
+
+    }
+
+    public String getIdentifier() {
+        return identifier;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getValue() {
+        return value;
+    }
+}
@@ -0,0 +1,98 @@
+package org.ekstep.genieservices.content.db.model;
+
+import org.ekstep.genieservices.commons.db.contract.ContentSearchFacetEntry;
+import org.ekstep.genieservices.commons.db.core.IReadable;
+import org.ekstep.genieservices.commons.db.core.IResultSet;
+import org.ekstep.genieservices.commons.db.operations.IDBSession;
+import org.ekstep.genieservices.commons.utils.StringUtil;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The values of some facets of every indexed content.
+ */
+public class ContentSearchFacetsModel implements IReadable {
+
+    private Map<String, Map<String, List<String>>> mFacetsByIdentifier;
+
+    private ContentSearchFacetsModel() {
+    }
+
+    /**
+     * @param names facet names, without quotes.
+     */
+    public static ContentSearchFacetsModel find(IDBSession dbSession, Collection<String> names) {
+        String query = String.format(Locale.US, "SELECT %s, %s, %s FROM %s WHERE %s IN ('%s')",
+                ContentSearchFacetEntry.COLUMN_NAME_IDENTIFIER, ContentSearchFacetEntry.COLUMN_NAME_NAME, ContentSearchFacetEntry.COLUMN_NAME_VALUE,
+                ContentSearchFacetEntry.TABLE_NAME, ContentSearchFacetEntry.COLUMN_NAME_NAME, StringUtil.join("','", names));
+
+        ContentSearchFacetsModel model = new ContentSearchFacetsModel();
+        dbSession.read(model, query);
+        return model;
+    }
+
+    @Override
+    public IReadable read(IResultSet resultSet) {
+        mFacetsByIdentifier = new HashMap<>();
+        if (resultSet != null && resultSet.moveToFirst()) {
+            int identifierIndex = resultSet.getColumnIndex(ContentSearchFacetEntry.COLUMN_NAME_IDENTIFIER);
+            int nameIndex = resultSet.getColumnIndex(ContentSearchFacetEntry.COLUMN_NAME_NAME);
+            int valueIndex = resultSet.getColumnIndex(ContentSearchFacetEntry.COLUMN_NAME_VALUE);
+            do {
+                String identifier = resultSet.getString(identifierIndex);
+                Map<String, List<String>> facets = mFacetsByIdentifier.get(identifier);
+                if (facets == null) {
+                    facets = new HashMap<>();
+                    mFacetsByIdentifier.put(identifier, facets);
+                }
+
+                String name = resultSet.getString(nameIndex);
+                List<String> values = facets.get(name);
+                if (values == null) {
+                    values = new ArrayList<>();
+                    facets.put(name, values);
+                }
+                values.add(resultSet.getString(valueIndex));
+            } while (resultSet.moveToNext());
+        }
+        return this;
+    }
+
+    @Override
+    public String getTableName() {
+        return ContentSearchFacetEntry.TABLE_NAME;
+    }
+
+    @Override
+    public String orderBy() {
+        return "";
+    }
+
+    @Override
+    public String filterForRead() {
+        return "";
+    }
+
+    @Override
+    public String[] selectionArgsForFilter() {
+        return null;
+    }
+
+    @Override
+    public String limitBy() {
+        return "";
+    }
+
+    /**
+     * @return values by facet name, empty if the content has none of the facets.
+     */
+    public Map<String, List<String>> getFacets(String identifier) {
+        Map<String, List<String>> facets = mFacetsByIdentifier == null ? null : mFacetsByIdentifier.get(identifier);
+        return facets == null ? new HashMap<String, List<String>>() : facets;
+    }
+}
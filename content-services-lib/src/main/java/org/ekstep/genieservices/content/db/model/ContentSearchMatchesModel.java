@@ -0,0 +1,117 @@
+package org.ekstep.genieservices.content.db.model;
+
+import org.ekstep.genieservices.commons.db.contract.ContentEntry;
+import org.ekstep.genieservices.commons.db.contract.ContentSearchTermEntry;
+import org.ekstep.genieservices.commons.db.core.IReadable;
+import org.ekstep.genieservices.commons.db.core.IResultSet;
+import org.ekstep.genieservices.commons.db.operations.IDBSession;
+import org.ekstep.genieservices.content.ContentConstants;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Identifiers of the contents matched by a lookup of the offline search, with their score, in the order of the query.
+ */
+public class ContentSearchMatchesModel implements IReadable {
+
+    private static final String KEY_SCORE = "score";
+
+    // Sorts after every term which starts with the prefix, short of the characters outside of the BMP.
+    private static final String PREFIX_UPPER_BOUND = "\uffff";
+
+    private Map<String, Integer> mMatches;
+
+    private ContentSearchMatchesModel() {
+    }
+
+    /**
+     * Terms starting with the prefix match, a term equal to it scores twice its weight. Terms without weight never match.
+     *
+     * @param prefix lower cased word, without quotes.
+     */
+    public static ContentSearchMatchesModel findByTermPrefix(IDBSession dbSession, String prefix) {
+        String query = String.format(Locale.US, "SELECT %s, SUM(CASE WHEN %s = '%s' THEN %s * 2 ELSE %s END) AS %s FROM %s WHERE %s >= '%s' AND %s < '%s' AND %s > 0 GROUP BY %s",
+                ContentSearchTermEntry.COLUMN_NAME_IDENTIFIER,
+                ContentSearchTermEntry.COLUMN_NAME_TERM, prefix, ContentSearchTermEntry.COLUMN_NAME_WEIGHT, ContentSearchTermEntry.COLUMN_NAME_WEIGHT, KEY_SCORE,
+                ContentSearchTermEntry.TABLE_NAME,
+                ContentSearchTermEntry.COLUMN_NAME_TERM, prefix, ContentSearchTermEntry.COLUMN_NAME_TERM, prefix + PREFIX_UPPER_BOUND,
+                ContentSearchTermEntry.COLUMN_NAME_WEIGHT,
+                ContentSearchTermEntry.COLUMN_NAME_IDENTIFIER);
+        return find(dbSession, query);
+    }
+
+    /**
+     * @return the contents shown in the library, the most recently imported first.
+     */
+    public static ContentSearchMatchesModel findAvailable(IDBSession dbSession) {
+        String query = String.format(Locale.US, "SELECT %s, 0 AS %s FROM %s WHERE %s = '%s' AND %s = %d ORDER BY %s DESC",
+                ContentEntry.COLUMN_NAME_IDENTIFIER, KEY_SCORE, ContentEntry.TABLE_NAME,
+                ContentEntry.COLUMN_NAME_VISIBILITY, ContentConstants.Visibility.DEFAULT,
+                ContentEntry.COLUMN_NAME_CONTENT_STATE, ContentConstants.State.ARTIFACT_AVAILABLE,
+                ContentEntry.COLUMN_NAME_LOCAL_LAST_UPDATED_ON);
+        return find(dbSession, query);
+    }
+
+    /**
+     * @return the contents which have no row in the search index.
+     */
+    public static ContentSearchMatchesModel findNotIndexed(IDBSession dbSession) {
+        String query = String.format(Locale.US, "SELECT c.%s, 0 AS %s FROM %s c WHERE NOT EXISTS (SELECT 1 FROM %s t WHERE t.%s = c.%s)",
+                ContentEntry.COLUMN_NAME_IDENTIFIER, KEY_SCORE, ContentEntry.TABLE_NAME,
+                ContentSearchTermEntry.TABLE_NAME, ContentSearchTermEntry.COLUMN_NAME_IDENTIFIER, ContentEntry.COLUMN_NAME_IDENTIFIER);
+        return find(dbSession, query);
+    }
+
+    private static ContentSearchMatchesModel find(IDBSession dbSession, String query) {
+        ContentSearchMatchesModel model = new ContentSearchMatchesModel();
+        dbSession.read(model, query);
+        return model;
+    }
+
+    @Override
+    public IReadable read(IResultSet resultSet) {
+        mMatches = new LinkedHashMap<>();
+        if (resultSet != null && resultSet.moveToFirst()) {
+            int identifierIndex = resultSet.getColumnIndex(ContentSearchTermEntry.COLUMN_NAME_IDENTIFIER);
+            int scoreIndex = resultSet.getColumnIndex(KEY_SCORE);
+            do {
+                mMatches.put(resultSet.getString(identifierIndex), resultSet.getInt(scoreIndex));
+            } while (resultSet.moveToNext());
+        }
+        return this;
+    }
+
+    @Override
+    public String getTableName() {
+        return ContentSearchTermEntry.TABLE_NAME;
+    }
+
+    @Override
+    public String orderBy() {
+        return "";
+    }
+
+    @Override
+    public String filterForRead() {
+        return "";
+    }
+
+    @Override
+    public String[] selectionArgsForFilter() {
+        return null;
+    }
+
+    @Override
+    public String limitBy() {
+        return "";
+    }
+
+    /**
+     * @return score by identifier, empty if nothing matched.
+     */
+    public Map<String, Integer> getMatches() {
+        return mMatches == null ? new LinkedHashMap<String, Integer>() : mMatches;
+    }
+}
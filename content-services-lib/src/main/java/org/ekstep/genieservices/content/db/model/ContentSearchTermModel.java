@@ -0,0 +1,67 @@
+package org.ekstep.genieservices.content.db.model;
+
+import org.ekstep.genieservices.commons.AppContext;
+import org.ekstep.genieservices.commons.db.contract.ContentSearchTermEntry;
+import org.ekstep.genieservices.commons.db.core.ContentValues;
+import org.ekstep.genieservices.commons.db.core.IWritable;
+import org.ekstep.genieservices.commons.db.operations.IDBSession;
+
+/**
+ * A term of a content in the offline search index.
+ */
+public class ContentSearchTermModel implements IWritable {
+
+    private IDBSession mDBSession;
+    private Long id = -1L;
+
+    private String identifier;
+    private String term;
+    private int weight;
+
+    private ContentSearchTermModel(IDBSession dbSession, String identifier, String term, int weight) {
+        this.mDBSession = dbSession;
+        this.identifier = identifier;
+        this.term = term;
+        this.weight = weight;
+    }
+
+    public static ContentSearchTermModel build(IDBSession dbSession, String identifier, String term, int weight) {
+        return new ContentSearchTermModel(dbSession, identifier, term, weight);
+    }
+
+    @Override
+    public ContentValues getContentValues() {
+        ContentValues contentValues = new ContentValues();
+        contentValues.put(ContentSearchTermEntry.COLUMN_NAME_IDENTIFIER, identifier);
+        contentValues.put(ContentSearchTermEntry.COLUMN_NAME_TERM, term);
+        contentValues.put(ContentSearchTermEntry.COLUMN_NAME_WEIGHT, weight);
+        return contentValues;
+    }
+
+    @Override
+    public void updateId(long id) {
+        this.id = id;
+    }
+
+    @Override
+    public String getTableName() {
+        return ContentSearchTermEntry.TABLE_NAME;
+    }
+
+    @Override
+    public void beforeWrite(AppContext context) {
+
+    }
+
+    public String getIdentifier() {
+        return identifier;
+    }
+
+    public String getTerm() {
+        return term;
+    }
+
+    public int getWeight() {
+        return weight;
+    }
+}
@@ -18,6 +18,7 @@ public class ContentsModel implements IReadable {
 
     private IDBSession mDBSession;
     private String filterCondition;
+    private String[] selectionArgs;
     private boolean onlySize;
     private long totalSize;
 
@@ -44,6 +45,22 @@ public class ContentsModel implements IReadable {
         }
     }
 
+    /**
+     * @param filter        filter with ? placeholders.
+     * @param selectionArgs values of the placeholders.
+     */
+    public static ContentsModel find(IDBSession dbSession, String filter, String[] selectionArgs) {
+        ContentsModel contentsModel = new ContentsModel(dbSession, filter);
+        contentsModel.selectionArgs = selectionArgs;
+        dbSession.read(contentsModel);
+
+        if (contentsModel.contentModelList == null) {
+            return null;
+        } else {
+            return contentsModel;
+        }
+    }
+
     public static ContentsModel findWithCustomQuery(IDBSession dbSession, String query) {
         ContentsModel contentsModel = new ContentsModel(dbSession, null);
         dbSession.read(contentsModel, query);
@@ -98,7 +115,7 @@ public class ContentsModel implements IReadable {
 
     @Override
     public String[] selectionArgsForFilter() {
-        return null;
+        return selectionArgs;
     }
 
     @Override
@@ -0,0 +1,59 @@
+package org.ekstep.genieservices.content.db.model;
+
+import org.ekstep.genieservices.commons.bean.ContentData;
+import org.ekstep.genieservices.commons.utils.GsonUtil;
+
+import java.util.Map;
+
+/**
+ * The local and server data of one version of a content row, each parsed on first use only.
+ * <p>
+ * An instance is shared by every {@link ContentModel} read for the same version of the row, so the
+ * returned objects have to be treated as read-only.
+ */
+public class DecodedContentData {
+
+    private final String localData;
+    private final String serverData;
+
+    private ContentData localContentData;
+    private ContentData serverContentData;
+    private Map localDataMap;
+
+    DecodedContentData(String localData, String serverData) {
+        this.localData = localData;
+        this.serverData = serverData;
+    }
+
+    /**
+     * Comparing the strings is much cheaper than parsing them again.
+     */
+    boolean isDecodedFrom(String localData, String serverData) {
+        return same(this.localData, localData) && same(this.serverData, serverData);
+    }
+
+    private static boolean same(String left, String right) {
+        return left == null ? right == null : left.equals(right);
+    }
+
+    public synchronized ContentData getLocalContentData() {
+        if (localContentData == null && localData != null) {
+            localContentData = GsonUtil.fromJson(localData, ContentData.class);
+        }
+        return localContentData;
+    }
+
+    public synchronized ContentData getServerContentData() {
+        if (serverContentData == null && serverData != null) {
+            serverContentData = GsonUtil.fromJson(serverData, ContentData.class);
+        }
+        return serverContentData;
+    }
+
+    public synchronized Map getLocalDataMap() {
+        if (localDataMap == null && localData != null) {
+            localDataMap = GsonUtil.fromJson(localData, Map.class);
+        }
+        return localDataMap;
+    }
+}
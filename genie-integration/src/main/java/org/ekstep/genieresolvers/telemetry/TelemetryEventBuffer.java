@@ -0,0 +1,86 @@
+package org.ekstep.genieresolvers.telemetry;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import org.ekstep.genieservices.commons.IResponseHandler;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects telemetry events and sends them to Genie in batches, so that a chatty player makes one Binder
+ * transaction per batch and not one per event.
+ * <p>
+ * A batch is sent when it reaches {@link #MAX_BATCH_SIZE} events or {@link #MAX_BATCH_CHARS} characters, or
+ * {@link #FLUSH_DELAY_MILLIS} after its first event, whichever comes first. The characters are capped to keep the
+ * batch well below the 1MB Binder transaction buffer. Call {@link #flush()} before the player exits, so that the
+ * last events are sent.
+ */
+public class TelemetryEventBuffer {
+
+    private static final int MAX_BATCH_SIZE = 100;
+    private static final int MAX_BATCH_CHARS = 128 * 1024;
+    private static final long FLUSH_DELAY_MILLIS = 1000;
+
+    private final TelemetryService telemetryService;
+    private final IResponseHandler responseHandler;
+    // Tasks are started from the main thread, as AsyncTask requires.
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final Runnable flushTask = new Runnable() {
+        @Override
+        public void run() {
+            sendBatch();
+        }
+    };
+
+    private List<String> eventStrings = new ArrayList<>();
+    private int batchChars;
+
+    /**
+     * @param responseHandler gets the response of every batch sent.
+     */
+    public TelemetryEventBuffer(TelemetryService telemetryService, IResponseHandler responseHandler) {
+        this.telemetryService = telemetryService;
+        this.responseHandler = responseHandler;
+    }
+
+    public void add(String eventString) {
+        synchronized (this) {
+            eventStrings.add(eventString);
+            batchChars += eventString.length();
+            if (eventStrings.size() < MAX_BATCH_SIZE && batchChars < MAX_BATCH_CHARS) {
+                if (eventStrings.size() == 1) {
+                    handler.postDelayed(flushTask, FLUSH_DELAY_MILLIS);
+                }
+                return;
+            }
+        }
+
+        flush();
+    }
+
+    /**
+     * Sends the events added so far.
+     */
+    public void flush() {
+        handler.removeCallbacks(flushTask);
+        handler.post(flushTask);
+    }
+
+    private void sendBatch() {
+        List<String> batch;
+        synchronized (this) {
+            if (eventStrings.isEmpty()) {
+                return;
+            }
+
+            batch = eventStrings;
+            eventStrings = new ArrayList<>();
+            batchChars = 0;
+            handler.removeCallbacks(flushTask);
+        }
+
+        telemetryService.saveTelemetryEvents(batch, responseHandler);
+    }
+}
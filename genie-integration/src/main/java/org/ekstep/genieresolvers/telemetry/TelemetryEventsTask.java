@@ -0,0 +1,57 @@
+package org.ekstep.genieresolvers.telemetry;
+
+import android.content.ContentValues;
+import android.content.Context;
+import android.net.Uri;
+
+import org.ekstep.genieresolvers.BaseTask;
+import org.ekstep.genieresolvers.util.Constants;
+import org.ekstep.genieservices.commons.bean.GenieResponse;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sends a batch of events to the telemetry provider with a single bulkInsert, that is a single Binder transaction.
+ */
+public class TelemetryEventsTask extends BaseTask {
+    private String appQualifier;
+    private List<String> eventStrings;
+
+    public TelemetryEventsTask(Context context, String appQualifier, List<String> eventStrings) {
+        super(context);
+        this.appQualifier = appQualifier;
+        this.eventStrings = eventStrings;
+    }
+
+    @Override
+    protected String getLogTag() {
+        return TelemetryEventsTask.class.getSimpleName();
+    }
+
+    @Override
+    protected GenieResponse<Map> execute() {
+        ContentValues[] events = new ContentValues[eventStrings.size()];
+        for (int i = 0; i < events.length; i++) {
+            events[i] = new ContentValues();
+            events[i].put(Constants.EVENT, eventStrings.get(i));
+        }
+
+        int savedEventCount = contentResolver.bulkInsert(getUri(), events);
+        if (savedEventCount < events.length) {
+            return getErrorResponse(Constants.PROCESSING_ERROR, getErrorMessage(), TelemetryEventsTask.class.getSimpleName());
+        }
+
+        return getSuccessResponse(Constants.SUCCESSFUL);
+    }
+
+    @Override
+    protected String getErrorMessage() {
+        return "Unsuccessful to send events!";
+    }
+
+    private Uri getUri() {
+        String authority = String.format("content://%s.telemetry", appQualifier);
+        return Uri.parse(authority);
+    }
+}
@@ -5,6 +5,8 @@ import android.content.Context;
 import org.ekstep.genieresolvers.BaseService;
 import org.ekstep.genieservices.commons.IResponseHandler;
 
+import java.util.List;
+
 /**
  *
  * This is the {@link TelemetryService} with all the required APIs to perform necessary operations related to Telemetry
@@ -36,4 +38,22 @@ public class TelemetryService extends BaseService {
         createAndExecuteTask(responseHandler, telemetryEventTask);
     }
 
+    /**
+     * This api will save all the telemetry events passed to it as String, sending them to Genie in one go.
+     * <p>
+     * <p> On successful saving every event, the response will return status as TRUE and with "successful" message.
+     * <p>
+     * <p>On failing to save some of the events, the response will return status as FALSE and the error be the following:
+     * <p>PROCESSING_ERROR
+     * <p>
+     * <p>To send events as they are generated, in batches, use a {@link TelemetryEventBuffer}.
+     *
+     * @param eventStrings
+     * @param responseHandler
+     */
+    public void saveTelemetryEvents(List<String> eventStrings, IResponseHandler responseHandler) {
+        TelemetryEventsTask telemetryEventsTask = new TelemetryEventsTask(context, appQualifier, eventStrings);
+        createAndExecuteTask(responseHandler, telemetryEventsTask);
+    }
+
 }
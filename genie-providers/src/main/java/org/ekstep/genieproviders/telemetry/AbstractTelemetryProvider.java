@@ -10,6 +10,9 @@ import org.ekstep.genieproviders.BaseContentProvider;
 import org.ekstep.genieservices.commons.bean.GenieResponse;
 import org.ekstep.genieservices.commons.db.contract.TelemetryEntry;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Created on 19/5/17.
  * shriharsh
@@ -42,6 +45,25 @@ public abstract class AbstractTelemetryProvider extends BaseContentProvider {
         return null;
     }
 
+    /**
+     * Saves the events of a whole batch, sent in one Binder transaction, in one db transaction.
+     *
+     * @return number of events saved.
+     */
+    @Override
+    public int bulkInsert(@NonNull Uri uri, @NonNull ContentValues[] values) {
+        List<String> eventStrings = new ArrayList<>(values.length);
+        for (ContentValues value : values) {
+            eventStrings.add(value.getAsString(TelemetryEntry.COLUMN_NAME_EVENT));
+        }
+
+        GenieResponse<Integer> response = getService().getTelemetryService().saveTelemetry(eventStrings);
+        if (response != null && response.getResult() != null) {
+            return response.getResult();
+        }
+        return 0;
+    }
+
     @Override
     public int delete(Uri uri, String selection, String[] selectionArgs) {
         return 0;
@@ -4,6 +4,7 @@ import junit.framework.Assert;
 
 import java.io.IOException;
 
+import okhttp3.mockwebserver.Dispatcher;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 
@@ -33,6 +34,13 @@ public class MockServer {
         serverMock.enqueue(response);
     }
 
+    /**
+     * Answers every request with the given dispatcher instead of the queued responses.
+     */
+    public void setDispatcher(Dispatcher dispatcher) {
+        serverMock.setDispatcher(dispatcher);
+    }
+
     public void assertRequestCount(int timesCalled) {
         int requestCount = serverMock.getRequestCount();
         Assert.assertEquals(timesCalled, requestCount);
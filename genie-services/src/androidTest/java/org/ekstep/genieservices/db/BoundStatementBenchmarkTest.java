@@ -0,0 +1,113 @@
+package org.ekstep.genieservices.db;
+
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+import android.support.test.runner.AndroidJUnit4;
+import android.util.Log;
+
+import org.ekstep.genieservices.commons.db.contract.NoSqlEntry;
+import org.ekstep.genieservices.commons.db.model.NoSqlModel;
+import org.ekstep.genieservices.commons.db.operations.impl.SQLiteSession;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Compares lookups on the no_sql table with inlined literals against bound arguments, and inserts row by row
+ * against {@link SQLiteSession#executeBatch(String, List)}, which compiles its statement once per call. The
+ * timings are logged, the assertions only check that both ways see the same rows.
+ */
+@RunWith(AndroidJUnit4.class)
+public class BoundStatementBenchmarkTest {
+
+    private static final String TAG = BoundStatementBenchmarkTest.class.getSimpleName();
+    private static final int ROWS = 1000;
+    private static final int LOOKUPS = 2000;
+
+    private SQLiteDatabase database;
+    private SQLiteSession dbSession;
+
+    @Before
+    public void setup() {
+        database = SQLiteDatabase.create(null);
+        database.execSQL(NoSqlEntry.getCreateEntry());
+        dbSession = new SQLiteSession(null, database, null, 0);
+    }
+
+    @After
+    public void tearDown() {
+        database.close();
+    }
+
+    @Test
+    public void shouldLookupWithBoundArgumentsAsFastAsWithLiterals() {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            rows.add(new Object[]{"key_" + i, "value_" + i});
+        }
+        dbSession.executeBatch(insertStatement(), rows);
+
+        long start = System.nanoTime();
+        int literalHits = 0;
+        for (int i = 0; i < LOOKUPS; i++) {
+            String query = String.format(Locale.US, "Select * from %s where %s = '%s' limit 1",
+                    NoSqlEntry.TABLE_NAME, NoSqlEntry.COLUMN_NAME_KEY, "key_" + (i % ROWS));
+            Cursor cursor = database.rawQuery(query, null);
+            if (cursor.moveToFirst()) {
+                literalHits++;
+            }
+            cursor.close();
+        }
+        long literalNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        int boundHits = 0;
+        for (int i = 0; i < LOOKUPS; i++) {
+            if (NoSqlModel.findByKey(dbSession, "key_" + (i % ROWS)) != null) {
+                boundHits++;
+            }
+        }
+        long boundNanos = System.nanoTime() - start;
+
+        Log.i(TAG, String.format(Locale.US, "%d lookups: literals %d us/lookup, bound args %d us/lookup",
+                LOOKUPS, literalNanos / LOOKUPS / 1000, boundNanos / LOOKUPS / 1000));
+        Assert.assertEquals(LOOKUPS, literalHits);
+        Assert.assertEquals(LOOKUPS, boundHits);
+    }
+
+    @Test
+    public void shouldInsertWithBatchAsFastAsRowByRow() {
+        long start = System.nanoTime();
+        database.beginTransaction();
+        for (int i = 0; i < ROWS; i++) {
+            NoSqlModel.build(dbSession, "row_" + i, "value_" + i).save();
+        }
+        database.setTransactionSuccessful();
+        database.endTransaction();
+        long rowByRowNanos = System.nanoTime() - start;
+
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            rows.add(new Object[]{"batch_" + i, "value_" + i});
+        }
+        start = System.nanoTime();
+        dbSession.executeBatch(insertStatement(), rows);
+        long batchNanos = System.nanoTime() - start;
+
+        Log.i(TAG, String.format(Locale.US, "%d inserts: row by row %d ms, batch %d ms",
+                ROWS, rowByRowNanos / 1000000, batchNanos / 1000000));
+        Assert.assertNotNull(NoSqlModel.findByKey(dbSession, "row_" + (ROWS - 1)));
+        Assert.assertNotNull(NoSqlModel.findByKey(dbSession, "batch_" + (ROWS - 1)));
+    }
+
+    private static String insertStatement() {
+        return String.format(Locale.US, "INSERT INTO %s (%s, %s) VALUES (?, ?)",
+                NoSqlEntry.TABLE_NAME, NoSqlEntry.COLUMN_NAME_KEY, NoSqlEntry.COLUMN_NAME_VALUE);
+    }
+}
@@ -0,0 +1,105 @@
+package org.ekstep.genieservices.db;
+
+import android.content.Context;
+import android.database.sqlite.SQLiteDatabase;
+import android.support.test.InstrumentationRegistry;
+import android.support.test.runner.AndroidJUnit4;
+
+import org.ekstep.genieservices.commons.AndroidAppContext;
+import org.ekstep.genieservices.commons.AppContext;
+import org.ekstep.genieservices.commons.bean.ContentFilterCriteria;
+import org.ekstep.genieservices.commons.bean.ContentSortCriteria;
+import org.ekstep.genieservices.commons.bean.enums.SortOrder;
+import org.ekstep.genieservices.commons.db.contract.ContentAccessEntry;
+import org.ekstep.genieservices.commons.db.contract.ContentEntry;
+import org.ekstep.genieservices.commons.db.contract.ContentHierarchyEntry;
+import org.ekstep.genieservices.commons.db.contract.LearnerAssessmentsEntry;
+import org.ekstep.genieservices.commons.db.contract.NoSqlEntry;
+import org.ekstep.genieservices.commons.db.contract.TelemetryEntry;
+import org.ekstep.genieservices.commons.db.contract.TelemetryProcessedEntry;
+import org.ekstep.genieservices.commons.db.model.NoSqlModel;
+import org.ekstep.genieservices.content.ContentHandler;
+import org.ekstep.genieservices.content.db.model.ContentHierarchyModel;
+import org.ekstep.genieservices.content.db.model.ContentHierarchyNodesModel;
+import org.ekstep.genieservices.content.db.model.ContentModel;
+import org.ekstep.genieservices.profile.db.model.ContentAccessModel;
+import org.ekstep.genieservices.profile.db.model.ContentAccessesModel;
+import org.ekstep.genieservices.profile.db.model.LearnerAssessmentDetailsModel;
+import org.ekstep.genieservices.telemetry.model.EventsModel;
+import org.ekstep.genieservices.telemetry.model.ProcessedEventModel;
+import org.ekstep.genieservices.telemetry.model.ProcessedEventsModel;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Runs the lookups of the models against the migrated Genie db and checks with EXPLAIN QUERY PLAN that
+ * none of them scans a table which grows with usage. Reads which are meant to return every row, like the
+ * download queue or the processed telemetry count, are not part of the audit.
+ */
+@RunWith(AndroidJUnit4.class)
+public class QueryPlanAuditTest {
+
+    private static final List<String> LARGE_TABLES = Arrays.asList(ContentEntry.TABLE_NAME, ContentAccessEntry.TABLE_NAME,
+            ContentHierarchyEntry.TABLE_NAME, LearnerAssessmentsEntry.TABLE_NAME, TelemetryEntry.TABLE_NAME,
+            TelemetryProcessedEntry.TABLE_NAME, NoSqlEntry.TABLE_NAME);
+
+    private static final String UID = "audit-uid";
+    private static final String IDENTIFIER = "do_audit";
+
+    private SQLiteDatabase database;
+    private QueryPlanAuditor auditor;
+
+    @Before
+    public void setup() {
+        Context context = InstrumentationRegistry.getTargetContext();
+        AppContext<Context> appContext = AndroidAppContext.buildAppContext(context, context.getPackageName());
+        auditor = new QueryPlanAuditor(appContext.getDBSession(), LARGE_TABLES);
+        database = SQLiteDatabase.openDatabase(appContext.getDBSession().getDatabasePath(), null, SQLiteDatabase.OPEN_READONLY);
+    }
+
+    @After
+    public void tearDown() {
+        database.close();
+    }
+
+    @Test
+    public void shouldNotScanLargeTables() {
+        NoSqlModel.findByKey(auditor, "audit_key");
+
+        EventsModel.find(auditor);
+        ProcessedEventModel.find(auditor);
+        ProcessedEventsModel.findNextPage(auditor, Integer.MIN_VALUE, 0, 10);
+
+        ContentModel.find(auditor, IDENTIFIER);
+        ContentHandler.findAllContentsWithIdentifiers(auditor, Arrays.asList(IDENTIFIER, "do_audit_2"));
+        ContentHandler.getAllLocalContent(auditor, null);
+        ContentHandler.getAllLocalContent(auditor, new ContentFilterCriteria.Builder().forUser(UID)
+                .sort(Collections.singletonList(new ContentSortCriteria("lastUsedOn", SortOrder.DESC))).build());
+
+        ContentHierarchyModel.findRoot(auditor, IDENTIFIER);
+        ContentHierarchyModel.find(auditor, IDENTIFIER, IDENTIFIER, "do_audit_2");
+        ContentHierarchyModel.findByPlaybackSequence(auditor, IDENTIFIER, 1);
+        ContentHierarchyNodesModel.find(auditor, IDENTIFIER, 2);
+
+        ContentAccessModel.find(auditor, UID, IDENTIFIER);
+        ContentAccessesModel.findByUid(auditor, UID);
+        ContentAccessesModel.findByContentIdentifier(auditor, IDENTIFIER);
+
+        // The filter SummarizerServiceImpl looks an assessment up with before saving it.
+        LearnerAssessmentDetailsModel.find(auditor, String.format(Locale.US, "where %s = '%s' AND %s = '%s' AND %s = '%s' AND %s = '%s'",
+                LearnerAssessmentsEntry.COLUMN_NAME_UID, UID, LearnerAssessmentsEntry.COLUMN_NAME_CONTENT_ID, IDENTIFIER,
+                LearnerAssessmentsEntry.COLUMN_NAME_HIERARCHY_DATA, "", LearnerAssessmentsEntry.COLUMN_NAME_QID, "q1"));
+
+        List<String> violations = auditor.audit(database);
+        Assert.assertTrue(auditor.getQueryCount() > 0);
+        Assert.assertTrue("Full table scans:\n" + violations, violations.isEmpty());
+    }
+}
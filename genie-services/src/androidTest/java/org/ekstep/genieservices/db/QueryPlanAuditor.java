@@ -0,0 +1,183 @@
+package org.ekstep.genieservices.db;
+
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+
+import org.ekstep.genieservices.commons.db.core.ICleanable;
+import org.ekstep.genieservices.commons.db.core.IReadable;
+import org.ekstep.genieservices.commons.db.core.IUpdatable;
+import org.ekstep.genieservices.commons.db.core.IWritable;
+import org.ekstep.genieservices.commons.db.operations.IDBSession;
+import org.ekstep.genieservices.commons.db.operations.IDBTransaction;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * {@link IDBSession} which records the query of every read made through it before passing it on, and
+ * then runs EXPLAIN QUERY PLAN on each recorded query to find the full scans of the large tables.
+ * <p>
+ * The queries are built the same way SQLiteReader builds them, so the plans are the ones the models get.
+ */
+public class QueryPlanAuditor implements IDBSession {
+
+    // "SCAN TABLE content AS c" up to SQLite 3.35, "SCAN c" from 3.36.
+    private static final Pattern SCAN = Pattern.compile("^SCAN (?:TABLE )?(\\w+)(?: AS (\\w+))?(.*)$");
+    private static final Pattern TABLE_ALIAS = Pattern.compile("(?i)\\b(?:from|join)\\s+(\\w+)(?:\\s+(?:as\\s+)?(\\w+))?");
+
+    private final IDBSession delegate;
+    private final Set<String> largeTables;
+    private final Map<String, String[]> queries = new LinkedHashMap<>();
+
+    public QueryPlanAuditor(IDBSession delegate, Collection<String> largeTables) {
+        this.delegate = delegate;
+        this.largeTables = new HashSet<>(largeTables);
+    }
+
+    /**
+     * @return one line per full scan of a large table, with the query it was found in.
+     */
+    public List<String> audit(SQLiteDatabase database) {
+        List<String> violations = new ArrayList<>();
+        for (Map.Entry<String, String[]> query : queries.entrySet()) {
+            Map<String, String> tablesByAlias = getTablesByAlias(query.getKey());
+            Cursor cursor = database.rawQuery("EXPLAIN QUERY PLAN " + query.getKey(), query.getValue());
+            try {
+                int detailIndex = cursor.getColumnIndex("detail");
+                while (cursor.moveToNext()) {
+                    String detail = cursor.getString(detailIndex);
+                    String scannedTable = getFullyScannedTable(detail, tablesByAlias);
+                    if (scannedTable != null && largeTables.contains(scannedTable)) {
+                        violations.add(String.format(Locale.US, "%s: %s", detail, query.getKey()));
+                    }
+                }
+            } finally {
+                cursor.close();
+            }
+        }
+        return violations;
+    }
+
+    public int getQueryCount() {
+        return queries.size();
+    }
+
+    private static String getFullyScannedTable(String detail, Map<String, String> tablesByAlias) {
+        Matcher matcher = SCAN.matcher(detail.trim());
+        // A scan of an index, e.g. "SCAN TABLE telemetry USING COVERING INDEX ...", reads the rows in order and is fine.
+        if (!matcher.matches() || matcher.group(3).contains("USING")) {
+            return null;
+        }
+
+        String name = matcher.group(1);
+        return tablesByAlias.containsKey(name) ? tablesByAlias.get(name) : name;
+    }
+
+    private static Map<String, String> getTablesByAlias(String query) {
+        Map<String, String> tablesByAlias = new HashMap<>();
+        Matcher matcher = TABLE_ALIAS.matcher(query);
+        while (matcher.find()) {
+            String alias = matcher.group(2);
+            if (alias != null) {
+                tablesByAlias.put(alias, matcher.group(1));
+            }
+        }
+        return tablesByAlias;
+    }
+
+    private void record(String query, String[] selectionArgs) {
+        queries.put(query.trim(), selectionArgs);
+    }
+
+    @Override
+    public String getDBName() {
+        return delegate.getDBName();
+    }
+
+    @Override
+    public int getDBVersion() {
+        return delegate.getDBVersion();
+    }
+
+    @Override
+    public String getDatabasePath() {
+        return delegate.getDatabasePath();
+    }
+
+    @Override
+    public Void beginTransaction() {
+        return delegate.beginTransaction();
+    }
+
+    @Override
+    public Void endTransaction() {
+        return delegate.endTransaction();
+    }
+
+    @Override
+    public Void clean(ICleanable cleanDb) {
+        return delegate.clean(cleanDb);
+    }
+
+    @Override
+    public Void read(IReadable readDb) {
+        record(String.format(Locale.US, "Select * from %s %s %s %s", readDb.getTableName(),
+                readDb.filterForRead(), readDb.orderBy(), readDb.limitBy()), readDb.selectionArgsForFilter());
+        return delegate.read(readDb);
+    }
+
+    @Override
+    public Void read(IReadable readDb, String customQuery) {
+        record(customQuery, readDb.selectionArgsForFilter());
+        return delegate.read(readDb, customQuery);
+    }
+
+    @Override
+    public Void create(IWritable writeToDb) {
+        return delegate.create(writeToDb);
+    }
+
+    @Override
+    public Void update(IUpdatable updateDb) {
+        return delegate.update(updateDb);
+    }
+
+    @Override
+    public Void execute(String query) {
+        return delegate.execute(query);
+    }
+
+    @Override
+    public Void executeBatch(String statement, List<Object[]> bindArgsList) {
+        return delegate.executeBatch(statement, bindArgsList);
+    }
+
+    @Override
+    public long[] createAll(List<? extends IWritable> writables) {
+        return delegate.createAll(writables);
+    }
+
+    @Override
+    public long[] updateAll(List<? extends IUpdatable> updatables) {
+        return delegate.updateAll(updatables);
+    }
+
+    @Override
+    public <T extends IWritable & IUpdatable> long[] upsertAll(List<T> models) {
+        return delegate.upsertAll(models);
+    }
+
+    @Override
+    public Void executeInTransaction(IDBTransaction transaction) {
+        return delegate.executeInTransaction(transaction);
+    }
+}
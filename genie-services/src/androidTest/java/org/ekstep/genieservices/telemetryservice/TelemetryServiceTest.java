@@ -1,5 +1,7 @@
 package org.ekstep.genieservices.telemetryservice;
 
+import android.content.ContentValues;
+
 import org.ekstep.genieservices.GenieServiceDBHelper;
 import org.ekstep.genieservices.GenieServiceTestBase;
 import org.ekstep.genieservices.SampleResponse;
@@ -11,16 +13,29 @@ import org.ekstep.genieservices.commons.bean.TelemetryExportResponse;
 import org.ekstep.genieservices.commons.bean.TelemetryImportRequest;
 import org.ekstep.genieservices.commons.bean.TelemetryStat;
 import org.ekstep.genieservices.commons.db.contract.TelemetryProcessedEntry;
+import org.ekstep.genieservices.commons.utils.GsonUtil;
 import org.ekstep.genieservices.telemetry.model.EventModel;
+import org.ekstep.genieservices.telemetry.model.ProcessedEventModel;
 import org.junit.Assert;
 import org.junit.FixMethodOrder;
 import org.junit.Test;
 import org.junit.runners.MethodSorters;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.RecordedRequest;
 
 /**
  * Created by Sneha on 5/16/2017.
@@ -30,6 +45,7 @@ public class TelemetryServiceTest extends GenieServiceTestBase {
     private static final String TAG = TelemetryServiceTest.class.getSimpleName();
     private static final String PARTNER_ID = "org.sample";
     private static final String PARTNER_DATA = "PARTNER_DATA";
+    private static final String MSG_ID_PREFIX = "test-batch-";
     private String PUBLIC_KEY = "MIGfMA0GCSqGSIb3DQEBAQUAA4GNADCBiQKBgQDGdo5VYOK9cTrQQ+ajOxfHMgg/\n" +
             " * TDX77o/eVTUjcErLLYKBQ6qb8t/jCCuRNexIexRBldk4gC9STyuVWN8x2xkSildf\n" +
             " * Nch3KUTvwgJx1n2y/03tIHkimOxEONCg3rWPdiWx7nLdW4TuHbwZTZmMdhLjM4lI\n" +
@@ -199,5 +215,111 @@ public class TelemetryServiceTest extends GenieServiceTestBase {
         shutDownMockServer();
     }
 
+    /**
+     * Scenario : Sync several processed batches when one of the uploads fails.
+     * Given : 8 processed batches, the server rejects the 4th one.
+     * When : Sync is called twice.
+     * Then : The first sync fails and deletes only the acknowledged batches. The second sync sends only the
+     * remaining batches. Every batch is acknowledged exactly once and batches are sent in priority order.
+     */
+    @Test
+    public void _6shouldSyncEveryBatchExactlyOnceWhenAnUploadFails() throws IOException {
+        GenieServiceDBHelper.clearTelemetryTableEntry();
+        GenieServiceDBHelper.clearTable(TelemetryProcessedEntry.TABLE_NAME);
+
+        List<String> msgIds = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            String msgId = MSG_ID_PREFIX + i;
+            msgIds.add(msgId);
+            insertProcessedBatch(msgId, i);
+        }
+
+        final List<String> sentMsgIds = Collections.synchronizedList(new ArrayList<String>());
+        final List<String> ackedMsgIds = Collections.synchronizedList(new ArrayList<String>());
+        final String failingMsgId = MSG_ID_PREFIX + 3;
+        final boolean[] failed = {false};
+
+        startMockServer();
+        mMockServer.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                String msgId = readMsgId(request);
+                if (!msgId.startsWith(MSG_ID_PREFIX)) {
+                    // Batch of the events logged by the sync itself.
+                    return new MockResponse().setResponseCode(200).setBody(SampleResponse.telemetrySyncResponse());
+                }
+                sentMsgIds.add(msgId);
+                synchronized (failed) {
+                    if (failingMsgId.equals(msgId) && !failed[0]) {
+                        failed[0] = true;
+                        return new MockResponse().setResponseCode(500);
+                    }
+                }
+                ackedMsgIds.add(msgId);
+                return new MockResponse().setResponseCode(200).setBody(SampleResponse.telemetrySyncResponse());
+            }
+        });
+
+        GenieResponse<SyncStat> firstSync = activity.sync();
+        Assert.assertFalse(firstSync.getStatus());
+        Assert.assertEquals(8 - ackedMsgIds.size(), countTestBatches());
+
+        // At most the uploads already in flight go through after the failure.
+        Assert.assertTrue(sentMsgIds.size() < msgIds.size());
+        Assert.assertEquals(msgIds.subList(0, sentMsgIds.size()), sortedCopy(sentMsgIds));
+
+        GenieResponse<SyncStat> secondSync = activity.sync();
+        Assert.assertTrue(secondSync.getStatus());
+        Assert.assertEquals(0, countTestBatches());
+
+        Assert.assertEquals(msgIds, sortedCopy(ackedMsgIds));
+        shutDownMockServer();
+    }
+
+    private void insertProcessedBatch(String msgId, int priority) throws IOException {
+        Map<String, Object> params = new HashMap<>();
+        params.put("msgid", msgId);
+        Map<String, Object> batch = new HashMap<>();
+        batch.put("params", params);
+        batch.put("events", new ArrayList<>());
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        GZIPOutputStream gzip = new GZIPOutputStream(bos);
+        gzip.write(GsonUtil.toJson(batch).getBytes("UTF-8"));
+        gzip.close();
+
+        ContentValues values = new ContentValues();
+        values.put(TelemetryProcessedEntry.COLUMN_NAME_MSG_ID, msgId);
+        values.put(TelemetryProcessedEntry.COLUMN_NAME_DATA, bos.toByteArray());
+        values.put(TelemetryProcessedEntry.COLUMN_NAME_NUMBER_OF_EVENTS, 1);
+        values.put(TelemetryProcessedEntry.COLUMN_NAME_PRIORITY, priority);
+        GenieServiceDBHelper.getDatabase().insert(TelemetryProcessedEntry.TABLE_NAME, null, values);
+    }
+
+    private static int countTestBatches() {
+        int count = 0;
+        for (ProcessedEventModel processedEvent : GenieServiceDBHelper.findProcessedEvents()) {
+            if (processedEvent.getMsgId().startsWith(MSG_ID_PREFIX)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static String readMsgId(RecordedRequest request) {
+        try {
+            InputStreamReader reader = new InputStreamReader(new GZIPInputStream(request.getBody().inputStream()), "UTF-8");
+            Map batch = GsonUtil.getGson().fromJson(reader, Map.class);
+            return (String) ((Map) batch.get("params")).get("msgid");
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static List<String> sortedCopy(List<String> list) {
+        List<String> copy = new ArrayList<>(list);
+        Collections.sort(copy);
+        return copy;
+    }
 
 }
@@ -11,6 +11,7 @@ import org.ekstep.genieservices.commons.IDeviceInfo;
 import org.ekstep.genieservices.commons.IDownloadManager;
 import org.ekstep.genieservices.commons.ILocationInfo;
 import org.ekstep.genieservices.commons.IParams;
+import org.ekstep.genieservices.commons.TelemetryFlushCallbacks;
 import org.ekstep.genieservices.commons.bean.Session;
 import org.ekstep.genieservices.commons.db.cache.IKeyValueStore;
 import org.ekstep.genieservices.commons.download.DownloadServiceImpl;
@@ -38,6 +39,7 @@ import org.ekstep.genieservices.tag.TagServiceImpl;
 import org.ekstep.genieservices.telemetry.SyncServiceImpl;
 import org.ekstep.genieservices.telemetry.TelemetryLogger;
 import org.ekstep.genieservices.telemetry.TelemetryServiceImpl;
+import org.ekstep.genieservices.telemetry.ingest.TelemetryBatchWriter;
 import org.ekstep.genieservices.utils.ContentPlayer;
 
 /**
@@ -101,6 +103,10 @@ public class GenieService {
             AppContext<Context> appContext = AndroidAppContext.buildAppContext(context, packageName);
             Logger.init(new AndroidLogger());
 
+            if (appContext.getParams().getBoolean(IParams.Key.TELEMETRY_BATCH_WRITE)) {
+                TelemetryBatchWriter.init(appContext);
+                context.getApplicationContext().registerComponentCallbacks(new TelemetryFlushCallbacks());
+            }
             TelemetryLogger.init(new TelemetryServiceImpl(appContext, new UserServiceImpl(appContext, new UserProfileServiceImpl(appContext, null)), new GroupServiceImpl(appContext)));
             //initializing event bus for Telemetry
             SummaryListener.init(appContext);
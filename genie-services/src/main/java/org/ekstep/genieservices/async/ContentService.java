@@ -40,6 +40,7 @@ import org.ekstep.genieservices.commons.bean.SunbirdContentSearchCriteria;
 import org.ekstep.genieservices.commons.bean.SunbirdContentSearchResult;
 import org.ekstep.genieservices.commons.bean.SwitchContentResponse;
 import org.ekstep.genieservices.commons.bean.enums.DownloadAction;
+import org.ekstep.genieservices.commons.executor.SDKExecutor;
 
 import java.util.List;
 
@@ -134,7 +135,7 @@ public class ContentService {
      * @param responseHandler      - {@link IResponseHandler<Void>}
      */
     public void deleteContent(final ContentDeleteRequest contentDeleteRequest, IResponseHandler<List<ContentDeleteResponse>> responseHandler) {
-        ThreadPool.getInstance().execute(new IPerformable<List<ContentDeleteResponse>>() {
+        ThreadPool.getInstance().execute(SDKExecutor.Lane.BULK, new IPerformable<List<ContentDeleteResponse>>() {
             @Override
             public GenieResponse<List<ContentDeleteResponse>> perform() {
                 return contentService.deleteContent(contentDeleteRequest);
@@ -257,7 +258,7 @@ public class ContentService {
      * @param responseHandler      - {@link IResponseHandler<List<ContentImportResponse>>}
      */
     public void importContent(final ContentImportRequest contentImportRequest, IResponseHandler<List<ContentImportResponse>> responseHandler) {
-        ThreadPool.getInstance().execute(new IPerformable<List<ContentImportResponse>>() {
+        ThreadPool.getInstance().execute(SDKExecutor.Lane.BULK, new IPerformable<List<ContentImportResponse>>() {
             @Override
             public GenieResponse<List<ContentImportResponse>> perform() {
                 return contentService.importContent(contentImportRequest);
@@ -279,7 +280,7 @@ public class ContentService {
      * @param responseHandler   - {@link IResponseHandler<List<ContentImportResponse>>}
      */
     public void importEcar(final EcarImportRequest ecarImportRequest, IResponseHandler<List<ContentImportResponse>> responseHandler) {
-        ThreadPool.getInstance().execute(new IPerformable<List<ContentImportResponse>>() {
+        ThreadPool.getInstance().execute(SDKExecutor.Lane.BULK, new IPerformable<List<ContentImportResponse>>() {
             @Override
             public GenieResponse<List<ContentImportResponse>> perform() {
                 return contentService.importEcar(ecarImportRequest);
@@ -377,12 +378,12 @@ public class ContentService {
      * @param responseHandler - {@link IResponseHandler<List<ContentImportResponse>>}
      */
     public void getImportStatus(final List<String> contentIdList, IResponseHandler<List<ContentImportResponse>> responseHandler) {
-        new AsyncHandler<List<ContentImportResponse>>(responseHandler).execute(new IPerformable<List<ContentImportResponse>>() {
+        ThreadPool.getInstance().execute(new IPerformable<List<ContentImportResponse>>() {
             @Override
             public GenieResponse<List<ContentImportResponse>> perform() {
                 return contentService.getImportStatus(contentIdList);
             }
-        });
+        }, responseHandler);
     }
 
     /**
@@ -418,7 +419,7 @@ public class ContentService {
      */
     public void exportContent(final ContentExportRequest contentExportRequest,
                               IResponseHandler<ContentExportResponse> responseHandler) {
-        ThreadPool.getInstance().execute(new IPerformable<ContentExportResponse>() {
+        ThreadPool.getInstance().execute(SDKExecutor.Lane.BULK, new IPerformable<ContentExportResponse>() {
             @Override
             public GenieResponse<ContentExportResponse> perform() {
                 return contentService.exportContent(contentExportRequest);
@@ -433,12 +434,12 @@ public class ContentService {
      * @param responseHandler - {@link IResponseHandler<Void>}
      */
     public void setDownloadAction(final DownloadAction downloadAction, IResponseHandler<Void> responseHandler) {
-        new AsyncHandler<Void>(responseHandler).execute(new IPerformable<Void>() {
+        ThreadPool.getInstance().execute(new IPerformable<Void>() {
             @Override
             public GenieResponse<Void> perform() {
                 return contentService.setDownloadAction(downloadAction);
             }
-        });
+        }, responseHandler);
     }
 
     /**
@@ -447,12 +448,12 @@ public class ContentService {
      * @param responseHandler - {@link IResponseHandler<DownloadAction>}
      */
     public void getDownloadState(IResponseHandler<DownloadAction> responseHandler) {
-        new AsyncHandler<DownloadAction>(responseHandler).execute(new IPerformable<DownloadAction>() {
+        ThreadPool.getInstance().execute(new IPerformable<DownloadAction>() {
             @Override
             public GenieResponse<DownloadAction> perform() {
                 return contentService.getDownloadState();
             }
-        });
+        }, responseHandler);
     }
 
     /**
@@ -469,12 +470,12 @@ public class ContentService {
      * @param responseHandler    - {@link IResponseHandler<List<MoveContentResponse>>}
      */
     public void moveContent(final ContentMoveRequest contentMoveRequest, IResponseHandler<List<MoveContentResponse>> responseHandler) {
-        new AsyncHandler<List<MoveContentResponse>>(responseHandler).execute(new IPerformable<List<MoveContentResponse>>() {
+        ThreadPool.getInstance().execute(SDKExecutor.Lane.BULK, new IPerformable<List<MoveContentResponse>>() {
             @Override
             public GenieResponse<List<MoveContentResponse>> perform() {
                 return contentService.moveContent(contentMoveRequest);
             }
-        });
+        }, responseHandler);
     }
 
     /**
@@ -491,12 +492,12 @@ public class ContentService {
      * @param responseHandler      - {@link IResponseHandler<List<SwitchContentResponse>>}
      */
     public void switchContent(final ContentSwitchRequest contentSwitchRequest, IResponseHandler<List<SwitchContentResponse>> responseHandler) {
-        new AsyncHandler<List<SwitchContentResponse>>(responseHandler).execute(new IPerformable<List<SwitchContentResponse>>() {
+        ThreadPool.getInstance().execute(SDKExecutor.Lane.BULK, new IPerformable<List<SwitchContentResponse>>() {
             @Override
             public GenieResponse<List<SwitchContentResponse>> perform() {
                 return contentService.switchContent(contentSwitchRequest);
             }
-        });
+        }, responseHandler);
     }
 
     /**
@@ -510,12 +511,12 @@ public class ContentService {
      * @param responseHandler
      */
     public void scanStorage(final ScanStorageRequest scanStorageRequest, IResponseHandler<List<ScanStorageResponse>> responseHandler) {
-        new AsyncHandler<List<ScanStorageResponse>>(responseHandler).execute(new IPerformable<List<ScanStorageResponse>>() {
+        ThreadPool.getInstance().execute(SDKExecutor.Lane.BULK, new IPerformable<List<ScanStorageResponse>>() {
             @Override
             public GenieResponse<List<ScanStorageResponse>> perform() {
                 return contentService.scanStorage(scanStorageRequest);
             }
-        });
+        }, responseHandler);
     }
 
     /**
@@ -525,12 +526,12 @@ public class ContentService {
      * @param responseHandler                 {@link List< ContentSpaceUsageSummaryResponse >}
      */
     public void getContentSpaceUsageSummary(final ContentSpaceUsageSummaryRequest contentSpaceUsageSummaryRequest, IResponseHandler<List<ContentSpaceUsageSummaryResponse>> responseHandler) {
-        new AsyncHandler<List<ContentSpaceUsageSummaryResponse>>(responseHandler).execute(new IPerformable<List<ContentSpaceUsageSummaryResponse>>() {
+        ThreadPool.getInstance().execute(new IPerformable<List<ContentSpaceUsageSummaryResponse>>() {
             @Override
             public GenieResponse<List<ContentSpaceUsageSummaryResponse>> perform() {
                 return contentService.getContentSpaceUsageSummary(contentSpaceUsageSummaryRequest);
             }
-        });
+        }, responseHandler);
     }
 
     /**
@@ -540,12 +541,12 @@ public class ContentService {
      * @return {@link GenieResponse<Void>}
      */
     public void flagContent(final FlagContentRequest flagContentRequest, IResponseHandler<Void> responseHandler) {
-        new AsyncHandler<Void>(responseHandler).execute(new IPerformable<Void>() {
+        ThreadPool.getInstance().execute(new IPerformable<Void>() {
             @Override
             public GenieResponse<Void> perform() {
                 return contentService.flagContent(flagContentRequest);
             }
-        });
+        }, responseHandler);
     }
 
     /**
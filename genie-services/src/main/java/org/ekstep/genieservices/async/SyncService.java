@@ -5,6 +5,7 @@ import org.ekstep.genieservices.ISyncService;
 import org.ekstep.genieservices.commons.IResponseHandler;
 import org.ekstep.genieservices.commons.bean.GenieResponse;
 import org.ekstep.genieservices.commons.bean.SyncStat;
+import org.ekstep.genieservices.commons.executor.SDKExecutor;
 
 /**
  * This class provides APIs for performing Sync related operations on a separate thread.
@@ -32,7 +33,7 @@ public class SyncService {
      * @param responseHandler -{@link IResponseHandler<SyncStat>}
      */
     public void sync(IResponseHandler<SyncStat> responseHandler) {
-        ThreadPool.getInstance().execute(new IPerformable<SyncStat>() {
+        ThreadPool.getInstance().execute(SDKExecutor.Lane.BULK, new IPerformable<SyncStat>() {
             @Override
             public GenieResponse<SyncStat> perform() {
                 return syncService.sync();
@@ -9,6 +9,9 @@ import org.ekstep.genieservices.commons.bean.TelemetryExportResponse;
 import org.ekstep.genieservices.commons.bean.TelemetryImportRequest;
 import org.ekstep.genieservices.commons.bean.TelemetryStat;
 import org.ekstep.genieservices.commons.bean.telemetry.Telemetry;
+import org.ekstep.genieservices.commons.executor.SDKExecutor;
+
+import java.util.List;
 
 /**
  * This class provides all the required APIs to perform necessary operations related to Telemetry on a separate thread.
@@ -61,6 +64,29 @@ public class TelemetryService {
         }, responseHandler);
     }
 
+    /**
+     * This api will save all the telemetry events passed to it as String, in a single transaction.
+     * <p>
+     * <p> On successful saving every event, the response will return status as TRUE and with "Events Saved Successfully" message.
+     * <p>
+     * <p>On failing to save some of the events, the response will return status as FALSE and the error be one of the following:
+     * <p>VALIDATION_ERROR - some events are not valid
+     * <p>PROCESSING_ERROR
+     * <p>
+     * <p>The number of events saved is set in the result in either case.
+     *
+     * @param eventStrings    - {@link List<String>}
+     * @param responseHandler - {@link IResponseHandler<Integer>}
+     */
+    public void saveTelemetry(final List<String> eventStrings, IResponseHandler<Integer> responseHandler) {
+        ThreadPool.getInstance().execute(new IPerformable<Integer>() {
+            @Override
+            public GenieResponse<Integer> perform() {
+                return telemetryService.saveTelemetry(eventStrings);
+            }
+        }, responseHandler);
+    }
+
     /**
      * This api will give the telemetry stats about unsynced events and last sync time in {@link TelemetryStat}
      * <p>
@@ -89,7 +115,7 @@ public class TelemetryService {
      * @param responseHandler        - {@link IResponseHandler<Void>}
      */
     public void importTelemetry(final TelemetryImportRequest telemetryImportRequest, IResponseHandler<Void> responseHandler) {
-        ThreadPool.getInstance().execute(new IPerformable<Void>() {
+        ThreadPool.getInstance().execute(SDKExecutor.Lane.BULK, new IPerformable<Void>() {
             @Override
             public GenieResponse<Void> perform() {
                 return telemetryService.importTelemetry(telemetryImportRequest);
@@ -109,7 +135,7 @@ public class TelemetryService {
      * @param responseHandler        - {@link IResponseHandler<TelemetryExportResponse>}
      */
     public void exportTelemetry(final TelemetryExportRequest telemetryExportRequest, IResponseHandler<TelemetryExportResponse> responseHandler) {
-        ThreadPool.getInstance().execute(new IPerformable<TelemetryExportResponse>() {
+        ThreadPool.getInstance().execute(SDKExecutor.Lane.BULK, new IPerformable<TelemetryExportResponse>() {
             @Override
             public GenieResponse<TelemetryExportResponse> perform() {
                 return telemetryService.exportTelemetry(telemetryExportRequest);
@@ -4,11 +4,13 @@ import android.os.Handler;
 import android.os.Looper;
 import android.os.Message;
 
+import org.ekstep.genieservices.ServiceConstants;
+import org.ekstep.genieservices.commons.GenieResponseBuilder;
 import org.ekstep.genieservices.commons.IResponseHandler;
 import org.ekstep.genieservices.commons.bean.GenieResponse;
+import org.ekstep.genieservices.commons.executor.SDKExecutor;
 
-import java.util.concurrent.Executors;
-import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -19,16 +21,16 @@ import java.util.concurrent.locks.ReentrantLock;
  */
 public final class ThreadPool {
 
+    private static final String TAG = ThreadPool.class.getSimpleName();
     private static final int RESULT_MSG = 0x23233;
 
     private static ThreadPool instance;
     private static Lock lock = new ReentrantLock();
 
-    private ThreadPoolExecutor threadPoolExecutor;
+    private SDKExecutor executor;
 
     private ThreadPool() {
-        threadPoolExecutor = (ThreadPoolExecutor) Executors.newFixedThreadPool(
-                Runtime.getRuntime().availableProcessors());
+        executor = SDKExecutor.getInstance();
     }
 
     public static final ThreadPool getInstance() {
@@ -46,29 +48,47 @@ public final class ThreadPool {
         return instance;
     }
 
+    /**
+     * Runs the performable on the {@link SDKExecutor.Lane#INTERACTIVE} lane.
+     */
     public void execute(final IPerformable performable, final IResponseHandler responseHandler) {
+        execute(SDKExecutor.Lane.INTERACTIVE, performable, responseHandler);
+    }
+
+    /**
+     * Runs the performable on the given lane and posts the response to the handler on the main thread.
+     */
+    public void execute(SDKExecutor.Lane lane, final IPerformable performable, final IResponseHandler responseHandler) {
         Runnable runnable = new Runnable() {
             @Override
             public void run() {
-                final GenieResponse response = performable.perform();
-                Handler handler = new MainThreadHandler() {
-                    @Override
-                    public void handleMessage(Message msg) {
-                        if (response != null) {
-                            if (response.getStatus()) {
-                                responseHandler.onSuccess(response);
-                            } else {
-                                responseHandler.onError(response);
-                            }
-                        }
-                    }
-                };
-                Message message = handler.obtainMessage(RESULT_MSG);
-                message.sendToTarget();
+                postResponse(performable.perform(), responseHandler);
             }
         };
 
-        threadPoolExecutor.execute(runnable);
+        try {
+            executor.submit(lane, runnable);
+        } catch (RejectedExecutionException e) {
+            postResponse(GenieResponseBuilder.getErrorResponse(ServiceConstants.ErrorCode.PROCESSING_ERROR,
+                    "Too many pending requests, please try again later.", TAG), responseHandler);
+        }
+    }
+
+    private void postResponse(final GenieResponse response, final IResponseHandler responseHandler) {
+        Handler handler = new MainThreadHandler() {
+            @Override
+            public void handleMessage(Message msg) {
+                if (response != null && responseHandler != null) {
+                    if (response.getStatus()) {
+                        responseHandler.onSuccess(response);
+                    } else {
+                        responseHandler.onError(response);
+                    }
+                }
+            }
+        };
+        Message message = handler.obtainMessage(RESULT_MSG);
+        message.sendToTarget();
     }
 
     class MainThreadHandler extends Handler {
@@ -77,4 +97,4 @@ public final class ThreadPool {
         }
     }
 
-}
\ No newline at end of file
+}
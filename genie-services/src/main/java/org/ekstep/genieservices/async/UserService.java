@@ -13,6 +13,7 @@ import org.ekstep.genieservices.commons.bean.ProfileImportRequest;
 import org.ekstep.genieservices.commons.bean.ProfileImportResponse;
 import org.ekstep.genieservices.commons.bean.ProfileRequest;
 import org.ekstep.genieservices.commons.bean.UserSession;
+import org.ekstep.genieservices.commons.executor.SDKExecutor;
 
 import java.util.List;
 
@@ -251,7 +252,7 @@ public class UserService {
      * @param responseHandler      - {@link IResponseHandler<Void>}
      */
     public void importProfile(final ProfileImportRequest profileImportRequest, IResponseHandler<ProfileImportResponse> responseHandler) {
-        ThreadPool.getInstance().execute(new IPerformable<ProfileImportResponse>() {
+        ThreadPool.getInstance().execute(SDKExecutor.Lane.BULK, new IPerformable<ProfileImportResponse>() {
             @Override
             public GenieResponse<ProfileImportResponse> perform() {
                 return userService.importProfile(profileImportRequest);
@@ -271,7 +272,7 @@ public class UserService {
      * @param responseHandler      - {@link IResponseHandler<ProfileExportResponse>}
      */
     public void exportProfile(final ProfileExportRequest profileExportRequest, IResponseHandler<ProfileExportResponse> responseHandler) {
-        ThreadPool.getInstance().execute(new IPerformable<ProfileExportResponse>() {
+        ThreadPool.getInstance().execute(SDKExecutor.Lane.BULK, new IPerformable<ProfileExportResponse>() {
             @Override
             public GenieResponse<ProfileExportResponse> perform() {
                 return userService.exportProfile(profileExportRequest);
@@ -22,6 +22,7 @@ public class BuildParams implements IParams {
     private static final int CONTENT_MAX_COMPATIBILITY_LEVEL = 3;
     private static final int NETWORK_READ_TIMEOUT = 10;
     private static final int NETWORK_CONNECT_TIMEOUT = 10;
+    private static final int CACHE_SIZE = 32;
 
     private Context mContext;
     private String mPackageName;
@@ -83,6 +84,10 @@ public class BuildParams implements IParams {
 
         initNetworkParam(packageName);
 
+        initTelemetryParam(packageName);
+
+        initCacheParam(packageName);
+
         initProfilePath(context, packageName);
     }
 
@@ -198,6 +203,29 @@ public class BuildParams implements IParams {
         put(Key.NETWORK_READ_TIMEOUT, readTimeout);
     }
 
+    private void initTelemetryParam(String packageName) {
+        Object batchWriteObj = BuildConfigUtil.getBuildConfigValue(packageName, Key.TELEMETRY_BATCH_WRITE);
+        boolean batchWrite = false;
+        if (batchWriteObj != null) {
+            batchWrite = (boolean) batchWriteObj;
+        }
+
+        put(Key.TELEMETRY_BATCH_WRITE, batchWrite);
+    }
+
+    private void initCacheParam(String packageName) {
+        Object cacheSizeObj = BuildConfigUtil.getBuildConfigValue(packageName, Key.CACHE_SIZE);
+        int cacheSize = 0;
+        if (cacheSizeObj != null) {
+            cacheSize = (int) cacheSizeObj;
+        }
+        if (cacheSize <= 0) {
+            cacheSize = CACHE_SIZE;
+        }
+
+        put(Key.CACHE_SIZE, cacheSize);
+    }
+
     private void initProfilePath(Context context, String packageName) {
         String profileConfigClass = BuildConfigUtil.getBuildConfigValue(packageName, ServiceConstants.Params.PROFILE_CONFIG);
         if (profileConfigClass != null) {
@@ -0,0 +1,29 @@
+package org.ekstep.genieservices.commons;
+
+import android.content.ComponentCallbacks2;
+import android.content.res.Configuration;
+
+import org.ekstep.genieservices.telemetry.ingest.TelemetryBatchWriter;
+
+/**
+ * Commits the events waiting in the {@link TelemetryBatchWriter} when the app goes to the background or runs low
+ * on memory, as the process can be killed from then on without any further callback.
+ */
+public class TelemetryFlushCallbacks implements ComponentCallbacks2 {
+
+    @Override
+    public void onTrimMemory(int level) {
+        if (level >= TRIM_MEMORY_UI_HIDDEN) {
+            TelemetryBatchWriter.requestFlushPending();
+        }
+    }
+
+    @Override
+    public void onLowMemory() {
+        TelemetryBatchWriter.requestFlushPending();
+    }
+
+    @Override
+    public void onConfigurationChanged(Configuration newConfig) {
+    }
+}
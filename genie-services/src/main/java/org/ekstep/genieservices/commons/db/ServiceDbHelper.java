@@ -9,6 +9,7 @@ import org.ekstep.genieservices.commons.db.migration.IMigrate;
 import org.ekstep.genieservices.commons.db.migration.Migration;
 import org.ekstep.genieservices.commons.db.operations.IDBSession;
 import org.ekstep.genieservices.commons.db.operations.impl.SQLiteSession;
+import org.ekstep.genieservices.telemetry.cache.EventPriorityCache;
 
 import java.util.List;
 
@@ -52,6 +53,7 @@ public class ServiceDbHelper extends SQLiteOpenHelper {
         for (IMigrate migration : migrations) {
             migration.apply(appContext);
         }
+        EventPriorityCache.clearCache();
     }
 
     @Override
@@ -65,5 +67,7 @@ public class ServiceDbHelper extends SQLiteOpenHelper {
                 migration.apply(appContext);
             }
         }
+        // The migrations can rewrite the event priorities with plain sql.
+        EventPriorityCache.clearCache();
     }
 }
@@ -27,6 +27,12 @@ public abstract class Migrations {
         migrations.add(new _11_PragmanProfileMigration());
         migrations.add(new _12_ProfileSyllabusMigration());
         migrations.add(new _13_GroupAndProfileMigration());
+        migrations.add(new _14_DownloadQueueMigration());
+        migrations.add(new _15_ContentHierarchyMigration());
+        migrations.add(new _16_SecondaryIndexMigration());
+        migrations.add(new _17_ContentSearchIndexMigration());
+        migrations.add(new _18_OwnContentSizeMigration());
+        migrations.add(new _19_ImportDeduplicationMigration());
 
         Collections.sort(migrations);
 
@@ -0,0 +1,88 @@
+package org.ekstep.genieservices.commons.db.migration.impl;
+
+import com.google.gson.reflect.TypeToken;
+
+import org.ekstep.genieservices.ServiceConstants;
+import org.ekstep.genieservices.commons.AppContext;
+import org.ekstep.genieservices.commons.bean.DownloadRequest;
+import org.ekstep.genieservices.commons.db.contract.DownloadQueueEntry;
+import org.ekstep.genieservices.commons.db.migration.Migration;
+import org.ekstep.genieservices.commons.db.model.NoSqlModel;
+import org.ekstep.genieservices.commons.db.operations.IDBSession;
+import org.ekstep.genieservices.commons.download.db.model.DownloadRequestModel;
+import org.ekstep.genieservices.commons.utils.GsonUtil;
+import org.ekstep.genieservices.commons.utils.StringUtil;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Moves the download queue from the JSON blobs in no_sql into the download_queue table.
+ */
+public class _14_DownloadQueueMigration extends Migration {
+
+    //DON'T CHANGE THESE VALUES
+    private static final int MIGRATION_NUMBER = 14;
+    private static final int TARGET_DB_VERSION = 19;
+
+    private static final String CURRENT_DOWNLOAD = "current_download";
+
+    public _14_DownloadQueueMigration() {
+        super(MIGRATION_NUMBER, TARGET_DB_VERSION);
+    }
+
+    @Override
+    public void apply(AppContext appContext) {
+        IDBSession dbSession = appContext.getDBSession();
+        dbSession.execute(DownloadQueueEntry.getCreateEntry());
+        for (String index : DownloadQueueEntry.getIndexEntries()) {
+            dbSession.execute(index);
+        }
+
+        moveQueue(dbSession);
+    }
+
+    private void moveQueue(IDBSession dbSession) {
+        NoSqlModel queueInDb = NoSqlModel.findByKey(dbSession, ServiceConstants.DOWNLOAD_QUEUE);
+        NoSqlModel currentDownloadsInDb = NoSqlModel.findByKey(dbSession, CURRENT_DOWNLOAD);
+
+        if (queueInDb != null && !StringUtil.isNullOrEmpty(queueInDb.getValue())) {
+            Type requestsType = new TypeToken<List<DownloadRequest>>() {
+            }.getType();
+            List<DownloadRequest> requests = GsonUtil.fromJson(queueInDb.getValue(), requestsType);
+
+            Set<String> currentDownloads = new LinkedHashSet<>();
+            if (currentDownloadsInDb != null && !StringUtil.isNullOrEmpty(currentDownloadsInDb.getValue())) {
+                Type identifiersType = new TypeToken<List<String>>() {
+                }.getType();
+                List<String> identifiers = GsonUtil.fromJson(currentDownloadsInDb.getValue(), identifiersType);
+                if (identifiers != null) {
+                    currentDownloads.addAll(identifiers);
+                }
+            }
+
+            if (requests != null) {
+                Set<String> added = new LinkedHashSet<>();
+                List<DownloadRequestModel> models = new ArrayList<>();
+                for (DownloadRequest request : requests) {
+                    if (request.getIdentifier() != null && added.add(request.getIdentifier())) {
+                        int status = currentDownloads.contains(request.getIdentifier())
+                                ? DownloadQueueEntry.STATUS_DOWNLOADING : DownloadQueueEntry.STATUS_QUEUED;
+                        models.add(DownloadRequestModel.build(dbSession, request, status, 0));
+                    }
+                }
+                dbSession.createAll(models);
+            }
+        }
+
+        if (queueInDb != null) {
+            queueInDb.delete();
+        }
+        if (currentDownloadsInDb != null) {
+            currentDownloadsInDb.delete();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package org.ekstep.genieservices.commons.db.migration.impl;
+
+import org.ekstep.genieservices.commons.AppContext;
+import org.ekstep.genieservices.commons.db.contract.ContentHierarchyEntry;
+import org.ekstep.genieservices.commons.db.migration.Migration;
+import org.ekstep.genieservices.commons.db.operations.IDBSession;
+
+/**
+ * Creates the content_hierarchy table. The trees of the collections already on the device are indexed
+ * the first time they are read.
+ */
+public class _15_ContentHierarchyMigration extends Migration {
+
+    //DON'T CHANGE THESE VALUES
+    private static final int MIGRATION_NUMBER = 15;
+    private static final int TARGET_DB_VERSION = 20;
+
+    public _15_ContentHierarchyMigration() {
+        super(MIGRATION_NUMBER, TARGET_DB_VERSION);
+    }
+
+    @Override
+    public void apply(AppContext appContext) {
+        IDBSession dbSession = appContext.getDBSession();
+        dbSession.execute(ContentHierarchyEntry.getCreateEntry());
+        for (String index : ContentHierarchyEntry.getIndexEntries()) {
+            dbSession.execute(index);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package org.ekstep.genieservices.commons.db.migration.impl;
+
+import org.ekstep.genieservices.commons.AppContext;
+import org.ekstep.genieservices.commons.db.contract.ContentAccessEntry;
+import org.ekstep.genieservices.commons.db.contract.ContentEntry;
+import org.ekstep.genieservices.commons.db.contract.LearnerAssessmentsEntry;
+import org.ekstep.genieservices.commons.db.contract.NoSqlEntry;
+import org.ekstep.genieservices.commons.db.contract.TelemetryEntry;
+import org.ekstep.genieservices.commons.db.contract.TelemetryProcessedEntry;
+import org.ekstep.genieservices.commons.db.migration.Migration;
+import org.ekstep.genieservices.commons.db.operations.IDBSession;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Adds the secondary indexes for the filters the content, content access, assessment, telemetry and
+ * no_sql lookups run on every call.
+ */
+public class _16_SecondaryIndexMigration extends Migration {
+
+    //DON'T CHANGE THESE VALUES
+    private static final int MIGRATION_NUMBER = 16;
+    private static final int TARGET_DB_VERSION = 21;
+
+    public _16_SecondaryIndexMigration() {
+        super(MIGRATION_NUMBER, TARGET_DB_VERSION);
+    }
+
+    @Override
+    public void apply(AppContext appContext) {
+        List<String> indexes = new ArrayList<>();
+        indexes.addAll(ContentEntry.getIndexEntries());
+        indexes.addAll(ContentAccessEntry.getIndexEntries());
+        indexes.addAll(LearnerAssessmentsEntry.getIndexEntries());
+        indexes.addAll(TelemetryEntry.getIndexEntries());
+        indexes.addAll(TelemetryProcessedEntry.getIndexEntries());
+        indexes.addAll(NoSqlEntry.getIndexEntries());
+
+        IDBSession dbSession = appContext.getDBSession();
+        for (String index : indexes) {
+            dbSession.execute(index);
+        }
+    }
+}
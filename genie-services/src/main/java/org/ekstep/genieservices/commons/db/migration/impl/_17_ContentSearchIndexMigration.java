@@ -0,0 +1,36 @@
+package org.ekstep.genieservices.commons.db.migration.impl;
+
+import org.ekstep.genieservices.commons.AppContext;
+import org.ekstep.genieservices.commons.db.contract.ContentSearchFacetEntry;
+import org.ekstep.genieservices.commons.db.contract.ContentSearchTermEntry;
+import org.ekstep.genieservices.commons.db.migration.Migration;
+import org.ekstep.genieservices.commons.db.operations.IDBSession;
+
+/**
+ * Creates the tables of the offline search. The contents already on the device are indexed by the first
+ * offline search.
+ */
+public class _17_ContentSearchIndexMigration extends Migration {
+
+    //DON'T CHANGE THESE VALUES
+    private static final int MIGRATION_NUMBER = 17;
+    private static final int TARGET_DB_VERSION = 22;
+
+    public _17_ContentSearchIndexMigration() {
+        super(MIGRATION_NUMBER, TARGET_DB_VERSION);
+    }
+
+    @Override
+    public void apply(AppContext appContext) {
+        IDBSession dbSession = appContext.getDBSession();
+        dbSession.execute(ContentSearchTermEntry.getCreateEntry());
+        for (String index : ContentSearchTermEntry.getIndexEntries()) {
+            dbSession.execute(index);
+        }
+
+        dbSession.execute(ContentSearchFacetEntry.getCreateEntry());
+        for (String index : ContentSearchFacetEntry.getIndexEntries()) {
+            dbSession.execute(index);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package org.ekstep.genieservices.commons.db.migration.impl;
+
+import org.ekstep.genieservices.commons.AppContext;
+import org.ekstep.genieservices.commons.db.contract.ContentEntry;
+import org.ekstep.genieservices.commons.db.migration.Migration;
+import org.ekstep.genieservices.commons.db.operations.IDBSession;
+import org.ekstep.genieservices.content.ContentConstants;
+
+import java.util.Locale;
+
+/**
+ * Adds the own size of the contents, which the size on device of the collections is rolled up from.
+ * The size on device of the other contents is their own size already. The own size of the collections is
+ * read from the disk by the first size reconciliation.
+ */
+public class _18_OwnContentSizeMigration extends Migration {
+
+    //DON'T CHANGE THESE VALUES
+    private static final int MIGRATION_NUMBER = 18;
+    private static final int TARGET_DB_VERSION = 23;
+
+    public _18_OwnContentSizeMigration() {
+        super(MIGRATION_NUMBER, TARGET_DB_VERSION);
+    }
+
+    @Override
+    public void apply(AppContext appContext) {
+        IDBSession dbSession = appContext.getDBSession();
+        dbSession.execute(ContentEntry.getAlterEntryForOwnContentSize());
+        dbSession.execute(String.format(Locale.US, "UPDATE %s SET %s = %s WHERE %s != '%s'",
+                ContentEntry.TABLE_NAME, ContentEntry.COLUMN_NAME_OWN_SIZE_ON_DEVICE, ContentEntry.COLUMN_NAME_SIZE_ON_DEVICE,
+                ContentEntry.COLUMN_NAME_MIME_TYPE, ContentConstants.MimeType.COLLECTION));
+    }
+}
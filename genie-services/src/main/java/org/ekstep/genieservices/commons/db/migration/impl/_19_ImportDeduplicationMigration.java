@@ -0,0 +1,29 @@
+package org.ekstep.genieservices.commons.db.migration.impl;
+
+import org.ekstep.genieservices.commons.AppContext;
+import org.ekstep.genieservices.commons.db.contract.TelemetryProcessedEntry;
+import org.ekstep.genieservices.commons.db.migration.Migration;
+import org.ekstep.genieservices.commons.db.operations.IDBSession;
+
+/**
+ * Adds the msg_id index of the processed telemetry, which an imported batch is looked up by so that it is
+ * not imported twice.
+ */
+public class _19_ImportDeduplicationMigration extends Migration {
+
+    //DON'T CHANGE THESE VALUES
+    private static final int MIGRATION_NUMBER = 19;
+    private static final int TARGET_DB_VERSION = 24;
+
+    public _19_ImportDeduplicationMigration() {
+        super(MIGRATION_NUMBER, TARGET_DB_VERSION);
+    }
+
+    @Override
+    public void apply(AppContext appContext) {
+        IDBSession dbSession = appContext.getDBSession();
+        for (String index : TelemetryProcessedEntry.getIndexEntries()) {
+            dbSession.execute(index);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package org.ekstep.genieservices.commons.db.operations.impl;
+
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteStatement;
+
+import org.ekstep.genieservices.commons.AppContext;
+import org.ekstep.genieservices.commons.db.operations.IDBOperation;
+
+import java.util.List;
+
+/**
+ * Runs a compiled statement once for each set of bind arguments, in one transaction.
+ */
+public class SQLiteBatchExecutor implements IDBOperation<SQLiteDatabase> {
+
+    private SQLiteStatements statements;
+    private String statement;
+    private List<Object[]> bindArgsList;
+
+    public SQLiteBatchExecutor(SQLiteStatements statements, String statement, List<Object[]> bindArgsList) {
+        this.statements = statements;
+        this.statement = statement;
+        this.bindArgsList = bindArgsList;
+    }
+
+    @Override
+    public Void perform(AppContext context, SQLiteDatabase datasource) {
+        if (bindArgsList == null || bindArgsList.isEmpty()) {
+            return null;
+        }
+
+        SQLiteStatement compiledStatement = statements.compile(statement);
+        datasource.beginTransaction();
+        try {
+            for (Object[] bindArgs : bindArgsList) {
+                SQLiteStatements.bind(compiledStatement, bindArgs);
+                compiledStatement.execute();
+            }
+            datasource.setTransactionSuccessful();
+        } finally {
+            datasource.endTransaction();
+            compiledStatement.close();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,125 @@
+package org.ekstep.genieservices.commons.db.operations.impl;
+
+import android.database.SQLException;
+import android.database.sqlite.SQLiteDatabase;
+
+import org.ekstep.genieservices.commons.AppContext;
+import org.ekstep.genieservices.commons.db.core.IBindableUpdatable;
+import org.ekstep.genieservices.commons.db.core.IUpdatable;
+import org.ekstep.genieservices.commons.db.core.IWritable;
+import org.ekstep.genieservices.commons.db.operations.IDBOperation;
+import org.ekstep.genieservices.commons.utils.Logger;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Writes a list of models in one transaction, with bound arguments.
+ * <p>
+ * A row that fails is logged and reported in {@link #getResults()}, the other rows are still written. If the
+ * transaction itself fails, every row is reported as not written.
+ */
+public class SQLiteBulkWriter implements IDBOperation<SQLiteDatabase> {
+
+    private static final String LOG_TAG = "service-SQLiteBulkWriter";
+
+    private static final int CREATE = 1;
+    private static final int UPDATE = 2;
+    private static final int UPSERT = 3;
+
+    private int mode;
+    private List<?> models;
+    private SQLiteStatements statements;
+    private long[] results;
+
+    private SQLiteBulkWriter(int mode, List<?> models, SQLiteStatements statements) {
+        this.mode = mode;
+        this.models = models;
+        this.statements = statements;
+        this.results = new long[models.size()];
+        Arrays.fill(results, -1);
+    }
+
+    public static SQLiteBulkWriter create(List<? extends IWritable> models, SQLiteStatements statements) {
+        return new SQLiteBulkWriter(CREATE, models, statements);
+    }
+
+    public static SQLiteBulkWriter update(List<? extends IUpdatable> models, SQLiteStatements statements) {
+        return new SQLiteBulkWriter(UPDATE, models, statements);
+    }
+
+    public static <T extends IWritable & IUpdatable> SQLiteBulkWriter upsert(List<T> models, SQLiteStatements statements) {
+        return new SQLiteBulkWriter(UPSERT, models, statements);
+    }
+
+    @Override
+    public Void perform(AppContext context, SQLiteDatabase datasource) {
+        boolean committed = false;
+        try {
+            datasource.beginTransaction();
+            try {
+                for (int i = 0; i < models.size(); i++) {
+                    Object model = models.get(i);
+                    try {
+                        results[i] = write(context, model);
+                    } catch (SQLException | IllegalArgumentException e) {
+                        Logger.e(LOG_TAG, "Failed to write row " + i + ". Exception: " + e, e);
+                    }
+                }
+                datasource.setTransactionSuccessful();
+            } finally {
+                datasource.endTransaction();
+            }
+            committed = true;
+        } finally {
+            if (!committed) {
+                // The transaction was rolled back, none of the rows were written.
+                Arrays.fill(results, -1);
+            }
+        }
+        return null;
+    }
+
+    private long write(AppContext context, Object model) {
+        switch (mode) {
+            case CREATE:
+                return insert(context, (IWritable) model);
+
+            case UPDATE:
+                return update((IUpdatable) model);
+
+            default:
+                // Update first, the row is inserted only if there is nothing to update.
+                if (update((IUpdatable) model) > 0) {
+                    return 0;
+                }
+                return insert(context, (IWritable) model);
+        }
+    }
+
+    private long insert(AppContext context, IWritable model) {
+        model.beforeWrite(context);
+        long id = statements.insert(model.getTableName(), model.getContentValues());
+        if (id != -1) {
+            model.updateId(id);
+        }
+        return id;
+    }
+
+    private int update(IUpdatable model) {
+        String[] whereArgs = model instanceof IBindableUpdatable ? ((IBindableUpdatable) model).selectionArgsForUpdate() : null;
+        return statements.update(model.getTableName(), model.getFieldsToUpdate(), model.updateBy(), whereArgs);
+    }
+
+    /**
+     * Result of each model, in the order of the list.
+     * <ul>
+     * <li>create: the row id, -1 if the row was not written.</li>
+     * <li>update: number of rows updated, -1 if the update failed.</li>
+     * <li>upsert: the row id if the row was inserted, 0 if an existing row was updated, -1 if the row was not written.</li>
+     * </ul>
+     */
+    public long[] getResults() {
+        return results;
+    }
+}
@@ -3,6 +3,7 @@ package org.ekstep.genieservices.commons.db.operations.impl;
 import android.database.sqlite.SQLiteDatabase;
 
 import org.ekstep.genieservices.commons.AppContext;
+import org.ekstep.genieservices.commons.db.core.IBindableCleanable;
 import org.ekstep.genieservices.commons.db.core.ICleanable;
 import org.ekstep.genieservices.commons.db.operations.IDBOperation;
 
@@ -19,7 +20,11 @@ public class SQLiteCleaner implements IDBOperation<SQLiteDatabase> {
     @Override
     public Void perform(AppContext context, SQLiteDatabase datasource) {
         String query = String.format(Locale.US, "DELETE FROM %s %s", model.getTableName(), model.selectionToClean());
-        datasource.execSQL(query);
+        if (model instanceof IBindableCleanable) {
+            datasource.execSQL(query, ((IBindableCleanable) model).selectionArgsToClean());
+        } else {
+            datasource.execSQL(query);
+        }
         model.clean();
         return null;
     }
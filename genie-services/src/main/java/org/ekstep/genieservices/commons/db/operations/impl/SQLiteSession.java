@@ -13,11 +13,14 @@ import org.ekstep.genieservices.commons.db.operations.IDBSession;
 import org.ekstep.genieservices.commons.db.operations.IDBTransaction;
 import org.ekstep.genieservices.commons.utils.Logger;
 
+import java.util.List;
+
 public class SQLiteSession implements IDBSession {
 
     private static final String LOG_TAG = SQLiteSession.class.getSimpleName();
     private AppContext<Context> appContext;
     private SQLiteDatabase database;
+    private SQLiteStatements statements;
     private boolean isOperationSuccessful;
     private String dbName;
     private int dbVersion;
@@ -25,6 +28,7 @@ public class SQLiteSession implements IDBSession {
     public SQLiteSession(AppContext<Context> appContext, SQLiteDatabase database, String dbName, int dbVersion) {
         this.appContext = appContext;
         this.database = database;
+        this.statements = new SQLiteStatements(database);
         this.dbName = dbName;
         this.dbVersion = dbVersion;
     }
@@ -103,12 +107,12 @@ public class SQLiteSession implements IDBSession {
 
     @Override
     public Void create(IWritable writeToDb) {
-        return execute(new SQLiteWriter(writeToDb));
+        return execute(new SQLiteWriter(writeToDb, statements));
     }
 
     @Override
     public Void update(IUpdatable updateDb) {
-        return execute(new SQLiteUpdater(updateDb));
+        return execute(new SQLiteUpdater(updateDb, statements));
     }
 
     @Override
@@ -116,4 +120,30 @@ public class SQLiteSession implements IDBSession {
         return execute(new SQLiteQueryExecutor(query));
     }
 
+    @Override
+    public Void executeBatch(String statement, List<Object[]> bindArgsList) {
+        return execute(new SQLiteBatchExecutor(statements, statement, bindArgsList));
+    }
+
+    @Override
+    public long[] createAll(List<? extends IWritable> writables) {
+        SQLiteBulkWriter bulkWriter = SQLiteBulkWriter.create(writables, statements);
+        execute(bulkWriter);
+        return bulkWriter.getResults();
+    }
+
+    @Override
+    public long[] updateAll(List<? extends IUpdatable> updatables) {
+        SQLiteBulkWriter bulkWriter = SQLiteBulkWriter.update(updatables, statements);
+        execute(bulkWriter);
+        return bulkWriter.getResults();
+    }
+
+    @Override
+    public <T extends IWritable & IUpdatable> long[] upsertAll(List<T> models) {
+        SQLiteBulkWriter bulkWriter = SQLiteBulkWriter.upsert(models, statements);
+        execute(bulkWriter);
+        return bulkWriter.getResults();
+    }
+
 }
@@ -0,0 +1,153 @@
+package org.ekstep.genieservices.commons.db.operations.impl;
+
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteStatement;
+
+import org.ekstep.genieservices.commons.db.core.ContentValues;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Writes rows with compiled statements and bound arguments.
+ * <p>
+ * Every call compiles its own statement and closes it when done, so a statement is never shared between
+ * threads. The compiled sql is kept by the {@link SQLiteDatabase} itself, in the statement cache of its
+ * connection, so compiling the same sql again is cheap.
+ */
+public class SQLiteStatements {
+
+    private final SQLiteDatabase database;
+
+    public SQLiteStatements(SQLiteDatabase database) {
+        this.database = database;
+    }
+
+    /**
+     * @return a new statement, which the caller has to close.
+     */
+    public SQLiteStatement compile(String sql) {
+        return database.compileStatement(sql);
+    }
+
+    /**
+     * Inserts the row. Null values are left out so that the columns take their default value, and the columns
+     * are sorted so that the same set of columns always gives the same sql.
+     *
+     * @return the row id.
+     */
+    public long insert(String tableName, ContentValues values) {
+        List<String> columns = nonNullColumns(values);
+
+        StringBuilder sql = new StringBuilder("INSERT INTO ").append(tableName);
+        if (columns.isEmpty()) {
+            sql.append(" DEFAULT VALUES");
+        } else {
+            StringBuilder placeholders = new StringBuilder();
+            sql.append(" (");
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) {
+                    sql.append(",");
+                    placeholders.append(",");
+                }
+                sql.append(columns.get(i));
+                placeholders.append("?");
+            }
+            sql.append(") VALUES (").append(placeholders).append(")");
+        }
+
+        SQLiteStatement statement = compile(sql.toString());
+        try {
+            bind(statement, bindArgs(values, columns, null));
+            return statement.executeInsert();
+        } finally {
+            statement.close();
+        }
+    }
+
+    /**
+     * Updates the rows with the non null values.
+     *
+     * @return number of rows updated.
+     */
+    public int update(String tableName, ContentValues values, String whereClause, String[] whereArgs) {
+        List<String> columns = nonNullColumns(values);
+        if (columns.isEmpty()) {
+            throw new IllegalArgumentException("Empty values");
+        }
+
+        StringBuilder sql = new StringBuilder("UPDATE ").append(tableName).append(" SET ");
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                sql.append(",");
+            }
+            sql.append(columns.get(i)).append("=?");
+        }
+        if (whereClause != null && whereClause.trim().length() > 0) {
+            sql.append(" WHERE ").append(whereClause);
+        }
+
+        SQLiteStatement statement = compile(sql.toString());
+        try {
+            bind(statement, bindArgs(values, columns, whereArgs));
+            return statement.executeUpdateDelete();
+        } finally {
+            statement.close();
+        }
+    }
+
+    private static List<String> nonNullColumns(ContentValues values) {
+        List<String> columns = new ArrayList<>();
+        if (values != null) {
+            for (String colName : values.keySet()) {
+                if (values.get(colName) != null) {
+                    columns.add(colName);
+                }
+            }
+        }
+        Collections.sort(columns);
+        return columns;
+    }
+
+    private static Object[] bindArgs(ContentValues values, List<String> columns, String[] extraArgs) {
+        int extra = extraArgs == null ? 0 : extraArgs.length;
+        Object[] bindArgs = new Object[columns.size() + extra];
+        for (int i = 0; i < columns.size(); i++) {
+            bindArgs[i] = values.get(columns.get(i));
+        }
+        if (extra > 0) {
+            System.arraycopy(extraArgs, 0, bindArgs, columns.size(), extra);
+        }
+        return bindArgs;
+    }
+
+    /**
+     * Binds the arguments to the statement, clearing the previous bindings.
+     */
+    public static void bind(SQLiteStatement statement, Object[] bindArgs) {
+        statement.clearBindings();
+        if (bindArgs == null) {
+            return;
+        }
+
+        for (int i = 0; i < bindArgs.length; i++) {
+            Object arg = bindArgs[i];
+            int index = i + 1;
+            if (arg == null) {
+                statement.bindNull(index);
+            } else if (arg instanceof byte[]) {
+                statement.bindBlob(index, (byte[]) arg);
+            } else if (arg instanceof Float || arg instanceof Double) {
+                statement.bindDouble(index, ((Number) arg).doubleValue());
+            } else if (arg instanceof Long || arg instanceof Integer
+                    || arg instanceof Short || arg instanceof Byte) {
+                statement.bindLong(index, ((Number) arg).longValue());
+            } else if (arg instanceof Boolean) {
+                statement.bindLong(index, (Boolean) arg ? 1 : 0);
+            } else {
+                statement.bindString(index, arg.toString());
+            }
+        }
+    }
+}
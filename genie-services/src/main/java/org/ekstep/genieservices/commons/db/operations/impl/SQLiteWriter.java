@@ -1,10 +1,8 @@
 package org.ekstep.genieservices.commons.db.operations.impl;
 
 import android.database.sqlite.SQLiteDatabase;
-import android.support.annotation.NonNull;
 
 import org.ekstep.genieservices.commons.AppContext;
-import org.ekstep.genieservices.commons.db.core.ContentValues;
 import org.ekstep.genieservices.commons.db.core.IWritable;
 import org.ekstep.genieservices.commons.db.operations.IDBOperation;
 import org.ekstep.genieservices.commons.exception.DbException;
@@ -18,15 +16,17 @@ import java.util.Locale;
 public class SQLiteWriter implements IDBOperation<SQLiteDatabase> {
     private static final String LOG_TAG = "service-SQLiteWriter";
     private IWritable model;
+    private SQLiteStatements statements;
 
-    public SQLiteWriter(IWritable model) {
+    public SQLiteWriter(IWritable model, SQLiteStatements statements) {
         this.model = model;
+        this.statements = statements;
     }
 
     @Override
     public Void perform(AppContext context, SQLiteDatabase datasource) {
         beforePerform(context);
-        long id = datasource.insert(model.getTableName(), null, mapContentValues(model.getContentValues()));
+        long id = statements.insert(model.getTableName(), model.getContentValues());
         Logger.i(LOG_TAG, "Saving in db:" + model.getTableName());
         if (id != -1) {
             Logger.i(LOG_TAG, "Saved successfully in:" + model.getTableName() + " with id:" + id);
@@ -37,34 +37,6 @@ public class SQLiteWriter implements IDBOperation<SQLiteDatabase> {
         return null;
     }
 
-    @NonNull
-    private android.content.ContentValues mapContentValues(ContentValues values) {
-        android.content.ContentValues contentValues = new android.content.ContentValues();
-
-        if (values != null) {
-            for (String colName : values.keySet()) {
-                Object obj = values.get(colName);
-
-                if (obj != null) {      // Cursor.FIELD_TYPE_NULL
-                    if (obj instanceof byte[]) {     // Cursor.FIELD_TYPE_BLOB
-                        contentValues.put(colName, (byte[]) obj);
-                    } else if (obj instanceof Float || obj instanceof Double) {     // Cursor.FIELD_TYPE_FLOAT
-                        contentValues.put(colName, ((Number) obj).doubleValue());
-                    } else if (obj instanceof Long || obj instanceof Integer
-                            || obj instanceof Short || obj instanceof Byte) {       // Cursor.FIELD_TYPE_INTEGER
-                        contentValues.put(colName, ((Number) obj).longValue());
-                    } else if (obj instanceof Boolean) {
-                        contentValues.put(colName, ((Boolean) obj ? 1 : 0));
-                    } else {    // Cursor.FIELD_TYPE_STRING
-                        contentValues.put(colName, obj.toString());
-                    }
-                }
-            }
-        }
-
-        return contentValues;
-    }
-
     private void beforePerform(AppContext context) {
         model.beforeWrite(context);
     }
@@ -13,6 +13,7 @@ import org.ekstep.genieservices.async.ThreadPool;
 import org.ekstep.genieservices.commons.bean.DownloadRequest;
 import org.ekstep.genieservices.commons.bean.EcarImportRequest;
 import org.ekstep.genieservices.commons.bean.GenieResponse;
+import org.ekstep.genieservices.commons.executor.SDKExecutor;
 
 /**
  * Created on 13/6/17.
@@ -32,7 +33,7 @@ public class ContentImportService extends Service {
             ecarImportRequest.isChildContent();
         }
 
-        ThreadPool.getInstance().execute(new IPerformable() {
+        ThreadPool.getInstance().execute(SDKExecutor.Lane.BULK, new IPerformable() {
             @Override
             public GenieResponse perform() {
                 IContentService contentService = GenieService.getService().getContentService();
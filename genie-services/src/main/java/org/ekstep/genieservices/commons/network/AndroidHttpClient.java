@@ -12,6 +12,7 @@ import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.RequestBody;
 import okhttp3.Response;
+import okhttp3.ResponseBody;
 
 /**
  * Created on 20/4/17.
@@ -47,31 +48,50 @@ public class AndroidHttpClient implements IHttpClient {
     @Override
     public ApiResponse doGet() throws IOException {
         requestBuilder.get();
-        Request request = requestBuilder.build();
-        Response response = mHttpClient.newCall(request).execute();
-        ApiResponse apiResponse = new ApiResponse(response.isSuccessful(), response.body() != null ? response.body().string() : "", response.code());
-        response.close();
-        return apiResponse;
+        return execute();
     }
 
     @Override
     public ApiResponse doPost(IRequestBody requestBody) throws IOException {
         requestBuilder.post(prepareRequestBody(requestBody));
-        Request request = requestBuilder.build();
-        Response response = mHttpClient.newCall(request).execute();
-        ApiResponse apiResponse = new ApiResponse(response.isSuccessful(), response.body() != null ? response.body().string() : "", response.code());
-        response.close();
-        return apiResponse;
+        return execute();
     }
 
     @Override
     public ApiResponse doPatch(IRequestBody requestBody) throws IOException {
         requestBuilder.patch(prepareRequestBody(requestBody));
-        Request request = requestBuilder.build();
-        Response response = mHttpClient.newCall(request).execute();
-        ApiResponse apiResponse = new ApiResponse(response.isSuccessful(), response.body() != null ? response.body().string() : "", response.code());
-        response.close();
-        return apiResponse;
+        return execute();
+    }
+
+    @Override
+    public ApiResponse doGetStreaming() throws IOException {
+        requestBuilder.get();
+        return executeStreaming();
+    }
+
+    @Override
+    public ApiResponse doPostStreaming(IRequestBody requestBody) throws IOException {
+        requestBuilder.post(prepareRequestBody(requestBody));
+        return executeStreaming();
+    }
+
+    private ApiResponse execute() throws IOException {
+        Response response = mHttpClient.newCall(requestBuilder.build()).execute();
+        try {
+            return new ApiResponse(response.isSuccessful(), response.body() != null ? response.body().string() : "", response.code());
+        } finally {
+            response.close();
+        }
+    }
+
+    private ApiResponse executeStreaming() throws IOException {
+        Response response = mHttpClient.newCall(requestBuilder.build()).execute();
+        ResponseBody body = response.body();
+        if (body == null) {
+            response.close();
+            return new ApiResponse(response.isSuccessful(), "", response.code());
+        }
+        return new ApiResponse(response.isSuccessful(), body.byteStream(), response.code(), response);
     }
 
     private RequestBody prepareRequestBody(IRequestBody requestBody) {
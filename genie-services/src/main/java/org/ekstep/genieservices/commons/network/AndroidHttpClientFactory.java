@@ -6,6 +6,7 @@ import org.ekstep.genieservices.commons.network.auth.DefaultAuthenticator;
 
 import java.util.concurrent.TimeUnit;
 
+import okhttp3.ConnectionPool;
 import okhttp3.OkHttpClient;
 
 /**
@@ -13,6 +14,11 @@ import okhttp3.OkHttpClient;
  */
 public class AndroidHttpClientFactory implements IHttpClientFactory {
 
+    // Every client shares one pool, so the API hosts keep their connections (and HTTP/2 sessions) between calls.
+    private static final int MAX_IDLE_CONNECTIONS = 4;
+    private static final long KEEP_ALIVE_DURATION_MINUTES = 2;
+    private static final ConnectionPool sConnectionPool = new ConnectionPool(MAX_IDLE_CONNECTIONS, KEEP_ALIVE_DURATION_MINUTES, TimeUnit.MINUTES);
+
     private AndroidAppContext mAppContext;
     private OkHttpClient httpClient;
 
@@ -25,6 +31,7 @@ public class AndroidHttpClientFactory implements IHttpClientFactory {
         OkHttpClient.Builder builder = new OkHttpClient.Builder();
         builder.readTimeout(readTimeout, TimeUnit.SECONDS);
         builder.connectTimeout(connectTimeout, TimeUnit.SECONDS);
+        builder.connectionPool(sConnectionPool);
         httpClient = builder.build();
     }
 
@@ -1,9 +1,9 @@
 package org.ekstep.genieservices.commons.network.auth;
 
+import org.ekstep.genieservices.auth.AuthHandler;
 import org.ekstep.genieservices.commons.AppContext;
 import org.ekstep.genieservices.commons.IParams;
 import org.ekstep.genieservices.commons.network.IHttpAuthenticator;
-import org.ekstep.genieservices.commons.network.NetworkConstants;
 import org.ekstep.genieservices.commons.utils.StringUtil;
 
 import java.util.HashMap;
@@ -45,7 +45,7 @@ public class DefaultAuthenticator implements IHttpAuthenticator {
 
     private Map<String, String> getApiGatewayHeaders() {
         Map<String, String> authHeaders = new HashMap<>();
-        String bearerToken = mAppContext.getKeyValueStore().getString(NetworkConstants.API_BEARER_TOKEN, "");
+        String bearerToken = AuthHandler.getAuthToken(mAppContext);
         authHeaders.put("Authorization", "Bearer " + bearerToken);
         return authHeaders;
     }
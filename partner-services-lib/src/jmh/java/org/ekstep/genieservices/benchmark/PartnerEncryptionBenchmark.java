@@ -0,0 +1,78 @@
+package org.ekstep.genieservices.benchmark;
+
+import org.bouncycastle.jce.provider.BouncyCastleProvider;
+import org.ekstep.genieservices.commons.utils.Base64Util;
+import org.ekstep.genieservices.commons.utils.CryptoUtil;
+import org.ekstep.genieservices.partner.PartnerCryptoSession;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.security.KeyPairGenerator;
+import java.security.PublicKey;
+import java.security.Security;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.IvParameterSpec;
+
+/**
+ * Encrypts a small partner record the way sendData did for every call, making a new AES key and encrypting it
+ * with a freshly parsed 2048 bit RSA key, and with a {@link PartnerCryptoSession} kept for the partner session.
+ * The score is in sends per second.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PartnerEncryptionBenchmark {
+
+    private static final String PARTNER_ID = "org.ekstep.partner.benchmark";
+    private static final String RECORD = "{\"uid\":\"8f3a2c1e-4b5d-4e6f-8a9b-0c1d2e3f4a5b\",\"contentId\":\"do_30013486\","
+            + "\"score\":7,\"maxScore\":10,\"timeSpent\":42.5,\"ts\":1508300000000}";
+
+    private String publicKey;
+    private PartnerCryptoSession cryptoSession;
+
+    @Setup
+    public void setup() throws Exception {
+        Security.addProvider(new BouncyCastleProvider());
+
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+        keyPairGenerator.initialize(2048);
+        byte[] encodedKey = keyPairGenerator.generateKeyPair().getPublic().getEncoded();
+        publicKey = "-----BEGIN PUBLIC KEY-----\n" + Base64Util.encodeToString(encodedKey, Base64Util.DEFAULT) + "-----END PUBLIC KEY-----";
+
+        cryptoSession = PartnerCryptoSession.create(PARTNER_ID, "session", publicKey);
+    }
+
+    @Benchmark
+    public Map<String, String> newKeysPerSend() throws Exception {
+        SecretKey aesKey = CryptoUtil.generateAESKey();
+        IvParameterSpec iv = CryptoUtil.generateIVSpecForAES();
+        PublicKey rsaPublicKey = CryptoUtil.generatePublicKey(publicKey);
+        byte[] encryptedKey = CryptoUtil.encryptSecretKeyWithRSAPublic(aesKey, rsaPublicKey);
+
+        Map<String, String> data = new HashMap<>();
+        data.put("iv", Base64Util.encodeToString(iv.getIV(), Base64Util.DEFAULT));
+        data.put("encrypted_data", CryptoUtil.encryptWithAES(RECORD, aesKey, iv));
+        data.put("encrypted_key", Base64Util.encodeToString(encryptedKey, Base64Util.DEFAULT));
+        return data;
+    }
+
+    @Benchmark
+    public Map<String, String> sessionKeys() throws Exception {
+        return cryptoSession.encrypt(RECORD);
+    }
+}
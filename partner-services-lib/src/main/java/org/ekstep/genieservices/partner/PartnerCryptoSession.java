@@ -0,0 +1,93 @@
+package org.ekstep.genieservices.partner;
+
+import org.ekstep.genieservices.commons.exception.EncryptionException;
+import org.ekstep.genieservices.commons.utils.Base64Util;
+import org.ekstep.genieservices.commons.utils.CryptoUtil;
+
+import java.io.UnsupportedEncodingException;
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
+import java.security.SecureRandom;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.IvParameterSpec;
+
+/**
+ * The keys the data of a partner is encrypted with, for as long as its partner session lasts.
+ * <p>
+ * The public key of the partner is parsed and the AES key is encrypted with it once, when the crypto session is
+ * created. Every message is then encrypted with the same AES key and cipher, under an IV of its own, so that a
+ * message costs an AES encryption only and not an RSA encryption too.
+ */
+public class PartnerCryptoSession {
+
+    private static final String CIPHER_AES = "AES/CBC/PKCS7Padding";
+
+    private final String partnerID;
+    private final String partnerSessionId;
+    private final String publicKey;
+    private final SecretKey aesKey;
+    private final String encryptedKey;
+    private final Cipher cipher;
+    private final SecureRandom random = new SecureRandom();
+
+    private PartnerCryptoSession(String partnerID, String partnerSessionId, String publicKey) throws GeneralSecurityException,
+            UnsupportedEncodingException {
+        this.partnerID = partnerID;
+        this.partnerSessionId = partnerSessionId;
+        this.publicKey = publicKey;
+        this.aesKey = CryptoUtil.generateAESKey();
+        PublicKey rsaPublicKey = CryptoUtil.generatePublicKey(publicKey);
+        this.encryptedKey = Base64Util.encodeToString(CryptoUtil.encryptSecretKeyWithRSAPublic(aesKey, rsaPublicKey), Base64Util.DEFAULT);
+        this.cipher = Cipher.getInstance(CIPHER_AES);
+    }
+
+    /**
+     * @param partnerSessionId id of the partner session the keys are kept for, null if they are used for one
+     *                         message only.
+     */
+    public static PartnerCryptoSession create(String partnerID, String partnerSessionId, String publicKey) throws EncryptionException {
+        try {
+            return new PartnerCryptoSession(partnerID, partnerSessionId, publicKey);
+        } catch (GeneralSecurityException | UnsupportedEncodingException e) {
+            throw new EncryptionException(e.getMessage());
+        }
+    }
+
+    /**
+     * @return true if the keys were made for this partner session and public key.
+     */
+    public boolean isFor(String partnerID, String partnerSessionId, String publicKey) {
+        return this.partnerSessionId != null && this.partnerSessionId.equals(partnerSessionId)
+                && this.partnerID.equals(partnerID) && this.publicKey.equals(publicKey);
+    }
+
+    /**
+     * @return the encrypted data, the AES key encrypted with the public key of the partner and the IV, all base64
+     * encoded, as "encrypted_data", "encrypted_key" and "iv".
+     */
+    public Map<String, String> encrypt(String data) throws EncryptionException {
+        byte[] ivBytes = new byte[cipher.getBlockSize()];
+        byte[] encryptedData;
+        try {
+            byte[] plainText = data.getBytes("UTF-8");
+            // The cipher is kept for the whole session, and can encrypt one message at a time.
+            synchronized (cipher) {
+                random.nextBytes(ivBytes);
+                cipher.init(Cipher.ENCRYPT_MODE, aesKey, new IvParameterSpec(ivBytes));
+                encryptedData = cipher.doFinal(plainText);
+            }
+        } catch (GeneralSecurityException | UnsupportedEncodingException e) {
+            throw new EncryptionException(e.getMessage());
+        }
+
+        Map<String, String> encrypted = new HashMap<>();
+        encrypted.put("iv", Base64Util.encodeToString(ivBytes, Base64Util.DEFAULT));
+        encrypted.put("encrypted_data", Base64Util.encodeToString(encryptedData, Base64Util.DEFAULT));
+        encrypted.put("encrypted_key", encryptedKey);
+        return encrypted;
+    }
+}
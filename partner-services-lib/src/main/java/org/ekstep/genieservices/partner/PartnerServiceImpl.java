@@ -12,7 +12,6 @@ import org.ekstep.genieservices.commons.bean.telemetry.Actor;
 import org.ekstep.genieservices.commons.bean.telemetry.Audit;
 import org.ekstep.genieservices.commons.bean.telemetry.ExData;
 import org.ekstep.genieservices.commons.exception.EncryptionException;
-import org.ekstep.genieservices.commons.utils.Base64Util;
 import org.ekstep.genieservices.commons.utils.CryptoUtil;
 import org.ekstep.genieservices.commons.utils.DateUtil;
 import org.ekstep.genieservices.commons.utils.GsonUtil;
@@ -22,23 +21,13 @@ import org.ekstep.genieservices.partner.db.model.PartnerSessionModel;
 import org.ekstep.genieservices.telemetry.TelemetryLogger;
 
 import java.io.UnsupportedEncodingException;
-import java.security.InvalidAlgorithmParameterException;
-import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
-import java.security.PublicKey;
-import java.security.spec.InvalidKeySpecException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 
-import javax.crypto.BadPaddingException;
-import javax.crypto.IllegalBlockSizeException;
-import javax.crypto.NoSuchPaddingException;
-import javax.crypto.SecretKey;
-import javax.crypto.spec.IvParameterSpec;
-
 /**
  * This is the implementation of the interface {@link IPartnerService}
  */
@@ -48,6 +37,7 @@ public class PartnerServiceImpl extends BaseService implements IPartnerService {
 
     private static final String TEST = "test";
     private AppContext appContext;
+    private volatile PartnerCryptoSession cryptoSession;
 
     /**
      * Constructor of PartnerServiceImpl
@@ -151,6 +141,7 @@ public class PartnerServiceImpl extends BaseService implements IPartnerService {
 
                 partnerSessionModel.clear();
             }
+            cryptoSession = null;
             partnerSessionModel = PartnerSessionModel.build(appContext, partnerData.getPartnerID());
             partnerSessionModel.save();
 
@@ -191,6 +182,7 @@ public class PartnerServiceImpl extends BaseService implements IPartnerService {
         PartnerSessionModel partnerSessionModel = PartnerSessionModel.find(appContext);
         if (partnerModel != null && partnerSessionModel != null && partnerID.equals(partnerSessionModel.getPartnerID())) {
             partnerSessionModel.clear();
+            cryptoSession = null;
 
             Map<String, Object> map = new HashMap<>();
             map.put("action", "Partner-Session-Terminated");
@@ -219,7 +211,8 @@ public class PartnerServiceImpl extends BaseService implements IPartnerService {
     public GenieResponse<String> sendData(PartnerData partnerData) {
         String methodName = "sendData@PartnerServiceImpl";
         Map<String, Object> params = new HashMap<>();
-        params.put("partnerData", GsonUtil.toJson(partnerData));
+        // Only the partner, the data is not logged in plain text.
+        params.put("partnerid", partnerData.getPartnerID());
         params.put("logLevel", "2");
         Logger.i(TAG, "SENDING Partner Data " + partnerData.getPartnerID());
 
@@ -263,23 +256,25 @@ public class PartnerServiceImpl extends BaseService implements IPartnerService {
         }
     }
 
+    /**
+     * Encrypts the data with the keys of the active partner session of the partner, which are made on the first
+     * send of the session. Without an active session the keys are made for this message only.
+     */
     private Map<String, String> processData(PartnerData partnerData) throws EncryptionException {
-        Map<String, String> data = new HashMap<>();
-        try {
-            SecretKey AESKey = CryptoUtil.generateAESKey(); //ok
-            IvParameterSpec iv = CryptoUtil.generateIVSpecForAES();
-            String ivString = Base64Util.encodeToString(iv.getIV(), Base64Util.DEFAULT);
-            PublicKey publicKey = CryptoUtil.generatePublicKey(partnerData.getPublicKey());
-            byte[] encryptedKey = CryptoUtil.encryptSecretKeyWithRSAPublic(AESKey, publicKey);
-            String encryptedKeyString = Base64Util.encodeToString(encryptedKey, Base64Util.DEFAULT);
-            String encryptedData = CryptoUtil.encryptWithAES(partnerData.getPartnerData(), AESKey, iv);
-            data.put("iv", ivString);
-            data.put("encrypted_data", encryptedData);
-            data.put("encrypted_key", encryptedKeyString);
-        } catch (NoSuchAlgorithmException | InvalidKeySpecException | IllegalBlockSizeException | InvalidKeyException | BadPaddingException | NoSuchPaddingException | UnsupportedEncodingException | InvalidAlgorithmParameterException e) {
-            throw new EncryptionException(e.getMessage());
+        PartnerSessionModel partnerSessionModel = PartnerSessionModel.find(appContext);
+        String partnerSessionId = null;
+        if (partnerSessionModel != null && partnerData.getPartnerID().equals(partnerSessionModel.getPartnerID())) {
+            partnerSessionId = partnerSessionModel.getPartnerSessionId();
+        }
+
+        PartnerCryptoSession session = cryptoSession;
+        if (session == null || !session.isFor(partnerData.getPartnerID(), partnerSessionId, partnerData.getPublicKey())) {
+            session = PartnerCryptoSession.create(partnerData.getPartnerID(), partnerSessionId, partnerData.getPublicKey());
+            if (partnerSessionId != null) {
+                cryptoSession = session;
+            }
         }
-        return data;
+        return session.encrypt(partnerData.getPartnerData());
     }
 
     //TODO This should be moved into the bean class using the IValidate interface
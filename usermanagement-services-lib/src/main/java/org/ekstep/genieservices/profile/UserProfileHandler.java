@@ -9,6 +9,7 @@ import org.ekstep.genieservices.commons.bean.UpdateUserInfoRequest;
 import org.ekstep.genieservices.commons.bean.UploadFileRequest;
 import org.ekstep.genieservices.commons.bean.UserSearchCriteria;
 import org.ekstep.genieservices.commons.db.model.NoSqlModel;
+import org.ekstep.genieservices.commons.executor.SDKExecutor;
 import org.ekstep.genieservices.commons.utils.StringUtil;
 import org.ekstep.genieservices.profile.network.EndorseOrAddSkillAPI;
 import org.ekstep.genieservices.profile.network.FileUploadAPI;
@@ -46,7 +47,7 @@ public class UserProfileHandler {
     public static void refreshUserProfileDetailsFromServer(final AppContext appContext, final Session sessionData,
                                                            final String userId, final String fields,
                                                            final NoSqlModel userProfileInDB) {
-        new Thread(new Runnable() {
+        SDKExecutor.getInstance().submit(SDKExecutor.Lane.REFRESH, new Runnable() {
             @Override
             public void run() {
                 GenieResponse userProfileDetailsAPIResponse = fetchUserProfileDetailsFromServer(appContext,
@@ -59,7 +60,7 @@ public class UserProfileHandler {
                     }
                 }
             }
-        }).start();
+        });
     }
 
     public static GenieResponse fetchTenantInfoFromServer(AppContext appContext, Session sessionData, String slug) {
@@ -69,7 +70,7 @@ public class UserProfileHandler {
 
     public static void refreshTenantInfoFromServer(final AppContext appContext, final Session sessionData,
                                                    final String slug, final NoSqlModel tenantInfoInDB) {
-        new Thread(new Runnable() {
+        SDKExecutor.getInstance().submit(SDKExecutor.Lane.REFRESH, new Runnable() {
             @Override
             public void run() {
                 GenieResponse tenantInfoAPIResponse = fetchTenantInfoFromServer(appContext, sessionData, slug);
@@ -81,7 +82,7 @@ public class UserProfileHandler {
                     }
                 }
             }
-        }).start();
+        });
     }
 
     public static GenieResponse setProfileVisibilityDetailsInServer(AppContext appContext, Session sessionData,
@@ -132,7 +133,7 @@ public class UserProfileHandler {
 
     public static void refreshProfileSkillsFromServer(final AppContext appContext, final Session sessionData,
                                                       final NoSqlModel profileSkillsInDB) {
-        new Thread(new Runnable() {
+        SDKExecutor.getInstance().submit(SDKExecutor.Lane.REFRESH, new Runnable() {
             @Override
             public void run() {
                 GenieResponse profileSkillsAPIResponse = fetchProfileSkillsFromServer(appContext, sessionData);
@@ -144,7 +145,7 @@ public class UserProfileHandler {
                     }
                 }
             }
-        }).start();
+        });
     }
 
     public static GenieResponse endorseOrAddSkillsInServer(AppContext appContext, Session sessionData,
@@ -42,8 +42,8 @@ import org.ekstep.genieservices.importexport.bean.ExportProfileContext;
 import org.ekstep.genieservices.importexport.bean.ImportProfileContext;
 import org.ekstep.genieservices.profile.chained.export.AddGeTransferProfileExportEvent;
 import org.ekstep.genieservices.profile.chained.export.CleanupExportedFile;
-import org.ekstep.genieservices.profile.chained.export.CopyDatabase;
 import org.ekstep.genieservices.profile.chained.export.CreateMetadata;
+import org.ekstep.genieservices.profile.chained.export.ExportProfileRows;
 import org.ekstep.genieservices.profile.chained.imports.AddGeTransferProfileImportEvent;
 import org.ekstep.genieservices.profile.chained.imports.TransportFrameworknChannel;
 import org.ekstep.genieservices.profile.chained.imports.TransportGroup;
@@ -747,15 +747,15 @@ public class UserServiceImpl extends BaseService implements IUserService {
 
         ExportProfileContext exportProfileContext = new ExportProfileContext(profileExportRequest.getUserIds(),
                 profileExportRequest.getGroupIds(), profileExportRequest.getDestinationFolder(), destinationDBFilePath);
-        CopyDatabase copyDatabase = new CopyDatabase();
-        copyDatabase.then(new CreateMetadata())
+        ExportProfileRows exportProfileRows = new ExportProfileRows();
+        exportProfileRows.then(new CreateMetadata())
                 .then(new CleanupExportedFile())
                 .then(new AddGeTransferProfileExportEvent());
 
         // TODO: 6/12/2017 - if export failed.
 //                .then(new RemoveExportFile(destinationDBFilePath));
 
-        return copyDatabase.execute(mAppContext, exportProfileContext);
+        return exportProfileRows.execute(mAppContext, exportProfileContext);
     }
 
     private String getEparFilePath(List<String> groupIds, List<String> userIds, File destinationFolder) {
@@ -0,0 +1,157 @@
+package org.ekstep.genieservices.profile.chained.export;
+
+import org.ekstep.genieservices.ServiceConstants;
+import org.ekstep.genieservices.commons.AppContext;
+import org.ekstep.genieservices.commons.GenieResponseBuilder;
+import org.ekstep.genieservices.commons.bean.GenieResponse;
+import org.ekstep.genieservices.commons.bean.ProfileExportResponse;
+import org.ekstep.genieservices.commons.chained.IChainable;
+import org.ekstep.genieservices.commons.db.contract.GroupEntry;
+import org.ekstep.genieservices.commons.db.contract.GroupProfileEntry;
+import org.ekstep.genieservices.commons.db.contract.LearnerAssessmentsEntry;
+import org.ekstep.genieservices.commons.db.contract.LearnerSummaryEntry;
+import org.ekstep.genieservices.commons.db.contract.NoSqlEntry;
+import org.ekstep.genieservices.commons.db.contract.ProfileEntry;
+import org.ekstep.genieservices.commons.db.contract.UserEntry;
+import org.ekstep.genieservices.commons.db.model.CustomReadersModel;
+import org.ekstep.genieservices.commons.db.operations.IDBSession;
+import org.ekstep.genieservices.commons.db.operations.IDBTransaction;
+import org.ekstep.genieservices.commons.utils.CollectionUtil;
+import org.ekstep.genieservices.commons.utils.Logger;
+import org.ekstep.genieservices.importexport.bean.ExportProfileContext;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Writes the rows of the exported users and groups into a new database file.
+ * <p>
+ * The Genie database is attached to the export file, the exported tables are created with the same schema as in
+ * the Genie database and only the rows of the exported users and groups are copied with INSERT ... SELECT, along
+ * with the channel, framework and form details. The export file is as big as the exported rows, whatever the
+ * size of the Genie database.
+ */
+public class ExportProfileRows implements IChainable<ProfileExportResponse, ExportProfileContext> {
+
+    private static final String TAG = ExportProfileRows.class.getSimpleName();
+
+    private static final String SOURCE_SCHEMA = "genie";
+
+    private IChainable<ProfileExportResponse, ExportProfileContext> nextLink;
+
+    @Override
+    public GenieResponse<ProfileExportResponse> execute(AppContext appContext, ExportProfileContext exportContext) {
+        File destinationFile = new File(exportContext.getDestinationDBFilePath());
+        try {
+            // SQLite takes an empty file for an empty database.
+            if (!destinationFile.createNewFile()) {
+                throw new IOException("Cannot create " + destinationFile.getPath());
+            }
+
+            IDBSession destinationDBSession = appContext.getExternalDBSession(destinationFile.getPath());
+            destinationDBSession.execute(String.format(Locale.US, "ATTACH DATABASE '%s' AS %s",
+                    appContext.getDBSession().getDatabasePath().replace("'", "''"), SOURCE_SCHEMA));
+            try {
+                copyRows(destinationDBSession, getRowFilters(exportContext));
+            } finally {
+                destinationDBSession.execute("DETACH DATABASE " + SOURCE_SCHEMA);
+            }
+        } catch (IOException e) {
+            Logger.e(TAG, "Export profile failed", e);
+            destinationFile.delete();
+            return GenieResponseBuilder.getErrorResponse(ServiceConstants.ErrorCode.EXPORT_FAILED, e.getMessage(), TAG);
+        }
+
+        if (nextLink != null) {
+            return nextLink.execute(appContext, exportContext);
+        } else {
+            return GenieResponseBuilder.getErrorResponse(ServiceConstants.ErrorCode.EXPORT_FAILED, "Export profile failed", TAG);
+        }
+    }
+
+    @Override
+    public IChainable<ProfileExportResponse, ExportProfileContext> then(IChainable<ProfileExportResponse, ExportProfileContext> link) {
+        nextLink = link;
+        return link;
+    }
+
+    /**
+     * @return the filter of the exported rows of every exported table.
+     */
+    private Map<String, String> getRowFilters(ExportProfileContext exportContext) {
+        String uids = toSqlList(exportContext.getUserIds());
+        String gids = toSqlList(exportContext.getGroupIds());
+
+        Map<String, String> rowFilters = new LinkedHashMap<>();
+        rowFilters.put(UserEntry.TABLE_NAME, UserEntry.COLUMN_NAME_UID + " IN (" + uids + ")");
+        rowFilters.put(ProfileEntry.TABLE_NAME, ProfileEntry.COLUMN_NAME_UID + " IN (" + uids + ")");
+        rowFilters.put(LearnerAssessmentsEntry.TABLE_NAME, LearnerAssessmentsEntry.COLUMN_NAME_UID + " IN (" + uids + ")");
+        rowFilters.put(LearnerSummaryEntry.TABLE_NAME, LearnerSummaryEntry.COLUMN_NAME_UID + " IN (" + uids + ")");
+        rowFilters.put(GroupEntry.TABLE_NAME, GroupEntry.COLUMN_NAME_GID + " IN (" + gids + ")");
+        rowFilters.put(GroupProfileEntry.TABLE_NAME, GroupProfileEntry.COLUMN_NAME_GID + " IN (" + gids + ")");
+        rowFilters.put(NoSqlEntry.TABLE_NAME, String.format(Locale.US, "%1$s LIKE 'channel_details_key-%%' OR %1$s LIKE 'framework_details_key-%%' OR %1$s LIKE 'form-%%'",
+                NoSqlEntry.COLUMN_NAME_KEY));
+        return rowFilters;
+    }
+
+    /**
+     * Creates the tables and copies their rows in one transaction, then checks that every row was copied.
+     *
+     * @throws IOException if a table could not be created or some rows were not copied.
+     */
+    private void copyRows(IDBSession destinationDBSession, final Map<String, String> rowFilters) throws IOException {
+        for (String table : rowFilters.keySet()) {
+            String createEntry = readString(destinationDBSession, String.format(Locale.US,
+                    "SELECT sql FROM %s.sqlite_master WHERE type = 'table' AND name = '%s'", SOURCE_SCHEMA, table));
+            if (createEntry == null) {
+                throw new IOException("Cannot read the schema of " + table);
+            }
+            destinationDBSession.execute(createEntry);
+        }
+
+        destinationDBSession.executeInTransaction(new IDBTransaction() {
+            @Override
+            public Void perform(IDBSession dbSession) {
+                for (Map.Entry<String, String> rowFilter : rowFilters.entrySet()) {
+                    dbSession.execute(String.format(Locale.US, "INSERT INTO %s SELECT * FROM %s.%s WHERE %s",
+                            rowFilter.getKey(), SOURCE_SCHEMA, rowFilter.getKey(), rowFilter.getValue()));
+                }
+                return null;
+            }
+        });
+
+        // Errors of the session are only logged, the copied rows are counted instead.
+        for (Map.Entry<String, String> rowFilter : rowFilters.entrySet()) {
+            String copied = readString(destinationDBSession, "SELECT count(*) FROM " + rowFilter.getKey());
+            String expected = readString(destinationDBSession, String.format(Locale.US, "SELECT count(*) FROM %s.%s WHERE %s",
+                    SOURCE_SCHEMA, rowFilter.getKey(), rowFilter.getValue()));
+            if (copied == null || !copied.equals(expected)) {
+                throw new IOException(String.format(Locale.US, "Exported %s of %s rows of %s", copied, expected, rowFilter.getKey()));
+            }
+        }
+    }
+
+    private String readString(IDBSession dbSession, String query) {
+        CustomReadersModel customReadersModel = CustomReadersModel.find(dbSession, query);
+        return customReadersModel == null ? null : customReadersModel.getDataList().get(0);
+    }
+
+    private String toSqlList(List<String> values) {
+        if (CollectionUtil.isNullOrEmpty(values)) {
+            return "";
+        }
+
+        StringBuilder sqlList = new StringBuilder();
+        for (String value : values) {
+            if (sqlList.length() > 0) {
+                sqlList.append(',');
+            }
+            sqlList.append('\'').append(value.replace("'", "''")).append('\'');
+        }
+        return sqlList.toString();
+    }
+}
@@ -8,12 +8,14 @@ import org.ekstep.genieservices.commons.bean.Profile;
 import org.ekstep.genieservices.commons.bean.ProfileImportResponse;
 import org.ekstep.genieservices.commons.chained.IChainable;
 import org.ekstep.genieservices.commons.db.operations.IDBSession;
-import org.ekstep.genieservices.commons.db.operations.IDBTransaction;
 import org.ekstep.genieservices.commons.utils.DateUtil;
 import org.ekstep.genieservices.importexport.bean.ImportProfileContext;
 import org.ekstep.genieservices.profile.db.model.UserProfileModel;
 import org.ekstep.genieservices.profile.db.model.UserProfilesModel;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Created on 6/8/2017.
  *
@@ -34,6 +36,7 @@ public class TransportProfiles implements IChainable<ProfileImportResponse, Impo
         UserProfilesModel userProfilesModel = UserProfilesModel.find(externalDBSession);
 
         if (userProfilesModel != null) {
+            List<UserProfileModel> newProfiles = new ArrayList<>();
             for (Profile profile : userProfilesModel.getProfileList()) {
                 UserProfileModel userProfileModel = UserProfileModel.find(appContext.getDBSession(), profile.getUid());
                 if (userProfileModel == null) {
@@ -45,22 +48,20 @@ public class TransportProfiles implements IChainable<ProfileImportResponse, Impo
 //                    final UserModel userModel = UserModel.build(appContext.getDBSession(), profile.getUids());
 //                    final GECreateUser geCreateUser = new GECreateUser(gameData, profile.getUids(), appContext.getLocationInfo().getLocation());
 
-                    final UserProfileModel profileModel = UserProfileModel.build(appContext.getDBSession(), profile);
-                    appContext.getDBSession().executeInTransaction(new IDBTransaction() {
-                        @Override
-                        public Void perform(IDBSession dbSession) {
-//                            userModel.save();
-//                            TelemetryLogger.log(geCreateUser);
-
-                            profileModel.save();
-                            return null;
-                        }
-                    });
-                    imported++;
+                    newProfiles.add(UserProfileModel.build(appContext.getDBSession(), profile));
                 } else {
                     failed++;
                 }
             }
+
+            // Write all the new profiles in one transaction.
+            for (long id : appContext.getDBSession().createAll(newProfiles)) {
+                if (id == -1) {
+                    failed++;
+                } else {
+                    imported++;
+                }
+            }
         }
 
         importContext.setImported(imported);
@@ -4,8 +4,6 @@ import org.ekstep.genieservices.ServiceConstants;
 import org.ekstep.genieservices.commons.AppContext;
 import org.ekstep.genieservices.commons.GenieResponseBuilder;
 import org.ekstep.genieservices.commons.bean.GenieResponse;
-import org.ekstep.genieservices.commons.bean.LearnerAssessmentDetails;
-import org.ekstep.genieservices.commons.bean.LearnerContentSummaryDetails;
 import org.ekstep.genieservices.commons.bean.ProfileImportResponse;
 import org.ekstep.genieservices.commons.chained.IChainable;
 import org.ekstep.genieservices.commons.db.contract.LearnerAssessmentsEntry;
@@ -14,15 +12,16 @@ import org.ekstep.genieservices.commons.db.model.CustomReaderModel;
 import org.ekstep.genieservices.commons.db.operations.IDBSession;
 import org.ekstep.genieservices.commons.db.operations.IDBTransaction;
 import org.ekstep.genieservices.commons.utils.CollectionUtil;
+import org.ekstep.genieservices.commons.utils.Logger;
 import org.ekstep.genieservices.commons.utils.StringUtil;
+import org.ekstep.genieservices.importexport.AttachedTableImporter;
 import org.ekstep.genieservices.importexport.bean.ImportProfileContext;
-import org.ekstep.genieservices.profile.db.model.LearnerAssessmentDetailsModel;
-import org.ekstep.genieservices.profile.db.model.LearnerSummaryEventsModel;
-import org.ekstep.genieservices.profile.db.model.LearnerSummaryModel;
 import org.ekstep.genieservices.profile.db.model.UserModel;
 import org.ekstep.genieservices.profile.db.model.UsersModel;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
 
@@ -34,6 +33,30 @@ import java.util.Locale;
 public class TransportSummarizer implements IChainable<ProfileImportResponse, ImportProfileContext> {
 
     private static final String TAG = TransportSummarizer.class.getSimpleName();
+
+    private static final String ASSESSMENT_COLUMNS = StringUtil.join(", ", Arrays.asList(LearnerAssessmentsEntry.COLUMN_NAME_UID,
+            LearnerAssessmentsEntry.COLUMN_NAME_CONTENT_ID, LearnerAssessmentsEntry.COLUMN_NAME_QID, LearnerAssessmentsEntry.COLUMN_NAME_Q_INDEX,
+            LearnerAssessmentsEntry.COLUMN_NAME_CORRECT, LearnerAssessmentsEntry.COLUMN_NAME_SCORE, LearnerAssessmentsEntry.COLUMN_NAME_MAX_SCORE,
+            LearnerAssessmentsEntry.COLUMN_NAME_TIME_SPENT, LearnerAssessmentsEntry.COLUMN_NAME_RES, LearnerAssessmentsEntry.COLUMN_NAME_TIMESTAMP,
+            LearnerAssessmentsEntry.COLUMN_NAME_Q_DESC, LearnerAssessmentsEntry.COLUMN_NAME_Q_TITLE, LearnerAssessmentsEntry.COLUMN_NAME_HIERARCHY_DATA));
+
+    // An assessment is kept once per uid, content, hierarchy and question, like when it is saved on the device.
+    private static final String ASSESSMENT_DUPLICATE_FILTER = String.format(Locale.US,
+            "EXISTS (SELECT 1 FROM %1$s t WHERE t.%2$s = %6$s.%2$s AND t.%3$s IS %6$s.%3$s AND t.%4$s IS %6$s.%4$s AND t.%5$s IS %6$s.%5$s)",
+            LearnerAssessmentsEntry.TABLE_NAME, LearnerAssessmentsEntry.COLUMN_NAME_UID, LearnerAssessmentsEntry.COLUMN_NAME_CONTENT_ID,
+            LearnerAssessmentsEntry.COLUMN_NAME_HIERARCHY_DATA, LearnerAssessmentsEntry.COLUMN_NAME_QID, AttachedTableImporter.SOURCE_ALIAS);
+
+    private static final String SUMMARY_COLUMNS = StringUtil.join(", ", Arrays.asList(LearnerSummaryEntry.COLUMN_NAME_UID,
+            LearnerSummaryEntry.COLUMN_NAME_CONTENT_ID, LearnerSummaryEntry.COLUMN_NAME_AVG_TS, LearnerSummaryEntry.COLUMN_NAME_SESSIONS,
+            LearnerSummaryEntry.COLUMN_NAME_TOTAL_TS, LearnerSummaryEntry.COLUMN_NAME_LAST_UPDATED_ON, LearnerSummaryEntry.COLUMN_NAME_HIERARCHY_DATA));
+
+    // A summary replaces the one of the same uid, content and hierarchy, unless that one is as new already.
+    // A summary with no last_updated_on is taken as the oldest one, a NULL comparison would never match.
+    private static final String SUMMARY_DUPLICATE_FILTER = String.format(Locale.US,
+            "EXISTS (SELECT 1 FROM %1$s t WHERE t.%2$s = %6$s.%2$s AND t.%3$s IS %6$s.%3$s AND t.%4$s IS %6$s.%4$s AND IFNULL(t.%5$s, 0) >= IFNULL(%6$s.%5$s, 0))",
+            LearnerSummaryEntry.TABLE_NAME, LearnerSummaryEntry.COLUMN_NAME_UID, LearnerSummaryEntry.COLUMN_NAME_CONTENT_ID,
+            LearnerSummaryEntry.COLUMN_NAME_HIERARCHY_DATA, LearnerSummaryEntry.COLUMN_NAME_LAST_UPDATED_ON, AttachedTableImporter.SOURCE_ALIAS);
+
     private IChainable<ProfileImportResponse, ImportProfileContext> nextLink;
 
     @Override
@@ -62,33 +85,13 @@ public class TransportSummarizer implements IChainable<ProfileImportResponse, Im
             /////////////////////////////////////////////////////////////////
 
 
-            // Read the learner assessment data from imported DB and insert into GS DB.
-            LearnerAssessmentDetailsModel importedLearnerAssessmentDetailsModel = LearnerAssessmentDetailsModel.find(externalDBSession, "");
-            if (importedLearnerAssessmentDetailsModel != null) {
-                for (LearnerAssessmentDetails learnerAssessmentDetails : importedLearnerAssessmentDetailsModel.getAllAssessments()) {
-                    LearnerAssessmentDetailsModel learnerAssessmentDetailsModel = LearnerAssessmentDetailsModel.build(appContext.getDBSession(), learnerAssessmentDetails);
-                    learnerAssessmentDetailsModel.save();
-                }
-            }
-
-            // Read the learner content summary data from imported DB and insert into GS DB.
-            LearnerSummaryEventsModel learnerSummaryEventsModel = LearnerSummaryEventsModel.find(externalDBSession, "");
-            if (learnerSummaryEventsModel != null) {
-                for (LearnerSummaryModel l : learnerSummaryEventsModel.getAllLearnerSummaryModelList()) {
-                    LearnerContentSummaryDetails learnerContentSummaryDetails = new LearnerContentSummaryDetails();
-                    learnerContentSummaryDetails.setUid(l.getUid());
-                    learnerContentSummaryDetails.setContentId(l.getContentId());
-                    learnerContentSummaryDetails.setAvgts(l.getAvgts());
-                    learnerContentSummaryDetails.setSessions(l.getSessions());
-                    learnerContentSummaryDetails.setTotalts(l.getTotalts());
-                    learnerContentSummaryDetails.setTimespent(l.getTimespent());
-                    learnerContentSummaryDetails.setTimestamp(l.getTimestamp());
-                    learnerContentSummaryDetails.setHierarchyData(l.getHierarchyData());
-                    learnerContentSummaryDetails.setLastUpdated(l.getLastUpdated());
-
-                    LearnerSummaryModel learnerSummaryModel = LearnerSummaryModel.build(appContext.getDBSession(), learnerContentSummaryDetails);
-                    learnerSummaryModel.save();
-                }
+            try {
+                AttachedTableImporter importer = new AttachedTableImporter(appContext.getDBSession(), importContext.getSourceDBFilePath());
+                importer.importTable(LearnerAssessmentsEntry.TABLE_NAME, ASSESSMENT_COLUMNS, ASSESSMENT_DUPLICATE_FILTER);
+                importer.importTable(LearnerSummaryEntry.TABLE_NAME, SUMMARY_COLUMNS, SUMMARY_DUPLICATE_FILTER);
+            } catch (IOException e) {
+                Logger.e(TAG, "Import profile failed", e);
+                return GenieResponseBuilder.getErrorResponse(ServiceConstants.ErrorCode.IMPORT_FAILED, e.getMessage(), TAG);
             }
         }
 
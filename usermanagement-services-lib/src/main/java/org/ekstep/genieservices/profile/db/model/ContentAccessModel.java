@@ -3,9 +3,9 @@ package org.ekstep.genieservices.profile.db.model;
 import org.ekstep.genieservices.commons.AppContext;
 import org.ekstep.genieservices.commons.db.contract.ContentAccessEntry;
 import org.ekstep.genieservices.commons.db.core.ContentValues;
+import org.ekstep.genieservices.commons.db.core.IBindableUpdatable;
 import org.ekstep.genieservices.commons.db.core.IReadable;
 import org.ekstep.genieservices.commons.db.core.IResultSet;
-import org.ekstep.genieservices.commons.db.core.IUpdatable;
 import org.ekstep.genieservices.commons.db.core.IWritable;
 import org.ekstep.genieservices.commons.db.operations.IDBSession;
 import org.ekstep.genieservices.commons.utils.DateUtil;
@@ -17,7 +17,7 @@ import java.util.Locale;
  *
  * @author anil
  */
-public class ContentAccessModel implements IWritable, IReadable, IUpdatable {
+public class ContentAccessModel implements IWritable, IReadable, IBindableUpdatable {
 
     private IDBSession mDBSession;
 
@@ -135,7 +135,12 @@ public class ContentAccessModel implements IWritable, IReadable, IUpdatable {
 
     @Override
     public String updateBy() {
-        return String.format(Locale.US, "%s = '%s' AND %s = '%s'", ContentAccessEntry.COLUMN_NAME_UID, uid, ContentAccessEntry.COLUMN_NAME_CONTENT_IDENTIFIER, identifier);
+        return String.format(Locale.US, "%s = ? AND %s = ?", ContentAccessEntry.COLUMN_NAME_UID, ContentAccessEntry.COLUMN_NAME_CONTENT_IDENTIFIER);
+    }
+
+    @Override
+    public String[] selectionArgsForUpdate() {
+        return new String[]{uid, identifier};
     }
 
     @Override